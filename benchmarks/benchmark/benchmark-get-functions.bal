@@ -17,6 +17,10 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addFunctionCallFunctions();
+    addTypeTestFunctions();
+    addMatchFunctions();
+    addDestructuringFunctions();
 }
 
 function addJSONFunctions() {
@@ -61,6 +65,33 @@ function addIntFunctions() {
     functions["benchmarkIntegerTypesDivision"] = benchmarktypes:benchmarkIntegerTypesDivision;
 }
 
+function addFunctionCallFunctions() {
+    functions["benchmarkLeafFunctionCalls"] = benchmarktypes:benchmarkLeafFunctionCalls;
+    functions["benchmarkNestedFunctionCalls"] = benchmarktypes:benchmarkNestedFunctionCalls;
+    functions["benchmarkBranchingLeafFunctionCalls"] = benchmarktypes:benchmarkBranchingLeafFunctionCalls;
+    functions["benchmarkFloatLeafFunctionCalls"] = benchmarktypes:benchmarkFloatLeafFunctionCalls;
+    functions["benchmarkManuallyInlinedCalls"] = benchmarktypes:benchmarkManuallyInlinedCalls;
+    functions["benchmarkRecursiveFunctionCalls"] = benchmarktypes:benchmarkRecursiveFunctionCalls;
+}
+
+function addTypeTestFunctions() {
+    functions["benchmarkTypeGuardsOnBasicTypes"] = benchmarktypes:benchmarkTypeGuardsOnBasicTypes;
+    functions["benchmarkTypeGuardsOnFiniteTypes"] = benchmarktypes:benchmarkTypeGuardsOnFiniteTypes;
+    functions["benchmarkMatchOnUnionTypes"] = benchmarktypes:benchmarkMatchOnUnionTypes;
+    functions["benchmarkCastsToUnionTypes"] = benchmarktypes:benchmarkCastsToUnionTypes;
+}
+
+function addMatchFunctions() {
+    functions["benchmarkMatchOnStringLiterals"] = benchmarktypes:benchmarkMatchOnStringLiterals;
+    functions["benchmarkMatchOnIntLiterals"] = benchmarktypes:benchmarkMatchOnIntLiterals;
+}
+
+function addDestructuringFunctions() {
+    functions["benchmarkTupleDestructuring"] = benchmarktypes:benchmarkTupleDestructuring;
+    functions["benchmarkMultipleReturnValues"] = benchmarktypes:benchmarkMultipleReturnValues;
+    functions["benchmarkNestedTupleDestructuring"] = benchmarktypes:benchmarkNestedTupleDestructuring;
+}
+
 function addPrintFunctions() {
     functions["benchmarkPrintAnyVal"] = benchmarktypes:benchmarkPrintAnyVal;
     functions["benchmarkPrintlnAnyVal"] = benchmarktypes:benchmarkPrintlnAnyVal;
@@ -0,0 +1,27 @@
+public function benchmarkTupleDestructuring() {
+    int sum = 0;
+    foreach int i in 0 ..< 1000 {
+        var [a, b] = [i, i + 1];
+        sum = sum + a * b;
+    }
+}
+
+public function benchmarkMultipleReturnValues() {
+    int sum = 0;
+    foreach int i in 0 ..< 1000 {
+        var [quotient, remainder] = divMod(i, 7);
+        sum = sum + quotient + remainder;
+    }
+}
+
+public function benchmarkNestedTupleDestructuring() {
+    float total = 0.0;
+    foreach int i in 0 ..< 1000 {
+        var [[_, price], quantity] = [["item", 2.5], i % 10];
+        total = total + price * <float> quantity;
+    }
+}
+
+function divMod(int a, int b) returns [int, int] {
+    return [a / b, a % b];
+}
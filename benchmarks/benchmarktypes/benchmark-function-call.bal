@@ -0,0 +1,71 @@
+public function benchmarkLeafFunctionCalls() {
+    int sum = 0;
+    foreach int i in 0 ..< 1000 {
+        sum = addInts(sum, i);
+    }
+}
+
+public function benchmarkNestedFunctionCalls() {
+    int sum = 0;
+    foreach int i in 0 ..< 1000 {
+        sum = sumOfSquares(sum, i);
+    }
+}
+
+public function benchmarkBranchingLeafFunctionCalls() {
+    int sum = 0;
+    foreach int i in 0 ..< 1000 {
+        sum = sum + clamp(i, 100, 900);
+    }
+}
+
+public function benchmarkFloatLeafFunctionCalls() {
+    float sum = 0.0;
+    foreach int i in 0 ..< 1000 {
+        sum = scale(sum, 0.5, 1.5);
+    }
+}
+
+public function benchmarkManuallyInlinedCalls() {
+    int sum = 0;
+    foreach int i in 0 ..< 1000 {
+        sum = sum + i;
+    }
+}
+
+public function benchmarkRecursiveFunctionCalls() {
+    int result = fibonacci(15);
+}
+
+function addInts(int a, int b) returns int {
+    return a + b;
+}
+
+function square(int a) returns int {
+    return a * a;
+}
+
+function sumOfSquares(int a, int b) returns int {
+    return addInts(square(a % 100), square(b));
+}
+
+function clamp(int value, int min, int max) returns int {
+    if (value < min) {
+        return min;
+    }
+    if (value > max) {
+        return max;
+    }
+    return value;
+}
+
+function scale(float value, float factor, float offset) returns float {
+    return value * factor + offset;
+}
+
+function fibonacci(int n) returns int {
+    if (n < 2) {
+        return n;
+    }
+    return fibonacci(n - 1) + fibonacci(n - 2);
+}
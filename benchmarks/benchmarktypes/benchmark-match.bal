@@ -0,0 +1,91 @@
+public function benchmarkMatchOnStringLiterals() {
+    string[] topics = ["orders.created", "orders.cancelled", "payments.refunded", "inventory.restocked",
+                       "shipments.delivered", "unknown"];
+    int count = 0;
+    foreach int i in 0 ..< 1000 {
+        count = count + route(topics[i % 6]);
+    }
+}
+
+public function benchmarkMatchOnIntLiterals() {
+    int count = 0;
+    foreach int i in 0 ..< 1000 {
+        count = count + statusClass(200 + (i % 32));
+    }
+}
+
+function route(string topic) returns int {
+    match topic {
+        "orders.created" => {
+            return 1;
+        }
+        "orders.updated" => {
+            return 2;
+        }
+        "orders.cancelled" => {
+            return 3;
+        }
+        "orders.completed" => {
+            return 4;
+        }
+        "payments.authorized" => {
+            return 5;
+        }
+        "payments.captured" => {
+            return 6;
+        }
+        "payments.failed" => {
+            return 7;
+        }
+        "payments.refunded" => {
+            return 8;
+        }
+        "inventory.reserved" => {
+            return 9;
+        }
+        "inventory.released" => {
+            return 10;
+        }
+        "inventory.restocked" => {
+            return 11;
+        }
+        "shipments.created" => {
+            return 12;
+        }
+        "shipments.dispatched" => {
+            return 13;
+        }
+        "shipments.delivered" => {
+            return 14;
+        }
+        "shipments.returned" => {
+            return 15;
+        }
+        _ => {
+            return 0;
+        }
+    }
+}
+
+function statusClass(int status) returns int {
+    match status {
+        200|201|202|203|204|205|206 => {
+            return 2;
+        }
+        207|208|209|210|211|212|213 => {
+            return 3;
+        }
+        214|215|216|217|218|219|220 => {
+            return 4;
+        }
+        221|222|223|224|225|226|227 => {
+            return 5;
+        }
+        228|229|230 => {
+            return 6;
+        }
+        _ => {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+type Shape "circle"|"square"|"triangle";
+
+type Primitive int|float|string|boolean|();
+
+public function benchmarkTypeGuardsOnBasicTypes() {
+    Primitive[] values = [1, 2.5, "three", true, ()];
+    int count = 0;
+    foreach int i in 0 ..< 1000 {
+        Primitive value = values[i % 5];
+        if (value is int) {
+            count = count + value;
+        } else if (value is float) {
+            count = count + 2;
+        } else if (value is string) {
+            count = count + value.length();
+        } else if (value is boolean) {
+            count = count + 4;
+        } else {
+            count = count + 5;
+        }
+    }
+}
+
+public function benchmarkTypeGuardsOnFiniteTypes() {
+    string[] names = ["circle", "square", "triangle", "hexagon"];
+    int sides = 0;
+    foreach int i in 0 ..< 1000 {
+        string name = names[i % 4];
+        if (name is Shape) {
+            sides = sides + countSides(name);
+        }
+    }
+}
+
+public function benchmarkMatchOnUnionTypes() {
+    any[] values = [1, "two", 3.0, false];
+    int count = 0;
+    foreach int i in 0 ..< 1000 {
+        count = count + classify(values[i % 4]);
+    }
+}
+
+public function benchmarkCastsToUnionTypes() {
+    any[] values = [1, "two", 3, "four"];
+    int count = 0;
+    foreach int i in 0 ..< 1000 {
+        int|string value = <int|string> values[i % 4];
+        if (value is int) {
+            count = count + value;
+        }
+    }
+}
+
+function countSides(Shape shape) returns int {
+    match shape {
+        "circle" => {
+            return 0;
+        }
+        "square" => {
+            return 4;
+        }
+        _ => {
+            return 3;
+        }
+    }
+}
+
+function classify(any value) returns int {
+    match value {
+        var x if x is int|float => {
+            return 1;
+        }
+        var x if x is string => {
+            return 2;
+        }
+        _ => {
+            return 3;
+        }
+    }
+}
@@ -32,6 +32,7 @@ import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
 import org.ballerinalang.jvm.types.BUnionType;
 import org.ballerinalang.jvm.types.TypeConstants;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BLangExceptionHelper;
 import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
@@ -376,7 +377,7 @@ public class JSONUtils {
      */
     public static ArrayValue getKeys(Object json) {
         if (json == null || !isJSONObject(json)) {
-            return new ArrayValueImpl(new BArrayType(BTypes.typeString));
+            return new ArrayValueImpl(TypeInterner.getArrayType(BTypes.typeString));
         }
 
         BString[] keys = ((MapValueImpl<BString, ?>) json).getKeys();
@@ -630,7 +631,7 @@ public class JSONUtils {
     }
 
     private static ArrayValue jsonArrayToBIntArray(ArrayValue arrayNode) {
-        ArrayValue intArray = new ArrayValueImpl(new BArrayType(BTypes.typeInt));
+        ArrayValue intArray = new ArrayValueImpl(TypeInterner.getArrayType(BTypes.typeInt));
         for (int i = 0; i < arrayNode.size(); i++) {
             Object jsonValue = arrayNode.getRefValue(i);
             intArray.add(i, jsonNodeToInt(jsonValue));
@@ -639,7 +640,7 @@ public class JSONUtils {
     }
 
     private static ArrayValue jsonArrayToBFloatArray(ArrayValue arrayNode) {
-        ArrayValue floatArray = new ArrayValueImpl(new BArrayType(BTypes.typeFloat));
+        ArrayValue floatArray = new ArrayValueImpl(TypeInterner.getArrayType(BTypes.typeFloat));
         for (int i = 0; i < arrayNode.size(); i++) {
             Object jsonValue = arrayNode.getRefValue(i);
             floatArray.add(i, jsonNodeToFloat(jsonValue));
@@ -648,7 +649,7 @@ public class JSONUtils {
     }
 
     private static ArrayValue jsonArrayToBDecimalArray(ArrayValue arrayNode) {
-        ArrayValue decimalArray = new ArrayValueImpl(new BArrayType(BTypes.typeDecimal));
+        ArrayValue decimalArray = new ArrayValueImpl(TypeInterner.getArrayType(BTypes.typeDecimal));
         for (int i = 0; i < arrayNode.size(); i++) {
             Object jsonValue = arrayNode.getRefValue(i);
             decimalArray.add(i, jsonNodeToDecimal(jsonValue));
@@ -657,7 +658,7 @@ public class JSONUtils {
     }
 
     private static ArrayValue jsonArrayToBStringArray(ArrayValue arrayNode) {
-        ArrayValue stringArray = new ArrayValueImpl(new BArrayType(BTypes.typeString));
+        ArrayValue stringArray = new ArrayValueImpl(TypeInterner.getArrayType(BTypes.typeString));
         for (int i = 0; i < arrayNode.size(); i++) {
             stringArray.add(i, arrayNode.getRefValue(i).toString());
         }
@@ -665,7 +666,7 @@ public class JSONUtils {
     }
 
     private static ArrayValue jsonArrayToBooleanArray(ArrayValue arrayNode) {
-        ArrayValue booleanArray = new ArrayValueImpl(new BArrayType(BTypes.typeBoolean));
+        ArrayValue booleanArray = new ArrayValueImpl(TypeInterner.getArrayType(BTypes.typeBoolean));
         for (int i = 0; i < arrayNode.size(); i++) {
             Object jsonValue = arrayNode.getRefValue(i);
             booleanArray.add(i, jsonNodeToBoolean(jsonValue));
@@ -680,7 +681,7 @@ public class JSONUtils {
      * @return JSON representation of the provided refValueArray
      */
     private static ArrayValue convertRefArrayToJSON(ArrayValue refValueArray) {
-        ArrayValue json = new ArrayValueImpl(new BArrayType(BTypes.typeJSON));
+        ArrayValue json = new ArrayValueImpl(TypeInterner.getArrayType(BTypes.typeJSON));
         for (int i = 0; i < refValueArray.size(); i++) {
             Object value = refValueArray.getRefValue(i);
             if (value == null) {
@@ -715,7 +716,7 @@ public class JSONUtils {
      * @return JSON representation of the provided intArray
      */
     private static ArrayValue convertIntArrayToJSON(ArrayValue intArray) {
-        ArrayValue json = new ArrayValueImpl(new BArrayType(BTypes.typeJSON));
+        ArrayValue json = new ArrayValueImpl(TypeInterner.getArrayType(BTypes.typeJSON));
         for (int i = 0; i < intArray.size(); i++) {
             long value = intArray.getInt(i);
             json.append(value);
@@ -730,7 +731,7 @@ public class JSONUtils {
      * @return JSON representation of the provided floatArray
      */
     private static ArrayValue convertFloatArrayToJSON(ArrayValue floatArray) {
-        ArrayValue json = new ArrayValueImpl(new BArrayType(BTypes.typeJSON));
+        ArrayValue json = new ArrayValueImpl(TypeInterner.getArrayType(BTypes.typeJSON));
         for (int i = 0; i < floatArray.size(); i++) {
             double value = floatArray.getFloat(i);
             json.append(value);
@@ -745,7 +746,7 @@ public class JSONUtils {
      * @return JSON representation of the provided stringArray
      */
     private static ArrayValue convertStringArrayToJSON(ArrayValue stringArray) {
-        ArrayValue json = new ArrayValueImpl(new BArrayType(BTypes.typeJSON));
+        ArrayValue json = new ArrayValueImpl(TypeInterner.getArrayType(BTypes.typeJSON));
         for (int i = 0; i < stringArray.size(); i++) {
             json.append(stringArray.getString(i));
         }
@@ -759,7 +760,7 @@ public class JSONUtils {
      * @return JSON representation of the provided booleanArray
      */
     private static ArrayValue convertBooleanArrayToJSON(ArrayValue booleanArray) {
-        ArrayValue json = new ArrayValueImpl(new BArrayType(BTypes.typeJSON));
+        ArrayValue json = new ArrayValueImpl(TypeInterner.getArrayType(BTypes.typeJSON));
         for (int i = 0; i < booleanArray.size(); i++) {
             boolean value = booleanArray.getBoolean(i);
             json.append(value);
@@ -48,6 +48,7 @@ import org.ballerinalang.jvm.types.BTypedescType;
 import org.ballerinalang.jvm.types.BTypes;
 import org.ballerinalang.jvm.types.BUnionType;
 import org.ballerinalang.jvm.types.BXMLType;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.Flags;
 import org.ballerinalang.jvm.values.ArrayValue;
@@ -241,6 +242,11 @@ public class TypeChecker {
      * @return true if the value belongs to the given type, false otherwise
      */
     public static boolean checkIsType(Object sourceVal, BType sourceType, BType targetType) {
+        // Interned types are shared, so that a value usually has the very type it is tested against.
+        if (sourceType == targetType) {
+            return true;
+        }
+
         if (checkIsType(sourceVal, sourceType, targetType, new ArrayList<>())) {
             return true;
         }
@@ -693,9 +699,8 @@ public class TypeChecker {
             case TypeTags.MAP_TAG:
                 return checkIsMapType(sourceVal, sourceType, (BMapType) targetType, unresolvedTypes);
             case TypeTags.JSON_TAG:
-                return checkIsMapType(sourceVal, sourceType,
-                                      new BMapType(targetType.isReadOnly() ? BTypes.typeReadonlyJSON : BTypes.typeJSON),
-                                      unresolvedTypes);
+                BType jsonType = targetType.isReadOnly() ? BTypes.typeReadonlyJSON : BTypes.typeJSON;
+                return checkIsMapType(sourceVal, sourceType, TypeInterner.getMapType(jsonType), unresolvedTypes);
             case TypeTags.RECORD_TYPE_TAG:
                 return checkIsRecordType(sourceVal, sourceType, (BRecordType) targetType, unresolvedTypes);
             case TypeTags.UNION_TAG:
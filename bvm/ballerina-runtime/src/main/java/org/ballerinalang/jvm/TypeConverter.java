@@ -31,6 +31,7 @@ import org.ballerinalang.jvm.types.BTableType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
 import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.Flags;
 import org.ballerinalang.jvm.util.exceptions.BLangExceptionHelper;
@@ -824,7 +825,7 @@ public class TypeConverter {
             return BTypes.typeByte;
         }
 
-        BType anydataArrayType = new BArrayType(type);
+        BType anydataArrayType = TypeInterner.getArrayType(type);
         if (checkIsLikeType(value, anydataArrayType)) {
             return anydataArrayType;
         }
@@ -833,7 +834,7 @@ public class TypeConverter {
             return BTypes.typeXML;
         }
 
-        BType anydataMapType = new BMapType(type);
+        BType anydataMapType = TypeInterner.getMapType(type);
         if (checkIsLikeType(value, anydataMapType)) {
             return anydataMapType;
         }
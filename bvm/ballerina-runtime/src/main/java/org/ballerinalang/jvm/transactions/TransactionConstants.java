@@ -63,4 +63,12 @@ public class TransactionConstants {
     public static final BString REGISTER_AT_URL = BStringUtils.fromString("registerAtURL");
 
     public static final String ANN_NAME_TRX_PARTICIPANT_CONFIG = "Participant";
+
+    // Transaction log configurations
+    public static final String CONFIG_TRANSACTION_LOG_ENABLED = "b7a.transaction.log.enabled";
+    public static final String CONFIG_TRANSACTION_LOG_DIR = "b7a.transaction.log.dir";
+    public static final String CONFIG_TRANSACTION_LOG_BATCH_SIZE = "b7a.transaction.log.batch.size";
+    public static final String DEFAULT_TRANSACTION_LOG_DIR = "transaction-log";
+    public static final String TRANSACTION_LOG_FILE_NAME = "transactions.log";
+    public static final int DEFAULT_TRANSACTION_LOG_BATCH_SIZE = 64;
 }
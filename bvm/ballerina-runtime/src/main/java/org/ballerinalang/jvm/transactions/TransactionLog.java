@@ -0,0 +1,535 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.transactions;
+
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import javax.transaction.xa.Xid;
+
+/**
+ * Append-only log of the decisions taken on the XA transactions, from which the transactions that were in doubt when
+ * the process stopped are recovered.
+ * <p>
+ * The log follows the presumed abort protocol. A record is appended when it is decided to commit a transaction, when
+ * a resource manager completes its branch of the transaction, and when all the branches are completed. Only the
+ * commit decision has to be durable before the transaction proceeds, since a prepared transaction of this log that is
+ * not known to be committed is rolled back on recovery. The transactions of this log are recognized by the node ID of
+ * the log, which is kept in a separate file next to it. The records are written and flushed to the disk by a single
+ * writer thread in batches of up to {@code maxBatchSize} records, so that the transactions that decide to commit at
+ * the same time share a single flush.
+ * <p>
+ * A commit decision is kept until every resource manager of the transaction completes its branch. If the record of
+ * a completed branch is lost when the process stops, the decision stays in the log, which is harmless since the
+ * resource manager no longer reports the branch.
+ * <p>
+ * Each record is prefixed with its length and checksum, so that a record that was partially written when the process
+ * stopped is discarded on replay. The log is rewritten with only the transactions that are not completed when it is
+ * opened, and whenever it grows beyond {@code maxLogSize}.
+ *
+ * @since 2.0.0
+ */
+public class TransactionLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionLog.class);
+
+    public static final long DEFAULT_MAX_LOG_SIZE = 16 * 1024 * 1024;
+
+    private static final byte COMMITTING = 2;
+    private static final byte COMPLETED = 3;
+    private static final byte BRANCH_COMPLETED = 4;
+    private static final int NODE_ID_LENGTH = 16;
+
+    private final Path logFile;
+    private final byte[] nodeId;
+    private final int maxBatchSize;
+    private final long maxLogSize;
+    private final Map<String, Entry> inDoubtEntries;
+    private final Thread writer;
+
+    // Guarded by this log, keyed by the XID keys of the transactions
+    private final Map<String, Entry> activeEntries = new LinkedHashMap<>();
+    private final List<ByteBuffer> pendingRecords = new ArrayList<>();
+    private long appendedCount;
+    private long writtenCount;
+    private IOException writeError;
+    private boolean closed;
+
+    // Accessed only by the writer thread
+    private FileChannel channel;
+
+    public TransactionLog(Path logFile, int maxBatchSize) throws IOException {
+        this(logFile, maxBatchSize, DEFAULT_MAX_LOG_SIZE);
+    }
+
+    /**
+     * Opens the transaction log in the given file, replaying the records that are already in it.
+     *
+     * @param logFile      file of the log, which is created if it does not exist
+     * @param maxBatchSize maximum number of records that are flushed to the disk at once
+     * @param maxLogSize   size of the file beyond which it is rewritten with only the active transactions
+     * @throws IOException if the log cannot be read or written
+     */
+    public TransactionLog(Path logFile, int maxBatchSize, long maxLogSize) throws IOException {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("transaction log batch size should be positive: " + maxBatchSize);
+        }
+        this.logFile = logFile;
+        this.maxBatchSize = maxBatchSize;
+        this.maxLogSize = maxLogSize;
+
+        if (logFile.getParent() != null) {
+            Files.createDirectories(logFile.getParent());
+        }
+        this.nodeId = readNodeId();
+        if (Files.exists(logFile)) {
+            replay();
+        }
+        this.inDoubtEntries = new LinkedHashMap<>(activeEntries);
+        compact();
+
+        this.writer = new Thread(this::writeRecords, "transaction-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Returns the ID that identifies the transactions of this log, which is generated when the log is first created.
+     *
+     * @return node ID of the log
+     */
+    public byte[] getNodeId() {
+        return nodeId.clone();
+    }
+
+    /**
+     * Returns the transactions that were decided to commit, but were not completed when the log was last closed.
+     *
+     * @return in-doubt transactions, in the order they were logged
+     */
+    public Collection<Entry> getInDoubtTransactions() {
+        return inDoubtEntries.values();
+    }
+
+    /**
+     * Returns the commit decision of the given transaction, if it is decided to commit and some of its branches are
+     * not completed yet.
+     *
+     * @param xid XID of the transaction
+     * @return the commit decision, or null if the transaction is not known to be committed
+     */
+    public synchronized Entry getCommitDecision(Xid xid) {
+        return activeEntries.get(getXidKey(xid));
+    }
+
+    /**
+     * Logs the decision to commit a transaction, and waits until it is flushed to the disk.
+     *
+     * @param transactionId id of the transaction
+     * @param xid           XID of the transaction
+     * @param branchCount   number of resource managers that have a branch of the transaction
+     */
+    public void logCommitting(String transactionId, Xid xid, int branchCount) {
+        append(new Entry(COMMITTING, transactionId, xid, branchCount), true);
+    }
+
+    /**
+     * Logs that a resource manager completed its branch of a transaction that is decided to commit. The decision is
+     * discarded once all the branches are completed.
+     *
+     * @param transactionId id of the transaction
+     * @param xid           XID of the transaction
+     */
+    public void logBranchCompleted(String transactionId, Xid xid) {
+        append(new Entry(BRANCH_COMPLETED, transactionId, xid, 1), false);
+    }
+
+    /**
+     * Logs that all the branches of a transaction are completed.
+     *
+     * @param transactionId id of the transaction
+     * @param xid           XID of the transaction
+     */
+    public void logCompleted(String transactionId, Xid xid) {
+        append(new Entry(COMPLETED, transactionId, xid, 0), false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    private void append(Entry entry, boolean durable) {
+        ByteBuffer record = entry.serialize();
+        long recordCount;
+        synchronized (this) {
+            if (closed) {
+                throw new BallerinaException("transaction log is closed: " + logFile);
+            }
+            // The writer has stopped, hence the record would never be written
+            if (writeError != null) {
+                throw new BallerinaException("error in writing to the transaction log " + logFile + ": " +
+                                                     writeError.getMessage());
+            }
+            apply(activeEntries, entry);
+            pendingRecords.add(record);
+            recordCount = ++appendedCount;
+            notifyAll();
+            if (!durable) {
+                return;
+            }
+
+            boolean interrupted = false;
+            while (writtenCount < recordCount && writeError == null) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (writtenCount < recordCount) {
+                throw new BallerinaException("error in writing to the transaction log " + logFile + ": " +
+                                                     writeError.getMessage());
+            }
+        }
+    }
+
+    private void writeRecords() {
+        List<ByteBuffer> batch = new ArrayList<>(maxBatchSize);
+        int compactedCount = 0;
+        while (true) {
+            synchronized (this) {
+                if (writeError == null) {
+                    writtenCount += batch.size() + compactedCount;
+                }
+                batch.clear();
+                compactedCount = 0;
+                notifyAll();
+                while (pendingRecords.isEmpty() && !closed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        stopWriting(new InterruptedIOException("transaction log writer is interrupted"));
+                        return;
+                    }
+                }
+                if (pendingRecords.isEmpty()) {
+                    return;
+                }
+                List<ByteBuffer> records = pendingRecords.subList(0, Math.min(maxBatchSize, pendingRecords.size()));
+                batch.addAll(records);
+                records.clear();
+            }
+
+            try {
+                writeFully(channel, batch);
+                channel.force(false);
+                if (channel.size() > maxLogSize) {
+                    compactedCount = compact();
+                }
+            } catch (IOException e) {
+                log.error("error in writing to the transaction log " + logFile, e);
+                synchronized (this) {
+                    stopWriting(e);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Fails the appends that wait for their records to be written, and the appends that follow.
+     */
+    private void stopWriting(IOException error) {
+        writeError = error;
+        pendingRecords.clear();
+        notifyAll();
+    }
+
+    private static void apply(Map<String, Entry> entries, Entry entry) {
+        String xidKey = getXidKey(entry.xid);
+        switch (entry.type) {
+            case COMMITTING:
+                entries.put(xidKey, entry);
+                break;
+            case BRANCH_COMPLETED:
+                Entry committingEntry = entries.get(xidKey);
+                if (committingEntry == null || committingEntry.branchCount <= 1) {
+                    entries.remove(xidKey);
+                } else {
+                    entries.put(xidKey, new Entry(COMMITTING, committingEntry.transactionId, committingEntry.xid,
+                                                  committingEntry.branchCount - 1));
+                }
+                break;
+            default:
+                entries.remove(xidKey);
+                break;
+        }
+    }
+
+    /**
+     * Rewrites the log with the records of the transactions that are not completed, and reopens it for appending.
+     * The rewritten log already reflects the records that are pending, hence they are discarded instead of being
+     * written after it, where a branch completion would be applied twice.
+     *
+     * @return the number of pending records that were discarded
+     */
+    private int compact() throws IOException {
+        List<ByteBuffer> records = new ArrayList<>();
+        int pendingCount;
+        synchronized (this) {
+            for (Entry entry : activeEntries.values()) {
+                records.add(entry.serialize());
+            }
+            pendingCount = pendingRecords.size();
+            pendingRecords.clear();
+        }
+
+        Path tempFile = logFile.resolveSibling(logFile.getFileName() + ".tmp");
+        try (FileChannel tempChannel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(tempChannel, records);
+            tempChannel.force(true);
+        }
+        if (channel != null) {
+            channel.close();
+        }
+        Files.move(tempFile, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+        channel = FileChannel.open(logFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return pendingCount;
+    }
+
+    private static void writeFully(FileChannel fileChannel, List<ByteBuffer> records) throws IOException {
+        ByteBuffer[] buffers = records.toArray(new ByteBuffer[0]);
+        long remaining = 0;
+        for (ByteBuffer buffer : buffers) {
+            remaining += buffer.remaining();
+        }
+        while (remaining > 0) {
+            remaining -= fileChannel.write(buffers);
+        }
+    }
+
+    /**
+     * Flushes the directory of the log to the disk, so that the files renamed or created in it survive a crash.
+     */
+    private void syncDirectory() {
+        Path logDir = logFile.toAbsolutePath().getParent();
+        try (FileChannel dirChannel = FileChannel.open(logDir, StandardOpenOption.READ)) {
+            dirChannel.force(true);
+        } catch (IOException e) {
+            // Some platforms, such as Windows, do not allow opening a directory
+            log.debug("error in flushing the transaction log directory " + logDir, e);
+        }
+    }
+
+    private byte[] readNodeId() throws IOException {
+        Path nodeIdFile = logFile.resolveSibling(logFile.getFileName() + ".id");
+        if (Files.exists(nodeIdFile)) {
+            byte[] nodeId = Files.readAllBytes(nodeIdFile);
+            if (nodeId.length == NODE_ID_LENGTH) {
+                return nodeId;
+            }
+            throw new IOException("invalid transaction log node ID in " + nodeIdFile);
+        }
+
+        byte[] nodeId = new byte[NODE_ID_LENGTH];
+        new SecureRandom().nextBytes(nodeId);
+        Path tempFile = nodeIdFile.resolveSibling(nodeIdFile.getFileName() + ".tmp");
+        try (FileChannel tempChannel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            tempChannel.write(ByteBuffer.wrap(nodeId));
+            tempChannel.force(true);
+        }
+        Files.move(tempFile, nodeIdFile, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+        return nodeId;
+    }
+
+    private void replay() throws IOException {
+        try (InputStream inputStream = Files.newInputStream(logFile);
+             DataInputStream dataInputStream = new DataInputStream(new BufferedInputStream(inputStream))) {
+            while (true) {
+                Entry entry = Entry.deserialize(dataInputStream);
+                if (entry == null) {
+                    break;
+                }
+                apply(activeEntries, entry);
+            }
+        }
+    }
+
+    /**
+     * Returns a key that identifies the given XID, regardless of its implementation.
+     *
+     * @param xid XID
+     * @return key of the XID
+     */
+    public static String getXidKey(Xid xid) {
+        StringBuilder key = new StringBuilder().append(xid.getFormatId()).append(':');
+        appendHex(key, xid.getGlobalTransactionId()).append(':');
+        return appendHex(key, xid.getBranchQualifier()).toString();
+    }
+
+    private static StringBuilder appendHex(StringBuilder builder, byte[] bytes) {
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder;
+    }
+
+    /**
+     * A record of the log, or the commit decision of a transaction of which some branches are not completed.
+     */
+    public static class Entry {
+
+        private final byte type;
+        private final String transactionId;
+        private final Xid xid;
+        private final int branchCount;
+
+        private Entry(byte type, String transactionId, Xid xid, int branchCount) {
+            this.type = type;
+            this.transactionId = transactionId;
+            this.xid = xid;
+            this.branchCount = branchCount;
+        }
+
+        public String getTransactionId() {
+            return transactionId;
+        }
+
+        public Xid getXid() {
+            return xid;
+        }
+
+        /**
+         * Returns the number of resource managers that have not completed their branches of the transaction.
+         *
+         * @return number of branches that are not completed
+         */
+        public int getBranchCount() {
+            return branchCount;
+        }
+
+        private ByteBuffer serialize() {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            try (DataOutputStream outputStream = new DataOutputStream(payload)) {
+                outputStream.writeByte(type);
+                outputStream.writeUTF(transactionId);
+                outputStream.writeInt(xid.getFormatId());
+                writeBytes(outputStream, xid.getGlobalTransactionId());
+                writeBytes(outputStream, xid.getBranchQualifier());
+                outputStream.writeInt(branchCount);
+            } catch (IOException e) {
+                throw new BallerinaException("error in serializing the transaction log record: " + e.getMessage());
+            }
+
+            byte[] bytes = payload.toByteArray();
+            CRC32 checksum = new CRC32();
+            checksum.update(bytes, 0, bytes.length);
+            ByteBuffer record = ByteBuffer.allocate(bytes.length + 8);
+            record.putInt(bytes.length).putInt((int) checksum.getValue()).put(bytes).flip();
+            return record;
+        }
+
+        /**
+         * Reads the next record, or returns null at the end of the log or at a record that was not fully written.
+         */
+        private static Entry deserialize(DataInputStream inputStream) throws IOException {
+            byte[] bytes;
+            try {
+                int length = inputStream.readInt();
+                int checksumValue = inputStream.readInt();
+                if (length <= 0 || length > 0xFFFF) {
+                    return null;
+                }
+                bytes = new byte[length];
+                inputStream.readFully(bytes);
+                CRC32 checksum = new CRC32();
+                checksum.update(bytes, 0, bytes.length);
+                if ((int) checksum.getValue() != checksumValue) {
+                    return null;
+                }
+            } catch (EOFException e) {
+                return null;
+            }
+
+            try (DataInputStream payload = new DataInputStream(new ByteArrayInputStream(bytes))) {
+                byte type = payload.readByte();
+                String transactionId = payload.readUTF();
+                int formatId = payload.readInt();
+                byte[] globalTransactionId = readBytes(payload);
+                byte[] branchQualifier = readBytes(payload);
+                int branchCount = payload.readInt();
+                return new Entry(type, transactionId,
+                                 new XATransactionID(formatId, branchQualifier, globalTransactionId), branchCount);
+            }
+        }
+
+        private static void writeBytes(DataOutputStream outputStream, byte[] bytes) throws IOException {
+            outputStream.writeShort(bytes.length);
+            outputStream.write(bytes);
+        }
+
+        private static byte[] readBytes(DataInputStream inputStream) throws IOException {
+            byte[] bytes = new byte[inputStream.readUnsignedShort()];
+            inputStream.readFully(bytes);
+            return bytes;
+        }
+    }
+}
@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.jvm.transactions;
 
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.jvm.api.values.BArray;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
@@ -24,47 +25,76 @@ import org.ballerinalang.jvm.values.FPValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import javax.transaction.xa.XAException;
 import javax.transaction.xa.XAResource;
 import javax.transaction.xa.Xid;
 
+import static javax.transaction.xa.XAResource.TMENDRSCAN;
 import static javax.transaction.xa.XAResource.TMNOFLAGS;
+import static javax.transaction.xa.XAResource.TMSTARTRSCAN;
 import static javax.transaction.xa.XAResource.TMSUCCESS;
+import static org.ballerinalang.jvm.transactions.TransactionConstants.CONFIG_TRANSACTION_LOG_BATCH_SIZE;
+import static org.ballerinalang.jvm.transactions.TransactionConstants.CONFIG_TRANSACTION_LOG_DIR;
+import static org.ballerinalang.jvm.transactions.TransactionConstants.CONFIG_TRANSACTION_LOG_ENABLED;
+import static org.ballerinalang.jvm.transactions.TransactionConstants.DEFAULT_TRANSACTION_LOG_BATCH_SIZE;
+import static org.ballerinalang.jvm.transactions.TransactionConstants.DEFAULT_TRANSACTION_LOG_DIR;
+import static org.ballerinalang.jvm.transactions.TransactionConstants.TRANSACTION_LOG_FILE_NAME;
 
 /**
  * {@code TransactionResourceManager} registry for transaction contexts.
+ * <p>
+ * The participant state of each global transaction is kept in its own {@link TransactionState}, which is guarded by
+ * its own monitor, so that strands of different transactions do not contend with each other. The state is removed
+ * once the transaction is committed or aborted and no block of it holds resources, or when it holds no resources and
+ * has not been updated for ten minutes.
+ * <p>
+ * When the transaction log is enabled, the commit decisions of the XA transactions are recorded in it, and the
+ * transactions that were in doubt when the process stopped are completed as the XA resources join new transactions
+ * after a restart. The prepared transactions of the log that were not decided to commit are rolled back.
  *
  * @since 1.0
  */
 public class TransactionResourceManager {
 
+    // Matches the time after which the transactions module drops the transactions that are not completed
+    private static final long TRANSACTION_STATE_TIMEOUT = 600000;
+    private static final long TRANSACTION_STATE_SWEEP_INTERVAL = 60000;
+
     private static TransactionResourceManager transactionResourceManager = null;
     private static final Logger log = LoggerFactory.getLogger(TransactionResourceManager.class);
-    private Map<String, List<BallerinaTransactionContext>> resourceRegistry;
-    private Map<String, Xid> xidRegistry;
 
-    private Map<String, List<FPValue>> committedFuncRegistry;
-    private Map<String, List<FPValue>> abortedFuncRegistry;
+    private final Map<String, TransactionState> transactionStates = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepTime = new AtomicLong();
 
-    private ConcurrentSkipListSet<String> failedResourceParticipantSet = new ConcurrentSkipListSet<>();
-    private ConcurrentSkipListSet<String> failedLocalParticipantSet = new ConcurrentSkipListSet<>();
-    private ConcurrentHashMap<String, ConcurrentSkipListSet<String>> localParticipants = new ConcurrentHashMap<>();
+    private final TransactionLog transactionLog;
+    private final byte[] nodeId;
+    // Resources of the resource managers that are already recovered, guarded by itself
+    private final List<XAResource> recoveredResources = new ArrayList<>();
 
-    public Map<BArray, Object> transactionInfoMap;
+    public final Map<BArray, Object> transactionInfoMap = new ConcurrentHashMap<>();
 
     private TransactionResourceManager() {
-        resourceRegistry = new HashMap<>();
-        xidRegistry = new HashMap<>();
-        committedFuncRegistry = new HashMap<>();
-        abortedFuncRegistry = new HashMap<>();
-        transactionInfoMap = new HashMap<>();
+        transactionLog = openTransactionLog();
+        nodeId = transactionLog != null ? transactionLog.getNodeId() : null;
+        if (transactionLog != null && !transactionLog.getInDoubtTransactions().isEmpty()) {
+            log.info(String.format("%d in-doubt transactions are recovered as the resources join transactions",
+                                   transactionLog.getInDoubtTransactions().size()));
+        }
     }
 
     public static TransactionResourceManager getInstance() {
@@ -86,8 +116,7 @@ public class TransactionResourceManager {
      * @param txContext          ballerina transaction context which includes the underlying connection info
      */
     public void register(String transactionId, String transactionBlockId, BallerinaTransactionContext txContext) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        resourceRegistry.computeIfAbsent(combinedId, resourceList -> new ArrayList<>()).add(txContext);
+        updateState(transactionId, state -> state.addResource(transactionBlockId, txContext));
     }
 
     /**
@@ -98,7 +127,7 @@ public class TransactionResourceManager {
      */
     public void registerCommittedFunction(String transactionBlockId, FPValue fpValue) {
         if (fpValue != null) {
-            committedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new ArrayList<>()).add(fpValue);
+            updateState(transactionBlockId, state -> state.committedFunctions.add(fpValue));
         }
     }
 
@@ -110,7 +139,7 @@ public class TransactionResourceManager {
      */
     public void registerAbortedFunction(String transactionBlockId, FPValue fpValue) {
         if (fpValue != null) {
-            abortedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new ArrayList<>()).add(fpValue);
+            updateState(transactionBlockId, state -> state.abortedFunctions.add(fpValue));
         }
     }
 
@@ -126,7 +155,7 @@ public class TransactionResourceManager {
      */
     public void registerParticipation(String gTransactionId, String transactionBlockId, FPValue committed,
                                       FPValue aborted, Strand strand) {
-        localParticipants.computeIfAbsent(gTransactionId, gid -> new ConcurrentSkipListSet<>()).add(transactionBlockId);
+        updateState(gTransactionId, state -> state.localParticipants.add(transactionBlockId));
 
         TransactionLocalContext transactionLocalContext = strand.currentTrxContext;
         registerCommittedFunction(transactionBlockId, committed);
@@ -143,27 +172,27 @@ public class TransactionResourceManager {
      */
     public boolean prepare(String transactionId, String transactionBlockId) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-        if (txContextList != null) {
-            for (BallerinaTransactionContext ctx : txContextList) {
-                try {
-                    XAResource xaResource = ctx.getXAResource();
-                    if (xaResource != null) {
-                        Xid xid = xidRegistry.get(combinedId);
-                        xaResource.prepare(xid);
-                    }
-                } catch (Throwable e) {
-                    log.error("error in prepare the transaction, " + combinedId + ":" + e.getMessage(), e);
-                    return false;
+        TransactionState state = transactionStates.get(transactionId);
+        if (state == null) {
+            log.info("Transaction prepare (participants): success");
+            return true;
+        }
+
+        Xid xid = state.getXid(transactionBlockId);
+        for (BallerinaTransactionContext ctx : state.getResources(transactionBlockId)) {
+            try {
+                XAResource xaResource = ctx.getXAResource();
+                if (xaResource != null) {
+                    xaResource.prepare(xid);
                 }
+            } catch (Throwable e) {
+                log.error("error in prepare the transaction, " + combinedId + ":" + e.getMessage(), e);
+                return false;
             }
         }
 
-        boolean status = true;
-        if (failedResourceParticipantSet.contains(transactionId) || failedLocalParticipantSet.contains(transactionId)) {
-            // resource participant reported failure.
-            status = false;
-        }
+        // resource participant reported failure.
+        boolean status = !state.hasFailed();
         log.info(String.format("Transaction prepare (participants): %s", status ? "success" : "failed"));
         return status;
     }
@@ -179,30 +208,49 @@ public class TransactionResourceManager {
     public boolean notifyCommit(Strand strand, String transactionId, String transactionBlockId) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         boolean commitSuccess = true;
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-        if (txContextList != null) {
-            for (BallerinaTransactionContext ctx : txContextList) {
-                try {
-                    XAResource xaResource = ctx.getXAResource();
-                    if (xaResource != null) {
-                        Xid xid = xidRegistry.get(combinedId);
-                        xaResource.commit(xid, false);
-                    } else {
-                        ctx.commit();
+        TransactionState state = transactionStates.get(transactionId);
+        if (state == null) {
+            return true;
+        }
+
+        Xid xid = state.getXid(transactionBlockId);
+        List<BallerinaTransactionContext> resources = state.getResources(transactionBlockId);
+        // Resource managers of the XA resources, each with the XA resources that are not committed yet
+        List<List<XAResource>> branches = transactionLog != null && xid != null ?
+                groupByResourceManager(resources) : Collections.emptyList();
+        if (!branches.isEmpty()) {
+            // The decision has to be durable before any resource commits, or the others may be rolled back on recovery
+            try {
+                transactionLog.logCommitting(combinedId, xid, branches.size());
+            } catch (BallerinaException e) {
+                log.error("error in logging the commit of the transaction, " + combinedId + ":" + e.getMessage(), e);
+                notifyAbort(strand, transactionId, transactionBlockId, null);
+                return false;
+            }
+        }
+        for (BallerinaTransactionContext ctx : resources) {
+            try {
+                XAResource xaResource = ctx.getXAResource();
+                if (xaResource != null) {
+                    xaResource.commit(xid, false);
+                    for (List<XAResource> branch : branches) {
+                        branch.remove(xaResource);
                     }
-                } catch (Throwable e) {
-                    log.error("error in commit the transaction, " + combinedId + ":" + e.getMessage(), e);
-                    commitSuccess = false;
-                } finally {
-                    ctx.close();
+                } else {
+                    ctx.commit();
                 }
+            } catch (Throwable e) {
+                log.error("error in commit the transaction, " + combinedId + ":" + e.getMessage(), e);
+                commitSuccess = false;
+            } finally {
+                ctx.close();
             }
         }
-        invokeCommittedFunction(strand, transactionId, transactionBlockId);
-        removeContextsFromRegistry(combinedId, transactionId);
-        failedResourceParticipantSet.remove(transactionId);
-        failedLocalParticipantSet.remove(transactionId);
-        localParticipants.remove(transactionId);
+        if (!branches.isEmpty()) {
+            logCompletedBranches(combinedId, xid, branches);
+        }
+        invokeCommittedFunction(strand, state.completeBlock(transactionBlockId, true));
+        removeStateIfCompleted(transactionId, state);
         return commitSuccess;
     }
 
@@ -218,23 +266,25 @@ public class TransactionResourceManager {
     public boolean notifyAbort(Strand strand, String transactionId, String transactionBlockId, Object error) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         boolean abortSuccess = true;
-        List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-        if (txContextList != null) {
-            for (BallerinaTransactionContext ctx : txContextList) {
-                try {
-                    XAResource xaResource = ctx.getXAResource();
-                    Xid xid = xidRegistry.get(combinedId);
-                    if (xaResource != null) {
-                        ctx.getXAResource().rollback(xid);
-                    } else {
-                        ctx.rollback();
-                    }
-                } catch (Throwable e) {
-                    log.error("error in abort the transaction, " + combinedId + ":" + e.getMessage(), e);
-                    abortSuccess = false;
-                } finally {
-                    ctx.close();
+        TransactionState state = transactionStates.get(transactionId);
+        if (state == null) {
+            return true;
+        }
+
+        Xid xid = state.getXid(transactionBlockId);
+        for (BallerinaTransactionContext ctx : state.getResources(transactionBlockId)) {
+            try {
+                XAResource xaResource = ctx.getXAResource();
+                if (xaResource != null) {
+                    xaResource.rollback(xid);
+                } else {
+                    ctx.rollback();
                 }
+            } catch (Throwable e) {
+                log.error("error in abort the transaction, " + combinedId + ":" + e.getMessage(), e);
+                abortSuccess = false;
+            } finally {
+                ctx.close();
             }
         }
         //For the retry  attempt failures the aborted function should not be invoked. It should invoked only when the
@@ -242,11 +292,8 @@ public class TransactionResourceManager {
 
         // todo: Temporaraly disabling abort functions as there is no clear way to separate rollback and full abort.
 
-        invokeAbortedFunction(strand, transactionId, transactionBlockId, error);
-        removeContextsFromRegistry(combinedId, transactionId);
-        failedResourceParticipantSet.remove(transactionId);
-        failedLocalParticipantSet.remove(transactionId);
-        localParticipants.remove(transactionId);
+        invokeAbortedFunction(strand, state.completeBlock(transactionBlockId, false), error);
+        removeStateIfCompleted(transactionId, state);
         return abortSuccess;
     }
 
@@ -259,17 +306,15 @@ public class TransactionResourceManager {
      * @param xaResource         the XA resource which participates in the transaction
      */
     public void beginXATransaction(String transactionId, String transactionBlockId, XAResource xaResource) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        Xid xid = xidRegistry.get(combinedId);
-        if (xid == null) {
-            xid = XIDGenerator.createXID();
-            xidRegistry.put(combinedId, xid);
-        }
+        recoverXATransactions(xaResource);
+        Xid xid = updateState(transactionId, state -> state.xids.computeIfAbsent(transactionBlockId,
+                                                                                  blockId -> XIDGenerator.createXID(
+                                                                                          nodeId)));
         try {
             xaResource.start(xid, TMNOFLAGS);
         } catch (XAException e) {
-            throw new BallerinaException("error in starting the XA transaction: id: " + combinedId + " error:" + e
-                    .getMessage());
+            throw new BallerinaException("error in starting the XA transaction: id: " +
+                    generateCombinedTransactionId(transactionId, transactionBlockId) + " error:" + e.getMessage());
         }
     }
 
@@ -280,79 +325,358 @@ public class TransactionResourceManager {
      * @param transactionBlockId the block id of the transaction
      */
     void endXATransaction(String transactionId, String transactionBlockId) {
-        String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        Xid xid = xidRegistry.get(combinedId);
+        TransactionState state = transactionStates.get(transactionId);
+        Xid xid = state != null ? state.getXid(transactionBlockId) : null;
         if (xid != null) {
-            List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
-            if (txContextList != null) {
-                for (BallerinaTransactionContext ctx : txContextList) {
-                    try {
-                        XAResource xaResource = ctx.getXAResource();
-                        if (xaResource != null) {
-                            ctx.getXAResource().end(xid, TMSUCCESS);
-                        }
-                    } catch (Throwable e) {
-                        throw new BallerinaException(
-                                "error in ending the XA transaction: id: " + combinedId + " error:" + e.getMessage());
+            for (BallerinaTransactionContext ctx : state.getResources(transactionBlockId)) {
+                try {
+                    XAResource xaResource = ctx.getXAResource();
+                    if (xaResource != null) {
+                        xaResource.end(xid, TMSUCCESS);
+                    }
+                } catch (Throwable e) {
+                    throw new BallerinaException("error in ending the XA transaction: id: " +
+                            generateCombinedTransactionId(transactionId, transactionBlockId) + " error:" +
+                            e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Completes the transactions of the given XA resource that were in doubt when the process stopped. The prepared
+     * transactions of the transaction log that were decided to commit are committed, and the others are rolled back,
+     * except for the transactions that are in progress in this process. Each resource manager is recovered once, as
+     * its first resource joins a transaction. Connectors may also recover a resource manager as soon as they connect
+     * to it, so that its in-doubt transactions do not hold locks until then.
+     *
+     * @param xaResource the XA resource to recover
+     */
+    public void recoverXATransactions(XAResource xaResource) {
+        if (transactionLog == null) {
+            return;
+        }
+        synchronized (recoveredResources) {
+            Iterator<XAResource> iterator = recoveredResources.iterator();
+            while (iterator.hasNext()) {
+                XAResource recoveredResource = iterator.next();
+                if (recoveredResource == xaResource) {
+                    return;
+                }
+                try {
+                    if (recoveredResource.isSameRM(xaResource)) {
+                        return;
                     }
+                } catch (XAException e) {
+                    // The connection of the recovered resource is closed, hence it cannot be compared
+                    iterator.remove();
+                }
+            }
+
+            Xid[] xids;
+            try {
+                xids = xaResource.recover(TMSTARTRSCAN | TMENDRSCAN);
+            } catch (XAException e) {
+                log.error("error in recovering the XA transactions: " + e.getMessage(), e);
+                return;
+            }
+            recoveredResources.add(xaResource);
+            if (xids == null) {
+                return;
+            }
+            // Taken after the scan, so that it has all the transactions of this process which may have been prepared
+            Set<String> activeXids = getActiveXidKeys();
+            for (Xid xid : xids) {
+                if (XIDGenerator.isGeneratedBy(xid, nodeId) && !activeXids.contains(TransactionLog.getXidKey(xid))) {
+                    recoverXATransaction(xaResource, xid);
                 }
             }
         }
     }
 
+    private void recoverXATransaction(XAResource xaResource, Xid xid) {
+        TransactionLog.Entry commitDecision = transactionLog.getCommitDecision(xid);
+        String transactionId = commitDecision != null ? commitDecision.getTransactionId() :
+                TransactionLog.getXidKey(xid);
+        try {
+            if (commitDecision != null) {
+                xaResource.commit(xid, false);
+                transactionLog.logBranchCompleted(transactionId, xid);
+            } else {
+                xaResource.rollback(xid);
+            }
+            log.info(String.format("Recovered the in-doubt transaction %s: %s", transactionId,
+                                   commitDecision != null ? "committed" : "rolled back"));
+        } catch (XAException e) {
+            if (e.errorCode == XAException.XAER_NOTA) {
+                // Completed by this process after the scan
+                return;
+            }
+            log.error("error in recovering the transaction, " + transactionId + ":" + e.getMessage(), e);
+        }
+    }
+
+    private Set<String> getActiveXidKeys() {
+        Set<String> xidKeys = new HashSet<>();
+        for (TransactionState state : transactionStates.values()) {
+            for (Xid xid : state.getXids()) {
+                xidKeys.add(TransactionLog.getXidKey(xid));
+            }
+        }
+        return xidKeys;
+    }
+
+    /**
+     * Groups the XA resources of a transaction by their resource managers, each of which has a branch of the
+     * transaction.
+     */
+    private static List<List<XAResource>> groupByResourceManager(List<BallerinaTransactionContext> resources) {
+        List<List<XAResource>> branches = new ArrayList<>();
+        for (BallerinaTransactionContext ctx : resources) {
+            XAResource xaResource = ctx.getXAResource();
+            if (xaResource == null) {
+                continue;
+            }
+            List<XAResource> branch = null;
+            for (List<XAResource> existingBranch : branches) {
+                if (isSameResourceManager(existingBranch.get(0), xaResource)) {
+                    branch = existingBranch;
+                    break;
+                }
+            }
+            if (branch == null) {
+                branch = new ArrayList<>();
+                branches.add(branch);
+            }
+            branch.add(xaResource);
+        }
+        return branches;
+    }
+
+    /**
+     * Logs the completion of the branches of which all the XA resources are committed. The commit decision is kept
+     * for the other branches, which are committed on recovery.
+     */
+    private void logCompletedBranches(String combinedId, Xid xid, List<List<XAResource>> branches) {
+        List<List<XAResource>> completedBranches = new ArrayList<>();
+        for (List<XAResource> branch : branches) {
+            if (branch.isEmpty()) {
+                completedBranches.add(branch);
+            }
+        }
+        if (completedBranches.size() == branches.size()) {
+            transactionLog.logCompleted(combinedId, xid);
+            return;
+        }
+        for (int i = 0; i < completedBranches.size(); i++) {
+            transactionLog.logBranchCompleted(combinedId, xid);
+        }
+    }
+
+    private static boolean isSameResourceManager(XAResource recoveredResource, XAResource xaResource) {
+        if (recoveredResource == xaResource) {
+            return true;
+        }
+        try {
+            return recoveredResource.isSameRM(xaResource);
+        } catch (XAException e) {
+            // The connection of the recovered resource is closed, hence it cannot be compared
+            return false;
+        }
+    }
+
     void rollbackTransaction(Strand strand, String transactionId, String transactionBlockId, Object error) {
         endXATransaction(transactionId, transactionBlockId);
         notifyAbort(strand, transactionId, transactionBlockId, error);
     }
 
-    private void removeContextsFromRegistry(String transactionCombinedId, String gTransactionId) {
-        resourceRegistry.remove(transactionCombinedId);
-        xidRegistry.remove(transactionCombinedId);
+    /**
+     * Returns the number of transactions of which the participant state is held, which is bounded by the
+     * transactions that are in progress.
+     *
+     * @return number of transactions
+     */
+    public int getTransactionCount() {
+        return transactionStates.size();
+    }
+
+    private static TransactionLog openTransactionLog() {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        if (!configRegistry.getAsBoolean(CONFIG_TRANSACTION_LOG_ENABLED)) {
+            return null;
+        }
+        Path logDir = Paths.get(configRegistry.getConfigOrDefault(CONFIG_TRANSACTION_LOG_DIR,
+                                                                  DEFAULT_TRANSACTION_LOG_DIR));
+        int batchSize = configRegistry.contains(CONFIG_TRANSACTION_LOG_BATCH_SIZE) ?
+                (int) configRegistry.getAsInt(CONFIG_TRANSACTION_LOG_BATCH_SIZE) : DEFAULT_TRANSACTION_LOG_BATCH_SIZE;
+        try {
+            return new TransactionLog(logDir.resolve(TRANSACTION_LOG_FILE_NAME), batchSize);
+        } catch (IOException e) {
+            throw new BallerinaException("error in opening the transaction log in " + logDir + ": " + e.getMessage());
+        }
     }
 
     private String generateCombinedTransactionId(String transactionId, String transactionBlockId) {
         return transactionId + ":" + transactionBlockId;
     }
 
-    private void invokeCommittedFunction(Strand strand, String transactionId, String transactionBlockId) {
-        List<FPValue> fpValueList = committedFuncRegistry.get(transactionId);
-        Object[] args = { strand, strand.currentTrxContext.getInfoRecord(), true };
-        if (fpValueList != null) {
-            for (int i = fpValueList.size(); i > 0; i--) {
-                FPValue fp = fpValueList.get(i - 1);
-                //TODO: Replace fp.getFunction().apply
-//                BRuntime.getCurrentRuntime().invokeFunctionPointerAsyncIteratively(fp, 1, () -> args,
-//                        results -> {}, () -> null);
-                fp.getFunction().apply(args);
+    /**
+     * Applies the given update to the state of a transaction, creating the state if the transaction has none. The
+     * update is applied under the monitor of the state, so that it is not lost to a concurrent removal of the state.
+     */
+    private <T> T updateState(String transactionId, Function<TransactionState, T> update) {
+        TransactionState state = transactionStates.get(transactionId);
+        if (state == null) {
+            evictExpiredStates();
+        }
+        while (true) {
+            if (state == null) {
+                state = transactionStates.computeIfAbsent(transactionId, id -> new TransactionState());
+            }
+            synchronized (state) {
+                if (!state.removed) {
+                    state.lastUpdatedTime = System.currentTimeMillis();
+                    return update.apply(state);
+                }
+            }
+            state = null;
+        }
+    }
+
+    private void removeStateIfCompleted(String transactionId, TransactionState state) {
+        synchronized (state) {
+            if (!state.removed && state.isEmpty()) {
+                state.removed = true;
+                transactionStates.remove(transactionId, state);
             }
         }
     }
 
-    private void invokeAbortedFunction(Strand strand, String transactionId, String transactionBlockId, Object error) {
-        List<FPValue> fpValueList = abortedFuncRegistry.get(transactionId);
+    /**
+     * Removes the states of the transactions that have not been updated for {@link #TRANSACTION_STATE_TIMEOUT}, such
+     * as those that timed out before they were committed or aborted. The states that still hold resources are kept,
+     * since the resources are released only by completing the transaction. The states are swept at most once per
+     * {@link #TRANSACTION_STATE_SWEEP_INTERVAL}, by the strand that creates a state.
+     */
+    private void evictExpiredStates() {
+        long now = System.currentTimeMillis();
+        long sweepTime = nextSweepTime.get();
+        if (now < sweepTime || !nextSweepTime.compareAndSet(sweepTime, now + TRANSACTION_STATE_SWEEP_INTERVAL)) {
+            return;
+        }
+        for (Map.Entry<String, TransactionState> entry : transactionStates.entrySet()) {
+            TransactionState state = entry.getValue();
+            synchronized (state) {
+                if (!state.removed && state.resources.isEmpty() &&
+                        now - state.lastUpdatedTime >= TRANSACTION_STATE_TIMEOUT) {
+                    state.removed = true;
+                    transactionStates.remove(entry.getKey(), state);
+                    log.debug("Discarded the participant state of the expired transaction: " + entry.getKey());
+                }
+            }
+        }
+    }
+
+    private void invokeCommittedFunction(Strand strand, List<FPValue> fpValueList) {
+        Object[] args = { strand, strand.currentTrxContext.getInfoRecord(), true };
+        for (int i = fpValueList.size(); i > 0; i--) {
+            FPValue fp = fpValueList.get(i - 1);
+            //TODO: Replace fp.getFunction().apply
+//            BRuntime.getCurrentRuntime().invokeFunctionPointerAsyncIteratively(fp, 1, () -> args,
+//                    results -> {}, () -> null);
+            fp.getFunction().apply(args);
+        }
+    }
+
+    private void invokeAbortedFunction(Strand strand, List<FPValue> fpValueList, Object error) {
         //TODO: Need to pass the retryManager to get the willRetry value.
         Object[] args = { strand, strand.currentTrxContext.getInfoRecord(), true, error, true, false, true };
-        if (fpValueList != null) {
-            for (int i = fpValueList.size(); i > 0; i--) {
-                FPValue fp = fpValueList.get(i - 1);
-                //TODO: Replace fp.getFunction().apply
-//                BRuntime.getCurrentRuntime().invokeFunctionPointerAsyncIteratively(fp, 1, () -> args,
-//                        results -> {}, () -> null);
-                fp.getFunction().apply(args);
-            }
+        for (int i = fpValueList.size(); i > 0; i--) {
+            FPValue fp = fpValueList.get(i - 1);
+            //TODO: Replace fp.getFunction().apply
+//            BRuntime.getCurrentRuntime().invokeFunctionPointerAsyncIteratively(fp, 1, () -> args,
+//                    results -> {}, () -> null);
+            fp.getFunction().apply(args);
         }
     }
 
     public void notifyResourceFailure(String gTransactionId) {
-        failedResourceParticipantSet.add(gTransactionId);
+        updateState(gTransactionId, state -> state.resourceFailed = true);
         // The resource excepted (uncaught).
         log.info("Trx infected callable unit excepted id : " + gTransactionId);
     }
 
     public void notifyLocalParticipantFailure(String gTransactionId, String blockId) {
-        ConcurrentSkipListSet<String> participantBlockIds = localParticipants.get(gTransactionId);
-        if (participantBlockIds != null && participantBlockIds.contains(blockId)) {
-            failedLocalParticipantSet.add(gTransactionId);
+        TransactionState state = transactionStates.get(gTransactionId);
+        if (state != null) {
+            state.notifyLocalParticipantFailure(blockId);
+        }
+    }
+
+    /**
+     * Participant state of a global transaction. The state is guarded by its own monitor.
+     */
+    private static class TransactionState {
+
+        private final Map<String, List<BallerinaTransactionContext>> resources = new HashMap<>();
+        private final Map<String, Xid> xids = new HashMap<>();
+        private final List<FPValue> committedFunctions = new ArrayList<>();
+        private final List<FPValue> abortedFunctions = new ArrayList<>();
+        private final Set<String> localParticipants = new HashSet<>();
+        private boolean resourceFailed;
+        private boolean localParticipantFailed;
+        private long lastUpdatedTime;
+        private boolean removed;
+
+        boolean addResource(String transactionBlockId, BallerinaTransactionContext txContext) {
+            return resources.computeIfAbsent(transactionBlockId, blockId -> new ArrayList<>()).add(txContext);
+        }
+
+        synchronized List<BallerinaTransactionContext> getResources(String transactionBlockId) {
+            List<BallerinaTransactionContext> txContextList = resources.get(transactionBlockId);
+            return txContextList == null ? Collections.emptyList() : new ArrayList<>(txContextList);
+        }
+
+        synchronized Xid getXid(String transactionBlockId) {
+            return xids.get(transactionBlockId);
+        }
+
+        synchronized List<Xid> getXids() {
+            return new ArrayList<>(xids.values());
+        }
+
+        synchronized boolean hasFailed() {
+            return resourceFailed || localParticipantFailed;
+        }
+
+        synchronized void notifyLocalParticipantFailure(String transactionBlockId) {
+            if (localParticipants.contains(transactionBlockId)) {
+                localParticipantFailed = true;
+            }
+        }
+
+        /**
+         * Releases the state of a block that is committed or aborted, and the handlers of the transaction.
+         *
+         * @return the handlers to invoke for the outcome of the transaction
+         */
+        synchronized List<FPValue> completeBlock(String transactionBlockId, boolean committed) {
+            resources.remove(transactionBlockId);
+            xids.remove(transactionBlockId);
+            resourceFailed = false;
+            localParticipantFailed = false;
+            localParticipants.clear();
+
+            List<FPValue> handlers = new ArrayList<>(committed ? committedFunctions : abortedFunctions);
+            committedFunctions.clear();
+            abortedFunctions.clear();
+            return handlers;
+        }
+
+        boolean isEmpty() {
+            return resources.isEmpty() && xids.isEmpty() && committedFunctions.isEmpty() &&
+                    abortedFunctions.isEmpty() && localParticipants.isEmpty() && !resourceFailed &&
+                    !localParticipantFailed;
         }
     }
 }
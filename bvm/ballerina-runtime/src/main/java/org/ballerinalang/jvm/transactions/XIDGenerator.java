@@ -18,27 +18,60 @@
 package org.ballerinalang.jvm.transactions;
 
 import java.util.Random;
-import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.transaction.xa.Xid;
 
 /**
  * Generates XID for the distributed transactions.
+ * <p>
+ * All the XIDs have the same format ID. When the transaction log is enabled, the global transaction ID starts with
+ * the node ID of the log, so that the transactions left prepared by a process that used the same log can be
+ * recognized, and rolled back unless they were decided to commit.
  *
  * @since 1.0
  */
 public class XIDGenerator {
 
+    // "B7A" in ASCII
+    static final int FORMAT_ID = 0x423741;
+    private static final int GLOBAL_TRANSACTION_ID_LENGTH = 48;
+    private static final int BRANCH_QUALIFIER_LENGTH = 48;
+
     private static final Random rand = new Random();
-    private static final AtomicInteger formatIdIdGenerator = new AtomicInteger();
 
-    private static byte[] randomBytes() {
-        final byte[] bytes = new byte[48];
+    private static byte[] randomBytes(int length) {
+        final byte[] bytes = new byte[length];
         rand.nextBytes(bytes);
         return bytes;
     }
 
-    static XATransactionID createXID() {
-        final byte[] branchQualifier = randomBytes();
-        final byte[] globalTransactionId = randomBytes();
-        return new XATransactionID(formatIdIdGenerator.incrementAndGet(), branchQualifier, globalTransactionId);
+    static XATransactionID createXID(byte[] nodeId) {
+        final byte[] branchQualifier = randomBytes(BRANCH_QUALIFIER_LENGTH);
+        final byte[] globalTransactionId = randomBytes(GLOBAL_TRANSACTION_ID_LENGTH);
+        if (nodeId != null) {
+            System.arraycopy(nodeId, 0, globalTransactionId, 0, nodeId.length);
+        }
+        return new XATransactionID(FORMAT_ID, branchQualifier, globalTransactionId);
+    }
+
+    /**
+     * Returns whether the given XID was generated by a process that used the transaction log of the given node ID.
+     *
+     * @param xid    XID
+     * @param nodeId node ID of the transaction log
+     * @return whether the XID was generated with the node ID
+     */
+    static boolean isGeneratedBy(Xid xid, byte[] nodeId) {
+        byte[] globalTransactionId = xid.getGlobalTransactionId();
+        if (xid.getFormatId() != FORMAT_ID || globalTransactionId == null ||
+                globalTransactionId.length < nodeId.length) {
+            return false;
+        }
+        for (int i = 0; i < nodeId.length; i++) {
+            if (globalTransactionId[i] != nodeId[i]) {
+                return false;
+            }
+        }
+        return true;
     }
 }
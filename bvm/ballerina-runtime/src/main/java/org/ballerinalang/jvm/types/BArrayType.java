@@ -37,7 +37,7 @@ public class BArrayType extends BType {
     private BType elementType;
     private int dimensions = 1;
     private int size = -1;
-    private boolean hasFillerValue;
+    private Boolean hasFillerValue;
     private ArrayState state = ArrayState.UNSEALED;
 
     private final boolean readonly;
@@ -49,7 +49,6 @@ public class BArrayType extends BType {
         if (elementType instanceof BArrayType) {
             dimensions = ((BArrayType) elementType).getDimensions() + 1;
         }
-        hasFillerValue = TypeChecker.hasFillerValue(this.elementType);
         this.readonly = false;
     }
 
@@ -67,7 +66,6 @@ public class BArrayType extends BType {
             state = ArrayState.CLOSED_SEALED;
             this.size = size;
         }
-        hasFillerValue = TypeChecker.hasFillerValue(this.elementType);
         this.readonly = readonly;
     }
 
@@ -89,7 +87,7 @@ public class BArrayType extends BType {
             case TypeTags.STRING_TAG:
             case TypeTags.BYTE_TAG:
             case TypeTags.DECIMAL_TAG:
-                return (V) new ArrayValueImpl(new BArrayType(elementType), size);
+                return (V) new ArrayValueImpl(TypeInterner.getArrayType(elementType), size);
             case TypeTags.ARRAY_TAG: // fall through
             default:
                 return (V) new ArrayValueImpl(this);
@@ -106,7 +104,7 @@ public class BArrayType extends BType {
             case TypeTags.BOOLEAN_TAG:
             case TypeTags.STRING_TAG:
             case TypeTags.BYTE_TAG:
-                return (V) new ArrayValueImpl(new BArrayType(elementType));
+                return (V) new ArrayValueImpl(TypeInterner.getArrayType(elementType));
             default:
                 return (V) new ArrayValueImpl(this);
         }
@@ -166,6 +164,10 @@ public class BArrayType extends BType {
     }
 
     public boolean hasFillerValue() {
+        // Computed on first use, since the element type may not have been populated when this type is created
+        if (hasFillerValue == null) {
+            hasFillerValue = TypeChecker.hasFillerValue(this.elementType);
+        }
         return hasFillerValue;
     }
 
@@ -64,7 +64,7 @@ public class BFutureType extends BType {
 
     @Override
     public boolean equals(Object obj) {
-        if (!super.equals(obj) || !(obj instanceof BTableType)) {
+        if (!super.equals(obj) || !(obj instanceof BFutureType)) {
             return false;
         }
 
@@ -82,7 +82,7 @@ public class BMapType extends BType {
 
     @Override
     public <V extends Object> V getZeroValue() {
-        return (V) new MapValueImpl<BString, V>(new BMapType(constraint));
+        return (V) new MapValueImpl<BString, V>(TypeInterner.getMapType(constraint));
     }
 
     @Override
@@ -38,6 +38,8 @@ public abstract class BType {
     protected BPackage pkg;
     protected Class<? extends Object> valueClass;
     private int hashCode;
+    // Whether this instance is the one shared by all uses of the type, see TypeInterner
+    boolean canonical;
 
     protected BType(String typeName, BPackage pkg, Class<? extends Object> valueClass) {
         this.typeName = IdentifierUtils.decodeIdentifier(typeName);
@@ -115,6 +115,21 @@ public class BTypes {
     public static BRecordType xmlItrNextReturnType = IteratorUtils
             .createIteratorNextReturnType(new BUnionType(Arrays.asList(BTypes.typeString, BTypes.typeXML)));
 
+    static {
+        BType[] types = {typeInt, typeIntSigned32, typeIntSigned16, typeIntSigned8, typeIntUnsigned32,
+                typeIntUnsigned16, typeIntUnsigned8, typeReadonly, typeElement, typeReadonlyElement,
+                typeProcessingInstruction, typeReadonlyProcessingInstruction, typeComment, typeReadonlyComment,
+                typeText, typeByte, typeFloat, typeDecimal, typeString, typeStringChar, typeBoolean, typeXML, typeJSON,
+                typeJsonArray, typeReadonlyJSON, typeAny, typeReadonlyAny, typeAnydata, typeReadonlyAnydata,
+                typeStream, typeTypedesc, typeMap, typeFuture, typeNull, typeNever, typeXMLAttributes, typeIterator,
+                typeAnyService, typeHandle, anydataOrReadonly, typeErrorDetail, typeError, stringItrNextReturnType,
+                xmlItrNextReturnType};
+        // Registered in the order of declaration, so that the types composed of these are registered after them
+        for (BType type : types) {
+            TypeInterner.register(type);
+        }
+    }
+
     private BTypes() {
     }
 
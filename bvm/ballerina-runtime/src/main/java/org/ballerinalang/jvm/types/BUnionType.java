@@ -67,7 +67,10 @@ public class BUnionType extends BType {
     }
 
     public BUnionType(List<BType> memberTypes, boolean readonly) {
-        this(memberTypes, 0, readonly);
+        this(memberTypes, computeTypeFlags(memberTypes), readonly);
+    }
+
+    static int computeTypeFlags(List<BType> memberTypes) {
         boolean nilable = false, isAnydata = true, isPureType = true;
         for (BType memberType : memberTypes) {
             nilable |= memberType.isNilable();
@@ -75,15 +78,17 @@ public class BUnionType extends BType {
             isPureType &= memberType.isPureType();
         }
 
+        int typeFlags = 0;
         if (nilable) {
-            this.typeFlags = TypeFlags.addToMask(this.typeFlags, TypeFlags.NILABLE);
+            typeFlags = TypeFlags.addToMask(typeFlags, TypeFlags.NILABLE);
         }
         if (isAnydata) {
-            this.typeFlags = TypeFlags.addToMask(this.typeFlags, TypeFlags.ANYDATA);
+            typeFlags = TypeFlags.addToMask(typeFlags, TypeFlags.ANYDATA);
         }
         if (isPureType) {
-            this.typeFlags = TypeFlags.addToMask(this.typeFlags, TypeFlags.PURETYPE);
+            typeFlags = TypeFlags.addToMask(typeFlags, TypeFlags.PURETYPE);
         }
+        return typeFlags;
     }
 
     public BUnionType(BType[] memberTypes, int typeFlags, boolean readonly) {
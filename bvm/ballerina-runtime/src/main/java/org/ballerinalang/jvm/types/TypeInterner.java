@@ -0,0 +1,214 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.types;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of canonical instances of the anonymous array, map, future and union types.
+ * <p>
+ * A type is canonical if it is one of the types in {@link BTypes}, a user defined type created by the generated code,
+ * or a type returned by this registry. Structurally identical types that are composed of the same canonical types
+ * are represented by a single instance, so that type checks between them succeed on reference equality. Types
+ * composed of any other type are created as before, since such component types may be created on each use and would
+ * never be released by the registry.
+ * <p>
+ * The types returned by this registry are shared, and hence must not be modified.
+ *
+ * @since 2.0.0
+ */
+public final class TypeInterner {
+
+    private static final Map<TypeKey, BType> TYPES = new ConcurrentHashMap<>();
+
+    private TypeInterner() {
+    }
+
+    /**
+     * Marks the given type as canonical. If it is an anonymous structured type composed of canonical types, it
+     * becomes the instance returned for the types that are structurally identical to it.
+     *
+     * @param type type to register
+     * @return the given type
+     */
+    public static BType register(BType type) {
+        TypeKey key = type.getPackage() == null ? getKey(type) : null;
+        if (key != null && TYPES.putIfAbsent(key, type) != null) {
+            return type;
+        }
+        type.canonical = true;
+        return type;
+    }
+
+    public static BArrayType getArrayType(BType elementType) {
+        return getArrayType(elementType, -1, false);
+    }
+
+    public static BArrayType getArrayType(BType elementType, int size, boolean readonly) {
+        if (!elementType.canonical) {
+            return new BArrayType(elementType, size, readonly);
+        }
+        TypeKey key = new TypeKey(TypeTags.ARRAY_TAG, size, 0, readonly, elementType);
+        return (BArrayType) TYPES.computeIfAbsent(key, k -> canonical(new BArrayType(elementType, size, readonly)));
+    }
+
+    public static BMapType getMapType(BType constraint) {
+        return getMapType(constraint, false);
+    }
+
+    public static BMapType getMapType(BType constraint, boolean readonly) {
+        if (!constraint.canonical) {
+            return new BMapType(constraint, readonly);
+        }
+        TypeKey key = new TypeKey(TypeTags.MAP_TAG, 0, 0, readonly, constraint);
+        return (BMapType) TYPES.computeIfAbsent(key, k -> canonical(new BMapType(constraint, readonly)));
+    }
+
+    public static BFutureType getFutureType(BType constraint) {
+        if (!constraint.canonical) {
+            return new BFutureType(constraint);
+        }
+        TypeKey key = new TypeKey(TypeTags.FUTURE_TAG, 0, 0, false, constraint);
+        return (BFutureType) TYPES.computeIfAbsent(key, k -> canonical(new BFutureType(constraint)));
+    }
+
+    /**
+     * Returns the union of the given member types, with the type flags derived from the member types.
+     *
+     * @param memberTypes member types of the union, which are not retained
+     * @return union type
+     */
+    public static BUnionType getUnionType(List<BType> memberTypes) {
+        BType[] members = memberTypes.toArray(new BType[0]);
+        if (!isCanonical(members)) {
+            return new BUnionType(memberTypes);
+        }
+        TypeKey key = new TypeKey(TypeTags.UNION_TAG, 0, BUnionType.computeTypeFlags(memberTypes), false, members);
+        return (BUnionType) TYPES.computeIfAbsent(key,
+                k -> canonical(new BUnionType(new ArrayList<>(Arrays.asList(members)))));
+    }
+
+    public static BUnionType getUnionType(BType[] memberTypes, int typeFlags, boolean readonly) {
+        if (!isCanonical(memberTypes)) {
+            return new BUnionType(memberTypes, typeFlags, readonly);
+        }
+        TypeKey key = new TypeKey(TypeTags.UNION_TAG, 0, typeFlags, readonly, memberTypes);
+        return (BUnionType) TYPES.computeIfAbsent(key, k -> canonical(new BUnionType(memberTypes, typeFlags,
+                                                                                       readonly)));
+    }
+
+    private static boolean isCanonical(BType[] types) {
+        for (BType type : types) {
+            if (!type.canonical) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T extends BType> T canonical(T type) {
+        type.canonical = true;
+        return type;
+    }
+
+    private static TypeKey getKey(BType type) {
+        switch (type.getTag()) {
+            case TypeTags.ARRAY_TAG:
+                BArrayType arrayType = (BArrayType) type;
+                if (!arrayType.getElementType().canonical) {
+                    return null;
+                }
+                return new TypeKey(TypeTags.ARRAY_TAG, arrayType.getSize(), 0, arrayType.isReadOnly(),
+                                   arrayType.getElementType());
+            case TypeTags.MAP_TAG:
+                BMapType mapType = (BMapType) type;
+                if (!mapType.getConstrainedType().canonical) {
+                    return null;
+                }
+                return new TypeKey(TypeTags.MAP_TAG, 0, 0, mapType.isReadOnly(), mapType.getConstrainedType());
+            case TypeTags.UNION_TAG:
+                BUnionType unionType = (BUnionType) type;
+                BType[] memberTypes = unionType.getMemberTypes().toArray(new BType[0]);
+                if (!isCanonical(memberTypes)) {
+                    return null;
+                }
+                return new TypeKey(TypeTags.UNION_TAG, 0, unionType.getTypeFlags(), unionType.isReadOnly(),
+                                   memberTypes);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Identifies a structured type by the identities of its component types.
+     */
+    private static final class TypeKey {
+
+        private final int tag;
+        private final int size;
+        private final int typeFlags;
+        private final boolean readonly;
+        private final BType[] components;
+        private final int hash;
+
+        TypeKey(int tag, int size, int typeFlags, boolean readonly, BType... components) {
+            this.tag = tag;
+            this.size = size;
+            this.typeFlags = typeFlags;
+            this.readonly = readonly;
+            this.components = components;
+
+            int hash = 31 * (31 * (31 * tag + size) + typeFlags) + (readonly ? 1 : 0);
+            for (BType component : components) {
+                hash = 31 * hash + System.identityHashCode(component);
+            }
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TypeKey)) {
+                return false;
+            }
+
+            TypeKey other = (TypeKey) obj;
+            if (hash != other.hash || tag != other.tag || size != other.size || typeFlags != other.typeFlags ||
+                    readonly != other.readonly || components.length != other.components.length) {
+                return false;
+            }
+            for (int i = 0; i < components.length; i++) {
+                if (components[i] != other.components[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -24,7 +24,7 @@ import org.ballerinalang.jvm.api.values.BLink;
 import org.ballerinalang.jvm.api.values.BString;
 import org.ballerinalang.jvm.types.BTupleType;
 import org.ballerinalang.jvm.types.BType;
-import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BLangExceptionHelper;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
@@ -325,7 +325,7 @@ public abstract class AbstractArrayValue implements ArrayValue {
             if (types.size() == 1) {
                 type = types.iterator().next();
             } else {
-                type = new BUnionType(new ArrayList<>(types));
+                type = TypeInterner.getUnionType(new ArrayList<>(types));
             }
         }
         iteratorNextReturnType = IteratorUtils.createIteratorNextReturnType(type);
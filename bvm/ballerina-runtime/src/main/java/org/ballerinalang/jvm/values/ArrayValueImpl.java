@@ -28,6 +28,7 @@ import org.ballerinalang.jvm.commons.ArrayState;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.BLangConstants;
 import org.ballerinalang.jvm.util.exceptions.BLangExceptionHelper;
@@ -70,6 +71,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
     private byte[] byteValues;
     private double[] floatValues;
     private BString[] bStringValues;
+    // Whether the array of the basic type values may be shared with a clone, and is to be copied before it is written
+    private boolean sharedValues;
     // ------------------------ Constructors -------------------------------------------------------------------
 
     @Deprecated
@@ -526,6 +529,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public Object shift(long index) {
         handleImmutableArrayValue();
         Object val = get(index);
+        copyOnWrite();
         shiftArray((int) index, getArrayFromType(this.elementType.getTag()));
         return val;
     }
@@ -686,7 +690,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
             return refs.get(this);
         }
 
-        ArrayValue valueArray = null;
+        // The values of a basic type are immutable, so the clone shares them until either of the arrays is modified
+        ArrayValueImpl valueArray = null;
         switch (this.elementType.getTag()) {
             case TypeTags.INT_TAG:
             case TypeTags.SIGNED32_INT_TAG:
@@ -695,20 +700,20 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(intValues, this.size));
+                valueArray = new ArrayValueImpl(intValues);
                 break;
             case TypeTags.BOOLEAN_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(booleanValues, this.size));
+                valueArray = new ArrayValueImpl(booleanValues);
                 break;
             case TypeTags.BYTE_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(byteValues, this.size));
+                valueArray = new ArrayValueImpl(byteValues);
                 break;
             case TypeTags.FLOAT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(floatValues, this.size));
+                valueArray = new ArrayValueImpl(floatValues);
                 break;
             case TypeTags.STRING_TAG:
             case TypeTags.CHAR_STRING_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(bStringValues, this.size));
+                valueArray = new ArrayValueImpl(bStringValues);
                 break;
             default:
                 Object[] values = new Object[this.size];
@@ -721,9 +726,13 @@ public class ArrayValueImpl extends AbstractArrayValue {
                         values[i] = value;
                     }
                 });
-                break;
+                refs.put(this, valueArray);
+                return valueArray;
         }
 
+        valueArray.size = this.size;
+        valueArray.sharedValues = true;
+        this.sharedValues = true;
         refs.put(this, valueArray);
         return valueArray;
     }
@@ -777,7 +786,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 System.arraycopy(bStringValues, (int) startIndex, slicedArray.bStringValues, 0, slicedSize);
                 break;
             default:
-                slicedArray = new ArrayValueImpl(new Object[slicedSize], new BArrayType(this.elementType));
+                slicedArray = new ArrayValueImpl(new Object[slicedSize], TypeInterner.getArrayType(this.elementType));
                 System.arraycopy(refValues, (int) startIndex, slicedArray.refValues, 0, slicedSize);
                 break;
         }
@@ -927,6 +936,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
                 refValues = Arrays.copyOf(refValues, newLength);
                 break;
         }
+        this.sharedValues = false;
     }
 
     @Override
@@ -935,6 +945,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
             return;
         }
 
+        // The array may hold the values of the members that were shifted out, or of the members of an array that
+        // shared it
         switch (this.elementType.getTag()) {
             case TypeTags.STRING_TAG:
                 Arrays.fill(bStringValues, size, index, BLangConstants.STRING_EMPTY_VALUE);
@@ -946,9 +958,16 @@ public class ArrayValueImpl extends AbstractArrayValue {
             case TypeTags.UNSIGNED32_INT_TAG:
             case TypeTags.UNSIGNED16_INT_TAG:
             case TypeTags.UNSIGNED8_INT_TAG:
+                Arrays.fill(intValues, size, index, 0L);
+                return;
             case TypeTags.BYTE_TAG:
+                Arrays.fill(byteValues, size, index, (byte) 0);
+                return;
             case TypeTags.FLOAT_TAG:
+                Arrays.fill(floatValues, size, index, 0.0);
+                return;
             case TypeTags.BOOLEAN_TAG:
+                Arrays.fill(booleanValues, size, index, false);
                 return;
             default:
                 if (arrayType.hasFillerValue()) {
@@ -1030,6 +1049,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     @Override
     protected void unshift(long index, Object[] vals) {
         handleImmutableArrayValue();
+        copyOnWrite();
         unshiftArray(index, vals.length, getCurrentArrayLength());
 
         int startIndex = (int) index;
@@ -1043,6 +1063,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
     // Private methods
 
     private void prepareForAdd(long index, Object value, BType sourceType, int currentArraySize) {
+        copyOnWrite();
+
         // check types
         if (!TypeChecker.checkIsType(value, sourceType, this.elementType)) {
             BString reason = getModulePrefixedReason(ARRAY_LANG_LIB, INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER);
@@ -1088,7 +1110,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     }
 
     private void setArrayType(BType elementType) {
-        this.arrayType = new BArrayType(elementType);
+        this.arrayType = TypeInterner.getArrayType(elementType);
         this.elementType = elementType;
     }
 
@@ -1098,6 +1120,12 @@ public class ArrayValueImpl extends AbstractArrayValue {
         }
     }
 
+    private void copyOnWrite() {
+        if (this.sharedValues) {
+            resizeInternalArray(getCurrentArrayLength());
+        }
+    }
+
     private void shiftArray(int index, Object arr) {
         int nElemsToBeMoved = this.size - 1 - index;
         if (nElemsToBeMoved >= 0) {
@@ -18,7 +18,7 @@
 
 package org.ballerinalang.jvm.values;
 
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 
 /**
  * This class contains the functions related to cloning Ballerina values.
@@ -44,7 +44,7 @@ public class CloneUtils {
         }
 
         RefValue refValue = (RefValue) value;
-        return refValue.copy(new HashMap<>());
+        return refValue.copy(new IdentityHashMap<>());
     }
 
     /**
@@ -64,6 +64,6 @@ public class CloneUtils {
         }
 
         RefValue refValue = (RefValue) value;
-        return refValue.frozenCopy(new HashMap<>());
+        return refValue.frozenCopy(new IdentityHashMap<>());
     }
 }
@@ -25,6 +25,7 @@ import org.ballerinalang.jvm.scheduling.StrandMetadata;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.util.BLangConstants;
 
+import java.lang.invoke.MethodHandle;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -46,12 +47,31 @@ public class FPValue<T, R> implements BFunctionPointer<T, R>, RefValue {
 
     final BType type;
     Function<T, R> function;
+    final MethodHandle handle;
     public boolean isConcurrent;
     public String strandName;
 
     @Deprecated
     public FPValue(Function<T, R> function, BType type, String strandName, boolean isConcurrent) {
+        this(function, null, type, strandName, isConcurrent);
+    }
+
+    /**
+     * Creates a function pointer that can also be invoked through a method handle of the function. Used by the
+     * generated code, other function pointers are created through {@code BValueCreator}.
+     *
+     * @param function     function that takes the strand and the arguments as an array
+     * @param handle       handle of the function, which takes the strand followed by each argument and a boolean
+     *                     flag indicating whether the argument is provided. Null if the function can only be
+     *                     invoked through the {@code function}.
+     * @param type         type of the function
+     * @param strandName   name of the strand, if the function is invoked asynchronously
+     * @param isConcurrent whether the function can be run concurrently
+     */
+    public FPValue(Function<T, R> function, MethodHandle handle, BType type, String strandName,
+                   boolean isConcurrent) {
         this.function = function;
+        this.handle = handle;
         this.type = type;
         this.strandName = strandName;
         this.isConcurrent = isConcurrent;
@@ -75,6 +95,15 @@ public class FPValue<T, R> implements BFunctionPointer<T, R>, RefValue {
         return this.function;
     }
 
+    /**
+     * Returns the method handle of the function, which avoids packing the arguments into an array.
+     *
+     * @return the method handle, or null if the function has to be invoked through {@link #getFunction()}
+     */
+    public MethodHandle getHandle() {
+        return this.handle;
+    }
+
     @Deprecated
     public Consumer<T> getConsumer() {
         return val -> this.function.apply(val);
@@ -21,8 +21,8 @@ package org.ballerinalang.jvm.values;
  import org.ballerinalang.jvm.api.values.BFuture;
  import org.ballerinalang.jvm.api.values.BLink;
  import org.ballerinalang.jvm.scheduling.Strand;
- import org.ballerinalang.jvm.types.BFutureType;
  import org.ballerinalang.jvm.types.BType;
+ import org.ballerinalang.jvm.types.TypeInterner;
 
  import java.util.Map;
  import java.util.StringJoiner;
@@ -55,7 +55,7 @@ package org.ballerinalang.jvm.values;
      public FutureValue(Strand strand, CallableUnitCallback callback, BType constraint) {
          this.strand = strand;
          this.callback = callback;
-         this.type = new BFutureType(constraint);
+         this.type = TypeInterner.getFutureType(constraint);
      }
 
      @Override
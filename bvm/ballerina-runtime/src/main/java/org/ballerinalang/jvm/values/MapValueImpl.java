@@ -36,7 +36,7 @@ import org.ballerinalang.jvm.types.BRecordType;
 import org.ballerinalang.jvm.types.BTupleType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
-import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BLangExceptionHelper;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
@@ -581,7 +581,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
             if (types.size() == 1) {
                 type = types.iterator().next();
             } else {
-                type = new BUnionType(new ArrayList<>(types));
+                type = TypeInterner.getUnionType(new ArrayList<>(types));
             }
         }
         iteratorNextReturnType = IteratorUtils.createIteratorNextReturnType(type);
@@ -22,9 +22,8 @@ import org.ballerinalang.jvm.JSONGenerator;
 import org.ballerinalang.jvm.JSONUtils;
 import org.ballerinalang.jvm.api.values.BLink;
 import org.ballerinalang.jvm.api.values.BStreamingJson;
-import org.ballerinalang.jvm.types.BArrayType;
-import org.ballerinalang.jvm.types.BMapType;
 import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.TypeInterner;
 
 import java.io.IOException;
 import java.io.OutputStream;
@@ -47,7 +46,7 @@ public class StreamingJsonValue extends ArrayValueImpl implements BStreamingJson
 
     @Deprecated
     public StreamingJsonValue(JSONDataSource datasource) {
-        super(new BArrayType(new BMapType(BTypes.typeJSON)));
+        super(TypeInterner.getArrayType(TypeInterner.getMapType(BTypes.typeJSON)));
         this.datasource = datasource;
     }
 
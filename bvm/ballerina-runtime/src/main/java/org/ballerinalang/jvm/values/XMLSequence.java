@@ -26,6 +26,7 @@ import org.ballerinalang.jvm.api.values.BString;
 import org.ballerinalang.jvm.api.values.BXML;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.util.BLangConstants;
 import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
 
@@ -396,7 +397,7 @@ public final class XMLSequence extends XMLValue {
      */
     @Override
     public Object value() {
-        BArrayType bArrayType = new BArrayType(BTypes.typeXML);
+        BArrayType bArrayType = TypeInterner.getArrayType(BTypes.typeXML);
         return new ArrayValueImpl(children.toArray(), bArrayType);
     }
 
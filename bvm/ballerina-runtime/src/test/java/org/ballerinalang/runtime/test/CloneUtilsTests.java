@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.api.BValueCreator;
+import org.ballerinalang.jvm.api.values.BArray;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.TypeInterner;
+import org.ballerinalang.jvm.values.CloneUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link CloneUtils}.
+ */
+public class CloneUtilsTests {
+
+    @Test
+    public void testCloneIsIndependentOfOriginal() {
+        BArray original = BValueCreator.createArrayValue(new long[]{1, 2, 3});
+        BArray clone = (BArray) CloneUtils.cloneValue(original);
+        Assert.assertEquals(clone.getIntArray(), new long[]{1, 2, 3});
+
+        original.add(0, 10L);
+        clone.add(1, 20L);
+        clone.append(4L);
+        Assert.assertEquals(original.getIntArray(), new long[]{10, 2, 3});
+        Assert.assertEquals(clone.getIntArray(), new long[]{1, 20, 3, 4});
+    }
+
+    @Test
+    public void testReadOnlyCloneIsIndependentOfOriginal() {
+        BArray original = BValueCreator.createArrayValue(new double[]{1.5, 2.5});
+        BArray clone = (BArray) CloneUtils.cloneReadOnly(original);
+
+        original.shift();
+        original.add(0, 3.5);
+        Assert.assertEquals(clone.getFloat(0), 1.5);
+        Assert.assertEquals(clone.getFloat(1), 2.5);
+        Assert.assertEquals(original.getFloat(0), 3.5);
+    }
+
+    @Test
+    public void testFilledMembersOfCloneAreZero() {
+        BArray original = BValueCreator.createArrayValue(new long[]{1, 2, 3});
+        original.shift();
+        BArray clone = (BArray) CloneUtils.cloneValue(original);
+
+        // The member that was shifted out of the original is not seen through the clone
+        clone.add(3, 4L);
+        Assert.assertEquals(clone.getIntArray(), new long[]{2, 3, 0, 4});
+    }
+
+    @Test
+    public void testEqualMembersAreClonedSeparately() {
+        BArray first = BValueCreator.createArrayValue(new long[]{1, 2});
+        BArray second = BValueCreator.createArrayValue(new long[]{1, 2});
+        BArray original = BValueCreator.createArrayValue(new Object[]{first, second, first},
+                TypeInterner.getArrayType(TypeInterner.getArrayType(BTypes.typeInt)));
+        BArray clone = (BArray) CloneUtils.cloneValue(original);
+
+        Assert.assertNotSame(clone.getRefValue(0), first);
+        Assert.assertNotSame(clone.getRefValue(0), clone.getRefValue(1));
+        Assert.assertSame(clone.getRefValue(0), clone.getRefValue(2));
+    }
+}
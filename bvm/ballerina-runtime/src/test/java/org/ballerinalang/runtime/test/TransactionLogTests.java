@@ -0,0 +1,233 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.transactions.TransactionLog;
+import org.ballerinalang.jvm.transactions.XATransactionID;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import javax.transaction.xa.Xid;
+
+/**
+ * Test cases for {@link TransactionLog}.
+ */
+public class TransactionLogTests {
+
+    private static final int THREAD_COUNT = 4;
+    private static final int TRANSACTIONS_PER_THREAD = 25;
+
+    private Path logDir;
+    private Path logFile;
+
+    @BeforeMethod
+    public void createLogDir() throws IOException {
+        logDir = Files.createTempDirectory("transaction-log");
+        logFile = logDir.resolve("transactions.log");
+    }
+
+    @AfterMethod
+    public void deleteLogDir() throws IOException {
+        try (Stream<Path> paths = Files.walk(logDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test(description = "Test the transactions that are not completed are in doubt when the log is reopened")
+    public void testReplay() throws IOException {
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 8)) {
+            Assert.assertTrue(transactionLog.getInDoubtTransactions().isEmpty());
+            transactionLog.logCommitting("committing", createXid(1), 1);
+            transactionLog.logCommitting("committed", createXid(2), 2);
+            transactionLog.logCompleted("committed", createXid(2));
+            Assert.assertNotNull(transactionLog.getCommitDecision(createXid(1)));
+            Assert.assertNull(transactionLog.getCommitDecision(createXid(2)));
+        }
+
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 8)) {
+            List<TransactionLog.Entry> entries = new ArrayList<>(transactionLog.getInDoubtTransactions());
+            Assert.assertEquals(entries.size(), 1);
+            Assert.assertEquals(entries.get(0).getTransactionId(), "committing");
+            Assert.assertEquals(TransactionLog.getXidKey(entries.get(0).getXid()),
+                                TransactionLog.getXidKey(createXid(1)));
+            Assert.assertEquals(entries.get(0).getBranchCount(), 1);
+            Assert.assertEquals(transactionLog.getCommitDecision(createXid(1)).getTransactionId(), "committing");
+
+            transactionLog.logBranchCompleted("committing", createXid(1));
+            Assert.assertNull(transactionLog.getCommitDecision(createXid(1)));
+        }
+
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 8)) {
+            Assert.assertTrue(transactionLog.getInDoubtTransactions().isEmpty());
+        }
+    }
+
+    @Test(description = "Test the commit decision is kept until all the resource managers complete their branches")
+    public void testBranchCompletion() throws IOException {
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 8)) {
+            transactionLog.logCommitting("committing", createXid(1), 3);
+            transactionLog.logBranchCompleted("committing", createXid(1));
+        }
+
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 8)) {
+            Assert.assertEquals(transactionLog.getCommitDecision(createXid(1)).getBranchCount(), 2);
+            transactionLog.logBranchCompleted("committing", createXid(1));
+        }
+
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 8)) {
+            Assert.assertEquals(transactionLog.getCommitDecision(createXid(1)).getBranchCount(), 1);
+            transactionLog.logBranchCompleted("committing", createXid(1));
+        }
+
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 8)) {
+            Assert.assertTrue(transactionLog.getInDoubtTransactions().isEmpty());
+        }
+    }
+
+    @Test(description = "Test the node ID of the log is kept when the log is reopened")
+    public void testNodeId() throws IOException {
+        byte[] nodeId;
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 8)) {
+            nodeId = transactionLog.getNodeId();
+        }
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 8)) {
+            Assert.assertEquals(transactionLog.getNodeId(), nodeId);
+        }
+        try (TransactionLog transactionLog = new TransactionLog(logDir.resolve("other.log"), 8)) {
+            Assert.assertNotEquals(transactionLog.getNodeId(), nodeId);
+        }
+    }
+
+    @Test(description = "Test the appends fail instead of blocking once the writer is interrupted", timeOut = 10000)
+    public void testInterruptedWriter() throws Exception {
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 8)) {
+            for (Thread thread : Thread.getAllStackTraces().keySet()) {
+                if (thread.getName().equals("transaction-log-writer")) {
+                    thread.interrupt();
+                    thread.join();
+                }
+            }
+            Assert.assertThrows(BallerinaException.class,
+                                () -> transactionLog.logCommitting("committing", createXid(1), 1));
+            Assert.assertThrows(BallerinaException.class,
+                                () -> transactionLog.logCompleted("committing", createXid(1)));
+        }
+    }
+
+    @Test(description = "Test a record that was partially written when the process stopped is discarded")
+    public void testTornRecord() throws IOException {
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 1)) {
+            transactionLog.logCommitting("committing", createXid(1), 1);
+        }
+        byte[] record = Files.readAllBytes(logFile);
+        // A completion record of which only the first half reached the disk
+        Files.write(logFile, ByteBuffer.allocate(record.length / 2).put(record, 0, record.length / 2).array(),
+                    StandardOpenOption.APPEND);
+
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 1)) {
+            Assert.assertEquals(transactionLog.getInDoubtTransactions().size(), 1);
+            Assert.assertEquals(Files.size(logFile), record.length);
+            transactionLog.logCompleted("committing", createXid(1));
+        }
+
+        record[record.length - 1]++;
+        Files.write(logFile, record);
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 1)) {
+            Assert.assertTrue(transactionLog.getInDoubtTransactions().isEmpty());
+        }
+    }
+
+    @Test(description = "Test the log is rewritten with the transactions that are not completed once it grows")
+    public void testCompaction() throws IOException {
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 8, 512)) {
+            transactionLog.logCommitting("partial", createXid(0), 2);
+            for (int i = 1; i <= 50; i++) {
+                transactionLog.logCommitting("tx" + i, createXid(i), 2);
+                transactionLog.logBranchCompleted("tx" + i, createXid(i));
+                transactionLog.logBranchCompleted("tx" + i, createXid(i));
+            }
+            transactionLog.logBranchCompleted("partial", createXid(0));
+            transactionLog.logCommitting("committing", createXid(51), 1);
+            Assert.assertTrue(Files.size(logFile) < 1024);
+        }
+
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 8)) {
+            List<TransactionLog.Entry> entries = new ArrayList<>(transactionLog.getInDoubtTransactions());
+            Assert.assertEquals(entries.size(), 2);
+            Assert.assertEquals(entries.get(0).getTransactionId(), "partial");
+            Assert.assertEquals(entries.get(0).getBranchCount(), 1);
+            Assert.assertEquals(entries.get(1).getTransactionId(), "committing");
+        }
+    }
+
+    @Test(description = "Test the transactions that commit concurrently are all completed when the log is reopened")
+    public void testConcurrentCommits() throws Exception {
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 8)) {
+            runConcurrently(transactionLog);
+            Assert.assertTrue(transactionLog.getInDoubtTransactions().isEmpty());
+        }
+        try (TransactionLog transactionLog = new TransactionLog(logFile, 8)) {
+            Assert.assertTrue(transactionLog.getInDoubtTransactions().isEmpty());
+        }
+    }
+
+    private void runConcurrently(TransactionLog transactionLog) throws InterruptedException {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(THREAD_COUNT);
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            int thread = i;
+            new Thread(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < TRANSACTIONS_PER_THREAD; j++) {
+                        String transactionId = thread + ":" + j;
+                        Xid xid = createXid(thread * TRANSACTIONS_PER_THREAD + j);
+                        transactionLog.logCommitting(transactionId, xid, 1);
+                        transactionLog.logCompleted(transactionId, xid);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            }).start();
+        }
+        startLatch.countDown();
+        endLatch.await();
+    }
+
+    private Xid createXid(int id) {
+        byte[] globalTransactionId = ByteBuffer.allocate(8).putInt(0xBA).putInt(id).array();
+        return new XATransactionID(0x42, new byte[]{(byte) id}, globalTransactionId);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.api.BValueCreator;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.transactions.BallerinaTransactionContext;
+import org.ballerinalang.jvm.transactions.TransactionLocalContext;
+import org.ballerinalang.jvm.transactions.TransactionResourceManager;
+import org.ballerinalang.jvm.values.FPValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.transaction.xa.XAResource;
+
+/**
+ * Test cases for {@link TransactionResourceManager}.
+ */
+public class TransactionResourceManagerTests {
+
+    private static final int THREAD_COUNT = 4;
+    private static final int TRANSACTIONS_PER_THREAD = 100;
+
+    private final TransactionResourceManager resourceManager = TransactionResourceManager.getInstance();
+
+    @Test
+    public void testCommit() {
+        String transactionId = UUID.randomUUID().toString();
+        Strand strand = createStrand(transactionId);
+        TestTransactionContext txContext = new TestTransactionContext();
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger aborted = new AtomicInteger();
+
+        resourceManager.register(transactionId, "block", txContext);
+        resourceManager.registerCommittedFunction(transactionId, createHandler(committed));
+        resourceManager.registerAbortedFunction(transactionId, createHandler(aborted));
+        Assert.assertTrue(resourceManager.prepare(transactionId, "block"));
+        Assert.assertTrue(resourceManager.notifyCommit(strand, transactionId, "block"));
+
+        Assert.assertEquals(txContext.commits, 1);
+        Assert.assertEquals(txContext.rollbacks, 0);
+        Assert.assertEquals(txContext.closes, 1);
+        Assert.assertEquals(committed.get(), 1);
+        Assert.assertEquals(aborted.get(), 0);
+
+        // The state of the transaction is released once it is committed
+        Assert.assertTrue(resourceManager.notifyCommit(strand, transactionId, "block"));
+        Assert.assertEquals(txContext.commits, 1);
+        Assert.assertEquals(committed.get(), 1);
+    }
+
+    @Test
+    public void testAbort() {
+        String transactionId = UUID.randomUUID().toString();
+        Strand strand = createStrand(transactionId);
+        TestTransactionContext txContext = new TestTransactionContext();
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger aborted = new AtomicInteger();
+
+        resourceManager.register(transactionId, "block", txContext);
+        resourceManager.registerCommittedFunction(transactionId, createHandler(committed));
+        resourceManager.registerAbortedFunction(transactionId, createHandler(aborted));
+        resourceManager.notifyResourceFailure(transactionId);
+        Assert.assertFalse(resourceManager.prepare(transactionId, "block"));
+        Assert.assertTrue(resourceManager.notifyAbort(strand, transactionId, "block", null));
+
+        Assert.assertEquals(txContext.commits, 0);
+        Assert.assertEquals(txContext.rollbacks, 1);
+        Assert.assertEquals(txContext.closes, 1);
+        Assert.assertEquals(committed.get(), 0);
+        Assert.assertEquals(aborted.get(), 1);
+
+        // A failure of an earlier attempt does not fail the transaction
+        Assert.assertTrue(resourceManager.prepare(transactionId, "block"));
+    }
+
+    @Test
+    public void testResourcesOfOtherBlocksAreKept() {
+        String transactionId = UUID.randomUUID().toString();
+        Strand strand = createStrand(transactionId);
+        TestTransactionContext txContext1 = new TestTransactionContext();
+        TestTransactionContext txContext2 = new TestTransactionContext();
+
+        resourceManager.register(transactionId, "block1", txContext1);
+        resourceManager.register(transactionId, "block2", txContext2);
+        resourceManager.notifyCommit(strand, transactionId, "block1");
+        Assert.assertEquals(txContext1.commits, 1);
+        Assert.assertEquals(txContext2.commits, 0);
+        resourceManager.notifyCommit(strand, transactionId, "block2");
+        Assert.assertEquals(txContext2.commits, 1);
+    }
+
+    @Test(description = "Test concurrent local transactions with commit and abort handlers")
+    public void testConcurrentTransactions() throws Exception {
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger aborted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            tasks.add(() -> {
+                int commits = 0;
+                for (int j = 0; j < TRANSACTIONS_PER_THREAD; j++) {
+                    String transactionId = UUID.randomUUID().toString();
+                    Strand strand = createStrand(transactionId);
+                    resourceManager.register(transactionId, "block", new TestTransactionContext());
+                    resourceManager.registerCommittedFunction(transactionId, createHandler(committed));
+                    resourceManager.registerAbortedFunction(transactionId, createHandler(aborted));
+                    if (j % 2 == 0 && resourceManager.prepare(transactionId, "block")) {
+                        resourceManager.notifyCommit(strand, transactionId, "block");
+                        commits++;
+                    } else {
+                        resourceManager.notifyAbort(strand, transactionId, "block", null);
+                    }
+                }
+                return commits;
+            });
+        }
+
+        int commits = 0;
+        for (Future<Integer> result : executor.invokeAll(tasks)) {
+            commits += result.get();
+        }
+        executor.shutdown();
+
+        int transactions = THREAD_COUNT * TRANSACTIONS_PER_THREAD;
+        Assert.assertEquals(commits, transactions / 2);
+        Assert.assertEquals(committed.get(), transactions / 2);
+        Assert.assertEquals(aborted.get(), transactions / 2);
+        Assert.assertEquals(resourceManager.getTransactionCount(), 0);
+    }
+
+    private Strand createStrand(String transactionId) {
+        Strand strand = new Strand("transaction", null, null, null, null);
+        strand.currentTrxContext = TransactionLocalContext.create(transactionId, "http://localhost", "2pc");
+        return strand;
+    }
+
+    private FPValue createHandler(AtomicInteger invocations) {
+        return (FPValue) BValueCreator.createFPValue(args -> invocations.incrementAndGet(), null);
+    }
+
+    /**
+     * Counts the operations on a local transaction resource.
+     */
+    private static class TestTransactionContext implements BallerinaTransactionContext {
+
+        private int commits;
+        private int rollbacks;
+        private int closes;
+
+        @Override
+        public void commit() {
+            commits++;
+        }
+
+        @Override
+        public void rollback() {
+            rollbacks++;
+        }
+
+        @Override
+        public void close() {
+            closes++;
+        }
+
+        @Override
+        public XAResource getXAResource() {
+            return null;
+        }
+    }
+}
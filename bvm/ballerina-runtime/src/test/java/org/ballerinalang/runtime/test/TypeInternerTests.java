@@ -0,0 +1,75 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BTupleType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.TypeInterner;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+
+/**
+ * Test cases for {@link TypeInterner}.
+ */
+public class TypeInternerTests {
+
+    @Test
+    public void testStructurallyIdenticalTypesAreShared() {
+        Assert.assertSame(TypeInterner.getArrayType(BTypes.typeInt), TypeInterner.getArrayType(BTypes.typeInt));
+        Assert.assertSame(TypeInterner.getArrayType(BTypes.typeJSON), BTypes.typeJsonArray);
+        Assert.assertSame(TypeInterner.getMapType(TypeInterner.getArrayType(BTypes.typeString)),
+                          TypeInterner.getMapType(TypeInterner.getArrayType(BTypes.typeString)));
+        Assert.assertSame(TypeInterner.getFutureType(BTypes.typeInt), TypeInterner.getFutureType(BTypes.typeInt));
+        Assert.assertSame(TypeInterner.getUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeNull)),
+                          TypeInterner.getUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeNull)));
+    }
+
+    @Test
+    public void testDistinctTypesAreNotShared() {
+        Assert.assertNotSame(TypeInterner.getArrayType(BTypes.typeInt), TypeInterner.getArrayType(BTypes.typeFloat));
+        Assert.assertNotSame(TypeInterner.getArrayType(BTypes.typeInt),
+                             TypeInterner.getArrayType(BTypes.typeInt, 3, false));
+        Assert.assertNotSame(TypeInterner.getMapType(BTypes.typeInt), TypeInterner.getMapType(BTypes.typeInt, true));
+        Assert.assertNotSame(TypeInterner.getUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeNull)),
+                             TypeInterner.getUnionType(Arrays.asList(BTypes.typeNull, BTypes.typeInt)));
+    }
+
+    @Test
+    public void testTypesOfTransientComponentsAreNotShared() {
+        BType tupleType = new BTupleType(Arrays.asList(BTypes.typeInt, BTypes.typeString));
+        BArrayType arrayType = TypeInterner.getArrayType(tupleType);
+        Assert.assertNotSame(arrayType, TypeInterner.getArrayType(tupleType));
+        Assert.assertEquals(arrayType, TypeInterner.getArrayType(tupleType));
+        Assert.assertNotSame(TypeInterner.getArrayType(arrayType), TypeInterner.getArrayType(arrayType));
+    }
+
+    @Test
+    public void testSharedTypesAreEqualToCreatedTypes() {
+        BType arrayType = new BArrayType(BTypes.typeInt);
+        Assert.assertEquals(TypeInterner.getArrayType(BTypes.typeInt), arrayType);
+        Assert.assertTrue(TypeChecker.checkIsType(TypeInterner.getArrayType(BTypes.typeInt), arrayType));
+        Assert.assertTrue(TypeChecker.checkIsType(TypeInterner.getFutureType(BTypes.typeInt),
+                                                  TypeInterner.getFutureType(BTypes.typeInt)));
+    }
+}
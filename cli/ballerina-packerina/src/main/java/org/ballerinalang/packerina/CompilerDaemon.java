@@ -0,0 +1,426 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina;
+
+import org.ballerinalang.packerina.cmd.BuildCommand;
+import org.ballerinalang.tool.CompilerDaemonClient;
+import org.ballerinalang.tool.LauncherUtils;
+import org.ballerinalang.tool.Main;
+import org.wso2.ballerinalang.compiler.packaging.converters.CompiledBinaryCache;
+import picocli.CommandLine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JVM that is kept running in between builds, so that the builds do not pay for the start up of the JVM, the
+ * loading of the compiler classes and the just in time compilation of the compiler.
+ * <p>
+ * The daemon listens on an ephemeral port of the loopback interface, and accepts only the requests that present the
+ * token written to the daemon file. The builds are run one at a time, with the standard output and the standard
+ * error of each build sent back to the client that requested it. The daemon stops once it has been idle for the
+ * configured time.
+ * <p>
+ * A build runs with the system properties of the client, except for those that describe the JVM, and the processes
+ * it starts get the environment of the client. The environment of the daemon itself cannot be changed, hence a
+ * build is rejected if the Ballerina environment variables, which the compiler reads, differ from the ones of the
+ * client. The client then builds in its own JVM.
+ *
+ * @since 2.0.0
+ */
+public class CompilerDaemon {
+
+    public static final long DEFAULT_IDLE_TIMEOUT_IN_MINUTES = 180;
+
+    private static final PrintStream OUT = System.out;
+    private static final PrintStream ERR = System.err;
+    private static final int TOKEN_LENGTH = 32;
+    // Options of the build command whose values are paths, which are resolved against the directory of the client
+    private static final String[] PATH_OPTIONS = {"--sourceroot", "--output", "-o", "--dump-bir-file"};
+    // Environment variables read by the compiler, which must be the same in the client and the daemon
+    private static final String BALLERINA_ENV_PREFIX = "BALLERINA_";
+    // System properties that describe the JVM, which are kept as they are in the daemon
+    private static final String[] JVM_PROPERTY_PREFIXES = {"java.", "jdk.", "sun.", "os.", "file.", "native.",
+            "line.separator", "path.separator"};
+
+    private static volatile boolean daemonProcess = false;
+    private static volatile Map<String, String> clientEnvironment = null;
+
+    private final long idleTimeoutInMillis;
+    private final String token;
+    private int buildCount = 0;
+    private final long startTime = System.currentTimeMillis();
+
+    public CompilerDaemon(long idleTimeoutInMillis) {
+        this.idleTimeoutInMillis = idleTimeoutInMillis;
+        byte[] tokenBytes = new byte[TOKEN_LENGTH];
+        new SecureRandom().nextBytes(tokenBytes);
+        StringBuilder tokenBuilder = new StringBuilder();
+        for (byte b : tokenBytes) {
+            tokenBuilder.append(String.format("%02x", b));
+        }
+        this.token = tokenBuilder.toString();
+    }
+
+    public static void main(String... args) throws IOException {
+        long idleTimeoutInMinutes = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_IDLE_TIMEOUT_IN_MINUTES;
+        new CompilerDaemon(TimeUnit.MINUTES.toMillis(idleTimeoutInMinutes)).run();
+    }
+
+    /**
+     * Returns whether this JVM is a compiler daemon. The standard streams of a daemon are written to its log file,
+     * hence a build that starts a process must send the output of the process to the streams of the build.
+     *
+     * @return whether this JVM is a compiler daemon
+     */
+    public static boolean isDaemonProcess() {
+        return daemonProcess;
+    }
+
+    /**
+     * Returns the environment of the client whose build is running, which is given to the processes the build
+     * starts.
+     *
+     * @return environment of the client
+     */
+    public static Map<String, String> getClientEnvironment() {
+        Map<String, String> environment = clientEnvironment;
+        return environment != null ? environment : System.getenv();
+    }
+
+    /**
+     * Serves the requests until the daemon is stopped or is idle for the idle timeout.
+     *
+     * @throws IOException if the daemon cannot listen or write the daemon file
+     */
+    public void run() throws IOException {
+        // The BIR of the lang library and the standard library is read once for all the builds
+        CompiledBinaryCache.setEnabled(true);
+        daemonProcess = true;
+        Path daemonFile = CompilerDaemonClient.getDaemonFile();
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            serverSocket.setSoTimeout((int) Math.min(idleTimeoutInMillis, Integer.MAX_VALUE));
+            writeDaemonFile(daemonFile, serverSocket.getLocalPort());
+            OUT.println("compiler daemon started on port " + serverSocket.getLocalPort());
+
+            boolean stopped = false;
+            while (!stopped) {
+                try (Socket socket = serverSocket.accept()) {
+                    stopped = serve(socket);
+                } catch (SocketTimeoutException e) {
+                    OUT.println("compiler daemon stopped after being idle for " +
+                                        TimeUnit.MILLISECONDS.toMinutes(idleTimeoutInMillis) + " minutes");
+                    stopped = true;
+                } catch (IOException e) {
+                    ERR.println("error: failed to serve the request: " + e.getMessage());
+                }
+            }
+        } finally {
+            deleteDaemonFile(daemonFile);
+        }
+    }
+
+    /**
+     * Serves a request.
+     *
+     * @return whether the daemon is requested to stop
+     */
+    private boolean serve(Socket socket) throws IOException {
+        DataInputStream request = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        String requestToken;
+        try {
+            requestToken = request.readUTF();
+        } catch (EOFException e) {
+            // A client that checks whether the daemon is running
+            return false;
+        }
+        if (!MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                                   requestToken.getBytes(StandardCharsets.UTF_8))) {
+            ERR.println("error: rejected a request with an invalid token");
+            return false;
+        }
+        byte requestType = request.readByte();
+        String userDir = request.readUTF();
+        String[] args = new String[request.readInt()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = request.readUTF();
+        }
+        Map<String, String> environment = readMap(request);
+        Map<String, String> properties = readMap(request);
+
+        DataOutputStream response = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        if (requestType == CompilerDaemonClient.BUILD_REQUEST && !isSameBallerinaEnvironment(environment)) {
+            OUT.println("rejected a build from a client with different Ballerina environment variables");
+            response.writeByte(CompilerDaemonClient.REJECT_FRAME);
+            response.flush();
+            return false;
+        }
+
+        PrintStream outStream = new PrintStream(new FrameOutputStream(response, CompilerDaemonClient.OUT_FRAME), true,
+                                                StandardCharsets.UTF_8.name());
+        PrintStream errStream = new PrintStream(new FrameOutputStream(response, CompilerDaemonClient.ERR_FRAME), true,
+                                                StandardCharsets.UTF_8.name());
+        int exitCode = 0;
+        switch (requestType) {
+            case CompilerDaemonClient.BUILD_REQUEST:
+                exitCode = build(Paths.get(userDir), args, environment, properties, outStream, errStream);
+                break;
+            case CompilerDaemonClient.STATUS_REQUEST:
+                outStream.println("compiler daemon is running with pid " + ProcessHandle.current().pid() + ", " +
+                                          buildCount + " builds in " +
+                                          TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis() - startTime) +
+                                          " minutes");
+                break;
+            case CompilerDaemonClient.STOP_REQUEST:
+                outStream.println("compiler daemon stopped");
+                break;
+            default:
+                errStream.println("error: unknown compiler daemon request: " + requestType);
+                exitCode = 1;
+        }
+        outStream.flush();
+        errStream.flush();
+        response.writeByte(CompilerDaemonClient.EXIT_FRAME);
+        response.writeInt(exitCode);
+        response.flush();
+        return requestType == CompilerDaemonClient.STOP_REQUEST;
+    }
+
+    private int build(Path userDir, String[] args, Map<String, String> environment, Map<String, String> properties,
+                      PrintStream outStream, PrintStream errStream) {
+        buildCount++;
+        // A build may set system properties, such as the debug port of the tests, which must not leak into the
+        // builds that follow it
+        Properties systemProperties = (Properties) System.getProperties().clone();
+        System.setProperties(getBuildProperties(systemProperties, properties));
+        // Setting user.dir changes only what the build reads from the property. NIO keeps resolving relative paths
+        // against the directory the daemon was started in, hence the paths in the arguments are made absolute.
+        System.setProperty("user.dir", userDir.toString());
+        String[] buildArgs = resolvePathOptions(userDir, args);
+        clientEnvironment = Collections.unmodifiableMap(environment);
+        System.setOut(outStream);
+        System.setErr(errStream);
+        try {
+            BuildCommand buildCommand = new BuildCommand(userDir, outStream, errStream, false, false);
+            int exitCode = Main.execute(() -> {
+                try {
+                    CommandLine cmdParser = new CommandLine(buildCommand);
+                    cmdParser.setStopAtPositional(true);
+                    cmdParser.setPosixClusteredShortOptionsAllowed(false);
+                    cmdParser.parse(buildArgs);
+                } catch (CommandLine.ParameterException e) {
+                    throw LauncherUtils.createUsageExceptionWithHelp(String.valueOf(e.getMessage()));
+                }
+                buildCommand.execute();
+            }, errStream);
+            return exitCode != 0 ? exitCode : buildCommand.getExitCode();
+        } finally {
+            System.setOut(OUT);
+            System.setErr(ERR);
+            clientEnvironment = null;
+            System.setProperties(systemProperties);
+        }
+    }
+
+    /**
+     * Returns whether the Ballerina environment variables of the client are the same as the ones of the daemon.
+     *
+     * @param environment environment of the client
+     * @return whether the Ballerina environment variables are the same
+     */
+    static boolean isSameBallerinaEnvironment(Map<String, String> environment) {
+        return getBallerinaEnvironment(environment).equals(getBallerinaEnvironment(System.getenv()));
+    }
+
+    private static Map<String, String> getBallerinaEnvironment(Map<String, String> environment) {
+        Map<String, String> ballerinaEnvironment = new HashMap<>();
+        environment.forEach((name, value) -> {
+            if (name.startsWith(BALLERINA_ENV_PREFIX)) {
+                ballerinaEnvironment.put(name, value);
+            }
+        });
+        return ballerinaEnvironment;
+    }
+
+    /**
+     * Returns the system properties of a build, which are the ones of the client except for those that describe the
+     * JVM of the daemon.
+     *
+     * @param daemonProperties system properties of the daemon
+     * @param clientProperties system properties of the client
+     * @return system properties of the build
+     */
+    static Properties getBuildProperties(Properties daemonProperties, Map<String, String> clientProperties) {
+        Properties buildProperties = new Properties();
+        clientProperties.forEach((name, value) -> {
+            if (!isJvmProperty(name)) {
+                buildProperties.setProperty(name, value);
+            }
+        });
+        for (String name : daemonProperties.stringPropertyNames()) {
+            if (isJvmProperty(name)) {
+                buildProperties.setProperty(name, daemonProperties.getProperty(name));
+            }
+        }
+        return buildProperties;
+    }
+
+    private static boolean isJvmProperty(String name) {
+        for (String prefix : JVM_PROPERTY_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, String> readMap(DataInputStream request) throws IOException {
+        int size = request.readInt();
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(request.readUTF(), request.readUTF());
+        }
+        return map;
+    }
+
+    /**
+     * Resolves the relative paths given to the path options of the build command against the directory of the
+     * client.
+     *
+     * @param userDir directory of the client
+     * @param args    arguments of the build command
+     * @return arguments with absolute paths
+     */
+    static String[] resolvePathOptions(Path userDir, String[] args) {
+        String[] resolvedArgs = args.clone();
+        for (int i = 0; i < resolvedArgs.length; i++) {
+            for (String option : PATH_OPTIONS) {
+                if (resolvedArgs[i].equals(option) && i + 1 < resolvedArgs.length) {
+                    i++;
+                    resolvedArgs[i] = userDir.resolve(resolvedArgs[i]).toString();
+                    break;
+                } else if (resolvedArgs[i].startsWith(option + "=")) {
+                    resolvedArgs[i] = option + "=" +
+                            userDir.resolve(resolvedArgs[i].substring(option.length() + 1)).toString();
+                    break;
+                }
+            }
+        }
+        return resolvedArgs;
+    }
+
+    private void writeDaemonFile(Path daemonFile, int port) throws IOException {
+        Files.createDirectories(daemonFile.getParent());
+        Properties properties = new Properties();
+        properties.setProperty(CompilerDaemonClient.PORT_PROPERTY, String.valueOf(port));
+        properties.setProperty(CompilerDaemonClient.TOKEN_PROPERTY, token);
+        properties.setProperty(CompilerDaemonClient.PID_PROPERTY, String.valueOf(ProcessHandle.current().pid()));
+        properties.setProperty(CompilerDaemonClient.HOME_PROPERTY,
+                               String.valueOf(System.getProperty("ballerina.home")));
+
+        // The token is written to a file that only the user can read, before it is moved in place
+        Path tempFile = daemonFile.resolveSibling(daemonFile.getFileName() + ".tmp");
+        Files.deleteIfExists(tempFile);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(tempFile,
+                             PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(tempFile);
+        }
+        try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+            properties.store(outputStream, "Ballerina compiler daemon");
+        }
+        Files.move(tempFile, daemonFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void deleteDaemonFile(Path daemonFile) {
+        // Another daemon may have been started in the meantime, in which case its file is kept
+        if (CompilerDaemonClient.readDaemonFile()
+                .map(properties -> token.equals(properties.getProperty(CompilerDaemonClient.TOKEN_PROPERTY)))
+                .orElse(false)) {
+            try {
+                Files.deleteIfExists(daemonFile);
+            } catch (IOException e) {
+                ERR.println("error: failed to delete the compiler daemon file: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Stream that writes each chunk of the output of a build as a frame of the response.
+     */
+    private static class FrameOutputStream extends OutputStream {
+
+        private final DataOutputStream response;
+        private final byte frameType;
+
+        private FrameOutputStream(DataOutputStream response, byte frameType) {
+            this.response = response;
+            this.frameType = frameType;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) {
+                return;
+            }
+            synchronized (response) {
+                response.writeByte(frameType);
+                response.writeInt(length);
+                response.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (response) {
+                response.flush();
+            }
+        }
+    }
+}
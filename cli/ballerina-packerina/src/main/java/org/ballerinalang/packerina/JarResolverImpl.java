@@ -124,6 +124,18 @@ public class JarResolverImpl implements JarResolver {
         }
     }
 
+    @Override
+    public Path moduleBalo(PackageID packageID) {
+        if (isProjectModule(packageID) || isModuleInDistribution(packageID)) {
+            // Project modules are compiled from sources, and distribution modules come with the compiler.
+            return null;
+        } else if (isPathDependency(packageID)) {
+            return buildContext.getImportPathDependency(packageID).get().getMetadata().getPath();
+        } else {
+            return getBaloPathFromHomeCache(packageID);
+        }
+    }
+
     @Override
     public HashSet<Path> nativeDependencies(PackageID packageID) {
         HashSet<Path> modulePlatformLibs = new HashSet<>();
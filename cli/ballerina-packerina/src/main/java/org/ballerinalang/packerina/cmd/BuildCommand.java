@@ -56,9 +56,12 @@ import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 
+import static org.ballerinalang.compiler.CompilerOptionName.BUILD_CACHE_DIR;
 import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
+import static org.ballerinalang.compiler.CompilerOptionName.DISABLED_BIR_OPTIMIZATIONS;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
+import static org.ballerinalang.compiler.CompilerOptionName.DUMP_TYPE_RELATION_STATS;
 import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.LOCK_ENABLED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
@@ -84,6 +87,7 @@ public class BuildCommand implements BLauncherCmd {
     private Path sourceRootPath;
     private boolean exitWhenFinish;
     private boolean skipCopyLibsFromDist;
+    private int exitCode = 0;
 
     public BuildCommand() {
         this.sourceRootPath = Paths.get(System.getProperty("user.dir"));
@@ -151,6 +155,14 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-bir-file", hidden = true)
     private String dumpBIRFile;
 
+    @CommandLine.Option(names = "--dump-type-relation-stats", hidden = true)
+    private boolean dumpTypeRelationStats;
+
+    @CommandLine.Option(names = "--disable-bir-opt", hidden = true, split = ",", description = "BIR " +
+            "optimizations to skip: inline, constant-propagation, scalar-replacement, copy-propagation, " +
+            "unreachable-blocks, dead-stores.")
+    private List<String> disabledBIROptimizations;
+
     @CommandLine.Option(names = "--dump-llvm-ir", hidden = true)
     private boolean dumpLLVMIR;
 
@@ -182,6 +194,14 @@ public class BuildCommand implements BLauncherCmd {
             "JAR file(s).")
     private boolean observabilityIncluded;
 
+    @CommandLine.Option(names = "--tree-shake", hidden = true, description = "Remove the classes that are not " +
+            "reachable from the entry points of the executable JAR file(s).")
+    private boolean treeShake;
+
+    @CommandLine.Option(names = "--tree-shake-keep", hidden = true, split = ",", description = "Classes or " +
+            "packages (e.g. 'org.example.*') to retain when tree shaking, in addition to the reachable classes.")
+    private List<String> treeShakeKeepList;
+
     public void execute() {
         if (this.helpFlag) {
             String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(BUILD_COMMAND);
@@ -207,7 +227,7 @@ public class BuildCommand implements BLauncherCmd {
         // check if there are too many arguments.
         if (userArgs.length > 0) {
             CommandUtil.printError(this.errStream, "too many arguments.", buildCmd, false);
-            CommandUtil.exitError(this.exitWhenFinish);
+            exitError();
             return;
         }
 
@@ -218,7 +238,7 @@ public class BuildCommand implements BLauncherCmd {
                     "'--all' to build/compile all the modules of the project.",
                     "ballerina build {<ballerina-file> | <module-name> | -a | --all}",
                     false);
-            CommandUtil.exitError(this.exitWhenFinish);
+            exitError();
             return;
         }
 
@@ -238,7 +258,7 @@ public class BuildCommand implements BLauncherCmd {
                                                "file.",
                                        "ballerina build -o <output-file> <ballerina-file> ",
                                        true);
-                CommandUtil.exitError(this.exitWhenFinish);
+                exitError();
                 return;
             }
 
@@ -251,7 +271,7 @@ public class BuildCommand implements BLauncherCmd {
                                                    "Ballerina.toml file.",
                                            null,
                                            false);
-                    CommandUtil.exitError(this.exitWhenFinish);
+                    exitError();
                     return;
                 }
 
@@ -271,7 +291,7 @@ public class BuildCommand implements BLauncherCmd {
             if (this.compile) {
                 CommandUtil.printError(this.errStream,
                                        "'-c' or '--compile' can only be used with modules.", null, false);
-                CommandUtil.exitError(this.exitWhenFinish);
+                exitError();
                 return;
             } else {
                 //// check if path given is an absolute path. update source root accordingly.
@@ -287,7 +307,7 @@ public class BuildCommand implements BLauncherCmd {
                                            "'" + sourcePath + "' Ballerina file does not exist.",
                                            null,
                                            false);
-                    CommandUtil.exitError(this.exitWhenFinish);
+                    exitError();
                     return;
                 }
 
@@ -298,7 +318,7 @@ public class BuildCommand implements BLauncherCmd {
                                                    "' is not a Ballerina file. Check if it is a symlink or a shortcut.",
                                            null,
                                            false);
-                    CommandUtil.exitError(this.exitWhenFinish);
+                    exitError();
                     return;
                 }
 
@@ -322,7 +342,7 @@ public class BuildCommand implements BLauncherCmd {
                                                "file.",
                                        null,
                                        false);
-                CommandUtil.exitError(this.exitWhenFinish);
+                exitError();
                 return;
             }
 
@@ -332,7 +352,7 @@ public class BuildCommand implements BLauncherCmd {
                         "you are trying to build/compile a module that is not inside a project.",
                         null,
                         false);
-                CommandUtil.exitError(this.exitWhenFinish);
+                exitError();
                 return;
             }
 
@@ -343,7 +363,7 @@ public class BuildCommand implements BLauncherCmd {
                                                "only need to give the name of the module.",
                                        "ballerina build [-c] <module-name>",
                                        true);
-                CommandUtil.exitError(this.exitWhenFinish);
+                exitError();
                 return;
             }
 
@@ -362,7 +382,7 @@ public class BuildCommand implements BLauncherCmd {
                         "'" + sourcePath + "' module does not exist.",
                         "ballerina build [-c] <module-name>",
                         true);
-                CommandUtil.exitError(this.exitWhenFinish);
+                exitError();
                 return;
             }
 
@@ -375,7 +395,7 @@ public class BuildCommand implements BLauncherCmd {
                                    "to build or compile all modules.",
                                    "ballerina build {<ballerina-file> | <module-name> | -a | --all}",
                                    true);
-            CommandUtil.exitError(this.exitWhenFinish);
+            exitError();
             return;
         }
 
@@ -390,6 +410,7 @@ public class BuildCommand implements BLauncherCmd {
         options.put(PROJECT_DIR, this.sourceRootPath.toString());
         options.put(DUMP_BIR, Boolean.toString(dumpBIR));
         options.put(DUMP_BIR_FILE, dumpBIRFile);
+        options.put(DUMP_TYPE_RELATION_STATS, Boolean.toString(dumpTypeRelationStats));
         options.put(OFFLINE, Boolean.toString(this.offline));
         options.put(COMPILER_PHASE, CompilerPhase.CODE_GEN.toString());
         options.put(LOCK_ENABLED, Boolean.toString(!this.skipLock));
@@ -397,6 +418,9 @@ public class BuildCommand implements BLauncherCmd {
         options.put(TEST_ENABLED, Boolean.toString(!this.skipTests));
         options.put(EXPERIMENTAL_FEATURES_ENABLED, Boolean.toString(this.experimentalFlag));
         options.put(PRESERVE_WHITESPACE, "true");
+        if (this.disabledBIROptimizations != null) {
+            options.put(DISABLED_BIR_OPTIMIZATIONS, String.join(",", this.disabledBIROptimizations));
+        }
 
         // create builder context
         BuildContext buildContext = new BuildContext(this.sourceRootPath, targetPath, sourcePath, compilerContext);
@@ -407,6 +431,11 @@ public class BuildCommand implements BLauncherCmd {
         buildContext.setErr(errStream);
 
         boolean isSingleFileBuild = buildContext.getSourceType().equals(SINGLE_BAL_FILE);
+        // reuse the code generated for unchanged modules in previous builds(projects only)
+        if (!isSingleFileBuild) {
+            options.put(BUILD_CACHE_DIR,
+                    targetPath.resolve(ProjectDirConstants.TARGET_BUILD_CACHE_DIRECTORY).toString());
+        }
         // output path is the current directory if -o flag is not given.
         Path outputPath = null == this.output ? Paths.get(System.getProperty("user.dir")) : Paths.get(this.output);
 
@@ -424,8 +453,8 @@ public class BuildCommand implements BLauncherCmd {
                 .addTask(new CopyObservabilitySymbolsTask(), isSingleFileBuild)
                 .addTask(new RunTestsTask(testReport, coverage, args), this.skipTests || isSingleFileBuild) // run tests
                                                                                                 // (projects only)
-                .addTask(new CreateExecutableTask(), this.compile)  // create the executable.jar
-                                                                                        // file
+                // create the executable.jar file
+                .addTask(new CreateExecutableTask(this.treeShake, this.treeShakeKeepList), this.compile)
                 .addTask(new CopyExecutableTask(outputPath), !isSingleFileBuild)    // copy executable
                 .addTask(new PrintExecutablePathTask(), this.compile)   // print the location of the executable
                 .addTask(new RunCompilerPluginTask(), this.compile) // run compiler plugins
@@ -438,6 +467,21 @@ public class BuildCommand implements BLauncherCmd {
         }
     }
 
+    /**
+     * Returns the exit code of the build, which is non zero if the build failed before compiling. A build that fails
+     * due to compilation errors throws an exception instead.
+     *
+     * @return exit code of the build
+     */
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private void exitError() {
+        this.exitCode = 1;
+        CommandUtil.exitError(this.exitWhenFinish);
+    }
+
     @Override
     public String getName() {
         return BUILD_COMMAND;
@@ -71,7 +71,7 @@ public class CleanCommand implements BLauncherCmd {
     
         if (ProjectDirs.isProject(Paths.get(this.sourceRootPath))) {
             TaskExecutor taskExecutor = new TaskExecutor.TaskBuilder()
-                    .addTask(new CleanTargetDirTask())
+                    .addTask(new CleanTargetDirTask(true))
                     .build();
     
             BuildContext buildContext = new BuildContext(Paths.get(this.sourceRootPath));
@@ -36,6 +36,7 @@ public class Constants {
     static final String PUSH_COMMAND = "push";
     static final String SEARCH_COMMAND = "search";
     static final String CLEAN_COMMAND = "clean";
+    static final String DAEMON_COMMAND = "daemon";
     static final String UNINSTALL_COMMAND = "uninstall";
 
     //module name format : <org-name>/<module-name> | <org-name>/<module-name>:<version>
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.cmd;
+
+import org.ballerinalang.packerina.CompilerDaemon;
+import org.ballerinalang.tool.BLauncherCmd;
+import org.ballerinalang.tool.CompilerDaemonClient;
+import org.ballerinalang.tool.LauncherUtils;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.ballerinalang.packerina.cmd.Constants.DAEMON_COMMAND;
+
+/**
+ * This class represents the "ballerina daemon" command, which starts, stops and shows the status of the compiler
+ * daemon.
+ *
+ * @since 2.0.0
+ */
+@CommandLine.Command(name = DAEMON_COMMAND, description = "Ballerina daemon - Start, stop or show the status of " +
+                                                          "the compiler daemon.")
+public class DaemonCommand implements BLauncherCmd {
+
+    private static final String START = "start";
+    private static final String STOP = "stop";
+    private static final String STATUS = "status";
+    private static final String LOG_FILE_NAME = "daemon.log";
+    private static final long START_TIMEOUT_IN_MILLIS = 30000;
+
+    // System properties set by the launcher script, which the daemon needs to build as the launcher does
+    private static final String[] LAUNCHER_PROPERTIES = {"ballerina.home", "ballerina.version", "ballerina.target",
+            "java.util.logging.config.class", "java.util.logging.manager", "enable.nonblocking", "file.encoding",
+            "java.command"};
+
+    private final PrintStream outStream;
+    private final PrintStream errStream;
+    private boolean exitWhenFinish;
+
+    @CommandLine.Parameters
+    private List<String> argList;
+
+    @CommandLine.Option(names = {"--idle-timeout"}, description = "Minutes after which an idle daemon stops.")
+    private long idleTimeoutInMinutes = CompilerDaemon.DEFAULT_IDLE_TIMEOUT_IN_MINUTES;
+
+    @CommandLine.Option(names = {"--help", "-h"}, hidden = true)
+    private boolean helpFlag;
+
+    public DaemonCommand() {
+        this.outStream = System.out;
+        this.errStream = System.err;
+        this.exitWhenFinish = true;
+    }
+
+    public DaemonCommand(PrintStream outStream, PrintStream errStream, boolean exitWhenFinish) {
+        this.outStream = outStream;
+        this.errStream = errStream;
+        this.exitWhenFinish = exitWhenFinish;
+    }
+
+    @Override
+    public void execute() {
+        if (this.helpFlag) {
+            String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(DAEMON_COMMAND);
+            this.errStream.println(commandUsageInfo);
+            return;
+        }
+
+        if (this.argList == null || this.argList.size() != 1) {
+            CommandUtil.printError(this.errStream, "'daemon' command requires one of 'start', 'stop' or 'status'.",
+                                   "ballerina daemon {start | stop | status}", false);
+            CommandUtil.exitError(this.exitWhenFinish);
+            return;
+        }
+
+        switch (this.argList.get(0)) {
+            case START:
+                start();
+                break;
+            case STOP:
+                if (!CompilerDaemonClient.send(CompilerDaemonClient.STOP_REQUEST, new String[0], this.outStream,
+                                               this.errStream).isPresent()) {
+                    this.outStream.println("compiler daemon is not running");
+                }
+                break;
+            case STATUS:
+                if (!CompilerDaemonClient.send(CompilerDaemonClient.STATUS_REQUEST, new String[0], this.outStream,
+                                               this.errStream).isPresent()) {
+                    this.outStream.println("compiler daemon is not running");
+                }
+                break;
+            default:
+                CommandUtil.printError(this.errStream, "unknown daemon command '" + this.argList.get(0) + "'.",
+                                       "ballerina daemon {start | stop | status}", false);
+                CommandUtil.exitError(this.exitWhenFinish);
+                return;
+        }
+        if (this.exitWhenFinish) {
+            Runtime.getRuntime().exit(0);
+        }
+    }
+
+    private void start() {
+        if (CompilerDaemonClient.isRunning()) {
+            this.outStream.println("compiler daemon is already running");
+            return;
+        }
+
+        Path daemonDir = CompilerDaemonClient.getDaemonFile().getParent();
+        Path logFile = daemonDir.resolve(LOG_FILE_NAME);
+        List<String> command = new ArrayList<>();
+        String javaCommand = System.getProperty("java.command");
+        command.add(javaCommand != null ? javaCommand :
+                            Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        String bootClassPath = System.getProperty("jdk.boot.class.path.append");
+        if (bootClassPath != null && !bootClassPath.isEmpty()) {
+            command.add("-Xbootclasspath/a:" + bootClassPath);
+        }
+        command.add("-classpath");
+        command.add(System.getProperty("java.class.path"));
+        for (String property : LAUNCHER_PROPERTIES) {
+            String value = System.getProperty(property);
+            if (value != null) {
+                command.add("-D" + property + "=" + value);
+            }
+        }
+        command.add(CompilerDaemon.class.getName());
+        command.add(String.valueOf(this.idleTimeoutInMinutes));
+
+        try {
+            Files.createDirectories(daemonDir);
+            new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.appendTo(logFile.toFile()))
+                    .start();
+        } catch (IOException e) {
+            throw LauncherUtils.createLauncherException("failed to start the compiler daemon: " + e.getMessage());
+        }
+
+        long deadline = System.currentTimeMillis() + START_TIMEOUT_IN_MILLIS;
+        while (!CompilerDaemonClient.isRunning()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw LauncherUtils.createLauncherException("compiler daemon did not start, see " + logFile);
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        this.outStream.println("compiler daemon started, 'ballerina build' runs in it until it is stopped");
+    }
+
+    @Override
+    public String getName() {
+        return DAEMON_COMMAND;
+    }
+
+    @Override
+    public void printLongDesc(StringBuilder out) {
+        out.append("Start, stop or show the status of the compiler daemon. \n");
+        out.append("\n");
+        out.append("While the compiler daemon is running, 'ballerina build' runs in it instead \n");
+        out.append("of in a new JVM. \n");
+    }
+
+    @Override
+    public void printUsage(StringBuilder out) {
+        out.append("  ballerina daemon [--idle-timeout <minutes>] {start | stop | status}\n");
+    }
+
+    @Override
+    public void setParentCmdParser(CommandLine parentCmdParser) {
+    }
+}
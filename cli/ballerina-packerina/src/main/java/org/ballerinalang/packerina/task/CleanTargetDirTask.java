@@ -37,6 +37,22 @@ import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
  * Cleans up the target directory.
  */
 public class CleanTargetDirTask implements Task {
+    private final boolean cleanBuildCache;
+
+    public CleanTargetDirTask() {
+        this(false);
+    }
+
+    /**
+     * Creates a task to clean up the target directory.
+     *
+     * @param cleanBuildCache whether to delete the build cache, which is kept by the builds to reuse the code
+     *                        generated for unchanged modules
+     */
+    public CleanTargetDirTask(boolean cleanBuildCache) {
+        this.cleanBuildCache = cleanBuildCache;
+    }
+
     @Override
     public void execute(BuildContext buildContext) {
         Path targetDir = buildContext.get(BuildContextField.TARGET_DIR);
@@ -61,6 +77,9 @@ public class CleanTargetDirTask implements Task {
                 deleteResource(new File(targetDir.toAbsolutePath().toString()
                         + File.separator + ProjectDirConstants.CACHES_DIR_NAME).toPath());
             }
+            if (this.cleanBuildCache) {
+                deleteResource(targetDir.resolve(ProjectDirConstants.TARGET_BUILD_CACHE_DIRECTORY));
+            }
         } catch (IOException e) {
             throw createLauncherException("Unable to clean target : " + targetDir.toString() + "\n", e);
         }
@@ -27,6 +27,7 @@ import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleModuleContex
 import org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType;
 import org.ballerinalang.packerina.model.DependencyJar;
 import org.ballerinalang.util.diagnostic.Diagnostic;
+import org.wso2.ballerinalang.compiler.CompiledJarCache;
 import org.wso2.ballerinalang.compiler.Compiler;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
@@ -94,7 +95,20 @@ public class CompileTask implements Task {
             }
         }
 
+        printBuildCacheStats(buildContext, CompiledJarCache.getInstance(context));
+
         // update build context.
         buildContext.put(BuildContextField.COMPILER_CONTEXT, context);
     }
+
+    private void printBuildCacheStats(BuildContext buildContext, CompiledJarCache compiledJarCache) {
+        int lookupCount = compiledJarCache.getHitCount() + compiledJarCache.getMissCount();
+        if (!compiledJarCache.isEnabled() || lookupCount == 0) {
+            return;
+        }
+
+        int hitRate = compiledJarCache.getHitCount() * 100 / lookupCount;
+        buildContext.out().println("Build cache: reused " + compiledJarCache.getHitCount() + " of " + lookupCount +
+                " module(s) (" + hitRate + "%), saved " + compiledJarCache.getSavedTimeMillis() + "ms");
+    }
 }
@@ -23,33 +23,77 @@ import org.apache.commons.compress.archivers.zip.ZipArchiveEntryPredicate;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.ballerinalang.compiler.JarResolver;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleFileContext;
 import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleModuleContext;
+import org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType;
+import org.wso2.ballerinalang.compiler.ExecutableTreeShaker;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
 import org.wso2.ballerinalang.util.Lists;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
 
 /**
  * Task for creating the executable jar file.
+ * <p>
+ * The dependency jars of a module are merged into a "dependencies layer" jar, which is kept in the build cache of
+ * the project and is reused until the set of dependencies changes. The jars of the project modules are rewritten in
+ * every build, hence they are not part of the layer. The executable is assembled from the module jar, the jars of
+ * the other project modules and the dependencies layer. Entries are copied raw, without decompressing and
+ * compressing them again.
  */
 public class CreateExecutableTask implements Task {
 
+    private static final String DEPENDENCIES_LAYER_PREFIX = "dependencies-";
+    private static final String DEPENDENCIES_LAYER_EXT = ".jar";
+
+    private static final String SHAKEN_EXECUTABLE_EXT = ".shaken";
+    // The runtime loads parts of itself and the generated module classes by constructed names.
+    private static final List<String> DEFAULT_TREE_SHAKE_KEEP_LIST = Lists.of("org.ballerinalang.jvm.*");
+
     private static HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
 
+    private final boolean treeShake;
+    private final List<String> treeShakeKeepList;
+
+    public CreateExecutableTask() {
+        this(false, null);
+    }
+
+    public CreateExecutableTask(boolean treeShake, List<String> treeShakeKeepList) {
+        this.treeShake = treeShake;
+        this.treeShakeKeepList = new ArrayList<>(DEFAULT_TREE_SHAKE_KEEP_LIST);
+        if (treeShakeKeepList != null) {
+            this.treeShakeKeepList.addAll(treeShakeKeepList);
+        }
+    }
+
     @Override
     public void execute(BuildContext buildContext) {
         JarResolver jarResolver = buildContext.get(BuildContextField.JAR_RESOLVER);
@@ -64,13 +108,32 @@ public class CreateExecutableTask implements Task {
                 if (module.symbol.entryPointExists) {
                     Path executablePath = buildContext.getExecutablePathFromTarget(module.packageID);
                     Path jarFromCachePath = buildContext.getJarPathFromTargetCache(module.packageID);
-                    HashSet<Path> dependencies = new HashSet<>(jarResolver.allDependencies(module));
+                    // Sort the dependencies, so that the precedence of duplicate entries is the same in every build.
+                    List<Path> dependencies = jarResolver.allDependencies(module).stream()
+                            .filter(dependency -> !dependency.equals(jarFromCachePath))
+                            .sorted()
+                            .collect(Collectors.toList());
+                    // Single bal files are built in a temporary target directory, hence the dependencies
+                    // layer cannot be reused.
+                    if (buildContext.getSourceType() != SourceType.SINGLE_BAL_FILE) {
+                        Path targetCachesDir = buildContext.<Path>get(BuildContextField.TARGET_DIR)
+                                .resolve(ProjectDirConstants.CACHES_DIR_NAME).toAbsolutePath().normalize();
+                        Map<Boolean, List<Path>> projectJars = dependencies.stream()
+                                .collect(Collectors.partitioningBy(dependency -> dependency.toAbsolutePath()
+                                        .normalize().startsWith(targetCachesDir)));
+                        dependencies = new ArrayList<>(projectJars.get(true));
+                        dependencies.add(getDependenciesLayer(buildContext, module.packageID,
+                                projectJars.get(false)));
+                    }
                     try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(new BufferedOutputStream(
                             new FileOutputStream(String.valueOf(executablePath))))) {
                         assembleExecutable(jarFromCachePath, dependencies, outStream);
                     } catch (IOException e) {
                         throw createLauncherException("unable to extract the uber jar :" + e.getMessage());
                     }
+                    if (this.treeShake) {
+                        shakeExecutable(buildContext, executablePath);
+                    }
                 }
             }
         } else {
@@ -92,76 +155,228 @@ public class CreateExecutableTask implements Task {
         }
     }
 
-    private void assembleExecutable(Path jarFromCachePath, HashSet<Path> dependencySet,
+    /**
+     * Removes the classes of the executable that are not reachable from its entry points.
+     *
+     * @param buildContext   build context
+     * @param executablePath path of the executable jar
+     */
+    private void shakeExecutable(BuildContext buildContext, Path executablePath) {
+        try {
+            Set<String> retainedEntries = new ExecutableTreeShaker(this.treeShakeKeepList)
+                    .findRetainedEntries(executablePath);
+            Path shakenExecutablePath = executablePath.resolveSibling(executablePath.getFileName() +
+                    SHAKEN_EXECUTABLE_EXT);
+            int entryCount = 0;
+            try (ZipFile zipFile = new ZipFile(executablePath.toString());
+                 ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(new BufferedOutputStream(
+                         new FileOutputStream(String.valueOf(shakenExecutablePath))))) {
+                entryCount = Collections.list(zipFile.getEntries()).size();
+                zipFile.copyRawEntries(outStream, entry -> retainedEntries.contains(entry.getName()));
+            }
+            Files.move(shakenExecutablePath, executablePath, StandardCopyOption.REPLACE_EXISTING);
+            buildContext.out().println("\tRemoved " + (entryCount - retainedEntries.size()) + " of " + entryCount +
+                    " entries from " + executablePath.getFileName() + " by tree shaking");
+        } catch (IOException e) {
+            throw createLauncherException("unable to tree shake the executable: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the dependencies layer jar of the given dependencies of a module. The layer is created only if there
+     * is no layer created for the same set of dependencies in the build cache.
+     *
+     * @param buildContext build context
+     * @param moduleID     module the executable is created for
+     * @param dependencies dependency jars, excluding the jars of the project modules
+     * @return path of the dependencies layer jar
+     */
+    private Path getDependenciesLayer(BuildContext buildContext, PackageID moduleID, List<Path> dependencies) {
+        Path targetDir = buildContext.get(BuildContextField.TARGET_DIR);
+        Path cacheDir = targetDir.resolve(ProjectDirConstants.TARGET_BUILD_CACHE_DIRECTORY);
+        String layerPrefix = DEPENDENCIES_LAYER_PREFIX + moduleID.orgName.value + "-" + moduleID.name.value + "-";
+        Path layerPath = cacheDir.resolve(layerPrefix + getDependenciesHash(dependencies) + DEPENDENCIES_LAYER_EXT);
+        if (Files.exists(layerPath)) {
+            return layerPath;
+        }
+
+        try {
+            Files.createDirectories(cacheDir);
+            // Write to a temporary file first, so that a partially written layer is never reused.
+            Path tempLayerPath = Files.createTempFile(cacheDir, DEPENDENCIES_LAYER_PREFIX, ".tmp");
+            try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(new BufferedOutputStream(
+                    new FileOutputStream(String.valueOf(tempLayerPath))))) {
+                copyJars(dependencies, outStream);
+            }
+            Files.move(tempLayerPath, layerPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            deleteStaleLayers(cacheDir, layerPrefix, layerPath);
+        } catch (IOException e) {
+            throw createLauncherException("unable to create the dependencies layer: " + e.getMessage());
+        }
+        return layerPath;
+    }
+
+    /**
+     * Computes a hash of the given dependencies, using their paths, sizes and last modified times, in the same
+     * order the dependencies are copied.
+     *
+     * @param dependencies dependency jars
+     * @return hash of the dependencies
+     */
+    private String getDependenciesHash(List<Path> dependencies) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Path dependency : dependencies) {
+                String dependencyInfo = dependency.toAbsolutePath() + ":" + Files.size(dependency) + ":" +
+                        Files.getLastModifiedTime(dependency).toMillis() + "\n";
+                digest.update(dependencyInfo.getBytes(StandardCharsets.UTF_8));
+            }
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException | IOException e) {
+            throw createLauncherException("unable to resolve the dependencies of the executable: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the previous dependencies layers of a module. The layers of the other modules are kept, since the
+     * executables of those modules still use them.
+     *
+     * @param cacheDir         build cache directory
+     * @param layerPrefix      file name prefix of the layers of the module
+     * @param currentLayerPath path of the current layer of the module
+     * @throws IOException if a layer cannot be deleted
+     */
+    private void deleteStaleLayers(Path cacheDir, String layerPrefix, Path currentLayerPath) throws IOException {
+        try (DirectoryStream<Path> layers = Files.newDirectoryStream(cacheDir,
+                layerPrefix + "*" + DEPENDENCIES_LAYER_EXT)) {
+            for (Path layer : layers) {
+                String fileName = layer.getFileName().toString();
+                String hash = fileName.substring(layerPrefix.length(),
+                        fileName.length() - DEPENDENCIES_LAYER_EXT.length());
+                // A module whose name starts with the name of this module has layers matching the same pattern.
+                if (!layer.equals(currentLayerPath) && !hash.contains("-")) {
+                    Files.deleteIfExists(layer);
+                }
+            }
+        }
+    }
+
+    private void assembleExecutable(Path jarFromCachePath, List<Path> dependencies,
                                     ZipArchiveOutputStream outStream) {
         try {
-            // Used to prevent adding duplicated entries during the final jar creation.
-            HashSet<String> entries = new HashSet<>();
-            // Used to process SPI related metadata entries separately. The reason is unlike the other entry types,
-            // service loader related information should be merged together in the final executable jar creation.
-            HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
             // Copy executable thin jar and the dependency jars.
             // Executable is created at given location.
             // If no entry point is found, we do nothing.
-            copyJarToJar(outStream, jarFromCachePath.toString(), entries, serviceEntries);
-            for (Path path : dependencySet) {
-                copyJarToJar(outStream, path.toString(), entries, serviceEntries);
-            }
-            // Copy merged spi services.
-            for (Map.Entry<String, StringBuilder> entry : serviceEntries.entrySet()) {
-                String s = entry.getKey();
-                StringBuilder service = entry.getValue();
-                JarArchiveEntry e = new JarArchiveEntry(s);
-                outStream.putArchiveEntry(e);
-                outStream.write(service.toString().getBytes(StandardCharsets.UTF_8));
-                outStream.closeArchiveEntry();
-            }
+            List<Path> jars = new ArrayList<>();
+            jars.add(jarFromCachePath);
+            jars.addAll(dependencies);
+            copyJars(jars, outStream);
         } catch (IOException | NullPointerException e) {
             throw createLauncherException("unable to create the executable: " + e.getMessage());
         }
     }
 
+    /**
+     * Copies the given jar files into a single jar file. If the same entry exists in multiple jar files, the entry
+     * of the first jar file is copied.
+     *
+     * @param jars      Paths of the jar files, in the order of precedence.
+     * @param outStream Output stream of the jar file.
+     * @throws IOException If jar file copying is failed.
+     */
+    private void copyJars(List<Path> jars, ZipArchiveOutputStream outStream) throws IOException {
+        // Used to prevent adding duplicated entries during the final jar creation.
+        HashSet<String> entries = new HashSet<>();
+        // Used to process SPI related metadata entries separately. The reason is unlike the other entry types,
+        // service loader related information should be merged together in the final executable jar creation.
+        Map<String, StringBuilder> serviceEntries = new LinkedHashMap<>();
+
+        // Reading the central directories of the jar files is independent of each other, hence the jar files are
+        // opened in parallel. The entries are then copied in order, to preserve the precedence of the entries.
+        List<ZipFile> zipFiles = openZipFiles(jars);
+
+        try {
+            for (ZipFile zipFile : zipFiles) {
+                copyJarToJar(outStream, zipFile, entries, serviceEntries);
+            }
+        } finally {
+            for (ZipFile zipFile : zipFiles) {
+                zipFile.close();
+            }
+        }
+
+        // Copy merged spi services.
+        for (Map.Entry<String, StringBuilder> entry : serviceEntries.entrySet()) {
+            String s = entry.getKey();
+            StringBuilder service = entry.getValue();
+            JarArchiveEntry e = new JarArchiveEntry(s);
+            outStream.putArchiveEntry(e);
+            outStream.write(service.toString().getBytes(StandardCharsets.UTF_8));
+            outStream.closeArchiveEntry();
+        }
+    }
+
+    /**
+     * Opens the given jar files in parallel. If a jar file cannot be opened, the jar files that were opened are
+     * closed.
+     *
+     * @param jars Paths of the jar files.
+     * @return opened jar files, in the order of the given paths
+     * @throws IOException If a jar file cannot be opened.
+     */
+    private List<ZipFile> openZipFiles(List<Path> jars) throws IOException {
+        ZipFile[] zipFiles = new ZipFile[jars.size()];
+        IOException[] errors = new IOException[jars.size()];
+        IntStream.range(0, jars.size()).parallel().forEach(i -> {
+            try {
+                zipFiles[i] = new ZipFile(jars.get(i).toString());
+            } catch (IOException e) {
+                errors[i] = e;
+            }
+        });
+
+        for (IOException error : errors) {
+            if (error != null) {
+                for (ZipFile zipFile : zipFiles) {
+                    ZipFile.closeQuietly(zipFile);
+                }
+                throw error;
+            }
+        }
+        return Arrays.asList(zipFiles);
+    }
+
     /**
      * Copies a given jar file into the executable fat jar.
      *
-     * @param outStream     Output stream of the final uber jar.
-     * @param sourceJarFile Path of the source jar file.
-     * @param entries       Entries set will be used to ignore duplicate files.
-     * @param services      Services will be used to temporary hold merged spi files.
+     * @param outStream Output stream of the final uber jar.
+     * @param zipFile   The source jar file.
+     * @param entries   Entries set will be used to ignore duplicate files.
+     * @param services  Services will be used to temporary hold merged spi files.
      * @throws IOException If jar file copying is failed.
      */
-    private void copyJarToJar(ZipArchiveOutputStream outStream, String sourceJarFile, HashSet<String> entries,
-                              HashMap<String, StringBuilder> services) throws IOException {
+    private void copyJarToJar(ZipArchiveOutputStream outStream, ZipFile zipFile, HashSet<String> entries,
+                              Map<String, StringBuilder> services) throws IOException {
 
-        ZipFile zipFile = new ZipFile(sourceJarFile);
         ZipArchiveEntryPredicate predicate = entry -> {
 
             String entryName = entry.getName();
             if (entryName.startsWith("META-INF/services")) {
-                StringBuilder s = services.get(entryName);
-                if (s == null) {
-                    s = new StringBuilder();
-                    services.put(entryName, s);
-                }
-                char c = '\n';
-                BufferedInputStream inStream = null;
-                try {
-                    int len;
-                    inStream = new BufferedInputStream(zipFile.getInputStream(entry));
-                    while ((len = inStream.read()) != -1) {
-                        c = (char) len;
-                        s.append(c);
-                    }
-                    if (c != '\n') {
+                StringBuilder s = services.computeIfAbsent(entryName, k -> new StringBuilder());
+                try (InputStream inStream = zipFile.getInputStream(entry)) {
+                    String service = new String(inStream.readAllBytes(), StandardCharsets.UTF_8);
+                    s.append(service);
+                    if (!service.isEmpty() && service.charAt(service.length() - 1) != '\n') {
                         s.append('\n');
                     }
                 } catch (IOException e) {
                     throw createLauncherException(
                             "Error occurred while creating final executable jar due to: " + e.getMessage());
-                } finally {
-                    if (inStream != null) {
-                        closeStream(inStream);
-                    }
                 }
                 // Its not required to copy SPI entries in here as we'll be adding merged SPI related entries
                 // separately. Therefore the predicate should be set as false.
@@ -180,15 +395,5 @@ public class CreateExecutableTask implements Task {
         // Transfers selected entries from this zip file to the output stream, while preserving its compression and
         // all the other original attributes.
         zipFile.copyRawEntries(outStream, predicate);
-        zipFile.close();
-    }
-
-    private void closeStream(BufferedInputStream stream) {
-        try {
-            stream.close();
-        } catch (IOException e) {
-            throw createLauncherException("error: Failed to close input stream while creating the final " +
-                    "executable jar.\n" + e.getMessage());
-        }
     }
 }
@@ -20,6 +20,7 @@ package org.ballerinalang.packerina.task;
 
 import com.google.gson.Gson;
 import org.ballerinalang.compiler.JarResolver;
+import org.ballerinalang.packerina.CompilerDaemon;
 import org.ballerinalang.packerina.OsUtils;
 import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
@@ -43,6 +44,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintStream;
 import java.io.Writer;
@@ -374,9 +376,7 @@ public class RunTestsTask implements Task {
             cmdArgs.add(jarResolver.moduleTestJar(bLangPackage).toString());
             cmdArgs.add(orgName);
             cmdArgs.add(packageName);
-            ProcessBuilder processBuilder = new ProcessBuilder(cmdArgs).inheritIO();
-            Process proc = processBuilder.start();
-            return proc.waitFor();
+            return runProcess(buildContext, cmdArgs);
         } catch (IOException | InterruptedException e) {
             throw createLauncherException("unable to run the tests: " + e.getMessage());
         }
@@ -400,15 +400,59 @@ public class RunTestsTask implements Task {
             cmdArgs.add(orgName);
             cmdArgs.add(packageName);
             cmdArgs.add(version);
-            ProcessBuilder processBuilder = new ProcessBuilder(cmdArgs).inheritIO();
-            Process proc = processBuilder.start();
-            return proc.waitFor();
-
+            return runProcess(buildContext, cmdArgs);
         } catch (IOException | InterruptedException e) {
             throw createLauncherException("unable to run the tests: " + e.getMessage());
         }
     }
 
+    /**
+     * Runs a process and waits for it to finish. In the compiler daemon, the process gets the environment of the
+     * client, and its output is sent to the streams of the build, since the standard streams of the daemon are
+     * written to its log file.
+     *
+     * @param buildContext build context
+     * @param cmdArgs      command of the process
+     * @return exit code of the process
+     * @throws IOException          if the process cannot be started
+     * @throws InterruptedException if interrupted while waiting for the process
+     */
+    private int runProcess(BuildContext buildContext, List<String> cmdArgs) throws IOException, InterruptedException {
+        ProcessBuilder processBuilder = new ProcessBuilder(cmdArgs);
+        if (!CompilerDaemon.isDaemonProcess()) {
+            return processBuilder.inheritIO().start().waitFor();
+        }
+
+        // The environment of the daemon is not the one of the client that requested the build
+        processBuilder.environment().clear();
+        processBuilder.environment().putAll(CompilerDaemon.getClientEnvironment());
+        Process proc = processBuilder.start();
+        Thread outPipe = pipe(proc.getInputStream(), buildContext.out());
+        Thread errPipe = pipe(proc.getErrorStream(), buildContext.err());
+        int exitCode = proc.waitFor();
+        outPipe.join();
+        errPipe.join();
+        return exitCode;
+    }
+
+    private Thread pipe(InputStream inputStream, PrintStream printStream) {
+        Thread thread = new Thread(() -> {
+            try (InputStream in = inputStream) {
+                byte[] buffer = new byte[8192];
+                int length;
+                while ((length = in.read(buffer)) != -1) {
+                    printStream.write(buffer, 0, length);
+                    printStream.flush();
+                }
+            } catch (IOException e) {
+                // The process has exited, and its output is closed
+            }
+        }, "test-process-output");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
     private String getClassPath(Path testRuntimeJar, HashSet<Path> testDependencies) {
         String separator = ":";
         StringBuilder classPath = new StringBuilder();
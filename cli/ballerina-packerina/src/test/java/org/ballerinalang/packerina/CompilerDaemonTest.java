@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Test cases for the paths, the environment and the system properties sent to the compiler daemon.
+ *
+ * @since 2.0.0
+ */
+public class CompilerDaemonTest {
+
+    private final Path userDir = Paths.get("client", "dir").toAbsolutePath();
+
+    @Test(description = "Relative paths of the path options are resolved against the directory of the client")
+    public void testResolveRelativePathOptions() {
+        String[] args = {"--sourceroot", "project", "-o=out/app.jar", "--output", "main.jar", "module"};
+        String[] resolvedArgs = CompilerDaemon.resolvePathOptions(userDir, args);
+        Assert.assertEquals(resolvedArgs, new String[]{"--sourceroot", userDir.resolve("project").toString(),
+                "-o=" + userDir.resolve("out/app.jar"), "--output", userDir.resolve("main.jar").toString(),
+                "module"});
+    }
+
+    @Test(description = "Absolute paths and the other arguments are not changed")
+    public void testKeepAbsolutePathsAndOtherArgs() {
+        String absolutePath = Paths.get("project").toAbsolutePath().toString();
+        String[] args = {"--sourceroot=" + absolutePath, "--skip-tests", "-a"};
+        Assert.assertEquals(CompilerDaemon.resolvePathOptions(userDir, args), args);
+    }
+
+    @Test(description = "A build is accepted only if the Ballerina environment variables of the client are the same")
+    public void testBallerinaEnvironment() {
+        Map<String, String> environment = new HashMap<>(System.getenv());
+        environment.put("CLIENT_ONLY_VARIABLE", "value");
+        Assert.assertTrue(CompilerDaemon.isSameBallerinaEnvironment(environment));
+
+        environment.put("BALLERINA_NATIVE_MAP", "client-" + System.getenv("BALLERINA_NATIVE_MAP"));
+        Assert.assertFalse(CompilerDaemon.isSameBallerinaEnvironment(environment));
+
+        environment = new HashMap<>(System.getenv());
+        environment.put("BALLERINA_CLIENT_ONLY_VARIABLE", "value");
+        Assert.assertFalse(CompilerDaemon.isSameBallerinaEnvironment(environment));
+    }
+
+    @Test(description = "A build gets the system properties of the client, except for those that describe the JVM")
+    public void testBuildProperties() {
+        Properties daemonProperties = new Properties();
+        daemonProperties.setProperty("java.class.path", "daemon.jar");
+        daemonProperties.setProperty("line.separator", "\n");
+        daemonProperties.setProperty("ballerina.home", "/ballerina");
+        daemonProperties.setProperty("daemon.only", "value");
+
+        Map<String, String> clientProperties = new HashMap<>();
+        clientProperties.put("java.class.path", "client.jar");
+        clientProperties.put("ballerina.home", "/ballerina");
+        clientProperties.put("ballerina.debug", "5005");
+        clientProperties.put("user.home", "/home/client");
+
+        Properties buildProperties = CompilerDaemon.getBuildProperties(daemonProperties, clientProperties);
+        Properties expectedProperties = new Properties();
+        expectedProperties.setProperty("java.class.path", "daemon.jar");
+        expectedProperties.setProperty("line.separator", "\n");
+        expectedProperties.setProperty("ballerina.home", "/ballerina");
+        expectedProperties.setProperty("ballerina.debug", "5005");
+        expectedProperties.setProperty("user.home", "/home/client");
+        Assert.assertEquals(buildProperties, expectedProperties);
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.task;
+
+import org.ballerinalang.compiler.JarResolver;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.ballerinalang.packerina.buildcontext.BuildContext;
+import org.ballerinalang.packerina.buildcontext.BuildContextField;
+import org.ballerinalang.packerina.buildcontext.sourcecontext.MultiModuleContext;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import static org.ballerinalang.packerina.utils.FileUtils.deleteDirectory;
+
+/**
+ * Test cases for the dependencies layer of the executables created by the {@link CreateExecutableTask}.
+ *
+ * @since 2.0.0
+ */
+public class CreateExecutableTaskTest {
+
+    private static final String SERVICE_ENTRY = "META-INF/services/org.example.Service";
+
+    private Path projectDir;
+    private Path targetDir;
+    private Path libsDir;
+    private Map<PackageID, List<Path>> dependencies;
+    private BuildContext buildContext;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        projectDir = Files.createTempDirectory("b7a-executable-test-" + System.nanoTime());
+        targetDir = projectDir.resolve(ProjectDirConstants.TARGET_DIR_NAME);
+        libsDir = Files.createDirectories(projectDir.resolve("libs"));
+        dependencies = new LinkedHashMap<>();
+        buildContext = new BuildContext(projectDir, targetDir, null);
+        buildContext.put(BuildContextField.JAR_RESOLVER, new DependencyJarResolver());
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        deleteDirectory(projectDir);
+    }
+
+    @Test(description = "Test the dependencies layer is reused while the dependencies are unchanged")
+    public void testLayerReuse() throws IOException {
+        PackageID app = addModule("app", createJar("dep.jar", "org/dep/Dep.class"));
+        build();
+        List<Path> layers = getLayers();
+        Assert.assertEquals(layers.size(), 1);
+        // Mark the layer, so that a rewritten layer can be told apart.
+        FileTime layerTime = FileTime.fromMillis(1000000000000L);
+        Files.setLastModifiedTime(layers.get(0), layerTime);
+
+        build();
+        Assert.assertEquals(getLayers(), layers);
+        Assert.assertEquals(Files.getLastModifiedTime(layers.get(0)), layerTime);
+        Assert.assertTrue(getExecutableEntries(app).containsKey("org/dep/Dep.class"));
+    }
+
+    @Test(description = "Test the dependencies layer is rebuilt when the size of a dependency changes")
+    public void testLayerRebuildOnSizeChange() throws IOException {
+        Path dependency = createJar("dep.jar", "org/dep/Dep.class");
+        PackageID app = addModule("app", dependency);
+        build();
+        List<Path> layers = getLayers();
+        FileTime dependencyTime = Files.getLastModifiedTime(dependency);
+
+        // Keep the last modified time, so that only the size of the dependency changes.
+        createJar("dep.jar", "org/dep/Dep.class", "org/dep/NewDep.class");
+        Files.setLastModifiedTime(dependency, dependencyTime);
+        build();
+        List<Path> newLayers = getLayers();
+        Assert.assertEquals(newLayers.size(), 1);
+        Assert.assertNotEquals(newLayers, layers);
+        Assert.assertTrue(getExecutableEntries(app).containsKey("org/dep/NewDep.class"));
+    }
+
+    @Test(description = "Test the dependencies layer is rebuilt when the last modified time of a dependency changes")
+    public void testLayerRebuildOnTimeChange() throws IOException {
+        Path dependency = createJar("dep.jar", "org/dep/Dep.class");
+        PackageID app = addModule("app", dependency);
+        build();
+        List<Path> layers = getLayers();
+
+        // Replaced by a jar of the same size.
+        createJar("dep.jar", "org/dep/Dop.class");
+        Files.setLastModifiedTime(dependency,
+                FileTime.fromMillis(Files.getLastModifiedTime(dependency).toMillis() + 10000));
+        build();
+        List<Path> newLayers = getLayers();
+        Assert.assertEquals(newLayers.size(), 1);
+        Assert.assertNotEquals(newLayers, layers);
+        Map<String, String> entries = getExecutableEntries(app);
+        Assert.assertTrue(entries.containsKey("org/dep/Dop.class"));
+        Assert.assertFalse(entries.containsKey("org/dep/Dep.class"));
+    }
+
+    @Test(description = "Test the stale layers of a module are deleted, but not the layers of a module whose name " +
+            "starts with the name of the module")
+    public void testStaleLayerDeletion() throws IOException {
+        Path dependency = createJar("dep.jar", "org/dep/Dep.class");
+        addModule("app", dependency);
+        addModule("app-api", createJar("api-dep.jar", "org/api/ApiDep.class"));
+        build();
+        List<Path> appLayers = getLayers("app");
+        List<Path> apiLayers = getLayers("app-api");
+        Assert.assertEquals(appLayers.size(), 1);
+        Assert.assertEquals(apiLayers.size(), 1);
+        // Mark the layer of the other module, so that a deleted and recreated layer can be told apart.
+        FileTime apiLayerTime = FileTime.fromMillis(1000000000000L);
+        Files.setLastModifiedTime(apiLayers.get(0), apiLayerTime);
+
+        createJar("dep.jar", "org/dep/Dep.class", "org/dep/NewDep.class");
+        build();
+        List<Path> newAppLayers = getLayers("app");
+        Assert.assertEquals(newAppLayers.size(), 1);
+        Assert.assertNotEquals(newAppLayers, appLayers);
+        Assert.assertFalse(Files.exists(appLayers.get(0)));
+        Assert.assertEquals(getLayers("app-api"), apiLayers);
+        Assert.assertEquals(Files.getLastModifiedTime(apiLayers.get(0)), apiLayerTime);
+    }
+
+    @Test(description = "Test the service provider entries of the module jar, the jars of the other project modules " +
+            "and the dependencies layer are merged")
+    public void testServiceEntryMerge() throws IOException {
+        Path dependency = createJar("dep.jar", "org/dep/Dep.class");
+        addService(dependency, "org.dep.DepService\n");
+        Path otherDependency = createJar("other-dep.jar", "org/dep/OtherDep.class");
+        addService(otherDependency, "org.dep.OtherDepService");
+        PackageID lib = createModuleID("lib");
+        Path projectJar = buildContext.getJarPathFromTargetCache(lib);
+        writeJar(projectJar, "testorg/lib/Lib.class");
+        addService(projectJar, "testorg.lib.LibService");
+
+        PackageID app = addModule("app", dependency, otherDependency, projectJar);
+        addService(buildContext.getJarPathFromTargetCache(app), "testorg.app.AppService\n");
+        build();
+
+        Map<String, String> entries = getExecutableEntries(app);
+        Assert.assertTrue(entries.containsKey("testorg/app/App.class"));
+        Assert.assertTrue(entries.containsKey("testorg/lib/Lib.class"));
+        Assert.assertTrue(entries.containsKey("org/dep/Dep.class"));
+        Assert.assertTrue(entries.containsKey("org/dep/OtherDep.class"));
+        Assert.assertEquals(entries.get(SERVICE_ENTRY), "testorg.app.AppService\ntestorg.lib.LibService\n" +
+                "org.dep.DepService\norg.dep.OtherDepService\n");
+    }
+
+    private void build() {
+        new CreateExecutableTask().execute(buildContext);
+    }
+
+    private PackageID addModule(String name, Path... moduleDependencies) throws IOException {
+        PackageID moduleID = createModuleID(name);
+        Path moduleJar = buildContext.getJarPathFromTargetCache(moduleID);
+        writeJar(moduleJar, "testorg/" + name + "/App.class");
+        dependencies.put(moduleID, Arrays.asList(moduleDependencies));
+
+        List<BLangPackage> modules = new ArrayList<>();
+        for (PackageID module : dependencies.keySet()) {
+            BLangPackage bLangPackage = new BLangPackage();
+            bLangPackage.packageID = module;
+            bLangPackage.symbol = new BPackageSymbol(module, null, null, SymbolOrigin.SOURCE);
+            bLangPackage.symbol.entryPointExists = true;
+            modules.add(bLangPackage);
+        }
+        MultiModuleContext multiModuleContext = buildContext.get(BuildContextField.SOURCE_CONTEXT);
+        multiModuleContext.setModules(modules);
+        return moduleID;
+    }
+
+    private static PackageID createModuleID(String name) {
+        return new PackageID(new Name("testorg"), new Name(name), new Name("0.1.0"));
+    }
+
+    private Path createJar(String fileName, String... classEntries) throws IOException {
+        Path jar = libsDir.resolve(fileName);
+        writeJar(jar, classEntries);
+        return jar;
+    }
+
+    private static void writeJar(Path jar, String... classEntries) throws IOException {
+        try (ZipOutputStream outStream = new ZipOutputStream(Files.newOutputStream(jar))) {
+            for (String classEntry : classEntries) {
+                outStream.putNextEntry(new ZipEntry(classEntry));
+                outStream.write(classEntry.getBytes(StandardCharsets.UTF_8));
+                outStream.closeEntry();
+            }
+        }
+    }
+
+    private static void addService(Path jar, String service) throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        try (ZipFile zipFile = new ZipFile(jar.toFile())) {
+            for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                try (InputStream inStream = zipFile.getInputStream(entry)) {
+                    entries.put(entry.getName(), inStream.readAllBytes());
+                }
+            }
+        }
+        entries.put(SERVICE_ENTRY, service.getBytes(StandardCharsets.UTF_8));
+        try (ZipOutputStream outStream = new ZipOutputStream(Files.newOutputStream(jar))) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                outStream.putNextEntry(new ZipEntry(entry.getKey()));
+                outStream.write(entry.getValue());
+                outStream.closeEntry();
+            }
+        }
+    }
+
+    private List<Path> getLayers() throws IOException {
+        return getLayers("app");
+    }
+
+    private List<Path> getLayers(String moduleName) throws IOException {
+        List<Path> layers = new ArrayList<>();
+        Path cacheDir = targetDir.resolve(ProjectDirConstants.TARGET_BUILD_CACHE_DIRECTORY);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDir)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String hash = fileName.replaceFirst("^dependencies-testorg-" + moduleName + "-", "")
+                        .replaceFirst("\\.jar$", "");
+                if (!hash.equals(fileName) && hash.matches("[0-9a-f]+")) {
+                    layers.add(file);
+                }
+            }
+        }
+        return layers;
+    }
+
+    private Map<String, String> getExecutableEntries(PackageID moduleID) throws IOException {
+        Map<String, String> entries = new HashMap<>();
+        try (ZipFile zipFile = new ZipFile(buildContext.getExecutablePathFromTarget(moduleID).toFile())) {
+            for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                try (InputStream inStream = zipFile.getInputStream(entry)) {
+                    entries.put(entry.getName(), new String(inStream.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Resolves the dependencies of a module to the jars added for the module, along with the module jar.
+     */
+    private class DependencyJarResolver implements JarResolver {
+
+        @Override
+        public Path moduleJar(PackageID packageID) {
+            return buildContext.getJarPathFromTargetCache(packageID);
+        }
+
+        @Override
+        public Path moduleTestJar(BLangPackage bLangPackage) {
+            return null;
+        }
+
+        @Override
+        public Path moduleBalo(PackageID packageID) {
+            return null;
+        }
+
+        @Override
+        public HashSet<Path> nativeDependencies(PackageID packageID) {
+            return new HashSet<>(dependencies.get(packageID));
+        }
+
+        @Override
+        public HashSet<Path> nativeDependenciesForTests(PackageID packageID) {
+            return new HashSet<>();
+        }
+
+        @Override
+        public HashSet<Path> allDependencies(BLangPackage bLangPackage) {
+            HashSet<Path> allDependencies = nativeDependencies(bLangPackage.packageID);
+            allDependencies.add(moduleJar(bLangPackage.packageID));
+            return allDependencies;
+        }
+
+        @Override
+        public HashSet<Path> allTestDependencies(BLangPackage bLangPackage) {
+            return new HashSet<>();
+        }
+
+        @Override
+        public Path getRuntimeJar() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.tool;
+
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Properties;
+
+/**
+ * Client of the compiler daemon, which builds in a JVM that is kept running in between builds.
+ * <p>
+ * A running daemon is found through the daemon file, which holds the port on which it listens on the loopback
+ * interface and the token with which the requests are authenticated. The file is readable only by the user who
+ * started the daemon. If there is no daemon, or it cannot be reached, the caller builds in the current JVM.
+ * <p>
+ * A request carries the environment and the system properties of the client. The daemon runs the build with the
+ * system properties of the client, and passes the environment of the client to the processes the build starts. As
+ * the environment of the daemon itself cannot be changed, the daemon rejects a build if the Ballerina environment
+ * variables of the client differ from its own, and the client builds in the current JVM instead.
+ *
+ * @since 2.0.0
+ */
+public class CompilerDaemonClient {
+
+    public static final byte BUILD_REQUEST = 1;
+    public static final byte STOP_REQUEST = 2;
+    public static final byte STATUS_REQUEST = 3;
+
+    public static final byte EXIT_FRAME = 0;
+    public static final byte OUT_FRAME = 1;
+    public static final byte ERR_FRAME = 2;
+    public static final byte REJECT_FRAME = 3;
+
+    public static final String PORT_PROPERTY = "port";
+    public static final String TOKEN_PROPERTY = "token";
+    public static final String PID_PROPERTY = "pid";
+    public static final String HOME_PROPERTY = "home";
+
+    private static final String DAEMON_DIR_NAME = "compiler-daemon";
+    private static final int CONNECT_TIMEOUT_IN_MILLIS = 1000;
+
+    private CompilerDaemonClient() {
+    }
+
+    /**
+     * Returns the path of the daemon file of this Ballerina version.
+     *
+     * @return path of the daemon file
+     */
+    public static Path getDaemonFile() {
+        return RepoUtils.createAndGetHomeReposPath().resolve(DAEMON_DIR_NAME)
+                .resolve("daemon-" + RepoUtils.getBallerinaVersion() + ".properties");
+    }
+
+    /**
+     * Reads the daemon file, if a daemon of this Ballerina distribution has written it.
+     *
+     * @return properties of the running daemon
+     */
+    public static Optional<Properties> readDaemonFile() {
+        Path daemonFile = getDaemonFile();
+        if (!Files.exists(daemonFile)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(daemonFile)) {
+            properties.load(inputStream);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        String home = String.valueOf(System.getProperty("ballerina.home"));
+        if (!home.equals(properties.getProperty(HOME_PROPERTY)) || properties.getProperty(PORT_PROPERTY) == null ||
+                properties.getProperty(TOKEN_PROPERTY) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(properties);
+    }
+
+    /**
+     * Sends a request to the running daemon, and writes the output of the request to the given streams.
+     *
+     * @param requestType type of the request
+     * @param args        arguments of the command
+     * @param outStream   stream to which the standard output of the request is written
+     * @param errStream   stream to which the standard error of the request is written
+     * @return the exit code of the request, or empty if there is no daemon that accepts the request
+     */
+    public static OptionalInt send(byte requestType, String[] args, PrintStream outStream, PrintStream errStream) {
+        Optional<Properties> daemon = readDaemonFile();
+        if (!daemon.isPresent()) {
+            return OptionalInt.empty();
+        }
+
+        Socket socket;
+        try {
+            socket = new Socket(InetAddress.getLoopbackAddress(),
+                                Integer.parseInt(daemon.get().getProperty(PORT_PROPERTY)));
+        } catch (IOException | NumberFormatException e) {
+            // The daemon has stopped without deleting its file
+            return OptionalInt.empty();
+        }
+
+        boolean responded = false;
+        try (Socket connection = socket) {
+            DataOutputStream request = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+            request.writeUTF(daemon.get().getProperty(TOKEN_PROPERTY));
+            request.writeByte(requestType);
+            request.writeUTF(System.getProperty("user.dir"));
+            request.writeInt(args.length);
+            for (String arg : args) {
+                request.writeUTF(arg);
+            }
+            writeMap(request, System.getenv());
+            writeMap(request, System.getProperties());
+            request.flush();
+
+            DataInputStream response = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+            while (true) {
+                byte frameType = response.readByte();
+                responded = true;
+                if (frameType == EXIT_FRAME) {
+                    return OptionalInt.of(response.readInt());
+                } else if (frameType == REJECT_FRAME) {
+                    return OptionalInt.empty();
+                }
+                byte[] bytes = new byte[response.readInt()];
+                response.readFully(bytes);
+                PrintStream stream = frameType == ERR_FRAME ? errStream : outStream;
+                stream.write(bytes);
+                stream.flush();
+            }
+        } catch (IOException e) {
+            if (!responded) {
+                return OptionalInt.empty();
+            }
+            // The output of the request is partially written, so it cannot be retried in this JVM
+            errStream.println("error: connection to the compiler daemon was lost: " + e.getMessage());
+            return OptionalInt.of(1);
+        }
+    }
+
+    private static void writeMap(DataOutputStream request, Map<?, ?> map) throws IOException {
+        request.writeInt(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            request.writeUTF(String.valueOf(entry.getKey()));
+            request.writeUTF(String.valueOf(entry.getValue()));
+        }
+    }
+
+    /**
+     * Returns whether the daemon of this Ballerina distribution is running.
+     *
+     * @return whether the daemon is running
+     */
+    public static boolean isRunning() {
+        Optional<Properties> daemon = readDaemonFile();
+        if (!daemon.isPresent()) {
+            return false;
+        }
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                    Integer.parseInt(daemon.get().getProperty(PORT_PROPERTY))), CONNECT_TIMEOUT_IN_MILLIS);
+            return true;
+        } catch (IOException | NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -31,8 +31,10 @@ import picocli.CommandLine;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Properties;
 import java.util.ServiceLoader;
 
@@ -52,27 +54,51 @@ public class Main {
     private static final Logger breLog = LoggerFactory.getLogger(Main.class);
 
     public static void main(String... args) {
+        if (args.length > 0 && BallerinaCliCommands.BUILD.equals(args[0])) {
+            // Builds in the compiler daemon if one is running, since its JVM has already loaded the compiler. The run
+            // command is not sent to the daemon, as the program it starts must be attached to the standard streams
+            // and the signals of this process, hence it compiles in this JVM.
+            OptionalInt exitCode = CompilerDaemonClient.send(CompilerDaemonClient.BUILD_REQUEST,
+                                                             Arrays.copyOfRange(args, 1, args.length),
+                                                             outStream, errStream);
+            if (exitCode.isPresent()) {
+                Runtime.getRuntime().exit(exitCode.getAsInt());
+                return;
+            }
+        }
+
+        int exitCode = execute(() -> getInvokedCmd(args).ifPresent(BLauncherCmd::execute), errStream);
+        if (exitCode != 0) {
+            Runtime.getRuntime().exit(exitCode);
+        }
+    }
+
+    /**
+     * Runs a command, and prints the error it fails with.
+     *
+     * @param command command to run
+     * @param err     stream to which the error is printed
+     * @return the exit code of the command
+     */
+    public static int execute(Runnable command, PrintStream err) {
         try {
-            Optional<BLauncherCmd> optionalInvokedCmd = getInvokedCmd(args);
-            optionalInvokedCmd.ifPresent(BLauncherCmd::execute);
+            command.run();
+            return 0;
         } catch (BLangRuntimeException e) {
-            errStream.println(e.getMessage());
-            Runtime.getRuntime().exit(1);
+            err.println(e.getMessage());
         } catch (BLangCompilerException e) {
             if (!(e.getMessage().contains(COMPILATION_ERROR_MESSAGE))) {
                 // print the error message only if the exception was not thrown due to compilation errors
-                errStream.println(prepareCompilerErrorMessage(e.getMessage()));
+                err.println(prepareCompilerErrorMessage(e.getMessage()));
             }
             // These are compiler errors, and are already logged. Hence simply exit.
-            Runtime.getRuntime().exit(1);
         } catch (BLauncherException e) {
-            LauncherUtils.printLauncherException(e, errStream);
-            Runtime.getRuntime().exit(1);
+            LauncherUtils.printLauncherException(e, err);
         } catch (Throwable e) {
-            errStream.println(getMessageForInternalErrors());
+            err.println(getMessageForInternalErrors());
             RuntimeUtils.silentlyLogBadSad(e);
-            Runtime.getRuntime().exit(1);
         }
+        return 1;
     }
 
     private static Optional<BLauncherCmd> getInvokedCmd(String... args) {
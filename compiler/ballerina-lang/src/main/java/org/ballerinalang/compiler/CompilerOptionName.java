@@ -54,11 +54,19 @@ public enum CompilerOptionName {
 
     DUMP_BIR_FILE("dumpBIRFile"),
 
+    DUMP_TYPE_RELATION_STATS("dumpTypeRelationStats"),
+
+    DISABLE_TYPE_RELATION_CACHE("disableTypeRelationCache"),
+
     LOCK_ENABLED("lockEnabled"),
 
     EXPERIMENTAL_FEATURES_ENABLED("experimentalFeaturesEnabled"),
 
-    TOOLING_COMPILATION("toolingCompilation");
+    TOOLING_COMPILATION("toolingCompilation"),
+
+    BUILD_CACHE_DIR("buildCacheDir"),
+
+    DISABLED_BIR_OPTIMIZATIONS("disabledBIROptimizations");
 
     public final String name;
 
@@ -37,6 +37,8 @@ public interface JarResolver {
 
     Path moduleTestJar(BLangPackage bLangPackage);
 
+    Path moduleBalo(PackageID packageID);
+
     HashSet<Path> nativeDependencies(PackageID packageID);
 
     HashSet<Path> nativeDependenciesForTests(PackageID packageID);
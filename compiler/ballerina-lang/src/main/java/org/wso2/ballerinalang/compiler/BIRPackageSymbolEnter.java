@@ -96,7 +96,6 @@ import org.wso2.ballerinalang.util.Flags;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -141,7 +140,6 @@ public class BIRPackageSymbolEnter {
     private static final CompilerContext.Key<BIRPackageSymbolEnter> COMPILED_PACKAGE_SYMBOL_ENTER_KEY =
             new CompilerContext.Key<>();
 
-    private Map<String, BVarSymbol> globalVarMap = new HashMap<>();
 
     public static BIRPackageSymbolEnter getInstance(CompilerContext context) {
         BIRPackageSymbolEnter packageReader = context.get(COMPILED_PACKAGE_SYMBOL_ENTER_KEY);
@@ -167,8 +165,7 @@ public class BIRPackageSymbolEnter {
     public BPackageSymbol definePackage(PackageID packageId,
                                         RepoHierarchy packageRepositoryHierarchy,
                                         byte[] packageBinaryContent) {
-        BPackageSymbol pkgSymbol = definePackage(packageId, packageRepositoryHierarchy,
-                new ByteArrayInputStream(packageBinaryContent));
+        BPackageSymbol pkgSymbol = readPackage(packageId, packageRepositoryHierarchy, packageBinaryContent);
 
         // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
         byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
@@ -180,15 +177,18 @@ public class BIRPackageSymbolEnter {
         return pkgSymbol;
     }
 
-    private BPackageSymbol definePackage(PackageID packageId,
-                                         RepoHierarchy packageRepositoryHierarchy,
-                                         InputStream programFileInStream) {
+    private BPackageSymbol readPackage(PackageID packageId,
+                                       RepoHierarchy packageRepositoryHierarchy,
+                                       byte[] packageBinaryContent) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
+        ByteArrayInputStream programFileInStream = new ByteArrayInputStream(packageBinaryContent);
         try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
             this.env.requestedPackageId = packageId;
             this.env.repoHierarchy = packageRepositoryHierarchy;
+            this.env.binaryContent = packageBinaryContent;
+            this.env.binaryInStream = programFileInStream;
 
             BPackageSymbol pkgSymbol = definePackage(dataInStream);
             this.env = prevEnv;
@@ -247,8 +247,8 @@ public class BIRPackageSymbolEnter {
 
         readTypeDefBodies(dataInStream);
 
-        // Define functions.
-        defineSymbols(dataInStream, rethrow(this::defineFunction));
+        // Define functions, once they are looked up.
+        defineSymbols(dataInStream, rethrow(this::defineFunctionLazily));
 
         // Define annotations.
         defineSymbols(dataInStream, rethrow(this::defineAnnotations));
@@ -415,13 +415,40 @@ public class BIRPackageSymbolEnter {
         scopeToDefine.define(invokableSymbol.name, invokableSymbol);
     }
 
+    private void defineFunctionLazily(DataInputStream dataInStream) throws IOException {
+        String funcName = getStringCPEntryValue(dataInStream);
+        int length = dataInStream.readInt();
+        BIRPackageSymbolEnv symbolEnv = this.env;
+        int offset = symbolEnv.binaryContent.length - symbolEnv.binaryInStream.available();
+        dataInStream.skipBytes(length);
+        symbolEnv.pkgSymbol.scope.defineLazily(names.fromString(funcName),
+                                                () -> defineFunction(symbolEnv, offset, length));
+    }
+
+    private void defineFunction(BIRPackageSymbolEnv symbolEnv, int offset, int length) {
+        // The function may be looked up while another module is being defined
+        BIRPackageSymbolEnv prevEnv = this.env;
+        BStructureTypeSymbol prevStructure = this.currentStructure;
+        this.env = symbolEnv;
+        this.currentStructure = null;
+        try (DataInputStream dataInStream = new DataInputStream(
+                new ByteArrayInputStream(symbolEnv.binaryContent, offset, length))) {
+            defineFunction(dataInStream);
+        } catch (IOException e) {
+            throw new BLangCompilerException(e.getMessage(), e);
+        } finally {
+            this.env = prevEnv;
+            this.currentStructure = prevStructure;
+        }
+    }
+
     private void defineGlobalVarDependencies(BInvokableSymbol invokableSymbol, DataInputStream dataInStream)
             throws IOException {
 
         long length = dataInStream.readInt();
         for (int i = 0; i < length; i++) {
             String globalVarName = getStringCPEntryValue(dataInStream.readInt());
-            invokableSymbol.dependentGlobalVars.add(this.globalVarMap.get(globalVarName));
+            invokableSymbol.dependentGlobalVars.add(this.env.globalVarMap.get(globalVarName));
         }
     }
 
@@ -693,7 +720,7 @@ public class BIRPackageSymbolEnter {
             }
         }
 
-        this.globalVarMap.put(varName, varSymbol);
+        this.env.globalVarMap.put(varName, varSymbol);
 
         defineMarkDownDocAttachment(varSymbol, docBytes);
 
@@ -919,6 +946,9 @@ public class BIRPackageSymbolEnter {
         PackageID requestedPackageId;
         RepoHierarchy repoHierarchy;
         Map<Integer, byte[]> unparsedBTypeCPs = new HashMap<>();
+        Map<String, BVarSymbol> globalVarMap = new HashMap<>();
+        byte[] binaryContent;
+        ByteArrayInputStream binaryInStream;
         BPackageSymbol pkgSymbol;
         CPEntry[] constantPool;
         List<UnresolvedType> unresolvedTypes;
@@ -0,0 +1,421 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.compiler.JarResolver;
+import org.ballerinalang.jvm.IdentifierUtils;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A content addressed cache of the jar files generated for modules.
+ * <p>
+ * The cache key of a module is computed from the compiler version, the compiler and runtime binaries, the
+ * compiler options, the BIR of the module, the BIR of all its transitive dependencies, the balos the dependencies
+ * are loaded from and the native dependencies used to validate its interop functions. A module whose key is found
+ * in the cache reuses the cached jar entries instead of generating the JVM byte code again.
+ * <p>
+ * The compiler binaries are part of the key since a snapshot build or a change in the code generator does not
+ * change the compiler version. The cache is disabled if the binaries cannot be located.
+ * <p>
+ * The least recently used entries are evicted once the cache grows beyond {@link #MAX_CACHE_SIZE} bytes.
+ *
+ * @since 2.0.0
+ */
+public class CompiledJarCache {
+
+    private static final CompilerContext.Key<CompiledJarCache> COMPILED_JAR_CACHE_KEY = new CompilerContext.Key<>();
+    private static final String CACHE_FILE_EXT = ".jar";
+    private static final Attributes.Name GENERATION_TIME = new Attributes.Name("Ballerina-Codegen-Time-Millis");
+    private static final Pattern CACHE_FILE_NAME = Pattern.compile("[0-9a-f]{64}\\" + CACHE_FILE_EXT);
+    private static final long MAX_CACHE_SIZE = 512L * 1024 * 1024;
+    // Hashes of the compiler and runtime binaries, computed once per location since they do not change while the
+    // compiler is running.
+    private static final Map<Path, String> BINARY_HASHES = new ConcurrentHashMap<>();
+
+    private final CompilerContext compilerContext;
+    private final Path cacheDir;
+    private final String compilerOptionsHash;
+    private final String compilerBinariesHash;
+    private long maxCacheSize = MAX_CACHE_SIZE;
+    private int hitCount = 0;
+    private int missCount = 0;
+    private long savedTimeMillis = 0;
+
+    public static CompiledJarCache getInstance(CompilerContext context) {
+
+        CompiledJarCache compiledJarCache = context.get(COMPILED_JAR_CACHE_KEY);
+        if (compiledJarCache == null) {
+            compiledJarCache = new CompiledJarCache(context);
+        }
+        return compiledJarCache;
+    }
+
+    private CompiledJarCache(CompilerContext context) {
+
+        context.put(COMPILED_JAR_CACHE_KEY, this);
+        this.compilerContext = context;
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        String cacheDir = options.get(CompilerOptionName.BUILD_CACHE_DIR);
+        this.cacheDir = cacheDir == null || cacheDir.isEmpty() ? null : Paths.get(cacheDir);
+
+        // Options are sorted, so that the same set of options always gives the same key.
+        Map<String, String> sortedOptions = new TreeMap<>();
+        for (CompilerOptionName optionName : CompilerOptionName.values()) {
+            if (optionName != CompilerOptionName.BUILD_CACHE_DIR && options.isSet(optionName)) {
+                sortedOptions.put(optionName.toString(), String.valueOf(options.get(optionName)));
+            }
+        }
+        this.compilerOptionsHash = sortedOptions.toString();
+        this.compilerBinariesHash = this.cacheDir == null ? null : getBinariesHash(CompiledJarCache.class,
+                IdentifierUtils.class);
+    }
+
+    public boolean isEnabled() {
+
+        return cacheDir != null && compilerBinariesHash != null;
+    }
+
+    void setMaxCacheSize(long maxCacheSize) {
+
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    public int getHitCount() {
+
+        return hitCount;
+    }
+
+    public int getMissCount() {
+
+        return missCount;
+    }
+
+    public long getSavedTimeMillis() {
+
+        return savedTimeMillis;
+    }
+
+    /**
+     * Computes the cache key of the given module.
+     *
+     * @param packageSymbol      symbol of the module
+     * @param moduleDependencies native dependencies of the module
+     * @return the cache key of the module
+     */
+    public String getCacheKey(BPackageSymbol packageSymbol, Set<Path> moduleDependencies) {
+
+        MessageDigest digest = getDigest();
+        update(digest, RepoUtils.getBallerinaVersion());
+        update(digest, compilerBinariesHash);
+        update(digest, compilerOptionsHash);
+        update(digest, String.valueOf(System.getenv("BALLERINA_NATIVE_MAP")));
+        update(digest, packageSymbol.pkgID.toString());
+        digest.update(packageSymbol.birPackageFile.pkgBirBinaryContent);
+
+        // Dependencies are visited in a sorted order, so that the key does not depend on the import order.
+        Map<String, BPackageSymbol> dependencies = new TreeMap<>();
+        collectDependencies(packageSymbol, dependencies, new HashSet<>());
+        JarResolver jarResolver = compilerContext.get(JarResolver.JAR_RESOLVER_KEY);
+        for (Map.Entry<String, BPackageSymbol> dependency : dependencies.entrySet()) {
+            update(digest, dependency.getKey());
+            BPackageSymbol dependencySymbol = dependency.getValue();
+            if (dependencySymbol.birPackageFile != null) {
+                digest.update(dependencySymbol.birPackageFile.pkgBirBinaryContent);
+            }
+            // A balo can be replaced by another one of the same version, hence the balo itself is considered too.
+            Path dependencyBalo = jarResolver == null ? null : jarResolver.moduleBalo(dependencySymbol.pkgID);
+            if (dependencyBalo != null) {
+                updateFileStamp(digest, dependencyBalo);
+            }
+        }
+
+        moduleDependencies.stream().sorted(Comparator.comparing(Path::toString))
+                .forEach(dependency -> updateFileStamp(digest, dependency));
+
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Returns the cached jar file of the given key, if there is any.
+     *
+     * @param cacheKey cache key of the module
+     * @return the cached jar file
+     */
+    public Optional<CompiledJarFile> get(String cacheKey) {
+
+        Path cachedJar = cacheDir.resolve(cacheKey + CACHE_FILE_EXT);
+        if (!Files.isRegularFile(cachedJar)) {
+            missCount++;
+            return Optional.empty();
+        }
+
+        Map<String, byte[]> jarEntries = new HashMap<>();
+        try (JarInputStream jarInputStream = new JarInputStream(new BufferedInputStream(
+                Files.newInputStream(cachedJar)))) {
+            JarEntry entry;
+            while ((entry = jarInputStream.getNextJarEntry()) != null) {
+                jarEntries.put(entry.getName(), jarInputStream.readAllBytes());
+            }
+
+            Manifest manifest = jarInputStream.getManifest();
+            Attributes mainAttributes = manifest.getMainAttributes();
+            String generationTime = mainAttributes.getValue(GENERATION_TIME);
+            if (generationTime != null) {
+                savedTimeMillis += Long.parseLong(generationTime);
+            }
+            hitCount++;
+            markAsUsed(cachedJar);
+            return Optional.of(new CompiledJarFile(mainAttributes.getValue(Attributes.Name.MAIN_CLASS), jarEntries));
+        } catch (IOException | RuntimeException e) {
+            // A corrupted cache entry is treated as a cache miss, and is overwritten once the module is generated.
+            missCount++;
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Adds the jar file generated for a module to the cache.
+     *
+     * @param cacheKey             cache key of the module
+     * @param compiledJarFile      the jar file generated for the module
+     * @param generationTimeMillis time taken to generate the jar file
+     */
+    public void put(String cacheKey, CompiledJarFile compiledJarFile, long generationTimeMillis) {
+
+        Manifest manifest = new Manifest();
+        Attributes mainAttributes = manifest.getMainAttributes();
+        mainAttributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        mainAttributes.put(GENERATION_TIME, Long.toString(generationTimeMillis));
+        compiledJarFile.getMainClassName().ifPresent(mainClassName ->
+                mainAttributes.put(Attributes.Name.MAIN_CLASS, mainClassName));
+
+        Path cachedJar = cacheDir.resolve(cacheKey + CACHE_FILE_EXT);
+        try {
+            Files.createDirectories(cacheDir);
+            // Write to a temporary file first, so that a partially written entry is never read.
+            Path tempFile = Files.createTempFile(cacheDir, cacheKey, ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(tempFile);
+                 JarOutputStream target = new JarOutputStream(new BufferedOutputStream(outputStream), manifest)) {
+                for (Map.Entry<String, byte[]> keyVal : compiledJarFile.getJarEntries().entrySet()) {
+                    target.putNextEntry(new JarEntry(keyVal.getKey()));
+                    target.write(keyVal.getValue());
+                    target.closeEntry();
+                }
+            }
+            Files.move(tempFile, cachedJar, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new BLangCompilerException("error writing the build cache entry '" + cachedJar + "': " +
+                    e.getMessage(), e);
+        }
+        evictEntries();
+    }
+
+    /**
+     * Deletes the least recently used entries until the size of the cache is within the maximum size. An
+     * entry is marked as used by updating its last modified time whenever it is read.
+     */
+    private void evictEntries() {
+
+        List<Path> entries = new ArrayList<>();
+        Map<Path, BasicFileAttributes> entryAttributes = new HashMap<>();
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (CACHE_FILE_NAME.matcher(file.getFileName().toString()).matches()) {
+                    entries.add(file);
+                    entryAttributes.put(file, Files.readAttributes(file, BasicFileAttributes.class));
+                }
+            }
+        } catch (IOException e) {
+            // The cache is trimmed once the next entry is added.
+            return;
+        }
+
+        entries.sort(Comparator.comparing((Path entry) -> entryAttributes.get(entry).lastModifiedTime()).reversed());
+        long cacheSize = 0;
+        for (Path entry : entries) {
+            cacheSize += entryAttributes.get(entry).size();
+            if (cacheSize <= maxCacheSize) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(entry);
+            } catch (IOException e) {
+                // The entry may be in use by another build, hence it is evicted later.
+            }
+        }
+    }
+
+    /**
+     * Computes the hash of the binaries the given classes are loaded from.
+     *
+     * @param classes classes of the compiler and the runtime
+     * @return the hash of the binaries, or null if any of them cannot be located
+     */
+    private static String getBinariesHash(Class<?>... classes) {
+
+        Set<Path> locations = new HashSet<>();
+        for (Class<?> clazz : classes) {
+            CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+            URL location = codeSource == null ? null : codeSource.getLocation();
+            if (location == null || !"file".equals(location.getProtocol())) {
+                return null;
+            }
+            try {
+                locations.add(Paths.get(location.toURI()));
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        MessageDigest digest = getDigest();
+        for (Path location : locations.stream().sorted().collect(Collectors.toList())) {
+            String hash = BINARY_HASHES.computeIfAbsent(location, CompiledJarCache::hashBinary);
+            if (hash == null) {
+                return null;
+            }
+            update(digest, hash);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String hashBinary(Path location) {
+
+        MessageDigest digest = getDigest();
+        try {
+            if (Files.isRegularFile(location)) {
+                try (InputStream inputStream = Files.newInputStream(location)) {
+                    byte[] buffer = new byte[8192];
+                    int read;
+                    while ((read = inputStream.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+                return toHex(digest.digest());
+            }
+
+            // Classes loaded from a directory, as when running from the build output of the compiler.
+            try (Stream<Path> files = Files.walk(location)) {
+                for (Path file : files.filter(Files::isRegularFile).sorted().collect(Collectors.toList())) {
+                    update(digest, location.relativize(file).toString());
+                    digest.update(Files.readAllBytes(file));
+                }
+            }
+            return toHex(digest.digest());
+        } catch (IOException | UncheckedIOException e) {
+            return null;
+        }
+    }
+
+    private static void markAsUsed(Path cachedJar) {
+
+        try {
+            Files.setLastModifiedTime(cachedJar, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // Only affects the order in which the entries are evicted.
+        }
+    }
+
+    private void collectDependencies(BPackageSymbol packageSymbol, Map<String, BPackageSymbol> dependencies,
+                                     Set<BPackageSymbol> visited) {
+
+        for (BPackageSymbol importSymbol : packageSymbol.imports) {
+            if (importSymbol == null || !visited.add(importSymbol)) {
+                continue;
+            }
+            dependencies.put(importSymbol.pkgID.toString(), importSymbol);
+            collectDependencies(importSymbol, dependencies, visited);
+        }
+    }
+
+    private static void updateFileStamp(MessageDigest digest, Path file) {
+
+        update(digest, file.toString());
+        try {
+            update(digest, Files.size(file) + ":" + Files.getLastModifiedTime(file).toMillis());
+        } catch (IOException e) {
+            // Missing files are reported when they are used, hence only the path is considered.
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        // Separate the values, so that adjacent values cannot be shifted to form the same key.
+        digest.update((byte) 0);
+    }
+
+    private static String toHex(byte[] bytes) {
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    private static MessageDigest getDigest() {
+
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new BLangCompilerException("error computing the build cache key: " + e.getMessage(), e);
+        }
+    }
+}
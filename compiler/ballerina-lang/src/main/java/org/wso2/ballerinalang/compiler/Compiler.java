@@ -161,14 +161,8 @@ public class Compiler {
 
         // 1) Load all source packages. i.e. source-code -> BLangPackageNode
         // 2) Define all package level symbols for all the packages including imported packages in the AST
-        List<BLangPackage> packages = new ArrayList<>();
-        for (PackageID pkgId : pkgIdList) {
-            BLangPackage bLangPackage = this.pkgLoader.loadEntryPackage(pkgId, null, this.outStream);
-            if (bLangPackage != null) {
-                // skip the packages that were not loaded properly
-                packages.add(bLangPackage);
-            }
-        }
+        //    Source files of all the packages are parsed concurrently, while the packages are defined in order.
+        List<BLangPackage> packages = this.pkgLoader.loadEntryPackages(pkgIdList, this.outStream);
 
         // 3) Invoke compiler phases. e.g. type_check, code_analyze, taint_analyze, desugar etc.
         for (BLangPackage pkgNode : packages) {
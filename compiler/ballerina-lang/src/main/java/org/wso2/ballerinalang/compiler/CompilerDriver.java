@@ -35,6 +35,7 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.SemanticAnalyzer;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolEnter;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolResolver;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.TaintAnalyzer;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.spi.ObservabilitySymbolCollector;
@@ -44,9 +45,12 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.Constants;
 
+import java.io.PrintStream;
 import java.util.HashSet;
 import java.util.List;
 
+import static org.ballerinalang.compiler.CompilerOptionName.DISABLE_TYPE_RELATION_CACHE;
+import static org.ballerinalang.compiler.CompilerOptionName.DUMP_TYPE_RELATION_STATS;
 import static org.ballerinalang.compiler.CompilerOptionName.TOOLING_COMPILATION;
 import static org.ballerinalang.model.elements.PackageID.ANNOTATIONS;
 import static org.ballerinalang.model.elements.PackageID.ARRAY;
@@ -81,6 +85,7 @@ public class CompilerDriver {
 
     private static final CompilerContext.Key<CompilerDriver> COMPILER_DRIVER_KEY =
             new CompilerContext.Key<>();
+    private static final PrintStream out = System.out;
 
     private final CompilerOptions options;
     private final BLangDiagnosticLog dlog;
@@ -102,7 +107,10 @@ public class CompilerDriver {
     private final CompilerPhase compilerPhase;
     private final DataflowAnalyzer dataflowAnalyzer;
     private final IsolationAnalyzer isolationAnalyzer;
+    private final Types types;
     private boolean isToolingCompilation;
+    private final boolean dumpTypeRelationStats;
+    private final boolean typeRelationCacheEnabled;
 
     public static CompilerDriver getInstance(CompilerContext context) {
         CompilerDriver compilerDriver = context.get(COMPILER_DRIVER_KEY);
@@ -135,8 +143,13 @@ public class CompilerDriver {
         this.compilerPhase = this.options.getCompilerPhase();
         this.dataflowAnalyzer = DataflowAnalyzer.getInstance(context);
         this.isolationAnalyzer = IsolationAnalyzer.getInstance(context);
+        this.types = Types.getInstance(context);
         this.isToolingCompilation = this.options.isSet(TOOLING_COMPILATION)
                 && Boolean.parseBoolean(this.options.get(TOOLING_COMPILATION));
+        this.dumpTypeRelationStats = this.options.isSet(DUMP_TYPE_RELATION_STATS)
+                && Boolean.parseBoolean(this.options.get(DUMP_TYPE_RELATION_STATS));
+        this.typeRelationCacheEnabled = !(this.options.isSet(DISABLE_TYPE_RELATION_CACHE)
+                && Boolean.parseBoolean(this.options.get(DISABLE_TYPE_RELATION_CACHE)));
     }
 
     public BLangPackage compilePackage(BLangPackage packageNode) {
@@ -266,12 +279,24 @@ public class CompilerDriver {
             return;
         }
 
-        typeCheck(pkgNode);
-        if (this.stopCompilation(pkgNode, CompilerPhase.CODE_ANALYZE)) {
-            return;
+        // The types of all the modules are defined by now, and are not modified until the module is desugared
+        if (this.typeRelationCacheEnabled) {
+            this.types.enableRelationCache();
         }
+        try {
+            typeCheck(pkgNode);
+            if (this.stopCompilation(pkgNode, CompilerPhase.CODE_ANALYZE)) {
+                return;
+            }
 
-        codeAnalyze(pkgNode);
+            codeAnalyze(pkgNode);
+        } finally {
+            this.types.disableRelationCache();
+            if (this.typeRelationCacheEnabled && this.dumpTypeRelationStats) {
+                out.println("type relations of " + pkgNode.packageID + ": " + this.types.getRelationCacheHits() +
+                                    " cache hits, " + this.types.getRelationCacheMisses() + " cache misses");
+            }
+        }
         if (this.stopCompilation(pkgNode, CompilerPhase.DATAFLOW_ANALYZE)) {
             return;
         }
@@ -0,0 +1,513 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ConstantDynamic;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.TypePath;
+import org.objectweb.asm.signature.SignatureReader;
+import org.objectweb.asm.signature.SignatureVisitor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+/**
+ * Finds the classes of an executable jar that are reachable from its entry points.
+ * <p>
+ * The analysis starts from the main class of the jar, the service providers and service interfaces
+ * listed in {@code META-INF/services} and the classes that match the given keep-list. A class is
+ * reachable if it is referenced from the byte code, the signatures or the annotations of a reachable
+ * class. Since classes may also be loaded by name through reflection, a string constant of a reachable
+ * class that names a class of the jar makes that class reachable, and a string constant that names a
+ * package makes all the classes of that package reachable.
+ * <p>
+ * Entries other than classes, {@code module-info} and multi-release classes are always retained.
+ *
+ * @since 2.0.0
+ */
+public class ExecutableTreeShaker {
+
+    private static final String CLASS_FILE_EXT = ".class";
+    private static final String SERVICES_DIR = "META-INF/services/";
+    private static final String VERSIONS_DIR = "META-INF/versions/";
+    private static final String MODULE_INFO = "module-info.class";
+    private static final String[] ENTRY_POINT_ATTRIBUTES = {"Main-Class", "Premain-Class", "Agent-Class",
+            "Launcher-Agent-Class"};
+
+    private final List<String> keepList;
+
+    /**
+     * Creates a tree shaker with the given keep-list.
+     *
+     * @param keepList fully qualified class names or package prefixes ending with {@code .*} that should be
+     *                 retained regardless of whether they are referenced
+     */
+    public ExecutableTreeShaker(List<String> keepList) {
+        this.keepList = new ArrayList<>();
+        for (String keep : keepList) {
+            this.keepList.add(keep.trim().replace('.', '/'));
+        }
+    }
+
+    /**
+     * Returns the names of the entries of the given jar that should be retained.
+     *
+     * @param jarPath path of the executable jar
+     * @return names of the retained entries
+     * @throws IOException if the jar cannot be read
+     */
+    public Set<String> findRetainedEntries(Path jarPath) throws IOException {
+        try (JarFile jarFile = new JarFile(jarPath.toFile(), false)) {
+            Set<String> retainedEntries = new HashSet<>();
+            // Internal class name to the entry name of the class
+            Map<String, String> classEntries = new HashMap<>();
+            // Internal package name to the internal class names of the package
+            Map<String, List<String>> packages = new HashMap<>();
+
+            Enumeration<? extends ZipEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String entryName = entries.nextElement().getName();
+                if (!entryName.endsWith(CLASS_FILE_EXT) || entryName.startsWith(VERSIONS_DIR) ||
+                        entryName.endsWith(MODULE_INFO)) {
+                    retainedEntries.add(entryName);
+                    continue;
+                }
+
+                String className = entryName.substring(0, entryName.length() - CLASS_FILE_EXT.length());
+                classEntries.put(className, entryName);
+                int packageEnd = className.lastIndexOf('/');
+                String packageName = packageEnd < 0 ? "" : className.substring(0, packageEnd);
+                packages.computeIfAbsent(packageName, k -> new ArrayList<>()).add(className);
+            }
+
+            Reachability reachability = new Reachability(classEntries, packages);
+            addRoots(jarFile, classEntries.keySet(), reachability);
+            while (!reachability.workList.isEmpty()) {
+                String className = reachability.workList.pop();
+                try (InputStream inputStream = jarFile.getInputStream(
+                        jarFile.getEntry(classEntries.get(className)))) {
+                    ClassReader classReader = new ClassReader(inputStream);
+                    // Types referred to in frames and debug information are referred to by the code as well
+                    classReader.accept(reachability.classVisitor, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+                }
+            }
+
+            for (String className : reachability.reachableClasses) {
+                retainedEntries.add(classEntries.get(className));
+            }
+            return retainedEntries;
+        }
+    }
+
+    private void addRoots(JarFile jarFile, Set<String> classNames, Reachability reachability) throws IOException {
+        Manifest manifest = jarFile.getManifest();
+        if (manifest != null) {
+            Attributes mainAttributes = manifest.getMainAttributes();
+            for (String attribute : ENTRY_POINT_ATTRIBUTES) {
+                String className = mainAttributes.getValue(attribute);
+                if (className != null) {
+                    reachability.addClass(className.trim().replace('.', '/'));
+                }
+            }
+        }
+
+        Enumeration<? extends ZipEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            String entryName = entry.getName();
+            if (!entryName.startsWith(SERVICES_DIR) || entry.isDirectory()) {
+                continue;
+            }
+
+            reachability.addClass(entryName.substring(SERVICES_DIR.length()).replace('.', '/'));
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(jarFile.getInputStream(entry),
+                    StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int commentStart = line.indexOf('#');
+                    String provider = (commentStart < 0 ? line : line.substring(0, commentStart)).trim();
+                    if (!provider.isEmpty()) {
+                        reachability.addClass(provider.replace('.', '/'));
+                    }
+                }
+            }
+        }
+
+        for (String className : classNames) {
+            if (isKept(className)) {
+                reachability.addClass(className);
+            }
+        }
+    }
+
+    private boolean isKept(String className) {
+        for (String keep : keepList) {
+            if (keep.endsWith("/*")) {
+                if (className.startsWith(keep.substring(0, keep.length() - 1))) {
+                    return true;
+                }
+            } else if (className.equals(keep)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the classes referenced from the visited classes.
+     *
+     * @since 2.0.0
+     */
+    private static class Reachability {
+
+        private static final int API = Opcodes.ASM7;
+
+        private final Map<String, String> classEntries;
+        private final Map<String, List<String>> packages;
+        private final Set<String> reachableClasses = new HashSet<>();
+        private final Deque<String> workList = new ArrayDeque<>();
+
+        private final AnnotationVisitor annotationVisitor = new AnnotationVisitor(API) {
+            @Override
+            public void visit(String name, Object value) {
+                addValue(value);
+            }
+
+            @Override
+            public void visitEnum(String name, String descriptor, String value) {
+                addDescriptor(descriptor);
+            }
+
+            @Override
+            public AnnotationVisitor visitAnnotation(String name, String descriptor) {
+                addDescriptor(descriptor);
+                return this;
+            }
+
+            @Override
+            public AnnotationVisitor visitArray(String name) {
+                return this;
+            }
+        };
+
+        private final FieldVisitor fieldVisitor = new FieldVisitor(API) {
+            @Override
+            public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+                return addAnnotation(descriptor);
+            }
+
+            @Override
+            public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor,
+                                                         boolean visible) {
+                return addAnnotation(descriptor);
+            }
+        };
+
+        private final MethodVisitor methodVisitor = new MethodVisitor(API) {
+            @Override
+            public AnnotationVisitor visitAnnotationDefault() {
+                return annotationVisitor;
+            }
+
+            @Override
+            public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+                return addAnnotation(descriptor);
+            }
+
+            @Override
+            public AnnotationVisitor visitParameterAnnotation(int parameter, String descriptor, boolean visible) {
+                return addAnnotation(descriptor);
+            }
+
+            @Override
+            public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor,
+                                                         boolean visible) {
+                return addAnnotation(descriptor);
+            }
+
+            @Override
+            public void visitTypeInsn(int opcode, String type) {
+                addInternalName(type);
+            }
+
+            @Override
+            public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+                addInternalName(owner);
+                addDescriptor(descriptor);
+            }
+
+            @Override
+            public void visitMethodInsn(int opcode, String owner, String name, String descriptor,
+                                        boolean isInterface) {
+                addInternalName(owner);
+                addSignature(descriptor);
+            }
+
+            @Override
+            public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrapMethodHandle,
+                                               Object... bootstrapMethodArguments) {
+                addSignature(descriptor);
+                addValue(bootstrapMethodHandle);
+                for (Object argument : bootstrapMethodArguments) {
+                    addValue(argument);
+                }
+            }
+
+            @Override
+            public void visitLdcInsn(Object value) {
+                addValue(value);
+            }
+
+            @Override
+            public void visitMultiANewArrayInsn(String descriptor, int numDimensions) {
+                addDescriptor(descriptor);
+            }
+
+            @Override
+            public AnnotationVisitor visitInsnAnnotation(int typeRef, TypePath typePath, String descriptor,
+                                                         boolean visible) {
+                return addAnnotation(descriptor);
+            }
+
+            @Override
+            public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+                if (type != null) {
+                    addInternalName(type);
+                }
+            }
+
+            @Override
+            public AnnotationVisitor visitTryCatchAnnotation(int typeRef, TypePath typePath, String descriptor,
+                                                             boolean visible) {
+                return addAnnotation(descriptor);
+            }
+        };
+
+        private final ClassVisitor classVisitor = new ClassVisitor(API) {
+            @Override
+            public void visit(int version, int access, String name, String signature, String superName,
+                              String[] interfaces) {
+                if (superName != null) {
+                    addInternalName(superName);
+                }
+                for (String interfaceName : interfaces) {
+                    addInternalName(interfaceName);
+                }
+                if (signature != null) {
+                    addSignature(signature);
+                }
+            }
+
+            @Override
+            public void visitNestHost(String nestHost) {
+                addInternalName(nestHost);
+            }
+
+            @Override
+            public void visitOuterClass(String owner, String name, String descriptor) {
+                addInternalName(owner);
+            }
+
+            @Override
+            public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+                return addAnnotation(descriptor);
+            }
+
+            @Override
+            public AnnotationVisitor visitTypeAnnotation(int typeRef, TypePath typePath, String descriptor,
+                                                         boolean visible) {
+                return addAnnotation(descriptor);
+            }
+
+            @Override
+            public void visitNestMember(String nestMember) {
+                addInternalName(nestMember);
+            }
+
+            @Override
+            public void visitInnerClass(String name, String outerName, String innerName, int access) {
+                addInternalName(name);
+                if (outerName != null) {
+                    addInternalName(outerName);
+                }
+            }
+
+            @Override
+            public FieldVisitor visitField(int access, String name, String descriptor, String signature,
+                                           Object value) {
+                addDescriptor(descriptor);
+                if (signature != null) {
+                    addTypeSignature(signature);
+                }
+                if (value != null) {
+                    addValue(value);
+                }
+                return fieldVisitor;
+            }
+
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                                             String[] exceptions) {
+                addSignature(descriptor);
+                if (signature != null) {
+                    addSignature(signature);
+                }
+                if (exceptions != null) {
+                    for (String exception : exceptions) {
+                        addInternalName(exception);
+                    }
+                }
+                return methodVisitor;
+            }
+        };
+
+        private final SignatureVisitor signatureVisitor = new SignatureVisitor(API) {
+            private String classType;
+
+            @Override
+            public void visitClassType(String name) {
+                classType = name;
+                addInternalName(name);
+            }
+
+            @Override
+            public void visitInnerClassType(String name) {
+                classType = classType + "$" + name;
+                addInternalName(classType);
+            }
+        };
+
+        Reachability(Map<String, String> classEntries, Map<String, List<String>> packages) {
+            this.classEntries = classEntries;
+            this.packages = packages;
+        }
+
+        void addClass(String className) {
+            if (classEntries.containsKey(className) && reachableClasses.add(className)) {
+                workList.push(className);
+            }
+        }
+
+        private void addInternalName(String internalName) {
+            // Array types are referred to using their descriptors
+            if (internalName.startsWith("[")) {
+                addDescriptor(internalName);
+            } else {
+                addClass(internalName);
+            }
+        }
+
+        private void addDescriptor(String descriptor) {
+            Type type = Type.getType(descriptor);
+            if (type.getSort() == Type.ARRAY) {
+                type = type.getElementType();
+            }
+            if (type.getSort() == Type.OBJECT) {
+                addClass(type.getInternalName());
+            }
+        }
+
+        private void addSignature(String signature) {
+            new SignatureReader(signature).accept(signatureVisitor);
+        }
+
+        private void addTypeSignature(String signature) {
+            new SignatureReader(signature).acceptType(signatureVisitor);
+        }
+
+        private AnnotationVisitor addAnnotation(String descriptor) {
+            addDescriptor(descriptor);
+            return annotationVisitor;
+        }
+
+        private void addValue(Object value) {
+            if (value instanceof String) {
+                addNamedClasses((String) value);
+            } else if (value instanceof Type) {
+                Type type = (Type) value;
+                if (type.getSort() == Type.METHOD) {
+                    addSignature(type.getDescriptor());
+                } else {
+                    addDescriptor(type.getDescriptor());
+                }
+            } else if (value instanceof Handle) {
+                Handle handle = (Handle) value;
+                addInternalName(handle.getOwner());
+                if (handle.getDesc().startsWith("(")) {
+                    addSignature(handle.getDesc());
+                } else {
+                    addDescriptor(handle.getDesc());
+                }
+            } else if (value instanceof ConstantDynamic) {
+                ConstantDynamic constantDynamic = (ConstantDynamic) value;
+                addDescriptor(constantDynamic.getDescriptor());
+                addValue(constantDynamic.getBootstrapMethod());
+                for (int i = 0; i < constantDynamic.getBootstrapMethodArgumentCount(); i++) {
+                    addValue(constantDynamic.getBootstrapMethodArgument(i));
+                }
+            }
+        }
+
+        /**
+         * Treats a string constant as a class name or a package name, in case it is used to load classes
+         * through reflection.
+         *
+         * @param value string constant
+         */
+        private void addNamedClasses(String value) {
+            if (value.isEmpty() || value.length() > 512) {
+                return;
+            }
+
+            String name = value.replace('.', '/');
+            if (name.endsWith("/")) {
+                name = name.substring(0, name.length() - 1);
+            }
+            addClass(name);
+            for (String className : packages.getOrDefault(name, Collections.emptyList())) {
+                addClass(className);
+            }
+        }
+    }
+}
@@ -68,8 +68,10 @@ import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -123,6 +125,12 @@ public class PackageLoader {
      */
     private Map<PackageID, Manifest> dependencyManifests = new HashMap<>();
 
+    /**
+     * Holds the already parsed sources of the entry modules being loaded, so that an entry module imported by
+     * another one is not parsed again.
+     */
+    private final Map<PackageID, PackageSource> parsedEntrySources = new HashMap<>();
+
     public static PackageLoader getInstance(CompilerContext context) {
         PackageLoader loader = context.get(PACKAGE_LOADER_KEY);
         if (loader == null) {
@@ -376,6 +384,70 @@ public class PackageLoader {
         return packageNode;
     }
 
+    /**
+     * Loads the given entry packages in the given order.
+     * <p>
+     * The sources of all the packages are resolved first and the syntax trees of their source files are
+     * parsed concurrently, since parsing does not depend on any shared compiler state. Then each package
+     * is built from its syntax trees and defined one at a time, since defining a package resolves its
+     * imports through the shared package cache and symbol table. An entry package imported by another one
+     * is defined through the import, using the syntax trees parsed here.
+     *
+     * @param pkgIds    IDs of the entry packages
+     * @param outStream stream to print the names of the packages being loaded
+     * @return the packages that were loaded properly
+     */
+    public List<BLangPackage> loadEntryPackages(List<PackageID> pkgIds, PrintStream outStream) {
+        if (null == outStream) {
+            outStream = System.out;
+        }
+
+        Map<PackageID, PackageEntity> pkgEntities = new LinkedHashMap<>();
+        for (PackageID pkgId : pkgIds) {
+            // Entry package may be already loaded through an import statement.
+            if (packageCache.get(pkgId) != null) {
+                pkgEntities.put(pkgId, null);
+                continue;
+            }
+            pkgEntities.put(pkgId, loadPackageEntity(pkgId, null, null));
+        }
+
+        // Sources of a GenericPackageSource are parsed lazily and the parsed trees are cached in the inputs.
+        // Hence parse them all upfront, using all the available cores.
+        pkgEntities.values().stream()
+                .filter(pkgEntity -> pkgEntity instanceof GenericPackageSource)
+                .flatMap(pkgEntity -> ((PackageSource) pkgEntity).getPackageSourceEntries().stream())
+                .collect(Collectors.toList())
+                .parallelStream()
+                .forEach(CompilerInput::getTree);
+        pkgEntities.values().stream()
+                .filter(pkgEntity -> pkgEntity instanceof GenericPackageSource)
+                .forEach(pkgEntity -> parsedEntrySources.put(pkgEntity.getPackageId(), (PackageSource) pkgEntity));
+
+        List<BLangPackage> packages = new ArrayList<>();
+        try {
+            for (Map.Entry<PackageID, PackageEntity> pkgEntry : pkgEntities.entrySet()) {
+                PackageID pkgId = pkgEntry.getKey();
+                // Packages are listed as they are built, as when they are loaded one at a time.
+                outStream.println("\t" + (pkgId.isUnnamed ? pkgId.sourceFileName.value : pkgId.toString()));
+                BLangPackage bLangPackage = packageCache.get(pkgId);
+                if (bLangPackage == null) {
+                    PackageEntity pkgEntity = pkgEntry.getValue();
+                    if (pkgEntity == null) {
+                        // Skip the packages that could not be resolved, but continue loading the rest.
+                        continue;
+                    }
+                    bLangPackage = parse(pkgId, (PackageSource) pkgEntity);
+                    define(bLangPackage);
+                }
+                packages.add(bLangPackage);
+            }
+        } finally {
+            parsedEntrySources.clear();
+        }
+        return packages;
+    }
+
     public BLangPackage loadPackage(PackageID pkgId) {
         // TODO Remove this method()
         BLangPackage bLangPackage = packageCache.get(pkgId);
@@ -428,7 +500,7 @@ public class PackageLoader {
         }
 
         if (pkgEntity.getKind() == PackageEntity.Kind.SOURCE) {
-            return parseAndDefine(packageId, (PackageSource) pkgEntity);
+            return parseAndDefine(packageId, getParsedEntrySource((PackageSource) pkgEntity));
         } else if (pkgEntity.getKind() == Kind.COMPILED || pkgEntity.getKind() == Kind.COMPILED_BIR) {
             return loadCompiledPackageAndDefine(packageId, (PackageBinary) pkgEntity);
         }
@@ -453,6 +525,25 @@ public class PackageLoader {
                      .collect(Collectors.toList());
     }
 
+    /**
+     * Returns the given source with the syntax trees already parsed for the same entry module, if the source
+     * files are the same. The repo hierarchy of the given source is kept, since it resolves the imports.
+     */
+    private PackageSource getParsedEntrySource(PackageSource pkgSource) {
+        PackageSource parsedSource = parsedEntrySources.get(pkgSource.getPackageId());
+        if (parsedSource == null || !getEntryNames(parsedSource).equals(getEntryNames(pkgSource))) {
+            return pkgSource;
+        }
+        return new GenericPackageSource(pkgSource.getPackageId(), parsedSource.getPackageSourceEntries(),
+                pkgSource.getRepoHierarchy());
+    }
+
+    private static List<String> getEntryNames(PackageSource pkgSource) {
+        return pkgSource.getPackageSourceEntries().stream()
+                .map(CompilerInput::getEntryName)
+                .collect(Collectors.toList());
+    }
+
     private BPackageSymbol parseAndDefine(PackageID pkgId, PackageSource pkgSource) {
         // 1) Parse the source package
         BLangPackage pkgNode = parse(pkgId, pkgSource);
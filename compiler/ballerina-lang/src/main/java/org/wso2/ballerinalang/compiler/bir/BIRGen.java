@@ -25,6 +25,7 @@ import org.ballerinalang.model.tree.BlockNode;
 import org.ballerinalang.model.tree.NodeKind;
 import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.TopLevelNode;
+import org.ballerinalang.model.tree.expressions.LiteralNode;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRAnnotation;
@@ -90,6 +91,7 @@ import org.wso2.ballerinalang.compiler.tree.BLangVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangXMLNS;
 import org.wso2.ballerinalang.compiler.tree.BLangXMLNS.BLangLocalXMLNS;
 import org.wso2.ballerinalang.compiler.tree.BLangXMLNS.BLangPackageXMLNS;
+import org.wso2.ballerinalang.compiler.tree.clauses.BLangMatchClause;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangBinaryExpr;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangConstant;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
@@ -141,6 +143,8 @@ import org.wso2.ballerinalang.compiler.tree.expressions.BLangXMLProcInsLiteral;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangXMLQName;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangXMLQuotedString;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangXMLTextLiteral;
+import org.wso2.ballerinalang.compiler.tree.matchpatterns.BLangConstPattern;
+import org.wso2.ballerinalang.compiler.tree.matchpatterns.BLangMatchPattern;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangAssignment;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangBlockStmt;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangBreak;
@@ -151,6 +155,7 @@ import org.wso2.ballerinalang.compiler.tree.statements.BLangForkJoin;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangIf;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangLock.BLangLockStmt;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangLock.BLangUnLockStmt;
+import org.wso2.ballerinalang.compiler.tree.statements.BLangMatchStatement;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangPanic;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangReturn;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangSimpleVariableDef;
@@ -271,9 +276,9 @@ public class BIRGen extends BLangNodeVisitor {
                     testPkg.imports.remove(mod);
                 }
                 testPkg.accept(this);
-                this.birOptimizer.optimizePackage(testBirPkg);
-                testPkg.symbol.bir = testBirPkg;
                 Map<String, String> mockFunctionMap = astPkg.getTestablePkg().getMockFunctionNamesMap();
+                this.birOptimizer.optimizePackage(testBirPkg, mockFunctionMap.isEmpty());
+                testPkg.symbol.bir = testBirPkg;
                 if (!mockFunctionMap.isEmpty()) {
                     replaceMockedFunctions(testBirPkg, mockFunctionMap);
                 }
@@ -1526,6 +1531,94 @@ public class BIRGen extends BLangNodeVisitor {
         this.env.enclBB = nextBB;
     }
 
+    @Override
+    public void visit(BLangMatchStatement astMatchStmt) {
+        // Only the match statements with int and string literal patterns and wildcard patterns reach here. The
+        // switch jumps to the first clause that has a pattern matching the value. If the guard of that clause fails,
+        // another switch jumps to the next matching clause among the clauses that follow.
+        astMatchStmt.expr.accept(this);
+        BIRVariableDcl matchExprVarDcl = this.env.targetOperand.variableDcl;
+
+        List<BLangMatchClause> matchClauses = astMatchStmt.matchClauses;
+        List<BIRBasicBlock> clauseBBs = new ArrayList<>(matchClauses.size());
+        for (int i = 0; i < matchClauses.size(); i++) {
+            clauseBBs.add(new BIRBasicBlock(this.env.nextBBId(names)));
+        }
+
+        // This basic block will contain statement that comes right after this 'match' statement.
+        BIRBasicBlock nextBB = new BIRBasicBlock(this.env.nextBBId(names));
+        this.env.enclBB.terminator = createMatchDispatch(astMatchStmt, matchExprVarDcl, 0, clauseBBs, nextBB);
+
+        for (int i = 0; i < matchClauses.size(); i++) {
+            BLangMatchClause matchClause = matchClauses.get(i);
+            BIRBasicBlock clauseBB = clauseBBs.get(i);
+            addToTrapStack(clauseBB);
+            this.env.enclBasicBlocks.add(clauseBB);
+            this.env.enclBB = clauseBB;
+
+            if (matchClause.matchGuard != null) {
+                matchClause.matchGuard.expr.accept(this);
+                BIROperand guardResult = this.env.targetOperand;
+
+                BIRBasicBlock clauseBodyBB = new BIRBasicBlock(this.env.nextBBId(names));
+                BIRBasicBlock guardFailedBB = new BIRBasicBlock(this.env.nextBBId(names));
+                this.env.enclBB.terminator = new BIRTerminator.Branch(matchClause.matchGuard.pos, guardResult,
+                                                                      clauseBodyBB, guardFailedBB);
+
+                addToTrapStack(guardFailedBB);
+                this.env.enclBasicBlocks.add(guardFailedBB);
+                guardFailedBB.terminator = createMatchDispatch(astMatchStmt, matchExprVarDcl, i + 1, clauseBBs,
+                                                               nextBB);
+
+                addToTrapStack(clauseBodyBB);
+                this.env.enclBasicBlocks.add(clauseBodyBB);
+                this.env.enclBB = clauseBodyBB;
+            }
+
+            matchClause.blockStmt.accept(this);
+            if (this.env.enclBB.terminator == null) {
+                this.env.enclBB.terminator = new BIRTerminator.GOTO(null, nextBB);
+            }
+        }
+
+        addToTrapStack(nextBB);
+        this.env.enclBasicBlocks.add(nextBB);
+        this.env.enclBB = nextBB;
+    }
+
+    /**
+     * Creates the terminator that jumps to the first clause, starting from the given clause, that has a pattern
+     * matching the value of the match expression.
+     */
+    private BIRTerminator createMatchDispatch(BLangMatchStatement astMatchStmt, BIRVariableDcl matchExprVarDcl,
+                                              int fromClause, List<BIRBasicBlock> clauseBBs, BIRBasicBlock nextBB) {
+        List<Object> caseValues = new ArrayList<>();
+        List<BIRBasicBlock> caseBBs = new ArrayList<>();
+        BIRBasicBlock defaultBB = nextBB;
+        for (int i = fromClause; i < clauseBBs.size() && defaultBB == nextBB; i++) {
+            for (BLangMatchPattern matchPattern : astMatchStmt.matchClauses.get(i).matchPatterns) {
+                if (matchPattern.getKind() == NodeKind.WILDCARD_MATCH_PATTERN) {
+                    // The clauses that follow a wildcard pattern can not be reached
+                    defaultBB = clauseBBs.get(i);
+                    break;
+                }
+
+                Object value = ((LiteralNode) ((BLangConstPattern) matchPattern).expr).getValue();
+                Object caseValue = value instanceof String ? value : ((Number) value).longValue();
+                if (!caseValues.contains(caseValue)) {
+                    caseValues.add(caseValue);
+                    caseBBs.add(clauseBBs.get(i));
+                }
+            }
+        }
+
+        if (caseValues.isEmpty()) {
+            return new BIRTerminator.GOTO(astMatchStmt.pos, defaultBB);
+        }
+        return new BIRTerminator.Switch(astMatchStmt.pos, new BIROperand(matchExprVarDcl), caseValues, caseBBs,
+                                        defaultBB);
+    }
+
     @Override
     public void visit(BLangWhile astWhileStmt) {
         BIRBasicBlock currentEnclLoopBB = this.env.enclLoopBB;
@@ -21,6 +21,8 @@ import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.compiler.JarResolver;
 import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.CompiledJarCache;
+import org.wso2.ballerinalang.compiler.CompiledJarFile;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropValidator;
 import org.wso2.ballerinalang.compiler.bir.emit.BIREmitter;
@@ -65,6 +67,7 @@ public class CodeGenerator {
     private PackageCache packageCache;
     private BLangDiagnosticLog dlog;
     private BIREmitter birEmitter;
+    private CompiledJarCache compiledJarCache;
     private boolean baloGen;
     private CompilerContext compilerContext;
     private boolean skipTests;
@@ -80,6 +83,7 @@ public class CodeGenerator {
         this.packageCache = PackageCache.getInstance(compilerContext);
         this.dlog = BLangDiagnosticLog.getInstance(compilerContext);
         this.birEmitter = BIREmitter.getInstance(compilerContext);
+        this.compiledJarCache = CompiledJarCache.getInstance(compilerContext);
         this.compilerContext = compilerContext;
         CompilerOptions compilerOptions = CompilerOptions.getInstance(compilerContext);
         this.skipTests = getBooleanValueIfSet(compilerOptions, CompilerOptionName.SKIP_TESTS);
@@ -151,10 +155,24 @@ public class CodeGenerator {
         ClassLoader interopValidationClassLoader = makeClassLoader(moduleDependencies);
         InteropValidator interopValidator = new InteropValidator(interopValidationClassLoader, symbolTable);
 
+        // The cache key is computed from the BIR binary, before the BIR is modified by the code generation
+        String cacheKey = null;
+        CompiledJarFile cachedJarFile = null;
+        if (compiledJarCache.isEnabled() && packageSymbol.birPackageFile != null) {
+            cacheKey = compiledJarCache.getCacheKey(packageSymbol, moduleDependencies);
+            cachedJarFile = compiledJarCache.get(cacheKey).orElse(null);
+        }
+
         //Rewrite identiifier names with encoding special characters
         encodeModuleIdentifiers(packageSymbol.bir);
 
-        packageSymbol.compiledJarFile = jvmPackageGen.generate(packageSymbol.bir, interopValidator, true);
+        long startTime = System.currentTimeMillis();
+        packageSymbol.compiledJarFile = jvmPackageGen.generate(packageSymbol.bir, interopValidator, true,
+                                                               cachedJarFile);
+        if (cacheKey != null && cachedJarFile == null && dlog.errorCount() == 0 &&
+                !packageSymbol.compiledJarFile.getJarEntries().isEmpty()) {
+            compiledJarCache.put(cacheKey, packageSymbol.compiledJarFile, System.currentTimeMillis() - startTime);
+        }
     }
 
     private Set<Path> findDependencies(PackageID packageID) {
@@ -1282,7 +1282,27 @@ public class JvmCastGen {
     private static void generateCheckCastToUnionType(MethodVisitor mv, BType sourceType, BUnionType targetType) {
 
         generateCastToAny(mv, sourceType);
+        checkCastIfNotSimpleType(mv, targetType);
+    }
+
+    /**
+     * Casts the value at the top of the stack through the runtime, only if it does not already belong to the given
+     * type. The runtime is still called for the values that do not belong to the type, to convert numeric values
+     * or to raise the cast error.
+     */
+    private static void checkCastIfNotSimpleType(MethodVisitor mv, BType targetType) {
+
+        if (!JvmTypeTestGen.canTestInline(targetType)) {
+            checkCast(mv, targetType);
+            return;
+        }
+
+        Label castDone = new Label();
+        mv.visitInsn(DUP);
+        JvmTypeTestGen.generateTypeTest(mv, targetType);
+        mv.visitJumpInsn(IFNE, castDone);
         checkCast(mv, targetType);
+        mv.visitLabel(castDone);
     }
 
     private static void checkCast(MethodVisitor mv, BType targetType) {
@@ -1342,7 +1362,7 @@ public class JvmCastGen {
     private static void generateCheckCastToFiniteType(MethodVisitor mv, BType sourceType, BFiniteType targetType) {
 
         generateCastToAny(mv, sourceType);
-        checkCast(mv, targetType);
+        checkCastIfNotSimpleType(mv, targetType);
     }
 
     private static void generateCheckCastToReadonlyType(MethodVisitor mv, BType sourceType, BType targetType) {
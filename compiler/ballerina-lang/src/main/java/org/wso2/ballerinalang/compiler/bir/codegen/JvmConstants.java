@@ -100,6 +100,7 @@ public class JvmConstants {
     public static final String PACKAGE_TYPE = "org/ballerinalang/jvm/types/BPackage";
     public static final String TYPE_ID_SET = "org/ballerinalang/jvm/types/BTypeIdSet";
     public static final String TYPE_ID = "org/ballerinalang/jvm/types/BTypeIdSet$TypeId";
+    public static final String TYPE_INTERNER = "org/ballerinalang/jvm/types/TypeInterner";
 
     // other jvm-specific classes
     public static final String TYPE_CHECKER = "org/ballerinalang/jvm/TypeChecker";
@@ -142,6 +143,8 @@ public class JvmConstants {
     public static final String STRING_BUILDER = "java/lang/StringBuilder";
     public static final String COMPARABLE = "java/lang/Comparable";
     public static final String FUNCTION = "java/util/function/Function";
+    public static final String METHOD_HANDLE = "java/lang/invoke/MethodHandle";
+    public static final String METHOD_HANDLES = "java/lang/invoke/MethodHandles";
     public static final String LONG_STREAM = "java/util/stream/LongStream";
     public static final String JAVA_THREAD = "java/lang/Thread";
     public static final String JAVA_RUNTIME = "java/lang/Runtime";
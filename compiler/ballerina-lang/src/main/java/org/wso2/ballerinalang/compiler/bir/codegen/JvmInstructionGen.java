@@ -20,10 +20,12 @@ package org.wso2.ballerinalang.compiler.bir.codegen;
 import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.jvm.IdentifierUtils;
 import org.ballerinalang.model.elements.PackageID;
+import org.objectweb.asm.Handle;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.AsyncDataCollector;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.BIRVarToJVMIndexMap;
+import org.wso2.ballerinalang.compiler.bir.codegen.interop.BIRFunctionWrapper;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JCast;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JInsKind;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.JInstruction;
@@ -39,6 +41,7 @@ import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BServiceType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
@@ -67,6 +70,7 @@ import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.H_INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
 import static org.objectweb.asm.Opcodes.I2L;
@@ -130,6 +134,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_TYP
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ARRAY_VALUE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BINITIAL_VALUE_ENTRY;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BOOLEAN_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BTYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BXML_QNAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BYTE_VALUE;
@@ -152,6 +157,8 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAPPING_I
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_UTILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MATH_UTILS;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.METHOD_HANDLE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.METHOD_HANDLES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT_TYPE;
@@ -1588,6 +1595,12 @@ public class JvmInstructionGen {
         // load source value
         this.loadVar(typeTestIns.rhsOp.variableDcl);
 
+        if (JvmTypeTestGen.canTestInline(typeTestIns.type)) {
+            JvmTypeTestGen.generateTypeTest(this.mv, typeTestIns.type);
+            this.storeToVar(typeTestIns.lhsOp.variableDcl);
+            return;
+        }
+
         // load targetType
         loadType(this.mv, typeTestIns.type);
 
@@ -1659,6 +1672,7 @@ public class JvmInstructionGen {
 
         JvmCodeGenUtil.visitInvokeDynamic(mv, asyncDataCollector.getEnclosingClass(), lambdaName,
                                           inst.closureMaps.size());
+        loadFunctionHandle(inst);
         loadType(this.mv, returnType);
         if (inst.strandName != null) {
             mv.visitLdcInsn(inst.strandName);
@@ -1672,7 +1686,8 @@ public class JvmInstructionGen {
             mv.visitInsn(ICONST_0);
         }
         this.mv.visitMethodInsn(INVOKESPECIAL, FUNCTION_POINTER, JVM_INIT_METHOD,
-                                String.format("(L%s;L%s;L%s;Z)V", FUNCTION, BTYPE, STRING_VALUE), false);
+                                String.format("(L%s;L%s;L%s;L%s;Z)V", FUNCTION, METHOD_HANDLE, BTYPE, STRING_VALUE),
+                                false);
 
         // Set annotations if available.
         this.mv.visitInsn(DUP);
@@ -1687,6 +1702,59 @@ public class JvmInstructionGen {
         asyncDataCollector.add(lambdaName, inst);
     }
 
+    /**
+     * Loads a method handle of the function referred by the function pointer, with the closure maps bound to it.
+     * Loads null if the function pointer can only be invoked through the generated lambda.
+     */
+    private void loadFunctionHandle(BIRNonTerminator.FPLoad inst) {
+
+        String encodedFuncName = IdentifierUtils.encodeIdentifier(inst.funcName.value);
+        String lookupKey = JvmCodeGenUtil.getPackageName(inst.pkgId) + encodedFuncName;
+        BIRFunctionWrapper functionWrapper = jvmPackageGen.lookupBIRFunctionWrapper(lookupKey);
+        // Extern functions need the blocked on extern handling of the lambda, and the functions of the builtin
+        // modules do not take the flags of the arguments.
+        if (functionWrapper == null || JvmCodeGenUtil.isExternFunc(functionWrapper.func) ||
+                JvmCodeGenUtil.isBallerinaBuiltinModule(inst.pkgId.orgName.value, inst.pkgId.name.value) ||
+                inst.closureMaps.contains(null)) {
+            this.mv.visitInsn(ACONST_NULL);
+            return;
+        }
+
+        List<BType> paramTypes = new ArrayList<>();
+        for (BIRNode.BIRVariableDcl param : inst.params) {
+            paramTypes.add(param.type);
+            paramTypes.add(symbolTable.booleanType);
+        }
+        BType retType = inst.retType;
+        if (retType.tag == TypeTags.INVOKABLE) {
+            retType = ((BInvokableType) retType).retType;
+        }
+        String methodDesc = JvmMethodGen.getLambdaMethodDesc(paramTypes, retType, inst.closureMaps.size());
+        this.mv.visitLdcInsn(new Handle(H_INVOKESTATIC, functionWrapper.fullQualifiedClassName, encodedFuncName,
+                                        methodDesc, false));
+        if (inst.closureMaps.isEmpty()) {
+            return;
+        }
+
+        // Bind the closure maps, each of which is followed by a boolean argument, after the strand
+        this.mv.visitInsn(ICONST_1);
+        this.mv.visitIntInsn(BIPUSH, inst.closureMaps.size() * 2);
+        this.mv.visitTypeInsn(ANEWARRAY, OBJECT);
+        int index = 0;
+        for (BIROperand operand : inst.closureMaps) {
+            this.mv.visitInsn(DUP);
+            this.mv.visitIntInsn(BIPUSH, index++);
+            this.loadVar(operand.variableDcl);
+            this.mv.visitInsn(AASTORE);
+            this.mv.visitInsn(DUP);
+            this.mv.visitIntInsn(BIPUSH, index++);
+            this.mv.visitFieldInsn(GETSTATIC, BOOLEAN_VALUE, "TRUE", String.format("L%s;", BOOLEAN_VALUE));
+            this.mv.visitInsn(AASTORE);
+        }
+        this.mv.visitMethodInsn(INVOKESTATIC, METHOD_HANDLES, "insertArguments",
+                                String.format("(L%s;I[L%s;)L%s;", METHOD_HANDLE, OBJECT, METHOD_HANDLE), false);
+    }
+
     void generateNewXMLElementIns(BIRNonTerminator.NewXMLElement newXMLElement) {
 
         this.loadVar(newXMLElement.startTagOp.variableDcl);
@@ -255,61 +255,72 @@ public class JvmMethodGen {
         genLocalVars(indexMap, mv, func.localVars);
 
         int returnVarRefIndex = getReturnVarRefIndex(func, indexMap, retType, mv);
-        int stateVarIndex = getStateVarIndex(indexMap, mv);
 
-        mv.visitVarInsn(ALOAD, localVarOffset);
-        mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
+        // A function that never yields neither saves its state to a frame nor resumes from one.
+        boolean mayYield = !jvmPackageGen.yieldAnalyzer.isNonYielding(func);
+        int stateVarIndex = mayYield ? getStateVarIndex(indexMap, mv) : -1;
 
         LabelGenerator labelGen = new LabelGenerator();
         Label resumeLabel = labelGen.getLabel(funcName + "resume");
-        mv.visitJumpInsn(IFGT, resumeLabel);
+        if (mayYield) {
+            mv.visitVarInsn(ALOAD, localVarOffset);
+            mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
+            mv.visitJumpInsn(IFGT, resumeLabel);
+        }
 
         Label varinitLabel = labelGen.getLabel(funcName + "varinit");
         mv.visitLabel(varinitLabel);
 
-        // process basic blocks
-        List<Label> labels = new ArrayList<>();
-        List<Integer> states = new ArrayList<>();
-
-        addCasesForBasicBlocks(func, funcName, labelGen, labels, states);
-
         JvmInstructionGen instGen = new JvmInstructionGen(mv, indexMap, module, jvmPackageGen);
         JvmErrorGen errorGen = new JvmErrorGen(mv, indexMap, instGen);
         JvmTerminatorGen termGen = new JvmTerminatorGen(mv, indexMap, labelGen, errorGen, module, instGen,
                                                         jvmPackageGen);
 
-        mv.visitVarInsn(ILOAD, stateVarIndex);
         Label yieldLable = labelGen.getLabel(funcName + "yield");
-        mv.visitLookupSwitchInsn(yieldLable, toIntArray(states), labels.toArray(new Label[0]));
+        if (mayYield) {
+            // process basic blocks
+            List<Label> labels = new ArrayList<>();
+            List<Integer> states = new ArrayList<>();
+
+            addCasesForBasicBlocks(func, funcName, labelGen, labels, states);
+
+            mv.visitVarInsn(ILOAD, stateVarIndex);
+            mv.visitLookupSwitchInsn(yieldLable, toIntArray(states), labels.toArray(new Label[0]));
+        }
 
         generateBasicBlocks(mv, labelGen, errorGen, instGen, termGen, func, returnVarRefIndex,
                             stateVarIndex, localVarOffset, module, attachedType,
                             moduleClassName, asyncDataCollector);
-        mv.visitLabel(resumeLabel);
-        String frameName = getFrameClassName(JvmCodeGenUtil.getPackageName(module), funcName, attachedType);
-        genGetFrameOnResumeIndex(localVarOffset, mv, frameName);
-
-        generateFrameClassFieldLoad(func.localVars, mv, indexMap, frameName);
-        mv.visitFieldInsn(GETFIELD, frameName, STATE, "I");
-        mv.visitVarInsn(ISTORE, stateVarIndex);
-        mv.visitJumpInsn(GOTO, varinitLabel);
 
-        mv.visitLabel(yieldLable);
-        mv.visitTypeInsn(NEW, frameName);
-        mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, frameName, JVM_INIT_METHOD, "()V", false);
+        Label methodEndLabel = new Label();
+        if (mayYield) {
+            mv.visitLabel(resumeLabel);
+            String frameName = getFrameClassName(JvmCodeGenUtil.getPackageName(module), funcName, attachedType);
+            genGetFrameOnResumeIndex(localVarOffset, mv, frameName);
+
+            generateFrameClassFieldLoad(func.localVars, mv, indexMap, frameName);
+            mv.visitFieldInsn(GETFIELD, frameName, STATE, "I");
+            mv.visitVarInsn(ISTORE, stateVarIndex);
+            mv.visitJumpInsn(GOTO, varinitLabel);
+
+            mv.visitLabel(yieldLable);
+            mv.visitTypeInsn(NEW, frameName);
+            mv.visitInsn(DUP);
+            mv.visitMethodInsn(INVOKESPECIAL, frameName, JVM_INIT_METHOD, "()V", false);
 
-        generateFrameClassFieldUpdate(func.localVars, mv, indexMap, frameName);
+            generateFrameClassFieldUpdate(func.localVars, mv, indexMap, frameName);
 
-        mv.visitInsn(DUP);
-        mv.visitVarInsn(ILOAD, stateVarIndex);
-        mv.visitFieldInsn(PUTFIELD, frameName, STATE, "I");
+            mv.visitInsn(DUP);
+            mv.visitVarInsn(ILOAD, stateVarIndex);
+            mv.visitFieldInsn(PUTFIELD, frameName, STATE, "I");
 
-        generateGetFrame(indexMap, localVarOffset, mv);
+            generateGetFrame(indexMap, localVarOffset, mv);
 
-        Label methodEndLabel = new Label();
-        mv.visitLabel(methodEndLabel);
-        termGen.genReturnTerm(returnVarRefIndex, func);
+            mv.visitLabel(methodEndLabel);
+            termGen.genReturnTerm(returnVarRefIndex, func);
+        } else {
+            mv.visitLabel(methodEndLabel);
+        }
 
         // Create Local Variable Table
         createLocalVariableTable(func, indexMap, localVarOffset, mv, methodStartLabel, labelGen, methodEndLabel);
@@ -1171,7 +1182,7 @@ public class JvmMethodGen {
         }
     }
 
-    private String getLambdaMethodDesc(List<BType> paramTypes, BType retType, int closureMapsCount) {
+    static String getLambdaMethodDesc(List<BType> paramTypes, BType retType, int closureMapsCount) {
 
         StringBuilder desc = new StringBuilder("(Lorg/ballerinalang/jvm/scheduling/Strand;");
         int j = 0;
@@ -1252,6 +1263,7 @@ public class JvmMethodGen {
         String funcName = JvmCodeGenUtil.cleanupFunctionName(func.name.value);
         BirScope lastScope = null;
         Set<BirScope> visitedScopesSet = new HashSet<>();
+        boolean mayYield = !jvmPackageGen.yieldAnalyzer.isNonYielding(func);
 
         int caseIndex = 0;
         for (int i = 0; i < func.basicBlocks.size(); i++) {
@@ -1259,7 +1271,7 @@ public class JvmMethodGen {
             // create jvm label
             Label bbLabel = labelGen.getLabel(funcName + bb.id.value);
             mv.visitLabel(bbLabel);
-            if (i == 0) {
+            if (i == 0 && mayYield) {
                 pushShort(mv, stateVarIndex, caseIndex);
                 caseIndex += 1;
             }
@@ -1273,8 +1285,10 @@ public class JvmMethodGen {
             mv.visitLabel(bbEndLabel);
 
             BIRTerminator terminator = bb.terminator;
-            pushShort(mv, stateVarIndex, caseIndex);
-            caseIndex += 1;
+            if (mayYield) {
+                pushShort(mv, stateVarIndex, caseIndex);
+                caseIndex += 1;
+            }
 
             processTerminator(mv, func, module, funcName, terminator);
             termGen.genTerminator(terminator, moduleClassName, func, funcName, localVarOffset, returnVarRefIndex,
@@ -1283,8 +1297,13 @@ public class JvmMethodGen {
             errorGen.generateTryCatch(func, funcName, bb, termGen, labelGen);
 
             BIRBasicBlock thenBB = terminator.thenBB;
-            if (thenBB != null) {
+            if (thenBB == null) {
+                continue;
+            }
+            if (mayYield && jvmPackageGen.yieldAnalyzer.mayYield(terminator)) {
                 JvmCodeGenUtil.genYieldCheck(mv, termGen.getLabelGenerator(), thenBB, funcName, localVarOffset);
+            } else {
+                mv.visitJumpInsn(GOTO, labelGen.getLabel(funcName + thenBB.id.value));
             }
         }
     }
@@ -2059,6 +2078,9 @@ public class JvmMethodGen {
 
     private void generateFrameClassForFunction(BIRPackage pkg, BIRFunction func, Map<String, byte[]> pkgEntries,
                                                BType attachedType) {
+        if (jvmPackageGen.yieldAnalyzer.isNonYielding(func)) {
+            return;
+        }
         String frameClassName = getFrameClassName(JvmCodeGenUtil.getPackageName(pkg), func.name.value,
                                                   attachedType);
         ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
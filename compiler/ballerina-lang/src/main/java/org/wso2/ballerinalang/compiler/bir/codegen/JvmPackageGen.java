@@ -122,6 +122,7 @@ public class JvmPackageGen {
     public final SymbolTable symbolTable;
     public final PackageCache packageCache;
     private final JvmMethodGen jvmMethodGen;
+    final YieldAnalyzer yieldAnalyzer;
     private Map<String, BIRFunctionWrapper> birFunctionMap;
     private Map<String, String> externClassMap;
     private Map<String, String> globalVarClassMap;
@@ -138,6 +139,7 @@ public class JvmPackageGen {
         this.packageCache = packageCache;
         this.dlog = dlog;
         jvmMethodGen = new JvmMethodGen(this);
+        yieldAnalyzer = new YieldAnalyzer(this);
         typeBuilder = new ResolvedTypeBuilder();
 
         JvmCastGen.symbolTable = symbolTable;
@@ -389,6 +391,24 @@ public class JvmPackageGen {
 
     CompiledJarFile generate(BIRNode.BIRPackage module, InteropValidator interopValidator, boolean isEntry) {
 
+        return generate(module, interopValidator, isEntry, null);
+    }
+
+    /**
+     * Generates the jar file of the given module.
+     * <p>
+     * If a cached jar file of the module is given, the module is still desugared and linked, since the modules
+     * that depend on it rely on those changes, but its classes are not generated again.
+     *
+     * @param module           the module
+     * @param interopValidator validator of the interop functions
+     * @param isEntry          whether the module is the module being compiled or a dependency
+     * @param cachedJarFile    cached jar file of the module, or {@code null}
+     * @return the jar file of the module
+     */
+    CompiledJarFile generate(BIRNode.BIRPackage module, InteropValidator interopValidator, boolean isEntry,
+                             CompiledJarFile cachedJarFile) {
+
 
         Set<PackageID> moduleImports = new LinkedHashSet<>();
 
@@ -411,6 +431,9 @@ public class JvmPackageGen {
         String pkgName = JvmCodeGenUtil.getPackageName(module);
         Map<String, JavaClass> jvmClassMapping = generateClassNameLinking(module, pkgName, moduleInitClass,
                                                                           interopValidator, isEntry);
+
+        // find the functions that never yield, the modules that depend on this module use them as well
+        yieldAnalyzer.analyze(module);
         if (!isEntry || dlog.errorCount() > 0) {
             return new CompiledJarFile(Collections.emptyMap());
         }
@@ -434,6 +457,11 @@ public class JvmPackageGen {
         // desugar the record init function
         rewriteRecordInits(module.typeDefs);
 
+        if (cachedJarFile != null) {
+            clearPackageGenInfo();
+            return cachedJarFile;
+        }
+
         // generate object/record value classes
         JvmValueGen valueGen = new JvmValueGen(module, this, jvmMethodGen);
         valueGen.generateValueClasses(jarEntries);
@@ -771,6 +799,7 @@ public class JvmPackageGen {
     private void clearPackageGenInfo() {
 
         birFunctionMap.clear();
+        yieldAnalyzer.clear();
         globalVarClassMap.clear();
         externClassMap.clear();
         dependentModules.clear();
@@ -0,0 +1,253 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.DUP2;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.I2L;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.L2I;
+import static org.objectweb.asm.Opcodes.LCMP;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.POP2;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INT_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LONG_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_VALUE;
+
+/**
+ * Generates the dispatch of a switch terminator. Int cases are dispatched with a {@code tableswitch} or a
+ * {@code lookupswitch} instruction, while string cases are dispatched with a {@code lookupswitch} on the hash code of
+ * the string, after which the string is compared with the cases that have the same hash code.
+ *
+ * @since 2.0.0
+ */
+class JvmSwitchGen {
+
+    private JvmSwitchGen() {
+    }
+
+    /**
+     * Generates a jump to the label of the case that is equal to the value at the top of the stack. The value is
+     * popped from the stack.
+     *
+     * @param mv           method visitor
+     * @param valueType    type of the value at the top of the stack
+     * @param caseValues   {@code Long} and {@code String} case values
+     * @param caseLabels   labels of the cases
+     * @param defaultLabel label to jump to if none of the cases is equal to the value
+     */
+    static void generateSwitch(MethodVisitor mv, BType valueType, List<Object> caseValues, List<Label> caseLabels,
+                               Label defaultLabel) {
+        // A value may only be repeated in a later case, which can never be taken
+        Map<Long, Label> intCases = new LinkedHashMap<>();
+        Map<String, Label> stringCases = new LinkedHashMap<>();
+        for (int i = 0; i < caseValues.size(); i++) {
+            Object caseValue = caseValues.get(i);
+            if (caseValue instanceof Long) {
+                intCases.putIfAbsent((Long) caseValue, caseLabels.get(i));
+            } else {
+                stringCases.putIfAbsent((String) caseValue, caseLabels.get(i));
+            }
+        }
+
+        if (TypeTags.isIntegerTypeTag(valueType.tag)) {
+            generateIntSwitch(mv, intCases, defaultLabel);
+            return;
+        }
+        if (valueType.tag == TypeTags.BYTE) {
+            mv.visitInsn(I2L);
+            generateIntSwitch(mv, intCases, defaultLabel);
+            return;
+        }
+        if (TypeTags.isStringTypeTag(valueType.tag)) {
+            generateStringSwitch(mv, stringCases, defaultLabel);
+            return;
+        }
+
+        // The value is a boxed value of a union or a finite type
+        if (!intCases.isEmpty()) {
+            Label notLongLabel = new Label();
+            mv.visitInsn(DUP);
+            mv.visitTypeInsn(INSTANCEOF, LONG_VALUE);
+            mv.visitJumpInsn(IFEQ, notLongLabel);
+            mv.visitTypeInsn(CHECKCAST, LONG_VALUE);
+            mv.visitMethodInsn(INVOKEVIRTUAL, LONG_VALUE, "longValue", "()J", false);
+            generateIntSwitch(mv, intCases, defaultLabel);
+            mv.visitLabel(notLongLabel);
+
+            // Byte values are boxed as integers
+            Label notByteLabel = new Label();
+            mv.visitInsn(DUP);
+            mv.visitTypeInsn(INSTANCEOF, INT_VALUE);
+            mv.visitJumpInsn(IFEQ, notByteLabel);
+            mv.visitTypeInsn(CHECKCAST, INT_VALUE);
+            mv.visitMethodInsn(INVOKEVIRTUAL, INT_VALUE, "intValue", "()I", false);
+            mv.visitInsn(I2L);
+            generateIntSwitch(mv, intCases, defaultLabel);
+            mv.visitLabel(notByteLabel);
+        }
+        if (!stringCases.isEmpty()) {
+            Label notStringLabel = new Label();
+            mv.visitInsn(DUP);
+            mv.visitTypeInsn(INSTANCEOF, B_STRING_VALUE);
+            mv.visitJumpInsn(IFEQ, notStringLabel);
+            mv.visitTypeInsn(CHECKCAST, B_STRING_VALUE);
+            generateStringSwitch(mv, stringCases, defaultLabel);
+            mv.visitLabel(notStringLabel);
+        }
+        mv.visitInsn(POP);
+        mv.visitJumpInsn(GOTO, defaultLabel);
+    }
+
+    /**
+     * Generates the dispatch of the {@code long} value at the top of the stack.
+     */
+    private static void generateIntSwitch(MethodVisitor mv, Map<Long, Label> cases, Label defaultLabel) {
+        Map<Integer, Label> intCases = new TreeMap<>();
+        Map<Long, Label> longCases = new LinkedHashMap<>();
+        for (Map.Entry<Long, Label> entry : cases.entrySet()) {
+            long value = entry.getKey();
+            if (value == (int) value) {
+                intCases.put((int) value, entry.getValue());
+            } else {
+                longCases.put(value, entry.getValue());
+            }
+        }
+
+        Label outOfRangeLabel = new Label();
+        if (!intCases.isEmpty()) {
+            // Check whether the value fits in an int before narrowing it
+            mv.visitInsn(DUP2);
+            mv.visitInsn(DUP2);
+            mv.visitInsn(L2I);
+            mv.visitInsn(I2L);
+            mv.visitInsn(LCMP);
+            mv.visitJumpInsn(IFNE, outOfRangeLabel);
+            mv.visitInsn(L2I);
+            visitSwitch(mv, intCases, defaultLabel);
+            mv.visitLabel(outOfRangeLabel);
+        }
+
+        for (Map.Entry<Long, Label> entry : longCases.entrySet()) {
+            Label nextLabel = new Label();
+            mv.visitInsn(DUP2);
+            mv.visitLdcInsn(entry.getKey());
+            mv.visitInsn(LCMP);
+            mv.visitJumpInsn(IFNE, nextLabel);
+            mv.visitInsn(POP2);
+            mv.visitJumpInsn(GOTO, entry.getValue());
+            mv.visitLabel(nextLabel);
+        }
+        mv.visitInsn(POP2);
+        mv.visitJumpInsn(GOTO, defaultLabel);
+    }
+
+    /**
+     * Generates the dispatch of the {@code BString} value at the top of the stack.
+     */
+    private static void generateStringSwitch(MethodVisitor mv, Map<String, Label> cases, Label defaultLabel) {
+        mv.visitMethodInsn(INVOKEINTERFACE, B_STRING_VALUE, "getValue", String.format("()L%s;", STRING_VALUE),
+                           true);
+        if (cases.isEmpty()) {
+            mv.visitInsn(POP);
+            mv.visitJumpInsn(GOTO, defaultLabel);
+            return;
+        }
+
+        Map<Integer, List<String>> hashBuckets = new TreeMap<>();
+        for (String value : cases.keySet()) {
+            hashBuckets.computeIfAbsent(value.hashCode(), hash -> new ArrayList<>()).add(value);
+        }
+
+        Label noMatchLabel = new Label();
+        Map<Integer, Label> hashCases = new TreeMap<>();
+        for (Integer hash : hashBuckets.keySet()) {
+            hashCases.put(hash, new Label());
+        }
+        mv.visitInsn(DUP);
+        mv.visitMethodInsn(INVOKEVIRTUAL, STRING_VALUE, "hashCode", "()I", false);
+        visitSwitch(mv, hashCases, noMatchLabel);
+
+        for (Map.Entry<Integer, List<String>> bucket : hashBuckets.entrySet()) {
+            mv.visitLabel(hashCases.get(bucket.getKey()));
+            for (String value : bucket.getValue()) {
+                Label nextLabel = new Label();
+                mv.visitInsn(DUP);
+                mv.visitLdcInsn(value);
+                mv.visitMethodInsn(INVOKEVIRTUAL, STRING_VALUE, "equals", String.format("(L%s;)Z", OBJECT), false);
+                mv.visitJumpInsn(IFEQ, nextLabel);
+                mv.visitInsn(POP);
+                mv.visitJumpInsn(GOTO, cases.get(value));
+                mv.visitLabel(nextLabel);
+            }
+            mv.visitJumpInsn(GOTO, noMatchLabel);
+        }
+
+        mv.visitLabel(noMatchLabel);
+        mv.visitInsn(POP);
+        mv.visitJumpInsn(GOTO, defaultLabel);
+    }
+
+    /**
+     * Generates a {@code tableswitch} if the keys are dense enough and a {@code lookupswitch} otherwise, using the
+     * same cost estimate as javac.
+     */
+    private static void visitSwitch(MethodVisitor mv, Map<Integer, Label> sortedCases, Label defaultLabel) {
+        int[] keys = sortedCases.keySet().stream().mapToInt(Integer::intValue).toArray();
+        Label[] labels = sortedCases.values().toArray(new Label[0]);
+        int low = keys[0];
+        int high = keys[keys.length - 1];
+
+        long tableSpaceCost = 4 + ((long) high - low + 1);
+        long tableTimeCost = 3;
+        long lookupSpaceCost = 3 + 2L * keys.length;
+        long lookupTimeCost = keys.length;
+        if (tableSpaceCost + 3 * tableTimeCost > lookupSpaceCost + 3 * lookupTimeCost) {
+            mv.visitLookupSwitchInsn(defaultLabel, keys, labels);
+            return;
+        }
+
+        Label[] table = new Label[high - low + 1];
+        Arrays.fill(table, defaultLabel);
+        for (int i = 0; i < keys.length; i++) {
+            table[keys[i] - low] = labels[i];
+        }
+        mv.visitTableSwitchInsn(low, high, defaultLabel, table);
+    }
+}
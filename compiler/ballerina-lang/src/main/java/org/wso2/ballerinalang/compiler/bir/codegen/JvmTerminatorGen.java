@@ -120,6 +120,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_STOR
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LOCK_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.METHOD_HANDLE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT_VALUE;
@@ -286,6 +287,9 @@ public class JvmTerminatorGen {
             case BRANCH:
                 this.genBranchTerm((BIRTerminator.Branch) terminator, funcName);
                 return;
+            case SWITCH:
+                this.genSwitchTerm((BIRTerminator.Switch) terminator, funcName);
+                return;
             case RETURN:
                 this.genReturnTerm(returnVarRefIndex, func);
                 return;
@@ -420,6 +424,19 @@ public class JvmTerminatorGen {
         this.mv.visitJumpInsn(GOTO, falseBBLabel);
     }
 
+    private void genSwitchTerm(BIRTerminator.Switch switchIns, String funcName) {
+
+        List<Label> caseLabels = new ArrayList<>();
+        for (BIRNode.BIRBasicBlock caseBB : switchIns.caseBBs) {
+            caseLabels.add(this.labelGen.getLabel(funcName + caseBB.id.value));
+        }
+        Label defaultLabel = this.labelGen.getLabel(funcName + switchIns.defaultBB.id.value);
+
+        this.loadVar(switchIns.op.variableDcl);
+        JvmSwitchGen.generateSwitch(this.mv, switchIns.op.variableDcl.type, switchIns.caseValues, caseLabels,
+                                    defaultLabel);
+    }
+
     private void genCallTerm(BIRTerminator.Call callIns, int localVarOffset) {
 
         PackageID calleePkgId = callIns.calleePkg;
@@ -1015,6 +1032,7 @@ public class JvmTerminatorGen {
     private void genFPCallIns(BIRTerminator.FPCall fpCall, String moduleClassName, BType attachedType, String funcName,
                               AsyncDataCollector asyncDataCollector, int localVarOffset) {
 
+        Label afterCall = null;
         if (fpCall.isAsync) {
             // Check if already locked before submitting to scheduler.
             String lockStore = "L" + LOCK_STORE + ";";
@@ -1029,6 +1047,8 @@ public class JvmTerminatorGen {
             this.mv.visitVarInsn(ALOAD, localVarOffset);
             this.mv.visitFieldInsn(GETFIELD, STRAND_CLASS, "scheduler", String.format("L%s;", SCHEDULER));
         } else {
+            afterCall = this.genTypedFPCall(fpCall, localVarOffset);
+
             // load function ref, going to directly call the fp
             this.loadVar(fpCall.fp.variableDcl);
             this.mv.visitMethodInsn(INVOKEVIRTUAL, FUNCTION_POINTER, "getFunction",
@@ -1114,6 +1134,9 @@ public class JvmTerminatorGen {
             if (lhsType != null) {
                 JvmCastGen.addUnboxInsn(this.mv, lhsType);
             }
+            if (afterCall != null) {
+                this.mv.visitLabel(afterCall);
+            }
 
             BIRNode.BIRVariableDcl lhsVar = fpCall.lhsOp.variableDcl;
             if (lhsVar != null) {
@@ -1124,6 +1147,71 @@ public class JvmTerminatorGen {
         }
     }
 
+    /**
+     * Generates the invocation of the function pointer through its method handle, if the type of the function is
+     * known. The arguments are passed as they are, instead of being boxed into an array. Function pointers without
+     * a method handle fall through to the code that follows, with the result of the typed invocation jumping to the
+     * returned label.
+     *
+     * @return the label to jump to with the result of the call, or null if the call can only be untyped
+     */
+    private Label genTypedFPCall(BIRTerminator.FPCall fpCall, int localVarOffset) {
+
+        BType fpType = fpCall.fp.variableDcl.type;
+        BType lhsType = fpCall.lhsOp.variableDcl.type;
+        if (fpType.tag != TypeTags.INVOKABLE || lhsType == null) {
+            return null;
+        }
+        BInvokableType invokableType = (BInvokableType) fpType;
+        if (invokableType.paramTypes == null || invokableType.retType == null) {
+            // Any function
+            return null;
+        }
+        List<BType> paramTypes = new ArrayList<>(invokableType.paramTypes);
+        if (invokableType.restType != null) {
+            paramTypes.add(invokableType.restType);
+        }
+        if (paramTypes.size() != fpCall.args.size()) {
+            return null;
+        }
+
+        Label untypedCall = new Label();
+        Label afterCall = new Label();
+        this.loadVar(fpCall.fp.variableDcl);
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, FUNCTION_POINTER, "getHandle", String.format("()L%s;", METHOD_HANDLE),
+                                false);
+        this.mv.visitInsn(DUP);
+        this.mv.visitJumpInsn(IFNULL, untypedCall);
+
+        StringBuilder desc = new StringBuilder(String.format("(L%s;", STRAND_CLASS));
+        this.mv.visitVarInsn(ALOAD, localVarOffset);
+        for (int i = 0; i < paramTypes.size(); i++) {
+            BType argType = fpCall.args.get(i).variableDcl.type;
+            BType paramType = paramTypes.get(i);
+            this.loadVar(fpCall.args.get(i).variableDcl);
+            String paramDesc = JvmCodeGenUtil.getArgTypeSignature(paramType);
+            if (!paramDesc.equals(JvmCodeGenUtil.getArgTypeSignature(argType))) {
+                JvmCastGen.addBoxInsn(this.mv, argType);
+                JvmCastGen.addUnboxInsn(this.mv, paramType);
+            }
+            this.mv.visitInsn(ICONST_1);
+            desc.append(paramDesc).append("Z");
+        }
+        String returnDesc = JvmCodeGenUtil.generateReturnType(invokableType.retType);
+        desc.append(returnDesc);
+        // The method handle adapts the arguments and the return value to the actual types of the function.
+        this.mv.visitMethodInsn(INVOKEVIRTUAL, METHOD_HANDLE, "invoke", desc.toString(), false);
+        if (!returnDesc.equals(JvmCodeGenUtil.generateReturnType(lhsType))) {
+            JvmCastGen.addBoxInsn(this.mv, invokableType.retType);
+            JvmCastGen.addUnboxInsn(this.mv, lhsType);
+        }
+        this.mv.visitJumpInsn(GOTO, afterCall);
+
+        this.mv.visitLabel(untypedCall);
+        this.mv.visitInsn(POP);
+        return afterCall;
+    }
+
     private void loadTrueValueAsArg(int paramIndex) {
 
         this.mv.visitInsn(DUP);
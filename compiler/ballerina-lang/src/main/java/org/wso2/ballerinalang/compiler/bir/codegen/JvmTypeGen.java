@@ -163,6 +163,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPEDESC_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPEDESC_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPES_ERROR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE_ID_SET;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE_INTERNER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.UNION_TYPE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.VALUE_OF_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.XML_TYPE;
@@ -252,6 +253,9 @@ class JvmTypeGen {
                 continue;
             }
 
+            // Register the type, so that the anonymous types composed of it are shared
+            mv.visitMethodInsn(INVOKESTATIC, TYPE_INTERNER, "register", String.format("(L%s;)L%s;", BTYPE, BTYPE),
+                               false);
             mv.visitFieldInsn(PUTSTATIC, typeOwnerClass, fieldName, String.format("L%s;", BTYPE));
         }
 
@@ -1202,10 +1206,6 @@ class JvmTypeGen {
      * @param bType array type to load
      */
     private static void loadArrayType(MethodVisitor mv, BArrayType bType) {
-        // Create an new array type
-        mv.visitTypeInsn(NEW, ARRAY_TYPE);
-        mv.visitInsn(DUP);
-
         // Load the element type
         loadType(mv, bType.eType);
 
@@ -1215,8 +1215,9 @@ class JvmTypeGen {
 
         loadReadonlyFlag(mv, bType);
 
-        // invoke the constructor
-        mv.visitMethodInsn(INVOKESPECIAL, ARRAY_TYPE, JVM_INIT_METHOD, String.format("(L%s;IZ)V", BTYPE), false);
+        // Get the shared instance of the array type
+        mv.visitMethodInsn(INVOKESTATIC, TYPE_INTERNER, "getArrayType",
+                           String.format("(L%s;IZ)L%s;", BTYPE, ARRAY_TYPE), false);
     }
 
     /**
@@ -1246,17 +1247,14 @@ class JvmTypeGen {
      * @param bType map type to load
      */
     private static void loadMapType(MethodVisitor mv, BMapType bType) {
-        // Create an new map type
-        mv.visitTypeInsn(NEW, MAP_TYPE);
-        mv.visitInsn(DUP);
-
         // Load the constraint type
         loadType(mv, bType.constraint);
 
         loadReadonlyFlag(mv, bType);
 
-        // invoke the constructor
-        mv.visitMethodInsn(INVOKESPECIAL, MAP_TYPE, JVM_INIT_METHOD, String.format("(L%s;Z)V", BTYPE), false);
+        // Get the shared instance of the map type
+        mv.visitMethodInsn(INVOKESTATIC, TYPE_INTERNER, "getMapType", String.format("(L%s;Z)L%s;", BTYPE, MAP_TYPE),
+                           false);
     }
 
     private static void loadReadonlyFlag(MethodVisitor mv, BType bType) {
@@ -1373,10 +1371,6 @@ class JvmTypeGen {
      * @param bType union type to load
      */
     private static void loadUnionType(MethodVisitor mv, BUnionType bType) {
-        // Create the union type
-        mv.visitTypeInsn(NEW, UNION_TYPE);
-        mv.visitInsn(DUP);
-
         // Create the members array
         Set<BType> memberTypes = bType.getMemberTypes();
         mv.visitLdcInsn((long) memberTypes.size());
@@ -1401,8 +1395,9 @@ class JvmTypeGen {
 
         loadReadonlyFlag(mv, bType);
 
-        // initialize the union type using the members array
-        mv.visitMethodInsn(INVOKESPECIAL, UNION_TYPE, JVM_INIT_METHOD, String.format("([L%s;IZ)V", BTYPE), false);
+        // Get the shared instance of the union type of the members array
+        mv.visitMethodInsn(INVOKESTATIC, TYPE_INTERNER, "getUnionType",
+                           String.format("([L%s;IZ)L%s;", BTYPE, UNION_TYPE), false);
     }
 
     /**
@@ -1526,11 +1521,9 @@ class JvmTypeGen {
 
     private static void loadFutureType(MethodVisitor mv, BFutureType bType) {
 
-        mv.visitTypeInsn(NEW, FUTURE_TYPE);
-        mv.visitInsn(DUP);
-
         loadType(mv, bType.constraint);
-        mv.visitMethodInsn(INVOKESPECIAL, FUTURE_TYPE, JVM_INIT_METHOD, String.format("(L%s;)V", BTYPE), false);
+        mv.visitMethodInsn(INVOKESTATIC, TYPE_INTERNER, "getFutureType", String.format("(L%s;)L%s;", BTYPE,
+                                                                                         FUTURE_TYPE), false);
     }
 
     /**
@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BFiniteType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangLiteral;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.DUP2;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.ICONST_1;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.IFNONNULL;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.LCMP;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.POP2;
+import static org.objectweb.asm.Opcodes.SWAP;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BOOLEAN_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BYTE_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_STRING_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.DECIMAL_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.DOUBLE_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INT_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LONG_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.NUMBER;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_VALUE;
+
+/**
+ * Generates inline type tests against simple types, i.e. basic types, finite types of simple values and unions of
+ * them. Values of these types are represented by a fixed set of JVM classes, so the test does not need to look up
+ * the type of the value through the {@code TypeChecker}.
+ *
+ * @since 2.0.0
+ */
+class JvmTypeTestGen {
+
+    private JvmTypeTestGen() {
+    }
+
+    /**
+     * Checks whether a value can be tested against the given type without calling the runtime.
+     *
+     * @param targetType type to test against
+     * @return true if the test can be generated inline
+     */
+    static boolean canTestInline(BType targetType) {
+        return canTestInline(targetType, new HashSet<>());
+    }
+
+    private static boolean canTestInline(BType targetType, Set<BType> visitedUnions) {
+        switch (targetType.tag) {
+            case TypeTags.INT:
+            case TypeTags.FLOAT:
+            case TypeTags.DECIMAL:
+            case TypeTags.STRING:
+            case TypeTags.BOOLEAN:
+            case TypeTags.NIL:
+                return true;
+            case TypeTags.FINITE:
+                for (BLangExpression value : ((BFiniteType) targetType).getValueSpace()) {
+                    if (getValueKind(value) == null) {
+                        return false;
+                    }
+                }
+                return true;
+            case TypeTags.UNION:
+                if (!visitedUnions.add(targetType)) {
+                    // Recursive union types are structural
+                    return false;
+                }
+                for (BType memberType : ((BUnionType) targetType).getMemberTypes()) {
+                    if (!canTestInline(memberType, visitedUnions)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Generates a test of whether the value at the top of the stack belongs to the given type. The value is replaced
+     * by the boolean result of the test. The type has to be one that {@link #canTestInline(BType)} accepts.
+     *
+     * @param mv         method visitor
+     * @param targetType type to test against
+     */
+    static void generateTypeTest(MethodVisitor mv, BType targetType) {
+        List<TypeTest> tests = new ArrayList<>();
+        addTests(targetType, tests);
+        generateAnyOf(mv, tests);
+    }
+
+    private static void addTests(BType targetType, List<TypeTest> tests) {
+        switch (targetType.tag) {
+            case TypeTags.INT:
+                // Byte values, which also belong to int, are represented by integers
+                tests.add(new InstanceOfTest(LONG_VALUE));
+                tests.add(new InstanceOfTest(INT_VALUE));
+                tests.add(new InstanceOfTest(BYTE_VALUE));
+                break;
+            case TypeTags.FLOAT:
+                tests.add(new InstanceOfTest(DOUBLE_VALUE));
+                break;
+            case TypeTags.DECIMAL:
+                tests.add(new InstanceOfTest(DECIMAL_VALUE));
+                break;
+            case TypeTags.STRING:
+                tests.add(new InstanceOfTest(B_STRING_VALUE));
+                tests.add(new InstanceOfTest(STRING_VALUE));
+                break;
+            case TypeTags.BOOLEAN:
+                tests.add(new InstanceOfTest(BOOLEAN_VALUE));
+                break;
+            case TypeTags.NIL:
+                tests.add(new NilTest());
+                break;
+            case TypeTags.FINITE:
+                addFiniteTypeTests((BFiniteType) targetType, tests);
+                break;
+            case TypeTags.UNION:
+                for (BType memberType : ((BUnionType) targetType).getMemberTypes()) {
+                    addTests(memberType, tests);
+                }
+                break;
+            default:
+                throw new BLangCompilerException("JVM inline type test is not supported for type " + targetType);
+        }
+    }
+
+    private static void addFiniteTypeTests(BFiniteType finiteType, List<TypeTest> tests) {
+        List<Long> intValues = new ArrayList<>();
+        List<String> stringValues = new ArrayList<>();
+        for (BLangExpression value : finiteType.getValueSpace()) {
+            Object literalValue = ((BLangLiteral) value).value;
+            switch (getValueKind(value)) {
+                case INT:
+                    intValues.add(literalValue instanceof Number ? ((Number) literalValue).longValue() :
+                            Long.parseLong(String.valueOf(literalValue)));
+                    break;
+                case STRING:
+                    stringValues.add(String.valueOf(literalValue));
+                    break;
+                default:
+                    tests.add(new BooleanValueTest(literalValue instanceof Boolean ? (Boolean) literalValue :
+                            Boolean.parseBoolean(String.valueOf(literalValue))));
+                    break;
+            }
+        }
+        if (!intValues.isEmpty()) {
+            tests.add(new IntValueTest(intValues));
+        }
+        if (!stringValues.isEmpty()) {
+            tests.add(new StringValueTest(stringValues));
+        }
+    }
+
+    private static ValueKind getValueKind(BLangExpression value) {
+        if (!(value instanceof BLangLiteral) || ((BLangLiteral) value).value == null) {
+            return null;
+        }
+        // Values of finite types are compared the same way as the runtime does, where a byte value matches an
+        // equal int value.
+        int tag = value.type.tag;
+        if (TypeTags.isIntegerTypeTag(tag) || tag == TypeTags.BYTE) {
+            return ValueKind.INT;
+        } else if (TypeTags.isStringTypeTag(tag)) {
+            return ValueKind.STRING;
+        } else if (tag == TypeTags.BOOLEAN) {
+            return ValueKind.BOOLEAN;
+        }
+        return null;
+    }
+
+    /**
+     * Generates code that replaces the value at the top of the stack with true if any of the given tests succeeds.
+     */
+    private static void generateAnyOf(MethodVisitor mv, List<TypeTest> tests) {
+        Label matched = new Label();
+        Label end = new Label();
+        for (int i = 0; i < tests.size() - 1; i++) {
+            mv.visitInsn(DUP);
+            tests.get(i).generate(mv);
+            mv.visitJumpInsn(IFNE, matched);
+        }
+        tests.get(tests.size() - 1).generate(mv);
+        mv.visitJumpInsn(GOTO, end);
+
+        mv.visitLabel(matched);
+        mv.visitInsn(POP);
+        mv.visitInsn(ICONST_1);
+        mv.visitLabel(end);
+    }
+
+    private enum ValueKind {
+        INT,
+        STRING,
+        BOOLEAN
+    }
+
+    /**
+     * A test that replaces the value at the top of the stack with a boolean.
+     */
+    private interface TypeTest {
+
+        void generate(MethodVisitor mv);
+    }
+
+    private static class InstanceOfTest implements TypeTest {
+
+        private final String className;
+
+        InstanceOfTest(String className) {
+            this.className = className;
+        }
+
+        @Override
+        public void generate(MethodVisitor mv) {
+            mv.visitTypeInsn(INSTANCEOF, className);
+        }
+    }
+
+    private static class NilTest implements TypeTest {
+
+        @Override
+        public void generate(MethodVisitor mv) {
+            Label notNil = new Label();
+            Label end = new Label();
+            mv.visitJumpInsn(IFNONNULL, notNil);
+            mv.visitInsn(ICONST_1);
+            mv.visitJumpInsn(GOTO, end);
+            mv.visitLabel(notNil);
+            mv.visitInsn(ICONST_0);
+            mv.visitLabel(end);
+        }
+    }
+
+    private static class BooleanValueTest implements TypeTest {
+
+        private final boolean value;
+
+        BooleanValueTest(boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        public void generate(MethodVisitor mv) {
+            mv.visitFieldInsn(GETSTATIC, BOOLEAN_VALUE, value ? "TRUE" : "FALSE",
+                              String.format("L%s;", BOOLEAN_VALUE));
+            mv.visitInsn(SWAP);
+            mv.visitMethodInsn(INVOKEVIRTUAL, BOOLEAN_VALUE, "equals", String.format("(L%s;)Z", OBJECT), false);
+        }
+    }
+
+    private static class IntValueTest implements TypeTest {
+
+        private final List<Long> values;
+
+        IntValueTest(List<Long> values) {
+            this.values = values;
+        }
+
+        @Override
+        public void generate(MethodVisitor mv) {
+            Label isInt = new Label();
+            Label notInt = new Label();
+            Label matched = new Label();
+            Label end = new Label();
+
+            mv.visitInsn(DUP);
+            mv.visitTypeInsn(INSTANCEOF, LONG_VALUE);
+            mv.visitJumpInsn(IFNE, isInt);
+            mv.visitInsn(DUP);
+            mv.visitTypeInsn(INSTANCEOF, INT_VALUE);
+            mv.visitJumpInsn(IFNE, isInt);
+            mv.visitInsn(DUP);
+            mv.visitTypeInsn(INSTANCEOF, BYTE_VALUE);
+            mv.visitJumpInsn(IFEQ, notInt);
+
+            mv.visitLabel(isInt);
+            mv.visitTypeInsn(CHECKCAST, NUMBER);
+            mv.visitMethodInsn(INVOKEVIRTUAL, NUMBER, "longValue", "()J", false);
+            for (int i = 0; i < values.size() - 1; i++) {
+                mv.visitInsn(DUP2);
+                mv.visitLdcInsn(values.get(i));
+                mv.visitInsn(LCMP);
+                mv.visitJumpInsn(IFEQ, matched);
+            }
+            mv.visitLdcInsn(values.get(values.size() - 1));
+            mv.visitInsn(LCMP);
+            Label matchedLast = new Label();
+            mv.visitJumpInsn(IFEQ, matchedLast);
+            mv.visitInsn(ICONST_0);
+            mv.visitJumpInsn(GOTO, end);
+
+            mv.visitLabel(matched);
+            mv.visitInsn(POP2);
+            mv.visitLabel(matchedLast);
+            mv.visitInsn(ICONST_1);
+            mv.visitJumpInsn(GOTO, end);
+
+            mv.visitLabel(notInt);
+            mv.visitInsn(POP);
+            mv.visitInsn(ICONST_0);
+            mv.visitLabel(end);
+        }
+    }
+
+    private static class StringValueTest implements TypeTest {
+
+        private final List<String> values;
+
+        StringValueTest(List<String> values) {
+            this.values = values;
+        }
+
+        @Override
+        public void generate(MethodVisitor mv) {
+            Label notString = new Label();
+            Label matched = new Label();
+            Label end = new Label();
+
+            mv.visitInsn(DUP);
+            mv.visitTypeInsn(INSTANCEOF, B_STRING_VALUE);
+            mv.visitJumpInsn(IFEQ, notString);
+            mv.visitTypeInsn(CHECKCAST, B_STRING_VALUE);
+            mv.visitMethodInsn(INVOKEINTERFACE, B_STRING_VALUE, "getValue", String.format("()L%s;", STRING_VALUE),
+                               true);
+            for (int i = 0; i < values.size() - 1; i++) {
+                mv.visitInsn(DUP);
+                mv.visitLdcInsn(values.get(i));
+                mv.visitMethodInsn(INVOKEVIRTUAL, STRING_VALUE, "equals", String.format("(L%s;)Z", OBJECT), false);
+                mv.visitJumpInsn(IFNE, matched);
+            }
+            mv.visitLdcInsn(values.get(values.size() - 1));
+            mv.visitMethodInsn(INVOKEVIRTUAL, STRING_VALUE, "equals", String.format("(L%s;)Z", OBJECT), false);
+            mv.visitJumpInsn(GOTO, end);
+
+            mv.visitLabel(matched);
+            mv.visitInsn(POP);
+            mv.visitInsn(ICONST_1);
+            mv.visitJumpInsn(GOTO, end);
+
+            mv.visitLabel(notString);
+            mv.visitInsn(POP);
+            mv.visitInsn(ICONST_0);
+            mv.visitLabel(end);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.codegen;
+
+import org.wso2.ballerinalang.compiler.bir.codegen.interop.BIRFunctionWrapper;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.isExternFunc;
+
+/**
+ * Finds the functions that never yield the strand they run on.
+ * <p>
+ * A function may yield if it acquires a lock, interacts with workers, waits on futures, calls a function
+ * pointer, a method of an object, an external function or a function that may yield. The analysis starts
+ * by assuming that every other function never yields and removes functions from that set until no more
+ * functions can be removed, so that recursive functions which do nothing else that may yield are found as
+ * well. Functions whose bodies are not available, such as functions of modules loaded from BIR, are
+ * considered to be yielding.
+ * <p>
+ * Code generated for a function that never yields does not need to save its state to a frame, and its callers
+ * do not need to check whether the strand yielded after calling it.
+ *
+ * @since 2.0.0
+ */
+class YieldAnalyzer {
+
+    private final JvmPackageGen jvmPackageGen;
+    private final Set<BIRFunction> nonYieldingFunctions = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    YieldAnalyzer(JvmPackageGen jvmPackageGen) {
+        this.jvmPackageGen = jvmPackageGen;
+    }
+
+    /**
+     * Analyzes the functions of the given module. The functions of the module should be linked before the
+     * analysis and the modules it imports should have been analyzed already.
+     *
+     * @param module the module
+     */
+    void analyze(BIRPackage module) {
+        List<BIRFunction> functions = new ArrayList<>(module.functions);
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            if (typeDef.attachedFuncs != null) {
+                functions.addAll(typeDef.attachedFuncs);
+            }
+        }
+
+        // Calls of each candidate function. Candidates are the functions without any other yielding instruction.
+        Map<BIRFunction, List<BIRTerminator.Call>> candidates = new LinkedHashMap<>();
+        for (BIRFunction function : functions) {
+            List<BIRTerminator.Call> calls = new ArrayList<>();
+            if (!isExternFunc(function) && !hasWorkerChannels(function) && collectCalls(function, calls)) {
+                candidates.put(function, calls);
+            }
+        }
+
+        boolean changed = true;
+        while (changed) {
+            changed = candidates.entrySet().removeIf(entry -> !callsNonYieldingFunctions(entry.getValue(),
+                                                                                         candidates));
+        }
+        nonYieldingFunctions.addAll(candidates.keySet());
+    }
+
+    boolean isNonYielding(BIRFunction function) {
+        return nonYieldingFunctions.contains(function);
+    }
+
+    /**
+     * Returns whether the given terminator may yield the current strand.
+     *
+     * @param terminator terminator of a basic block
+     * @return false if the terminator is a call to a function which never yields
+     */
+    boolean mayYield(BIRTerminator terminator) {
+        if (terminator.kind != InstructionKind.CALL) {
+            return true;
+        }
+        BIRFunction callee = lookupCallee((BIRTerminator.Call) terminator);
+        return callee == null || !nonYieldingFunctions.contains(callee);
+    }
+
+    void clear() {
+        nonYieldingFunctions.clear();
+    }
+
+    private boolean callsNonYieldingFunctions(List<BIRTerminator.Call> calls,
+                                              Map<BIRFunction, List<BIRTerminator.Call>> candidates) {
+        for (BIRTerminator.Call call : calls) {
+            BIRFunction callee = lookupCallee(call);
+            if (callee == null || !(candidates.containsKey(callee) || nonYieldingFunctions.contains(callee))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private BIRFunction lookupCallee(BIRTerminator.Call call) {
+        if (call.isVirtual) {
+            return null;
+        }
+        String lookupKey = JvmCodeGenUtil.getPackageName(call.calleePkg) + call.name.value;
+        BIRFunctionWrapper functionWrapper = jvmPackageGen.lookupBIRFunctionWrapper(lookupKey);
+        return functionWrapper == null ? null : functionWrapper.func;
+    }
+
+    private boolean hasWorkerChannels(BIRFunction function) {
+        return function.workerChannels != null && function.workerChannels.length > 0;
+    }
+
+    /**
+     * Collects the calls of the given function, including the calls made when initializing default parameters.
+     *
+     * @param function the function
+     * @param calls    collects the calls
+     * @return false if the function has a yielding terminator other than a call
+     */
+    private boolean collectCalls(BIRFunction function, List<BIRTerminator.Call> calls) {
+        if (!collectCalls(function.basicBlocks, calls)) {
+            return false;
+        }
+        if (function.parameters != null) {
+            for (List<BIRBasicBlock> basicBlocks : function.parameters.values()) {
+                if (!collectCalls(basicBlocks, calls)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean collectCalls(List<BIRBasicBlock> basicBlocks, List<BIRTerminator.Call> calls) {
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            BIRTerminator terminator = basicBlock.terminator;
+            if (terminator == null) {
+                continue;
+            }
+            switch (terminator.kind) {
+                case GOTO:
+                case BRANCH:
+                case SWITCH:
+                case RETURN:
+                case PANIC:
+                case UNLOCK:
+                case ASYNC_CALL:
+                    break;
+                case CALL:
+                    if (((BIRTerminator.Call) terminator).isVirtual) {
+                        return false;
+                    }
+                    calls.add((BIRTerminator.Call) terminator);
+                    break;
+                default:
+                    // Locks, worker interactions, waits, function pointer calls and platform calls
+                    return false;
+            }
+        }
+        return true;
+    }
+}
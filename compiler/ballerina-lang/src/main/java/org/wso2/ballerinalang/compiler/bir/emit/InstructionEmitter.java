@@ -432,6 +432,8 @@ class InstructionEmitter {
                 return emitAsyncCall((BIRTerminator.AsyncCall) term, tabs);
             case BRANCH:
                 return emitBranch((BIRTerminator.Branch) term, tabs);
+            case SWITCH:
+                return emitSwitch((BIRTerminator.Switch) term, tabs);
             case GOTO:
                 return emitGOTO((BIRTerminator.GOTO) term, tabs);
             case LOCK:
@@ -647,6 +649,29 @@ class InstructionEmitter {
         return str;
     }
 
+    private static String emitSwitch(BIRTerminator.Switch term, int tabs) {
+
+        StringBuilder str = new StringBuilder();
+        str.append(emitTabs(tabs));
+        str.append("switch");
+        str.append(emitSpaces(1));
+        str.append(emitVarRef(term.op));
+        str.append(emitSpaces(1));
+        str.append("[");
+        for (int i = 0; i < term.caseValues.size(); i++) {
+            Object caseValue = term.caseValues.get(i);
+            str.append(caseValue instanceof String ? "\"" + caseValue + "\"" : caseValue);
+            str.append(":");
+            str.append(emitBasicBlockRef(term.caseBBs.get(i)));
+            str.append(",");
+            str.append(emitSpaces(1));
+        }
+        str.append("default:");
+        str.append(emitBasicBlockRef(term.defaultBB));
+        str.append("];");
+        return str.toString();
+    }
+
     private static String emitGOTO(BIRTerminator.GOTO term, int tabs) {
 
         String retStr = "";
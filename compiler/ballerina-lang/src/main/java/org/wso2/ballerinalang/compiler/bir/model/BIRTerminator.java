@@ -287,6 +287,50 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
         }
     }
 
+    /**
+     * A switch instruction, which jumps to the basic block of the case that is equal to the value of the operand.
+     * <p>
+     * Case values are either {@code Long} or {@code String} values. An int value, or a byte value, is equal to a
+     * {@code Long} case of the same numeric value and a string value is equal to a {@code String} case with the
+     * same characters. Any other value jumps to the default basic block.
+     * <p>
+     * e.g., switch %4 [1:bb4, 2:bb5, "a":bb6, default:bb7]
+     *
+     * @since 2.0.0
+     */
+    public static class Switch extends BIRTerminator {
+        public BIROperand op;
+        public List<Object> caseValues;
+        public List<BIRBasicBlock> caseBBs;
+        public BIRBasicBlock defaultBB;
+
+        public Switch(DiagnosticPos pos, BIROperand op, List<Object> caseValues, List<BIRBasicBlock> caseBBs,
+                      BIRBasicBlock defaultBB) {
+            super(pos, InstructionKind.SWITCH);
+            this.op = op;
+            this.caseValues = caseValues;
+            this.caseBBs = caseBBs;
+            this.defaultBB = defaultBB;
+        }
+
+        @Override
+        public void accept(BIRVisitor visitor) {
+            visitor.visit(this);
+        }
+
+        @Override
+        public BIROperand[] getRhsOperands() {
+            return new BIROperand[]{op};
+        }
+
+        @Override
+        public BIRBasicBlock[] getNextBasicBlocks() {
+            BIRBasicBlock[] nextBBs = caseBBs.toArray(new BIRBasicBlock[caseBBs.size() + 1]);
+            nextBBs[caseBBs.size()] = defaultBB;
+            return nextBBs;
+        }
+    }
+
     /**
      * A lock instruction.
      * <p>
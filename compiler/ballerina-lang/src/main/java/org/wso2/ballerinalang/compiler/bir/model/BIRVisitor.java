@@ -94,6 +94,10 @@ public abstract class BIRVisitor {
         throw new AssertionError();
     }
 
+    public void visit(BIRTerminator.Switch birSwitch) {
+        throw new AssertionError();
+    }
+
     public void visit(BIRTerminator.FPCall fpCall) {
         throw new AssertionError();
     }
@@ -38,6 +38,7 @@ public enum InstructionKind {
     FIELD_LOCK((byte) 12),
     UNLOCK((byte) 13),
     WAIT_ALL((byte) 14),
+    SWITCH((byte) 15),
 
     // Non-terminating instructions
     MOVE((byte) 20),
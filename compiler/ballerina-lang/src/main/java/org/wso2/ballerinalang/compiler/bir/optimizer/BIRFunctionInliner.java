@@ -0,0 +1,466 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.model.elements.Flag;
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunctionParameter;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewArray;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Branch;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Call;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.GOTO;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.wso2.ballerinalang.compiler.bir.model.InstructionKind.CALL;
+
+/**
+ * Inlines calls to small leaf functions.
+ * <p>
+ * A function can be inlined if it is a module level function that does not call any other function, does not
+ * access module level variables and only computes values of simple basic types, or tuples of such values which
+ * {@link ScalarReplacer} can break up at the call site. Such functions are never recursive and never yield, hence
+ * their bodies can be copied to the call site without changing the behaviour of the caller. Calls to functions of
+ * other modules are inlined as well, provided that the callee module has been compiled in the same compilation,
+ * since the bodies of functions are not available otherwise.
+ * <p>
+ * The bodies are recorded before the code of the callee module is generated, because code generation
+ * modifies the BIR of a module.
+ *
+ * @since 2.0.0
+ */
+class BIRFunctionInliner {
+
+    private static final int MAX_BASIC_BLOCKS = 8;
+    private static final int MAX_INSTRUCTIONS = 16;
+    // Bounds the growth of a caller, so that the generated method stays well below the JVM method size limit.
+    private static final int MAX_INLINED_INSTRUCTIONS_PER_FUNCTION = 512;
+
+    private final Map<String, Map<String, InlineTemplate>> templates = new HashMap<>();
+
+    /**
+     * Records the functions of the given module that can be inlined.
+     *
+     * @param pkg the module
+     */
+    void recordInlineCandidates(BIRPackage pkg) {
+        Map<String, InlineTemplate> pkgTemplates = new HashMap<>();
+        for (BIRFunction func : pkg.functions) {
+            if (canBeInlined(func)) {
+                pkgTemplates.put(func.name.value, new InlineTemplate(func));
+            }
+        }
+        // Replaces the templates recorded in an earlier compilation of the same module.
+        templates.put(getPackageKey(pkg.org, pkg.name, pkg.version), pkgTemplates);
+    }
+
+    /**
+     * Inlines the calls made by the functions of the given module.
+     *
+     * @param pkg the module
+     */
+    void inlineCalls(BIRPackage pkg) {
+        for (BIRTypeDefinition typeDef : pkg.typeDefs) {
+            if (typeDef.attachedFuncs != null) {
+                typeDef.attachedFuncs.forEach(this::inlineCalls);
+            }
+        }
+        pkg.functions.forEach(this::inlineCalls);
+    }
+
+    private void inlineCalls(BIRFunction caller) {
+        // Error entries refer to ranges of basic blocks, which inlined basic blocks would be placed in.
+        if (!caller.errorTable.isEmpty()) {
+            return;
+        }
+
+        int remainingInstructions = MAX_INLINED_INSTRUCTIONS_PER_FUNCTION;
+        int nextVarId = -1;
+        int nextBBId = -1;
+        for (int i = 0; i < caller.basicBlocks.size(); i++) {
+            BIRBasicBlock basicBlock = caller.basicBlocks.get(i);
+            if (basicBlock.terminator == null || basicBlock.terminator.kind != CALL) {
+                continue;
+            }
+
+            Call call = (Call) basicBlock.terminator;
+            InlineTemplate template = lookupTemplate(call);
+            if (template == null || template.instructionCount > remainingInstructions ||
+                    !isCompatibleCall(call, template)) {
+                continue;
+            }
+
+            if (nextVarId < 0) {
+                nextVarId = OptimizerUtils.maxId(caller.localVars, Names.BIR_LOCAL_VAR_PREFIX.value) + 1;
+                nextBBId = maxBBId(caller) + 1;
+            }
+
+            // Temporary variables of the callee remain temporary, since they are still assigned and used once.
+            // Parameters, local variables and the return variable of the callee may be used several times,
+            // hence they become synthetic variables that the temp var optimizations do not remove.
+            Map<BIRVariableDcl, BIRVariableDcl> varMap = new HashMap<>();
+            for (BIRVariableDcl var : template.localVars) {
+                VarKind kind = var.kind == VarKind.TEMP ? VarKind.TEMP : VarKind.SYNTHETIC;
+                BIRVariableDcl newVar = new BIRVariableDcl(call.pos, var.type,
+                        new Name(Names.BIR_LOCAL_VAR_PREFIX.value + nextVarId++), VarScope.FUNCTION, kind, null);
+                varMap.put(var, newVar);
+                caller.localVars.add(newVar);
+            }
+
+            BIRBasicBlock continuationBB = new BIRBasicBlock(null);
+            List<BIRBasicBlock> inlinedBBs = copyBasicBlocks(template.basicBlocks, varMap, call.pos,
+                                                             continuationBB);
+
+            for (int argIndex = 0; argIndex < call.args.size(); argIndex++) {
+                BIROperand paramOp = new BIROperand(varMap.get(template.params.get(argIndex)));
+                basicBlock.instructions.add(new Move(call.pos, call.args.get(argIndex), paramOp));
+            }
+            basicBlock.terminator = new GOTO(call.pos, inlinedBBs.get(0));
+
+            if (call.lhsOp != null) {
+                BIROperand returnOp = new BIROperand(varMap.get(template.returnVariable));
+                continuationBB.instructions.add(new Move(call.pos, returnOp, call.lhsOp));
+            }
+            continuationBB.terminator = new GOTO(call.pos, call.thenBB);
+            inlinedBBs.add(continuationBB);
+
+            for (BIRBasicBlock inlinedBB : inlinedBBs) {
+                inlinedBB.id = new Name(Names.BIR_BASIC_BLOCK_PREFIX.value + nextBBId++);
+            }
+            // Inlined basic blocks do not have calls, hence they are skipped by the enclosing loop.
+            caller.basicBlocks.addAll(i + 1, inlinedBBs);
+            remainingInstructions -= template.instructionCount;
+        }
+    }
+
+    private InlineTemplate lookupTemplate(Call call) {
+        if (call.isVirtual || call.calleePkg == null) {
+            return null;
+        }
+
+        PackageID calleePkg = call.calleePkg;
+        Map<String, InlineTemplate> pkgTemplates =
+                templates.get(getPackageKey(calleePkg.orgName, calleePkg.name, calleePkg.version));
+        return pkgTemplates == null ? null : pkgTemplates.get(call.name.value);
+    }
+
+    private boolean isCompatibleCall(Call call, InlineTemplate template) {
+        // Observability instruments remote and annotated functions at their call sites.
+        if ((call.calleeFlags != null && call.calleeFlags.contains(Flag.REMOTE)) ||
+                (call.calleeAnnotAttachments != null && !call.calleeAnnotAttachments.isEmpty())) {
+            return false;
+        }
+
+        if (call.args.size() != template.params.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < call.args.size(); i++) {
+            if (call.args.get(i).variableDcl.type.tag != template.params.get(i).type.tag) {
+                return false;
+            }
+        }
+        return call.lhsOp == null || call.lhsOp.variableDcl.type.tag == template.returnVariable.type.tag;
+    }
+
+    private boolean canBeInlined(BIRFunction func) {
+        if ((func.flags & Flags.NATIVE) == Flags.NATIVE || func.receiver != null || func.restParam != null ||
+                !func.errorTable.isEmpty() || !func.annotAttachments.isEmpty() || func.basicBlocks.isEmpty() ||
+                func.basicBlocks.size() > MAX_BASIC_BLOCKS) {
+            return false;
+        }
+
+        // Every parameter has an entry, which holds the basic blocks of its default value if there is one
+        for (List<BIRBasicBlock> defaultValueBBs : func.parameters.values()) {
+            if (!defaultValueBBs.isEmpty()) {
+                return false;
+            }
+        }
+
+        for (BIRVariableDcl var : func.localVars) {
+            if (!isInlinableVariable(var)) {
+                return false;
+            }
+        }
+
+        int instructionCount = 0;
+        for (BIRBasicBlock basicBlock : func.basicBlocks) {
+            if (basicBlock.terminator == null) {
+                return false;
+            }
+
+            switch (basicBlock.terminator.kind) {
+                case GOTO:
+                case RETURN:
+                    break;
+                case BRANCH:
+                    if (!isInlinableOperand(((Branch) basicBlock.terminator).op)) {
+                        return false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (!isInlinableInstruction(instruction)) {
+                    return false;
+                }
+            }
+            instructionCount += basicBlock.instructions.size();
+        }
+        return instructionCount <= MAX_INSTRUCTIONS;
+    }
+
+    private boolean isInlinableInstruction(BIRNonTerminator instruction) {
+        if (!(instruction instanceof Move || instruction instanceof BinaryOp || instruction instanceof UnaryOP ||
+                instruction instanceof ConstantLoad || instruction instanceof NewArray)) {
+            return false;
+        }
+
+        if (!isInlinableOperand(instruction.lhsOp)) {
+            return false;
+        }
+        for (BIROperand rhsOp : instruction.getRhsOperands()) {
+            if (!isInlinableOperand(rhsOp)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isInlinableOperand(BIROperand operand) {
+        return operand != null && isInlinableVariable(operand.variableDcl);
+    }
+
+    private boolean isInlinableVariable(BIRVariableDcl var) {
+        if (var.scope != VarScope.FUNCTION) {
+            return false;
+        }
+
+        switch (var.kind) {
+            case LOCAL:
+            case TEMP:
+            case ARG:
+            case RETURN:
+                return isSimpleType(var.type) || isSimpleTupleType(var.type);
+            default:
+                return false;
+        }
+    }
+
+    private boolean isSimpleTupleType(BType type) {
+        if (type.tag != TypeTags.TUPLE || ((BTupleType) type).restType != null) {
+            return false;
+        }
+        for (BType memberType : ((BTupleType) type).tupleTypes) {
+            if (!isSimpleType(memberType)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isSimpleType(BType type) {
+        switch (type.tag) {
+            case TypeTags.INT:
+            case TypeTags.BYTE:
+            case TypeTags.FLOAT:
+            case TypeTags.DECIMAL:
+            case TypeTags.STRING:
+            case TypeTags.BOOLEAN:
+            case TypeTags.NIL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Copies the given basic blocks, replacing the variables using the given variable map.
+     *
+     * @param basicBlocks    basic blocks to copy
+     * @param varMap         replacements of the variables, variables that are not in the map are copied as they are
+     * @param callPos        position of the call being inlined, or null if the basic blocks are not inlined
+     * @param continuationBB basic block to jump to instead of returning, or null to keep the return terminators
+     * @return the copied basic blocks
+     */
+    private static List<BIRBasicBlock> copyBasicBlocks(List<BIRBasicBlock> basicBlocks,
+                                                       Map<BIRVariableDcl, BIRVariableDcl> varMap,
+                                                       DiagnosticPos callPos, BIRBasicBlock continuationBB) {
+        Map<BIRBasicBlock, BIRBasicBlock> bbMap = new IdentityHashMap<>();
+        List<BIRBasicBlock> newBasicBlocks = new ArrayList<>(basicBlocks.size());
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            BIRBasicBlock newBasicBlock = new BIRBasicBlock(basicBlock.id);
+            bbMap.put(basicBlock, newBasicBlock);
+            newBasicBlocks.add(newBasicBlock);
+        }
+
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            BIRBasicBlock newBasicBlock = bbMap.get(basicBlock);
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                newBasicBlock.instructions.add(copyInstruction(instruction, varMap, callPos));
+            }
+            newBasicBlock.terminator = copyTerminator(basicBlock.terminator, varMap, bbMap, callPos,
+                                                       continuationBB);
+        }
+        return newBasicBlocks;
+    }
+
+    private static BIRNonTerminator copyInstruction(BIRNonTerminator instruction,
+                                                    Map<BIRVariableDcl, BIRVariableDcl> varMap,
+                                                    DiagnosticPos callPos) {
+        BIROperand lhsOp = copyOperand(instruction.lhsOp, varMap);
+        BIRNonTerminator newInstruction;
+        if (instruction instanceof Move) {
+            newInstruction = new Move(instruction.pos, copyOperand(((Move) instruction).rhsOp, varMap), lhsOp);
+        } else if (instruction instanceof BinaryOp) {
+            BinaryOp binaryOp = (BinaryOp) instruction;
+            newInstruction = new BinaryOp(instruction.pos, instruction.kind, lhsOp.variableDcl.type, lhsOp,
+                                          copyOperand(binaryOp.rhsOp1, varMap),
+                                          copyOperand(binaryOp.rhsOp2, varMap));
+        } else if (instruction instanceof UnaryOP) {
+            newInstruction = new UnaryOP(instruction.pos, instruction.kind, lhsOp,
+                                         copyOperand(((UnaryOP) instruction).rhsOp, varMap));
+        } else if (instruction instanceof NewArray) {
+            NewArray newArray = (NewArray) instruction;
+            List<BIROperand> values = new ArrayList<>(newArray.values.size());
+            for (BIROperand value : newArray.values) {
+                values.add(copyOperand(value, varMap));
+            }
+            newInstruction = new NewArray(instruction.pos, newArray.type, lhsOp, copyOperand(newArray.sizeOp, varMap),
+                                          values);
+        } else {
+            ConstantLoad constantLoad = (ConstantLoad) instruction;
+            newInstruction = new ConstantLoad(instruction.pos, constantLoad.value, constantLoad.type, lhsOp);
+        }
+
+        newInstruction.pos = getInlinedPos(instruction.pos, callPos);
+        return newInstruction;
+    }
+
+    private static BIRTerminator copyTerminator(BIRTerminator terminator, Map<BIRVariableDcl, BIRVariableDcl> varMap,
+                                                Map<BIRBasicBlock, BIRBasicBlock> bbMap, DiagnosticPos callPos,
+                                                BIRBasicBlock continuationBB) {
+        DiagnosticPos pos = getInlinedPos(terminator.pos, callPos);
+        switch (terminator.kind) {
+            case GOTO:
+                return new GOTO(pos, bbMap.get(((GOTO) terminator).targetBB));
+            case BRANCH:
+                Branch branch = (Branch) terminator;
+                return new Branch(pos, copyOperand(branch.op, varMap), bbMap.get(branch.trueBB),
+                                  bbMap.get(branch.falseBB));
+            default:
+                if (continuationBB != null) {
+                    return new GOTO(pos, continuationBB);
+                }
+                return new BIRTerminator.Return(terminator.pos);
+        }
+    }
+
+    /**
+     * Returns the position of an inlined instruction.
+     * <p>
+     * Inlined instructions keep the position of the callee, so that the line numbers of a panic within an inlined
+     * function point into the callee. The JVM attributes the line numbers of a method to the source file of its
+     * class though, hence the instructions of a callee that is defined in another source file take the position of
+     * the call instead.
+     *
+     * @param pos     position of the instruction in the callee
+     * @param callPos position of the call, or null if the instruction is not inlined
+     * @return the position of the inlined instruction
+     */
+    private static DiagnosticPos getInlinedPos(DiagnosticPos pos, DiagnosticPos callPos) {
+        if (callPos == null || (pos != null && pos.src != null && pos.src.equals(callPos.src))) {
+            return pos;
+        }
+        return callPos;
+    }
+
+    private static BIROperand copyOperand(BIROperand operand, Map<BIRVariableDcl, BIRVariableDcl> varMap) {
+        BIRVariableDcl var = varMap.get(operand.variableDcl);
+        return new BIROperand(var != null ? var : operand.variableDcl);
+    }
+
+    private static int maxBBId(BIRFunction func) {
+        int maxId = OptimizerUtils.maxId(func.basicBlocks, Names.BIR_BASIC_BLOCK_PREFIX.value);
+        for (List<BIRBasicBlock> basicBlocks : func.parameters.values()) {
+            maxId = Math.max(maxId, OptimizerUtils.maxId(basicBlocks, Names.BIR_BASIC_BLOCK_PREFIX.value));
+        }
+        return maxId;
+    }
+
+    private static String getPackageKey(Name org, Name name, Name version) {
+        return org.value + "/" + name.value + ":" + version.value;
+    }
+
+    /**
+     * A copy of the body of a function that can be inlined.
+     *
+     * @since 2.0.0
+     */
+    private static class InlineTemplate {
+        final List<BIRVariableDcl> params = new ArrayList<>();
+        final List<BIRVariableDcl> localVars = new ArrayList<>();
+        final BIRVariableDcl returnVariable;
+        final List<BIRBasicBlock> basicBlocks;
+        final int instructionCount;
+
+        InlineTemplate(BIRFunction func) {
+            Map<BIRVariableDcl, BIRVariableDcl> varMap = new HashMap<>();
+            for (BIRVariableDcl var : func.localVars) {
+                BIRVariableDcl newVar = new BIRVariableDcl(var.pos, var.type, var.name, var.scope, var.kind,
+                                                           var.metaVarName);
+                varMap.put(var, newVar);
+                localVars.add(newVar);
+                if (var instanceof BIRFunctionParameter) {
+                    params.add(newVar);
+                }
+            }
+            this.returnVariable = varMap.get(func.returnVariable);
+            this.basicBlocks = copyBasicBlocks(func.basicBlocks, varMap, null, null);
+            this.instructionCount = basicBlocks.stream().mapToInt(bb -> bb.instructions.size()).sum();
+        }
+    }
+}
@@ -198,6 +198,11 @@ public class BIRLockOptimizer extends BIRVisitor {
         // Do nothing
     }
 
+    @Override
+    public void visit(BIRTerminator.Switch birSwitch) {
+        // Do nothing
+    }
+
     @Override
     public void visit(BIRTerminator.FPCall fpCall) {
         // Do nothing
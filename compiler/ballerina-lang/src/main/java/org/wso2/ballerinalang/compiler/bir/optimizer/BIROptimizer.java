@@ -18,6 +18,7 @@
 
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
@@ -33,12 +34,17 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
 import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -49,10 +55,25 @@ import java.util.stream.Collectors;
 public class BIROptimizer {
 
     private static final CompilerContext.Key<BIROptimizer> BIR_OPTIMIZER = new CompilerContext.Key<>();
+
+    // Names of the optimizations that can be disabled with the compiler options
+    static final String INLINE = "inline";
+    static final String CONSTANT_PROPAGATION = "constant-propagation";
+    static final String SCALAR_REPLACEMENT = "scalar-replacement";
+    static final String COPY_PROPAGATION = "copy-propagation";
+    static final String UNREACHABLE_BLOCKS = "unreachable-blocks";
+    static final String DEAD_STORES = "dead-stores";
+
     private final RHSTempVarOptimizer rhsTempVarOptimizer;
     private final LHSTempVarOptimizer lhsTempVarOptimizer;
     private final BIRLockOptimizer lockOptimizer;
     private final BirVariableOptimizer variableOptimizer;
+    private final BIRFunctionInliner functionInliner;
+    private final ConstantPropagator constantPropagator;
+    private final ScalarReplacer scalarReplacer;
+    private final CopyPropagator copyPropagator;
+    private final DeadCodeEliminator deadCodeEliminator;
+    private final Set<String> disabledOptimizations;
 
     public static BIROptimizer getInstance(CompilerContext context) {
         BIROptimizer birGen = context.get(BIR_OPTIMIZER);
@@ -69,9 +90,40 @@ public class BIROptimizer {
         this.lhsTempVarOptimizer = new LHSTempVarOptimizer();
         this.lockOptimizer = new BIRLockOptimizer();
         this.variableOptimizer = new BirVariableOptimizer();
+        this.functionInliner = new BIRFunctionInliner();
+        this.constantPropagator = new ConstantPropagator();
+        this.scalarReplacer = new ScalarReplacer();
+        this.copyPropagator = new CopyPropagator();
+        this.deadCodeEliminator = new DeadCodeEliminator();
+
+        String disabledOptimizations = CompilerOptions.getInstance(context)
+                .get(CompilerOptionName.DISABLED_BIR_OPTIMIZATIONS);
+        if (disabledOptimizations == null || disabledOptimizations.isEmpty()) {
+            this.disabledOptimizations = Collections.emptySet();
+        } else {
+            this.disabledOptimizations = new HashSet<>(Arrays.asList(disabledOptimizations.trim().split("\\s*,\\s*")));
+        }
     }
 
     public void optimizePackage(BIRPackage pkg) {
+        optimizePackage(pkg, true);
+    }
+
+    /**
+     * Optimize the given module.
+     *
+     * @param pkg           the module
+     * @param inlineCalls   whether calls to small functions should be inlined. Calls should not be inlined if
+     *                      they are replaced after the optimization, e.g. when functions are mocked in tests.
+     */
+    public void optimizePackage(BIRPackage pkg, boolean inlineCalls) {
+        if (inlineCalls && isEnabled(INLINE)) {
+            // Inline calls before the temp var optimizations, so that the moves added for arguments and
+            // return values are optimized away.
+            this.functionInliner.recordInlineCandidates(pkg);
+            this.functionInliner.inlineCalls(pkg);
+        }
+
         // RHS temp var optimization
         pkg.accept(this.rhsTempVarOptimizer);
 
@@ -80,9 +132,36 @@ public class BIROptimizer {
 
         // Optimize lock statements
         this.lockOptimizer.optimizeNode(pkg);
+
+        // Data flow optimizations
+        pkg.functions.forEach(this::optimizeDataFlow);
+        pkg.typeDefs.forEach(typeDef -> typeDef.attachedFuncs.forEach(this::optimizeDataFlow));
+
         variableOptimizer.optimizeNode(pkg);
     }
 
+    private void optimizeDataFlow(BIRFunction func) {
+        if (isEnabled(CONSTANT_PROPAGATION)) {
+            this.constantPropagator.optimize(func);
+        }
+        if (isEnabled(SCALAR_REPLACEMENT)) {
+            this.scalarReplacer.optimize(func);
+        }
+        if (isEnabled(COPY_PROPAGATION)) {
+            this.copyPropagator.optimize(func);
+        }
+        if (isEnabled(UNREACHABLE_BLOCKS)) {
+            this.deadCodeEliminator.removeUnreachableBlocks(func);
+        }
+        if (isEnabled(DEAD_STORES)) {
+            this.deadCodeEliminator.removeDeadStores(func);
+        }
+    }
+
+    private boolean isEnabled(String optimization) {
+        return !this.disabledOptimizations.contains(optimization);
+    }
+
     /**
      * This class is to optimize away unwanted temporary variables in right hand side of statements.
      */
@@ -314,6 +393,11 @@ public class BIROptimizer {
             this.optimizeNode(birBranch.op, this.env);
         }
 
+        @Override
+        public void visit(BIRTerminator.Switch birSwitch) {
+            this.optimizeNode(birSwitch.op, this.env);
+        }
+
         @Override
         public void visit(BIRTerminator.FPCall fpCall) {
             this.optimizeNode(fpCall.lhsOp, this.env);
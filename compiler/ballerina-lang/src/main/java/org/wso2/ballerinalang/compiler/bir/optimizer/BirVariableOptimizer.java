@@ -190,6 +190,11 @@ public class BirVariableOptimizer extends BIRVisitor {
         // Do nothing
     }
 
+    @Override
+    public void visit(BIRTerminator.Switch birSwitch) {
+        // Do nothing
+    }
+
     @Override
     public void visit(BIRTerminator.FPCall fpCall) {
         // Do nothing
@@ -0,0 +1,420 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.UnaryOP;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Branch;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Switch;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sparse conditional constant propagation of {@code int} and {@code boolean} values.
+ * <p>
+ * The values of the variables are propagated along the edges of the control flow graph that can be taken, starting
+ * from the entry basic block. A variable is constant at a basic block if it has the same constant value on every
+ * executable edge that reaches the basic block. Since the BIR is not in SSA form, the state of all the tracked
+ * variables is kept for each basic block. Instructions whose value is constant are replaced with constant loads and
+ * branches and switches on constant conditions are replaced with jumps. Basic blocks that are found to be unreachable
+ * are left as they are, so that {@link DeadCodeEliminator} can remove them.
+ * <p>
+ * The folded operations follow the semantics of the generated code, e.g. integer addition wraps around, while
+ * operations that would panic at runtime, such as a division by zero, are not folded.
+ *
+ * @since 2.0.0
+ */
+class ConstantPropagator {
+
+    // Lattice value of a variable which may have more than one value. An absent value means that no value reaches.
+    private static final Object NOT_A_CONSTANT = new Object();
+
+    /**
+     * Propagates the constants of the given function.
+     *
+     * @param func the function
+     * @return whether the function changed
+     */
+    boolean optimize(BIRFunction func) {
+        if (func.basicBlocks.isEmpty() || !func.errorTable.isEmpty()) {
+            // Panics may transfer the control to the error handling basic blocks at any instruction.
+            return false;
+        }
+        for (BIRBasicBlock basicBlock : func.basicBlocks) {
+            if (basicBlock.terminator == null) {
+                return false;
+            }
+        }
+
+        Set<BIRVariableDcl> untrackedVars = new HashSet<>();
+        for (List<BIRBasicBlock> basicBlocks : func.parameters.values()) {
+            for (BIRAbstractInstruction instruction : OptimizerUtils.getInstructions(basicBlocks)) {
+                if (instruction.lhsOp != null) {
+                    untrackedVars.add(instruction.lhsOp.variableDcl);
+                }
+            }
+        }
+
+        Map<BIRBasicBlock, Map<BIRVariableDcl, Object>> entryStates = analyze(func, untrackedVars);
+        return rewrite(func, entryStates, untrackedVars);
+    }
+
+    private Map<BIRBasicBlock, Map<BIRVariableDcl, Object>> analyze(BIRFunction func,
+                                                                  Set<BIRVariableDcl> untrackedVars) {
+        Map<BIRBasicBlock, Map<BIRVariableDcl, Object>> entryStates = new IdentityHashMap<>();
+        Deque<BIRBasicBlock> workList = new ArrayDeque<>();
+        Set<BIRBasicBlock> queued = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        BIRBasicBlock entryBB = func.basicBlocks.get(0);
+        entryStates.put(entryBB, new HashMap<>());
+        workList.add(entryBB);
+        queued.add(entryBB);
+
+        while (!workList.isEmpty()) {
+            BIRBasicBlock basicBlock = workList.poll();
+            queued.remove(basicBlock);
+
+            Map<BIRVariableDcl, Object> state = new HashMap<>(entryStates.get(basicBlock));
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                transfer(instruction, state, untrackedVars);
+            }
+
+            BIRTerminator terminator = basicBlock.terminator;
+            BIRBasicBlock[] successors;
+            BIROperand conditionOp = getConditionOperand(terminator);
+            Object condition = conditionOp != null ? valueOf(conditionOp, state, untrackedVars) : NOT_A_CONSTANT;
+            if (condition == null) {
+                // The condition does not have a value yet
+                successors = new BIRBasicBlock[0];
+            } else if (condition != NOT_A_CONSTANT) {
+                successors = new BIRBasicBlock[]{getTargetBasicBlock(terminator, condition)};
+            } else {
+                successors = terminator.getNextBasicBlocks();
+            }
+            if (terminator.lhsOp != null) {
+                setValue(terminator.lhsOp, NOT_A_CONSTANT, state, untrackedVars);
+            }
+
+            for (BIRBasicBlock successor : successors) {
+                if (merge(entryStates, successor, state) && queued.add(successor)) {
+                    workList.add(successor);
+                }
+            }
+        }
+        return entryStates;
+    }
+
+    private boolean rewrite(BIRFunction func, Map<BIRBasicBlock, Map<BIRVariableDcl, Object>> entryStates,
+                            Set<BIRVariableDcl> untrackedVars) {
+        boolean changed = false;
+        for (BIRBasicBlock basicBlock : func.basicBlocks) {
+            Map<BIRVariableDcl, Object> entryState = entryStates.get(basicBlock);
+            if (entryState == null) {
+                // Unreachable basic block
+                continue;
+            }
+
+            Map<BIRVariableDcl, Object> state = new HashMap<>(entryState);
+            List<BIRNonTerminator> instructions = basicBlock.instructions;
+            for (int i = 0; i < instructions.size(); i++) {
+                BIRNonTerminator instruction = instructions.get(i);
+                Object value = transfer(instruction, state, untrackedVars);
+                if (isConstant(value) && instruction.kind != InstructionKind.CONST_LOAD) {
+                    ConstantLoad constantLoad = new ConstantLoad(instruction.pos, value,
+                                                                 instruction.lhsOp.variableDcl.type,
+                                                                 instruction.lhsOp);
+                    constantLoad.scope = instruction.scope;
+                    instructions.set(i, constantLoad);
+                    changed = true;
+                }
+            }
+
+            BIRTerminator terminator = basicBlock.terminator;
+            BIROperand conditionOp = getConditionOperand(terminator);
+            if (conditionOp == null) {
+                continue;
+            }
+            Object condition = valueOf(conditionOp, state, untrackedVars);
+            if (isConstant(condition)) {
+                BIRTerminator.GOTO gotoIns = new BIRTerminator.GOTO(terminator.pos,
+                                                                    getTargetBasicBlock(terminator, condition));
+                gotoIns.scope = terminator.scope;
+                basicBlock.terminator = gotoIns;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the operand that decides the successor of the given terminator, if the terminator is a conditional
+     * jump.
+     */
+    private BIROperand getConditionOperand(BIRTerminator terminator) {
+        switch (terminator.kind) {
+            case BRANCH:
+                return ((Branch) terminator).op;
+            case SWITCH:
+                return ((Switch) terminator).op;
+            default:
+                return null;
+        }
+    }
+
+    private BIRBasicBlock getTargetBasicBlock(BIRTerminator terminator, Object condition) {
+        if (terminator.kind == InstructionKind.BRANCH) {
+            Branch branch = (Branch) terminator;
+            return (Boolean) condition ? branch.trueBB : branch.falseBB;
+        }
+        Switch switchIns = (Switch) terminator;
+        int caseIndex = switchIns.caseValues.indexOf(condition);
+        return caseIndex < 0 ? switchIns.defaultBB : switchIns.caseBBs.get(caseIndex);
+    }
+
+    /**
+     * Updates the state with the value assigned by the given instruction.
+     *
+     * @param instruction   the instruction
+     * @param state         values of the variables before the instruction
+     * @param untrackedVars variables that are not tracked
+     * @return the value assigned by the instruction, or null if the instruction does not assign a tracked variable
+     */
+    private Object transfer(BIRNonTerminator instruction, Map<BIRVariableDcl, Object> state,
+                            Set<BIRVariableDcl> untrackedVars) {
+        BIROperand lhsOp = instruction.lhsOp;
+        if (lhsOp == null || !isTracked(lhsOp.variableDcl, untrackedVars)) {
+            return null;
+        }
+
+        Object value = evaluate(instruction, state, untrackedVars);
+        setValue(lhsOp, value, state, untrackedVars);
+        return value;
+    }
+
+    private Object evaluate(BIRNonTerminator instruction, Map<BIRVariableDcl, Object> state,
+                            Set<BIRVariableDcl> untrackedVars) {
+        int lhsTag = instruction.lhsOp.variableDcl.type.tag;
+        switch (instruction.kind) {
+            case CONST_LOAD:
+                return toConstant(((ConstantLoad) instruction).value, lhsTag);
+            case MOVE:
+                BIROperand rhsOp = ((Move) instruction).rhsOp;
+                if (rhsOp.variableDcl.type.tag != lhsTag) {
+                    return NOT_A_CONSTANT;
+                }
+                return valueOf(rhsOp, state, untrackedVars);
+            case NOT:
+            case NEGATE:
+                Object operand = valueOf(((UnaryOP) instruction).rhsOp, state, untrackedVars);
+                if (!isConstant(operand)) {
+                    return operand;
+                }
+                return checkType(foldUnary(instruction.kind, operand), lhsTag);
+            default:
+                if (!(instruction instanceof BinaryOp)) {
+                    return NOT_A_CONSTANT;
+                }
+                BinaryOp binaryOp = (BinaryOp) instruction;
+                Object lhsValue = valueOf(binaryOp.rhsOp1, state, untrackedVars);
+                Object rhsValue = valueOf(binaryOp.rhsOp2, state, untrackedVars);
+                if (lhsValue == NOT_A_CONSTANT || rhsValue == NOT_A_CONSTANT) {
+                    return NOT_A_CONSTANT;
+                }
+                if (lhsValue == null || rhsValue == null) {
+                    return null;
+                }
+                return checkType(foldBinary(instruction.kind, lhsValue, rhsValue), lhsTag);
+        }
+    }
+
+    private Object foldUnary(InstructionKind kind, Object operand) {
+        if (kind == InstructionKind.NOT && operand instanceof Boolean) {
+            return !(Boolean) operand;
+        }
+        if (kind == InstructionKind.NEGATE && operand instanceof Long) {
+            return -(Long) operand;
+        }
+        return NOT_A_CONSTANT;
+    }
+
+    private Object foldBinary(InstructionKind kind, Object lhsValue, Object rhsValue) {
+        if (lhsValue instanceof Long && rhsValue instanceof Long) {
+            return foldIntBinary(kind, (Long) lhsValue, (Long) rhsValue);
+        }
+        if (lhsValue instanceof Boolean && rhsValue instanceof Boolean) {
+            boolean lhs = (Boolean) lhsValue;
+            boolean rhs = (Boolean) rhsValue;
+            switch (kind) {
+                case EQUAL:
+                case REF_EQUAL:
+                    return lhs == rhs;
+                case NOT_EQUAL:
+                case REF_NOT_EQUAL:
+                    return lhs != rhs;
+                case AND:
+                    return lhs && rhs;
+                case OR:
+                    return lhs || rhs;
+                default:
+                    return NOT_A_CONSTANT;
+            }
+        }
+        return NOT_A_CONSTANT;
+    }
+
+    private Object foldIntBinary(InstructionKind kind, long lhs, long rhs) {
+        switch (kind) {
+            case ADD:
+                return lhs + rhs;
+            case SUB:
+                return lhs - rhs;
+            case MUL:
+                return lhs * rhs;
+            case DIV:
+                if (rhs == 0 || (lhs == Long.MIN_VALUE && rhs == -1)) {
+                    return NOT_A_CONSTANT;
+                }
+                return lhs / rhs;
+            case MOD:
+                if (rhs == 0) {
+                    return NOT_A_CONSTANT;
+                }
+                return lhs % rhs;
+            case BITWISE_AND:
+                return lhs & rhs;
+            case BITWISE_OR:
+                return lhs | rhs;
+            case BITWISE_XOR:
+                return lhs ^ rhs;
+            case EQUAL:
+            case REF_EQUAL:
+                return lhs == rhs;
+            case NOT_EQUAL:
+            case REF_NOT_EQUAL:
+                return lhs != rhs;
+            case GREATER_THAN:
+                return lhs > rhs;
+            case GREATER_EQUAL:
+                return lhs >= rhs;
+            case LESS_THAN:
+                return lhs < rhs;
+            case LESS_EQUAL:
+                return lhs <= rhs;
+            default:
+                return NOT_A_CONSTANT;
+        }
+    }
+
+    private Object checkType(Object value, int tag) {
+        if ((value instanceof Long && tag == TypeTags.INT) || (value instanceof Boolean && tag == TypeTags.BOOLEAN)) {
+            return value;
+        }
+        return NOT_A_CONSTANT;
+    }
+
+    private Object toConstant(Object value, int tag) {
+        if (tag == TypeTags.INT && value instanceof Long) {
+            return value;
+        }
+        if (tag == TypeTags.BOOLEAN && value instanceof Boolean) {
+            return value;
+        }
+        return NOT_A_CONSTANT;
+    }
+
+    private Object valueOf(BIROperand operand, Map<BIRVariableDcl, Object> state, Set<BIRVariableDcl> untrackedVars) {
+        if (!isTracked(operand.variableDcl, untrackedVars)) {
+            return NOT_A_CONSTANT;
+        }
+        return state.get(operand.variableDcl);
+    }
+
+    private void setValue(BIROperand operand, Object value, Map<BIRVariableDcl, Object> state,
+                          Set<BIRVariableDcl> untrackedVars) {
+        if (!isTracked(operand.variableDcl, untrackedVars)) {
+            return;
+        }
+        if (value == null) {
+            state.remove(operand.variableDcl);
+        } else {
+            state.put(operand.variableDcl, value);
+        }
+    }
+
+    /**
+     * Merges the state at the end of a basic block to the entry state of the given successor.
+     *
+     * @return whether the entry state of the successor changed
+     */
+    private boolean merge(Map<BIRBasicBlock, Map<BIRVariableDcl, Object>> entryStates, BIRBasicBlock successor,
+                          Map<BIRVariableDcl, Object> state) {
+        Map<BIRVariableDcl, Object> entryState = entryStates.get(successor);
+        if (entryState == null) {
+            entryStates.put(successor, new HashMap<>(state));
+            return true;
+        }
+
+        boolean changed = false;
+        for (Map.Entry<BIRVariableDcl, Object> entry : state.entrySet()) {
+            Object current = entryState.get(entry.getKey());
+            if (current == NOT_A_CONSTANT) {
+                continue;
+            }
+            if (current == null) {
+                entryState.put(entry.getKey(), entry.getValue());
+                changed = true;
+            } else if (!current.equals(entry.getValue())) {
+                entryState.put(entry.getKey(), NOT_A_CONSTANT);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private boolean isTracked(BIRVariableDcl var, Set<BIRVariableDcl> untrackedVars) {
+        if (var.kind == VarKind.ARG || !OptimizerUtils.isFunctionLocal(var) || untrackedVars.contains(var)) {
+            return false;
+        }
+        return var.type.tag == TypeTags.INT || var.type.tag == TypeTags.BOOLEAN;
+    }
+
+    private static boolean isConstant(Object value) {
+        return value != null && value != NOT_A_CONSTANT;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the uses of a variable that holds a copy of another variable with the uses of the copied variable,
+ * within a basic block.
+ * <p>
+ * Once all the uses of a copy are replaced, the move that creates the copy is removed by
+ * {@link DeadCodeEliminator}. Since instructions may share operands, only the operands that belong to a single
+ * instruction are replaced.
+ *
+ * @since 2.0.0
+ */
+class CopyPropagator {
+
+    /**
+     * Propagates the copies of the given function.
+     *
+     * @param func the function
+     * @return whether the function changed
+     */
+    boolean optimize(BIRFunction func) {
+        Map<BIROperand, Integer> operandRefCounts = countOperandReferences(func);
+        boolean changed = false;
+        for (BIRBasicBlock basicBlock : func.basicBlocks) {
+            changed |= optimize(basicBlock, operandRefCounts);
+        }
+        return changed;
+    }
+
+    private boolean optimize(BIRBasicBlock basicBlock, Map<BIROperand, Integer> operandRefCounts) {
+        // Maps a copy to the variable it is a copy of
+        Map<BIRVariableDcl, BIRVariableDcl> copies = new HashMap<>();
+        boolean changed = false;
+
+        List<BIRAbstractInstruction> instructions = new ArrayList<>(basicBlock.instructions);
+        if (basicBlock.terminator != null) {
+            instructions.add(basicBlock.terminator);
+        }
+        for (BIRAbstractInstruction instruction : instructions) {
+            if (!copies.isEmpty()) {
+                for (BIROperand operand : OptimizerUtils.getReadOperands(instruction)) {
+                    BIRVariableDcl original = copies.get(operand.variableDcl);
+                    if (original != null && operandRefCounts.get(operand) == 1) {
+                        operand.variableDcl = original;
+                        changed = true;
+                    }
+                }
+            }
+
+            if (instruction.lhsOp == null) {
+                continue;
+            }
+            BIRVariableDcl def = instruction.lhsOp.variableDcl;
+            copies.remove(def);
+            copies.values().removeIf(original -> original.equals(def));
+            if (instruction.kind == InstructionKind.MOVE) {
+                BIRVariableDcl original = ((Move) instruction).rhsOp.variableDcl;
+                if (!original.equals(def) && OptimizerUtils.isFunctionLocal(original) &&
+                        OptimizerUtils.isFunctionLocal(def) &&
+                        OptimizerUtils.haveSameRepresentation(original.type, def.type)) {
+                    copies.put(def, original);
+                }
+            }
+        }
+        return changed;
+    }
+
+    private Map<BIROperand, Integer> countOperandReferences(BIRFunction func) {
+        Map<BIROperand, Integer> refCounts = new IdentityHashMap<>();
+        for (BIRAbstractInstruction instruction : OptimizerUtils.getInstructions(func)) {
+            if (instruction.lhsOp != null) {
+                refCounts.merge(instruction.lhsOp, 1, Integer::sum);
+            }
+            for (BIROperand operand : OptimizerUtils.getReadOperands(instruction)) {
+                refCounts.merge(operand, 1, Integer::sum);
+            }
+        }
+        for (BIRErrorEntry errorEntry : func.errorTable) {
+            refCounts.merge(errorEntry.errorOp, 1, Integer::sum);
+        }
+        return refCounts;
+    }
+}
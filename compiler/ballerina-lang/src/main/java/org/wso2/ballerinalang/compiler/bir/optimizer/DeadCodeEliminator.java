@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Removes the basic blocks that cannot be reached and the instructions whose results are never used.
+ * <p>
+ * Only the instructions that cannot have side effects or panic are removed, and only if they assign compiler
+ * generated variables, so that the values of the variables declared in the source remain visible to debuggers.
+ *
+ * @since 2.0.0
+ */
+class DeadCodeEliminator {
+
+    /**
+     * Removes the basic blocks of the given function that cannot be reached from its entry basic block.
+     *
+     * @param func the function
+     * @return whether the function changed
+     */
+    boolean removeUnreachableBlocks(BIRFunction func) {
+        if (func.basicBlocks.isEmpty() || !func.errorTable.isEmpty()) {
+            // Error entries refer to ranges of basic blocks.
+            return false;
+        }
+
+        Set<BIRBasicBlock> reachable = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<BIRBasicBlock> workList = new ArrayDeque<>();
+        workList.add(func.basicBlocks.get(0));
+        while (!workList.isEmpty()) {
+            BIRBasicBlock basicBlock = workList.poll();
+            if (!reachable.add(basicBlock)) {
+                continue;
+            }
+
+            BIRTerminator terminator = basicBlock.terminator;
+            if (terminator == null) {
+                // The basic block falls through to the next one
+                int index = func.basicBlocks.indexOf(basicBlock);
+                if (index + 1 < func.basicBlocks.size()) {
+                    workList.add(func.basicBlocks.get(index + 1));
+                }
+                continue;
+            }
+            Collections.addAll(workList, terminator.getNextBasicBlocks());
+            if (terminator.thenBB != null) {
+                workList.add(terminator.thenBB);
+            }
+        }
+
+        if (!func.basicBlocks.removeIf(basicBlock -> !reachable.contains(basicBlock))) {
+            return false;
+        }
+        OptimizerUtils.removeStaleVariableScopes(func);
+        return true;
+    }
+
+    /**
+     * Removes the instructions of the given function that assign variables which are never read.
+     *
+     * @param func the function
+     * @return whether the function changed
+     */
+    boolean removeDeadStores(BIRFunction func) {
+        boolean changed = false;
+        boolean removed = true;
+        while (removed) {
+            Set<BIRVariableDcl> usedVars = getUsedVars(func);
+            removed = false;
+            for (BIRBasicBlock basicBlock : func.basicBlocks) {
+                removed |= basicBlock.instructions.removeIf(instruction -> isRemovable(instruction, func) &&
+                        !usedVars.contains(instruction.lhsOp.variableDcl));
+            }
+            changed |= removed;
+        }
+
+        if (!changed) {
+            return false;
+        }
+
+        Set<BIRVariableDcl> referredVars = getUsedVars(func);
+        for (BIRAbstractInstruction instruction : OptimizerUtils.getInstructions(func)) {
+            if (instruction.lhsOp != null) {
+                referredVars.add(instruction.lhsOp.variableDcl);
+            }
+        }
+        func.localVars.removeIf(var -> isCompilerGenerated(var) && var != func.returnVariable &&
+                !referredVars.contains(var));
+        OptimizerUtils.removeStaleVariableScopes(func);
+        return true;
+    }
+
+    private Set<BIRVariableDcl> getUsedVars(BIRFunction func) {
+        Set<BIRVariableDcl> usedVars = new HashSet<>();
+        for (BIRAbstractInstruction instruction : OptimizerUtils.getInstructions(func)) {
+            for (BIROperand operand : OptimizerUtils.getReadOperands(instruction)) {
+                usedVars.add(operand.variableDcl);
+            }
+            // The left hand side of an instruction such as a store, refers to the value being updated.
+            if (instruction.lhsOp != null && !isPure(instruction)) {
+                usedVars.add(instruction.lhsOp.variableDcl);
+            }
+        }
+        for (BIRErrorEntry errorEntry : func.errorTable) {
+            usedVars.add(errorEntry.errorOp.variableDcl);
+        }
+        return usedVars;
+    }
+
+    private boolean isRemovable(BIRNonTerminator instruction, BIRFunction func) {
+        if (instruction.lhsOp == null || !isPure(instruction)) {
+            return false;
+        }
+        BIRVariableDcl var = instruction.lhsOp.variableDcl;
+        return isCompilerGenerated(var) && var != func.returnVariable;
+    }
+
+    private boolean isCompilerGenerated(BIRVariableDcl var) {
+        return var.scope == VarScope.FUNCTION && (var.kind == VarKind.TEMP || var.kind == VarKind.SYNTHETIC);
+    }
+
+    /**
+     * Returns whether the given instruction only computes the value it assigns, without any side effect and
+     * without the possibility of a panic.
+     */
+    private boolean isPure(BIRAbstractInstruction instruction) {
+        switch (instruction.kind) {
+            case MOVE:
+            case CONST_LOAD:
+            case TYPE_TEST:
+            case IS_LIKE:
+            case NOT:
+            case EQUAL:
+            case NOT_EQUAL:
+            case REF_EQUAL:
+            case REF_NOT_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+                return true;
+            case ADD:
+            case SUB:
+            case MUL:
+                // Integer arithmetic wraps around in the generated code, while decimal arithmetic may overflow.
+                int tag = instruction.lhsOp.variableDcl.type.tag;
+                return tag == TypeTags.INT || tag == TypeTags.FLOAT || tag == TypeTags.STRING;
+            default:
+                return false;
+        }
+    }
+}
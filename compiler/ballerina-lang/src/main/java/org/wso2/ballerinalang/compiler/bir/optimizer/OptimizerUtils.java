@@ -0,0 +1,227 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorKeyValueEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRMappingConstructorSpreadFieldEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BirScope;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Utilities shared by the data flow optimizations of the BIR.
+ *
+ * @since 2.0.0
+ */
+final class OptimizerUtils {
+
+    // Line number of the positions that are not generated into the code
+    private static final int UNKNOWN_LINE = 0x80000000;
+
+    private OptimizerUtils() {
+    }
+
+    /**
+     * Returns the operands read by the given instruction.
+     * <p>
+     * Unlike {@link BIRAbstractInstruction#getRhsOperands()}, this includes the values of mapping constructors.
+     *
+     * @param instruction the instruction
+     * @return the operands read by the instruction
+     */
+    static List<BIROperand> getReadOperands(BIRAbstractInstruction instruction) {
+        List<BIROperand> operands = new ArrayList<>();
+        Collections.addAll(operands, instruction.getRhsOperands());
+        if (instruction instanceof BIRNonTerminator.NewStructure) {
+            List<BIRMappingConstructorEntry> initialValues = ((BIRNonTerminator.NewStructure) instruction)
+                    .initialValues;
+            if (initialValues != null) {
+                for (BIRMappingConstructorEntry entry : initialValues) {
+                    if (entry.isKeyValuePair()) {
+                        BIRMappingConstructorKeyValueEntry keyValueEntry = (BIRMappingConstructorKeyValueEntry) entry;
+                        operands.add(keyValueEntry.keyOp);
+                        operands.add(keyValueEntry.valueOp);
+                    } else {
+                        operands.add(((BIRMappingConstructorSpreadFieldEntry) entry).exprOp);
+                    }
+                }
+            }
+        }
+        operands.removeIf(operand -> operand == null);
+        return operands;
+    }
+
+    /**
+     * Returns all the instructions of the given basic blocks, including the terminators.
+     *
+     * @param basicBlocks the basic blocks
+     * @return the instructions
+     */
+    static List<BIRAbstractInstruction> getInstructions(List<BIRBasicBlock> basicBlocks) {
+        List<BIRAbstractInstruction> instructions = new ArrayList<>();
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            instructions.addAll(basicBlock.instructions);
+            if (basicBlock.terminator != null) {
+                instructions.add(basicBlock.terminator);
+            }
+        }
+        return instructions;
+    }
+
+    /**
+     * Returns all the instructions of the given function, including the ones that initialize default parameters.
+     *
+     * @param func the function
+     * @return the instructions
+     */
+    static List<BIRAbstractInstruction> getInstructions(BIRFunction func) {
+        List<BIRAbstractInstruction> instructions = getInstructions(func.basicBlocks);
+        func.parameters.values().forEach(basicBlocks -> instructions.addAll(getInstructions(basicBlocks)));
+        return instructions;
+    }
+
+    /**
+     * Returns whether the given variable is a local variable of a function, whose value can only be changed by
+     * the instructions of that function.
+     *
+     * @param var the variable
+     * @return true if the variable is local to a function
+     */
+    static boolean isFunctionLocal(BIRVariableDcl var) {
+        if (var.scope != VarScope.FUNCTION) {
+            return false;
+        }
+
+        switch (var.kind) {
+            case LOCAL:
+            case ARG:
+            case TEMP:
+            case RETURN:
+            case SYNTHETIC:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns whether a value of one of the given types can be used in place of a value of the other type in the
+     * generated code.
+     *
+     * @param type      a type
+     * @param otherType the other type
+     * @return true if values of both types have the same representation
+     */
+    static boolean haveSameRepresentation(BType type, BType otherType) {
+        if (type == otherType) {
+            return true;
+        }
+        if (type.tag != otherType.tag) {
+            return false;
+        }
+        switch (type.tag) {
+            case TypeTags.INT:
+            case TypeTags.BYTE:
+            case TypeTags.FLOAT:
+            case TypeTags.DECIMAL:
+            case TypeTags.STRING:
+            case TypeTags.BOOLEAN:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the largest number used in the generated names of the given basic blocks or variables.
+     *
+     * @param nodes  basic blocks or variables
+     * @param prefix prefix of the generated names
+     * @return the largest number, or zero if there is none
+     */
+    static int maxId(List<?> nodes, String prefix) {
+        int maxId = 0;
+        for (Object node : nodes) {
+            Name name = node instanceof BIRBasicBlock ? ((BIRBasicBlock) node).id : ((BIRVariableDcl) node).name;
+            if (name == null || !name.value.startsWith(prefix)) {
+                continue;
+            }
+            try {
+                maxId = Math.max(maxId, Integer.parseInt(name.value.substring(prefix.length())));
+            } catch (NumberFormatException e) {
+                // Not a generated name
+            }
+        }
+        return maxId;
+    }
+
+    /**
+     * Drops the visible range of the local variables whose range starts at a scope that no longer has an
+     * instruction. The code generator would otherwise refer to a label that is never placed.
+     *
+     * @param func the function
+     */
+    static void removeStaleVariableScopes(BIRFunction func) {
+        Set<BirScope> scopes = new HashSet<>();
+        for (BIRAbstractInstruction instruction : getInstructions(func)) {
+            if (instruction instanceof BIRNonTerminator && hasPosition(instruction)) {
+                for (BirScope scope = instruction.scope; scope != null; scope = scope.parent) {
+                    if (!scopes.add(scope)) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        Set<BIRBasicBlock> basicBlocks = new HashSet<>(func.basicBlocks);
+        for (BIRVariableDcl var : func.localVars) {
+            if (var.kind != VarKind.LOCAL) {
+                continue;
+            }
+            if (var.startBB != null && (!scopes.contains(var.insScope) || !basicBlocks.contains(var.startBB))) {
+                var.startBB = null;
+            }
+            if (var.endBB != null && !basicBlocks.contains(var.endBB)) {
+                var.endBB = null;
+            }
+        }
+    }
+
+    private static boolean hasPosition(BIRAbstractInstruction instruction) {
+        DiagnosticPos pos = instruction.pos;
+        return pos != null && pos.sLine != UNKNOWN_LINE;
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.FieldAccess;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewArray;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.TypeCast;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTupleType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.Names;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replaces the tuples that do not escape the function which creates them with a variable for each member.
+ * <p>
+ * A tuple does not escape if it is only assigned to compiler generated variables and read with constant indexes,
+ * which is how destructuring binding patterns read the tuples created by list constructors and by inlined functions
+ * that return several values. Each variable holding such a tuple is replaced with a variable per member: creating the
+ * tuple assigns the member variables, copying the tuple copies them and reading a member reads the corresponding
+ * variable. Hence the tuple is not allocated, and its members are only boxed if they are read as boxed values.
+ * <p>
+ * The member variables of every variable holding the tuple are kept separately, which keeps the result correct
+ * regardless of the control flow between the instructions that create, copy and read the tuple.
+ *
+ * @since 2.0.0
+ */
+class ScalarReplacer {
+
+    /**
+     * Replaces the tuples of the given function that do not escape.
+     *
+     * @param func the function
+     * @return whether the function changed
+     */
+    boolean optimize(BIRFunction func) {
+        boolean changed = false;
+        // Replacing a tuple may stop a tuple nested in it from escaping, hence the analysis is repeated.
+        while (replaceNextTuple(func)) {
+            changed = true;
+        }
+        return changed;
+    }
+
+    private boolean replaceNextTuple(BIRFunction func) {
+        Map<BIRVariableDcl, List<BIRAbstractInstruction>> defs = new HashMap<>();
+        Map<BIRVariableDcl, List<BIRAbstractInstruction>> uses = new HashMap<>();
+        for (BIRAbstractInstruction instruction : OptimizerUtils.getInstructions(func)) {
+            if (instruction.lhsOp != null) {
+                defs.computeIfAbsent(instruction.lhsOp.variableDcl, var -> new ArrayList<>()).add(instruction);
+            }
+            for (BIROperand operand : OptimizerUtils.getReadOperands(instruction)) {
+                uses.computeIfAbsent(operand.variableDcl, var -> new ArrayList<>()).add(instruction);
+            }
+        }
+
+        // Instructions that initialize default parameters are not replaced
+        Set<BIRAbstractInstruction> bodyInstructions = Collections.newSetFromMap(new IdentityHashMap<>());
+        bodyInstructions.addAll(OptimizerUtils.getInstructions(func.basicBlocks));
+
+        for (BIRBasicBlock basicBlock : func.basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (instruction.kind != InstructionKind.NEW_ARRAY || !isFixedLengthTuple((NewArray) instruction)) {
+                    continue;
+                }
+                NewArray newArray = (NewArray) instruction;
+                Set<BIRVariableDcl> tupleVars = findNonEscapingVars(newArray, defs, uses, bodyInstructions);
+                if (tupleVars != null) {
+                    replace(func, newArray, tupleVars, defs, uses, bodyInstructions);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isFixedLengthTuple(NewArray newArray) {
+        if (newArray.type.tag != TypeTags.TUPLE || newArray.values == null) {
+            return false;
+        }
+        BTupleType tupleType = (BTupleType) newArray.type;
+        return tupleType.restType == null && tupleType.tupleTypes.size() == newArray.values.size();
+    }
+
+    /**
+     * Returns the variables that hold the tuple created by the given instruction, or null if the tuple escapes.
+     */
+    private Set<BIRVariableDcl> findNonEscapingVars(NewArray newArray,
+                                                    Map<BIRVariableDcl, List<BIRAbstractInstruction>> defs,
+                                                    Map<BIRVariableDcl, List<BIRAbstractInstruction>> uses,
+                                                    Set<BIRAbstractInstruction> bodyInstructions) {
+        BIRVariableDcl tupleVar = newArray.lhsOp.variableDcl;
+        if (!isOnlyAssignedBy(tupleVar, newArray, defs)) {
+            return null;
+        }
+
+        Set<BIRVariableDcl> tupleVars = new LinkedHashSet<>();
+        tupleVars.add(tupleVar);
+        Deque<BIRVariableDcl> workList = new ArrayDeque<>(tupleVars);
+        while (!workList.isEmpty()) {
+            BIRVariableDcl var = workList.poll();
+            for (BIRAbstractInstruction use : uses.getOrDefault(var, Collections.emptyList())) {
+                if (!bodyInstructions.contains(use)) {
+                    return null;
+                }
+
+                if (use.kind == InstructionKind.MOVE) {
+                    BIRVariableDcl copy = use.lhsOp.variableDcl;
+                    if (!isOnlyAssignedBy(copy, use, defs)) {
+                        return null;
+                    }
+                    if (tupleVars.add(copy)) {
+                        workList.add(copy);
+                    }
+                    continue;
+                }
+
+                if (use.kind != InstructionKind.ARRAY_LOAD) {
+                    return null;
+                }
+                FieldAccess load = (FieldAccess) use;
+                if (load.optionalFieldAccess || !load.rhsOp.variableDcl.equals(var) ||
+                        load.keyOp.variableDcl.equals(var)) {
+                    return null;
+                }
+                int index = getConstantIndex(load.keyOp, defs);
+                if (index < 0 || index >= newArray.values.size() ||
+                        !canRead(newArray.values.get(index).variableDcl.type, load.lhsOp.variableDcl.type)) {
+                    return null;
+                }
+            }
+        }
+        return tupleVars;
+    }
+
+    /**
+     * Returns whether the given variable is a compiler generated variable that is only assigned by the given
+     * instruction.
+     */
+    private boolean isOnlyAssignedBy(BIRVariableDcl var, BIRAbstractInstruction instruction,
+                                     Map<BIRVariableDcl, List<BIRAbstractInstruction>> defs) {
+        if (var.scope != VarScope.FUNCTION || (var.kind != VarKind.TEMP && var.kind != VarKind.SYNTHETIC)) {
+            return false;
+        }
+        List<BIRAbstractInstruction> varDefs = defs.get(var);
+        return varDefs != null && varDefs.size() == 1 && varDefs.get(0) == instruction;
+    }
+
+    /**
+     * Returns the value of the given index operand if it is a constant, or -1 otherwise.
+     */
+    private int getConstantIndex(BIROperand indexOp, Map<BIRVariableDcl, List<BIRAbstractInstruction>> defs) {
+        List<BIRAbstractInstruction> indexDefs = defs.get(indexOp.variableDcl);
+        if (indexDefs == null || indexDefs.size() != 1 || indexDefs.get(0).kind != InstructionKind.CONST_LOAD) {
+            return -1;
+        }
+        Object value = ((ConstantLoad) indexDefs.get(0)).value;
+        if (!(value instanceof Long) || (Long) value < 0 || (Long) value > Integer.MAX_VALUE) {
+            return -1;
+        }
+        return ((Long) value).intValue();
+    }
+
+    /**
+     * Returns whether a member of the given type, which a tuple holds as a boxed value, can be read from a variable
+     * into a variable of the given target type.
+     */
+    private boolean canRead(BType memberType, BType targetType) {
+        if (OptimizerUtils.haveSameRepresentation(memberType, targetType) ||
+                (isListType(memberType) && isListType(targetType))) {
+            return true;
+        }
+        switch (targetType.tag) {
+            case TypeTags.ANY:
+            case TypeTags.ANYDATA:
+            case TypeTags.JSON:
+            case TypeTags.READONLY:
+            case TypeTags.UNION:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isListType(BType type) {
+        return type.tag == TypeTags.ARRAY || type.tag == TypeTags.TUPLE;
+    }
+
+    private void replace(BIRFunction func, NewArray newArray, Set<BIRVariableDcl> tupleVars,
+                         Map<BIRVariableDcl, List<BIRAbstractInstruction>> defs,
+                         Map<BIRVariableDcl, List<BIRAbstractInstruction>> uses,
+                         Set<BIRAbstractInstruction> bodyInstructions) {
+        int nextVarId = OptimizerUtils.maxId(func.localVars, Names.BIR_LOCAL_VAR_PREFIX.value) + 1;
+        Map<BIRVariableDcl, List<BIRVariableDcl>> memberVars = new HashMap<>();
+        for (BIRVariableDcl tupleVar : tupleVars) {
+            List<BIRVariableDcl> members = new ArrayList<>(newArray.values.size());
+            for (BIROperand value : newArray.values) {
+                BIRVariableDcl member = new BIRVariableDcl(newArray.pos, value.variableDcl.type,
+                        new Name(Names.BIR_LOCAL_VAR_PREFIX.value + nextVarId++), VarScope.FUNCTION,
+                        VarKind.SYNTHETIC, null);
+                members.add(member);
+                func.localVars.add(member);
+            }
+            memberVars.put(tupleVar, members);
+        }
+
+        Map<BIRNonTerminator, List<BIRNonTerminator>> replacements = new IdentityHashMap<>();
+        replacements.put(newArray, createMoves(newArray, newArray.values,
+                                               memberVars.get(newArray.lhsOp.variableDcl)));
+        for (BIRVariableDcl tupleVar : tupleVars) {
+            List<BIRVariableDcl> members = memberVars.get(tupleVar);
+            for (BIRAbstractInstruction use : uses.getOrDefault(tupleVar, Collections.emptyList())) {
+                if (use.kind == InstructionKind.MOVE) {
+                    List<BIROperand> sources = new ArrayList<>(members.size());
+                    for (BIRVariableDcl member : members) {
+                        sources.add(new BIROperand(member));
+                    }
+                    replacements.put((Move) use, createMoves(use, sources, memberVars.get(use.lhsOp.variableDcl)));
+                    continue;
+                }
+
+                FieldAccess load = (FieldAccess) use;
+                BIRVariableDcl member = members.get(getConstantIndex(load.keyOp, defs));
+                TypeCast cast = getUnboxingCast(load, member.type, defs, uses, bodyInstructions);
+                if (cast != null) {
+                    // The member is read as a boxed value only to be cast back to its own type.
+                    load.lhsOp.variableDcl.type = member.type;
+                    replacements.put(cast, Collections.singletonList(
+                            createMove(cast, cast.rhsOp, cast.lhsOp)));
+                }
+                replacements.put(load, Collections.singletonList(readMember(load, member)));
+            }
+        }
+
+        for (BIRBasicBlock basicBlock : func.basicBlocks) {
+            List<BIRNonTerminator> instructions = new ArrayList<>(basicBlock.instructions.size());
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                List<BIRNonTerminator> replacement = replacements.get(instruction);
+                if (replacement == null) {
+                    instructions.add(instruction);
+                } else {
+                    instructions.addAll(replacement);
+                }
+            }
+            basicBlock.instructions = instructions;
+        }
+        func.localVars.removeAll(tupleVars);
+    }
+
+    /**
+     * Returns the cast that converts the member read by the given load back to the type of the member, if that is
+     * the only use of the value read by the load.
+     */
+    private TypeCast getUnboxingCast(FieldAccess load, BType memberType,
+                                     Map<BIRVariableDcl, List<BIRAbstractInstruction>> defs,
+                                     Map<BIRVariableDcl, List<BIRAbstractInstruction>> uses,
+                                     Set<BIRAbstractInstruction> bodyInstructions) {
+        BIRVariableDcl value = load.lhsOp.variableDcl;
+        if (value.kind != VarKind.TEMP || !isOnlyAssignedBy(value, load, defs)) {
+            return null;
+        }
+        List<BIRAbstractInstruction> valueUses = uses.get(value);
+        if (valueUses == null || valueUses.size() != 1 || valueUses.get(0).kind != InstructionKind.TYPE_CAST ||
+                !bodyInstructions.contains(valueUses.get(0))) {
+            return null;
+        }
+        TypeCast cast = (TypeCast) valueUses.get(0);
+        if (!OptimizerUtils.haveSameRepresentation(memberType, cast.type) ||
+                !OptimizerUtils.haveSameRepresentation(memberType, cast.lhsOp.variableDcl.type)) {
+            return null;
+        }
+        return cast;
+    }
+
+    private BIRNonTerminator readMember(FieldAccess load, BIRVariableDcl member) {
+        BType targetType = load.lhsOp.variableDcl.type;
+        if (OptimizerUtils.haveSameRepresentation(member.type, targetType) ||
+                (isListType(member.type) && isListType(targetType))) {
+            return createMove(load, new BIROperand(member), load.lhsOp);
+        }
+
+        // Box the member the same way as it would have been boxed when it was added to the tuple
+        TypeCast cast = new TypeCast(load.pos, load.lhsOp, new BIROperand(member), targetType, false);
+        cast.scope = load.scope;
+        return cast;
+    }
+
+    private List<BIRNonTerminator> createMoves(BIRAbstractInstruction instruction, List<BIROperand> sources,
+                                               List<BIRVariableDcl> targets) {
+        List<BIRNonTerminator> moves = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            moves.add(createMove(instruction, sources.get(i), new BIROperand(targets.get(i))));
+        }
+        return moves;
+    }
+
+    private Move createMove(BIRAbstractInstruction instruction, BIROperand source, BIROperand target) {
+        Move move = new Move(instruction.pos, source, target);
+        move.scope = instruction.scope;
+        return move;
+    }
+}
@@ -81,7 +81,7 @@ public class BIRBinaryWriter {
         // Write type def bodies
         writeTypeDefBodies(birbuf, typeWriter, birPackage.typeDefs);
         // Write functions
-        writeFunctions(birbuf, typeWriter, birPackage.functions);
+        writeIndexedFunctions(birbuf, typeWriter, birPackage.functions);
         // Write annotations
         writeAnnotations(birbuf, typeWriter, birPackage.annotations);
 
@@ -184,6 +184,26 @@ public class BIRBinaryWriter {
         birFunctionList.forEach(func -> writeFunction(buf, typeWriter, func));
     }
 
+    /**
+     * Write the functions of the module, each preceded by its name and its length, so that a function can be
+     * skipped when the module is loaded and read only once it is looked up.
+     *
+     * @param buf ByteBuf
+     * @param typeWriter Type writer
+     * @param birFunctionList Functions of the module
+     */
+    private void writeIndexedFunctions(ByteBuf buf, BIRTypeWriter typeWriter,
+                                       List<BIRNode.BIRFunction> birFunctionList) {
+        buf.writeInt(birFunctionList.size());
+        for (BIRNode.BIRFunction birFunction : birFunctionList) {
+            ByteBuf funcBuf = Unpooled.buffer();
+            writeFunction(funcBuf, typeWriter, birFunction);
+            buf.writeInt(addStringCPEntry(birFunction.name.value));
+            buf.writeInt(funcBuf.readableBytes());
+            buf.writeBytes(funcBuf);
+        }
+    }
+
     private void writeFunction(ByteBuf buf, BIRTypeWriter typeWriter, BIRNode.BIRFunction birFunction) {
 
         // Write Position
@@ -187,6 +187,22 @@ public class BIRInstructionWriter extends BIRVisitor {
         addCpAndWriteString(birBranch.falseBB.id.value);
     }
 
+    public void visit(BIRTerminator.Switch birSwitch) {
+        birSwitch.op.accept(this);
+        buf.writeInt(birSwitch.caseValues.size());
+        for (int i = 0; i < birSwitch.caseValues.size(); i++) {
+            Object caseValue = birSwitch.caseValues.get(i);
+            if (caseValue instanceof Long) {
+                buf.writeInt(cp.addCPEntry(new IntegerCPEntry((Long) caseValue)));
+            } else {
+                buf.writeInt(cp.addCPEntry(new StringCPEntry((String) caseValue)));
+            }
+            addCpAndWriteString(birSwitch.caseBBs.get(i).id.value);
+        }
+        // default:BB
+        addCpAndWriteString(birSwitch.defaultBB.id.value);
+    }
+
     public void visit(BIRTerminator.Wait waitEntry) {
         buf.writeInt(waitEntry.exprList.size());
         for (BIROperand expr : waitEntry.exprList) {
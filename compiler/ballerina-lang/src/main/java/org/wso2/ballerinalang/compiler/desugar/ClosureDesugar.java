@@ -50,6 +50,7 @@ import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangTupleVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangTypeDefinition;
 import org.wso2.ballerinalang.compiler.tree.BLangXMLNS;
+import org.wso2.ballerinalang.compiler.tree.clauses.BLangMatchClause;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangAnnotAccessExpr;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangArrowFunction;
 import org.wso2.ballerinalang.compiler.tree.expressions.BLangBinaryExpr;
@@ -127,6 +128,7 @@ import org.wso2.ballerinalang.compiler.tree.statements.BLangLock;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangLock.BLangLockStmt;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangLock.BLangUnLockStmt;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangMatch;
+import org.wso2.ballerinalang.compiler.tree.statements.BLangMatchStatement;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangPanic;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangRecordDestructure;
 import org.wso2.ballerinalang.compiler.tree.statements.BLangRecordVariableDef;
@@ -675,6 +677,19 @@ public class ClosureDesugar extends BLangNodeVisitor {
         result = matchStmt;
     }
 
+    @Override
+    public void visit(BLangMatchStatement matchStatement) {
+        // Only the match statements that are dispatched with a switch remain after desugaring
+        matchStatement.expr = rewriteExpr(matchStatement.expr);
+        for (BLangMatchClause matchClause : matchStatement.matchClauses) {
+            if (matchClause.matchGuard != null) {
+                matchClause.matchGuard.expr = rewriteExpr(matchClause.matchGuard.expr);
+            }
+            matchClause.blockStmt = rewrite(matchClause.blockStmt, env);
+        }
+        result = matchStatement;
+    }
+
     @Override
     public void visit(BLangForeach foreach) {
         result = foreach;
@@ -28,6 +28,7 @@ import org.ballerinalang.model.tree.BlockNode;
 import org.ballerinalang.model.tree.NodeKind;
 import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.TopLevelNode;
+import org.ballerinalang.model.tree.expressions.LiteralNode;
 import org.ballerinalang.model.tree.expressions.NamedArgNode;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.expressions.XMLNavigationAccess;
@@ -2948,6 +2949,20 @@ public class Desugar extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangMatchStatement matchStatement) {
+        if (matchStatement.desugared) {
+            // The match statement only has literal and wildcard patterns and is dispatched by the BIR generator.
+            // Its expression has already been replaced with a reference to the variable that holds the value.
+            matchStatement.expr = rewriteExpr(matchStatement.expr);
+            for (BLangMatchClause matchClause : matchStatement.matchClauses) {
+                if (matchClause.matchGuard != null) {
+                    matchClause.matchGuard.expr = rewriteExpr(matchClause.matchGuard.expr);
+                }
+                matchClause.blockStmt = rewrite(matchClause.blockStmt, env);
+            }
+            result = matchStatement;
+            return;
+        }
+
         BLangOnFailClause currentOnFailClause = this.onFailClause;
         BLangSimpleVariableDef currentOnFailCallDef = this.onFailCallFuncDef;
         BLangBlockStmt matchBlockStmt = (BLangBlockStmt) TreeBuilder.createBlockNode();
@@ -2967,7 +2982,13 @@ public class Desugar extends BLangNodeVisitor {
 
         BLangSimpleVariableDef matchExprVarDef = ASTBuilderUtil.createVariableDef(matchBlockStmt.pos, matchExprVar);
         matchBlockStmt.stmts.add(matchExprVarDef);
-        matchBlockStmt.stmts.add(convertMatchClausesToIfElseStmt(matchStatement.matchClauses, matchExprVar));
+        if (matchStatement.onFailClause == null && canDispatchBySwitch(matchStatement)) {
+            matchStatement.expr = ASTBuilderUtil.createVariableRef(matchExpr.pos, matchExprVar.symbol);
+            matchStatement.desugared = true;
+            matchBlockStmt.stmts.add(matchStatement);
+        } else {
+            matchBlockStmt.stmts.add(convertMatchClausesToIfElseStmt(matchStatement.matchClauses, matchExprVar));
+        }
         rewrite(matchBlockStmt, this.env);
 
         result = matchBlockStmt;
@@ -2975,6 +2996,72 @@ public class Desugar extends BLangNodeVisitor {
         this.onFailCallFuncDef = currentOnFailCallDef;
     }
 
+    /**
+     * Checks whether the given match statement can be dispatched with a switch on the value of its expression, i.e.
+     * whether all its patterns are int or string literals or wildcards that match any value. Such match statements
+     * are left as they are, so that the BIR generator jumps to the matching clause instead of comparing the value
+     * with each pattern one after the other.
+     *
+     * @param matchStatement the match statement
+     * @return true if the match statement can be dispatched with a switch
+     */
+    private boolean canDispatchBySwitch(BLangMatchStatement matchStatement) {
+        if (!isSwitchableType(matchStatement.expr.type)) {
+            return false;
+        }
+
+        boolean hasLiteralPattern = false;
+        for (BLangMatchClause matchClause : matchStatement.matchClauses) {
+            for (BLangMatchPattern matchPattern : matchClause.matchPatterns) {
+                switch (matchPattern.getKind()) {
+                    case WILDCARD_MATCH_PATTERN:
+                        if (!((BLangWildCardMatchPattern) matchPattern).matchesAll) {
+                            return false;
+                        }
+                        break;
+                    case CONST_MATCH_PATTERN:
+                        if (!isSwitchCaseLiteral(((BLangConstPattern) matchPattern).expr)) {
+                            return false;
+                        }
+                        hasLiteralPattern = true;
+                        break;
+                    default:
+                        return false;
+                }
+            }
+        }
+        return hasLiteralPattern;
+    }
+
+    private boolean isSwitchableType(BType type) {
+        if (TypeTags.isIntegerTypeTag(type.tag) || TypeTags.isStringTypeTag(type.tag)) {
+            return true;
+        }
+        switch (type.tag) {
+            case TypeTags.BYTE:
+            case TypeTags.UNION:
+            case TypeTags.FINITE:
+            case TypeTags.ANY:
+            case TypeTags.ANYDATA:
+            case TypeTags.JSON:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isSwitchCaseLiteral(BLangExpression expr) {
+        if (!(expr instanceof LiteralNode) || expr.impConversionExpr != null) {
+            return false;
+        }
+        Object value = ((LiteralNode) expr).getValue();
+        int tag = expr.type.tag;
+        if (TypeTags.isIntegerTypeTag(tag) || tag == TypeTags.BYTE) {
+            return value instanceof Long || value instanceof Integer;
+        }
+        return TypeTags.isStringTypeTag(tag) && value instanceof String;
+    }
+
     private BLangStatement convertMatchClausesToIfElseStmt(List<BLangMatchClause> matchClauses,
                                                            BLangSimpleVariable matchExprVar) {
         BLangIf parentIfNode = convertMatchClauseToIfStmt(matchClauses.get(0), matchExprVar);
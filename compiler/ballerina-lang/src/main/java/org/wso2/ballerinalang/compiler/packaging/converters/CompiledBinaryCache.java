@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.packaging.converters;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A process wide cache of the BIR files read from the repositories.
+ * <p>
+ * The cache is disabled by default, since a single compilation reads each BIR file only once. A long running
+ * process that compiles many times, such as the compiler daemon, enables it so that the BIR of the lang library and
+ * the standard library is read from the disk once. An entry is reused only while the last modified time and the
+ * size of the file are unchanged, so a repository that is updated in between compilations is read again.
+ *
+ * @since 2.0.0
+ */
+public class CompiledBinaryCache {
+
+    private static volatile boolean enabled = false;
+    private static final Map<Path, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private CompiledBinaryCache() {
+    }
+
+    public static void setEnabled(boolean enabled) {
+
+        CompiledBinaryCache.enabled = enabled;
+        if (!enabled) {
+            ENTRIES.clear();
+        }
+    }
+
+    public static boolean isEnabled() {
+
+        return enabled;
+    }
+
+    public static int size() {
+
+        return ENTRIES.size();
+    }
+
+    /**
+     * Reads the given file, reusing the content read earlier if the file has not been modified since.
+     *
+     * @param path path of the file
+     * @return content of the file
+     * @throws IOException if the file cannot be read
+     */
+    static byte[] read(Path path) throws IOException {
+
+        if (!enabled || path.getFileSystem() != FileSystems.getDefault()) {
+            return Files.readAllBytes(path);
+        }
+
+        Path key = path.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        Entry entry = ENTRIES.get(key);
+        if (entry != null && entry.lastModified == lastModified && entry.content.length == attributes.size()) {
+            return entry.content;
+        }
+
+        byte[] content = Files.readAllBytes(key);
+        ENTRIES.put(key, new Entry(lastModified, content));
+        return content;
+    }
+
+    private static class Entry {
+
+        private final long lastModified;
+        private final byte[] content;
+
+        private Entry(long lastModified, byte[] content) {
+            this.lastModified = lastModified;
+            this.content = content;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_PKG_BINARY_EXT;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_PKG_BIR_EXT;
 
 /**
  * Source file in the real file system (as opposed to in memory).
@@ -59,6 +60,9 @@ public class FileSystemSourceInput implements CompilerInput {
             return code;
         }
         try {
+            if (isBirFile(path)) {
+                return this.code = CompiledBinaryCache.read(path);
+            }
             byte[] code = Files.readAllBytes(path);
             if (isBLangBinaryFile(path)) {
                 path.getFileSystem().close();
@@ -90,4 +94,8 @@ public class FileSystemSourceInput implements CompilerInput {
     private boolean isBLangBinaryFile(Path path) {
         return path.toString().endsWith(BLANG_COMPILED_PKG_BINARY_EXT);
     }
+
+    private boolean isBirFile(Path path) {
+        return path.toString().endsWith(BLANG_COMPILED_PKG_BIR_EXT);
+    }
 }
@@ -83,8 +83,11 @@ import org.wso2.ballerinalang.util.Lists;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -128,6 +131,13 @@ public class Types {
     private int finiteTypeCount = 0;
     private BUnionType expandedXMLBuiltinSubtypes;
 
+    // Results of the type relations checked while the relation cache is enabled, or null while it is disabled
+    private Map<TypeRelation, Boolean> sameTypeCache;
+    private Map<TypeRelation, Boolean> assignableCache;
+    private Set<BType> stableTypes;
+    private long relationCacheHits = 0;
+    private long relationCacheMisses = 0;
+
     public static Types getInstance(CompilerContext context) {
         Types types = context.get(TYPES_KEY);
         if (types == null) {
@@ -222,7 +232,20 @@ public class Types {
     }
 
     public boolean isSameType(BType source, BType target) {
-        return isSameType(source, target, new HashSet<>());
+        if (!isRelationCacheable(source, target)) {
+            return isSameType(source, target, new HashSet<>());
+        }
+
+        TypeRelation relation = new TypeRelation(source, target);
+        Boolean cachedResult = sameTypeCache.get(relation);
+        if (cachedResult != null) {
+            relationCacheHits++;
+            return cachedResult;
+        }
+        relationCacheMisses++;
+        boolean result = isSameType(source, target, new HashSet<>());
+        sameTypeCache.put(relation, result);
+        return result;
     }
 
     private boolean isSameType(BType source, BType target, Set<TypePair> unresolvedTypes) {
@@ -232,6 +255,9 @@ public class Types {
         if (unresolvedTypes.contains(pair)) {
             return true;
         }
+        if (isCachedAsRelated(sameTypeCache, source, target)) {
+            return true;
+        }
         unresolvedTypes.add(pair);
 
         BTypeVisitor<BType, Boolean> sameTypeVisitor = new BSameTypeVisitor(unresolvedTypes);
@@ -386,7 +412,123 @@ public class Types {
      * @return true if source type is assignable to the target type.
      */
     public boolean isAssignable(BType source, BType target) {
-        return isAssignable(source, target, new HashSet<>());
+        if (!isRelationCacheable(source, target)) {
+            return checkAssignable(source, target, new HashSet<>());
+        }
+
+        TypeRelation relation = new TypeRelation(source, target);
+        Boolean cachedResult = assignableCache.get(relation);
+        if (cachedResult != null) {
+            relationCacheHits++;
+            return cachedResult;
+        }
+        relationCacheMisses++;
+        boolean result = checkAssignable(source, target, new HashSet<>());
+        assignableCache.put(relation, result);
+        return result;
+    }
+
+    /**
+     * Starts caching the results of {@link #isSameType(BType, BType)} and {@link #isAssignable(BType, BType)}. The
+     * types must not be modified while the cache is enabled, other than the ones without a type symbol, which are not
+     * cached as they are still being built, and the ones with an array of inferred size, which are not cached until
+     * the size is inferred.
+     */
+    public void enableRelationCache() {
+        this.sameTypeCache = new HashMap<>();
+        this.assignableCache = new HashMap<>();
+        this.stableTypes = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.relationCacheHits = 0;
+        this.relationCacheMisses = 0;
+    }
+
+    /**
+     * Stops caching the results of the type relations, and discards the cached results.
+     */
+    public void disableRelationCache() {
+        this.sameTypeCache = null;
+        this.assignableCache = null;
+        this.stableTypes = null;
+    }
+
+    /**
+     * Returns the number of type relations found in the cache since it was last enabled.
+     *
+     * @return number of cache hits
+     */
+    public long getRelationCacheHits() {
+        return relationCacheHits;
+    }
+
+    /**
+     * Returns the number of type relations looked up in the cache but not found, or found not to hold when checked
+     * within another one, since the cache was last enabled.
+     *
+     * @return number of cache misses
+     */
+    public long getRelationCacheMisses() {
+        return relationCacheMisses;
+    }
+
+    private boolean isRelationCacheable(BType source, BType target) {
+        return assignableCache != null && source.tsymbol != null && target.tsymbol != null &&
+                isStableType(source) && isStableType(target);
+    }
+
+    /**
+     * Checks whether the given type can no longer be modified by the type checker, which closes the arrays of
+     * inferred size, such as {@code int[*]}, once their size is known. Once a type is found to be stable it remains
+     * so, hence the stable types are remembered while the cache is enabled.
+     */
+    private boolean isStableType(BType type) {
+        if (stableTypes.contains(type)) {
+            return true;
+        }
+        if (!isStableType(type, new HashSet<>())) {
+            return false;
+        }
+        stableTypes.add(type);
+        return true;
+    }
+
+    private boolean isStableType(BType type, Set<BType> visitedTypes) {
+        if (type == null || stableTypes.contains(type) || !visitedTypes.add(type)) {
+            return true;
+        }
+
+        switch (type.tag) {
+            case TypeTags.ARRAY:
+                BArrayType arrayType = (BArrayType) type;
+                return arrayType.state != BArrayState.OPEN_SEALED && isStableType(arrayType.eType, visitedTypes);
+            case TypeTags.TUPLE:
+                BTupleType tupleType = (BTupleType) type;
+                return tupleType.tupleTypes.stream().allMatch(memberType -> isStableType(memberType, visitedTypes))
+                        && (tupleType.restType == null || isStableType(tupleType.restType, visitedTypes));
+            case TypeTags.UNION:
+                return ((BUnionType) type).getMemberTypes().stream()
+                        .allMatch(memberType -> isStableType(memberType, visitedTypes));
+            case TypeTags.MAP:
+                return isStableType(((BMapType) type).constraint, visitedTypes);
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Checks whether a relation between the given types is known to hold. A relation checked within another one is
+     * computed assuming that the relations being checked hold, so only a cached result that holds without any such
+     * assumption can be reused for it.
+     */
+    private boolean isCachedAsRelated(Map<TypeRelation, Boolean> cache, BType source, BType target) {
+        if (!isRelationCacheable(source, target)) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(cache.get(new TypeRelation(source, target)))) {
+            relationCacheHits++;
+            return true;
+        }
+        relationCacheMisses++;
+        return false;
     }
 
     boolean isStampingAllowed(BType source, BType target) {
@@ -543,6 +685,13 @@ public class Types {
     }
 
     private boolean isAssignable(BType source, BType target, Set<TypePair> unresolvedTypes) {
+        if (isCachedAsRelated(assignableCache, source, target)) {
+            return true;
+        }
+        return checkAssignable(source, target, unresolvedTypes);
+    }
+
+    private boolean checkAssignable(BType source, BType target, Set<TypePair> unresolvedTypes) {
 
         if (isSameType(source, target)) {
             return true;
@@ -3302,6 +3451,35 @@ public class Types {
         }
     }
 
+    /**
+     * A pair of types that is equal only to the pair of the same type instances, which are the keys of the type
+     * relation cache.
+     */
+    private static class TypeRelation {
+        private final BType sourceType;
+        private final BType targetType;
+
+        private TypeRelation(BType sourceType, BType targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TypeRelation)) {
+                return false;
+            }
+
+            TypeRelation other = (TypeRelation) obj;
+            return this.sourceType == other.sourceType && this.targetType == other.targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        }
+    }
+
     /**
      * A functional interface for parameterizing the type of type checking that needs to be done on the source and
      * target types.
@@ -0,0 +1,262 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.wso2.ballerinalang.compiler.semantics.model;
+
+import org.wso2.ballerinalang.compiler.semantics.model.Scope.ScopeEntry;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Entries of a scope in which some of the symbols are defined only when they are needed.
+ * <p>
+ * A symbol that is not yet defined is held as a definer, which defines it in the scope. The definer of a name is run
+ * when the name is looked up, and all the definers are run when the entries are iterated, counted or compared. The
+ * order of the entries is then the order in which the names were first defined, as if no symbol had been deferred.
+ *
+ * @since 2.0.0
+ */
+class LazyScopeEntries extends LinkedHashMap<Name, ScopeEntry> {
+
+    private final Map<Name, Runnable> pendingDefiners = new LinkedHashMap<>();
+    private List<Name> definitionOrder;
+
+    LazyScopeEntries(Map<Name, ScopeEntry> entries) {
+        super(entries);
+        this.definitionOrder = new ArrayList<>(entries.keySet());
+    }
+
+    void addDefiner(Name name, Runnable definer) {
+        if (definitionOrder == null) {
+            definitionOrder = new ArrayList<>(super.keySet());
+        }
+        if (!super.containsKey(name) && !pendingDefiners.containsKey(name)) {
+            definitionOrder.add(name);
+        }
+        Runnable previous = pendingDefiners.put(name, definer);
+        if (previous != null) {
+            // Both definitions are kept, in the order in which they were added
+            pendingDefiners.put(name, () -> {
+                previous.run();
+                definer.run();
+            });
+        }
+    }
+
+    private void runDefiner(Object name) {
+        if (pendingDefiners.isEmpty()) {
+            return;
+        }
+        Runnable definer = pendingDefiners.remove(name);
+        if (definer != null) {
+            definer.run();
+        }
+    }
+
+    private void runAllDefiners() {
+        if (pendingDefiners.isEmpty()) {
+            return;
+        }
+        while (!pendingDefiners.isEmpty()) {
+            Name name = pendingDefiners.keySet().iterator().next();
+            pendingDefiners.remove(name).run();
+        }
+
+        Map<Name, ScopeEntry> orderedEntries = new LinkedHashMap<>();
+        for (Name name : definitionOrder) {
+            ScopeEntry entry = super.get(name);
+            if (entry != null) {
+                orderedEntries.put(name, entry);
+            }
+        }
+        for (Map.Entry<Name, ScopeEntry> entry : super.entrySet()) {
+            orderedEntries.putIfAbsent(entry.getKey(), entry.getValue());
+        }
+        super.clear();
+        super.putAll(orderedEntries);
+        definitionOrder = null;
+    }
+
+    @Override
+    public ScopeEntry get(Object key) {
+        runDefiner(key);
+        return super.get(key);
+    }
+
+    @Override
+    public ScopeEntry getOrDefault(Object key, ScopeEntry defaultValue) {
+        runDefiner(key);
+        return super.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        runDefiner(key);
+        return super.containsKey(key);
+    }
+
+    @Override
+    public ScopeEntry put(Name key, ScopeEntry value) {
+        runDefiner(key);
+        if (definitionOrder != null && !super.containsKey(key)) {
+            definitionOrder.add(key);
+        }
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends Name, ? extends ScopeEntry> m) {
+        m.forEach(this::put);
+    }
+
+    @Override
+    public ScopeEntry putIfAbsent(Name key, ScopeEntry value) {
+        runDefiner(key);
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public ScopeEntry remove(Object key) {
+        runDefiner(key);
+        return super.remove(key);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        runDefiner(key);
+        return super.remove(key, value);
+    }
+
+    @Override
+    public ScopeEntry replace(Name key, ScopeEntry value) {
+        runDefiner(key);
+        return super.replace(key, value);
+    }
+
+    @Override
+    public boolean replace(Name key, ScopeEntry oldValue, ScopeEntry newValue) {
+        runDefiner(key);
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public ScopeEntry computeIfAbsent(Name key, Function<? super Name, ? extends ScopeEntry> mappingFunction) {
+        runDefiner(key);
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public ScopeEntry computeIfPresent(Name key,
+                                      BiFunction<? super Name, ? super ScopeEntry, ? extends ScopeEntry> function) {
+        runDefiner(key);
+        return super.computeIfPresent(key, function);
+    }
+
+    @Override
+    public ScopeEntry compute(Name key, BiFunction<? super Name, ? super ScopeEntry, ? extends ScopeEntry> function) {
+        runDefiner(key);
+        return super.compute(key, function);
+    }
+
+    @Override
+    public ScopeEntry merge(Name key, ScopeEntry value,
+                            BiFunction<? super ScopeEntry, ? super ScopeEntry, ? extends ScopeEntry> function) {
+        runDefiner(key);
+        return super.merge(key, value, function);
+    }
+
+    @Override
+    public int size() {
+        runAllDefiners();
+        return super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return super.isEmpty() && pendingDefiners.isEmpty();
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        runAllDefiners();
+        return super.containsValue(value);
+    }
+
+    @Override
+    public Set<Name> keySet() {
+        runAllDefiners();
+        return super.keySet();
+    }
+
+    @Override
+    public Collection<ScopeEntry> values() {
+        runAllDefiners();
+        return super.values();
+    }
+
+    @Override
+    public Set<Map.Entry<Name, ScopeEntry>> entrySet() {
+        runAllDefiners();
+        return super.entrySet();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super Name, ? super ScopeEntry> action) {
+        runAllDefiners();
+        super.forEach(action);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super Name, ? super ScopeEntry, ? extends ScopeEntry> function) {
+        runAllDefiners();
+        super.replaceAll(function);
+    }
+
+    @Override
+    public void clear() {
+        pendingDefiners.clear();
+        definitionOrder = null;
+        super.clear();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        runAllDefiners();
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        runAllDefiners();
+        return super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        runAllDefiners();
+        return super.toString();
+    }
+}
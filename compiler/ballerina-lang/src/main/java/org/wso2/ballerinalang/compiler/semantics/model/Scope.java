@@ -56,6 +56,20 @@ public class Scope implements org.ballerinalang.model.Scope {
         entries.put(name, newEntry);
     }
 
+    /**
+     * Defines a symbol only when it is looked up by its name, or when the entries of the scope are iterated. This
+     * avoids creating the symbols of a compiled module that are never referred to.
+     *
+     * @param name    name of the symbol
+     * @param definer function that defines the symbol in this scope
+     */
+    public void defineLazily(Name name, Runnable definer) {
+        if (!(entries instanceof LazyScopeEntries)) {
+            entries = new LazyScopeEntries(entries);
+        }
+        ((LazyScopeEntries) entries).addDefiner(name, definer);
+    }
+
     public ScopeEntry lookup(Name name) {
         ScopeEntry entry = entries.get(name);
         if (entry == null) {
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.compiler.JarResolver;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.programfile.CompiledBinaryFile.BIRPackageFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the {@link CompiledJarCache} class.
+ *
+ * @since 2.0.0
+ */
+public class CompiledJarCacheTest {
+
+    private Path cacheDir;
+    private Path baloFile;
+    private Path nativeDependency;
+
+    @BeforeMethod
+    public void createCacheDir() throws IOException {
+        cacheDir = Files.createTempDirectory("build-cache");
+        baloFile = Files.createTempFile("dependency", ".balo");
+        Files.write(baloFile, new byte[]{1, 2, 3});
+        nativeDependency = Files.createTempFile("native", ".jar");
+        Files.write(nativeDependency, new byte[]{4, 5, 6});
+    }
+
+    @AfterMethod
+    public void deleteCacheDir() throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            files.map(Path::toFile).sorted((f1, f2) -> -f1.compareTo(f2)).forEach(File::delete);
+        }
+        Files.deleteIfExists(baloFile);
+        Files.deleteIfExists(nativeDependency);
+    }
+
+    @Test(description = "Test the cache is disabled without a cache directory")
+    public void testDisabledCache() {
+        Assert.assertFalse(CompiledJarCache.getInstance(new CompilerContext()).isEnabled());
+        Assert.assertTrue(createCache(Collections.emptyMap()).isEnabled());
+    }
+
+    @Test(description = "Test a generated jar is found under its key, and other keys are cache misses")
+    public void testHitAndMiss() {
+        CompiledJarCache cache = createCache(Collections.emptyMap());
+        String key = cache.getCacheKey(createModule("a", new byte[]{1}), Collections.emptySet());
+        Assert.assertFalse(cache.get(key).isPresent());
+
+        cache.put(key, createJarFile("a.main", new byte[]{10, 20}), 250);
+        Optional<CompiledJarFile> cachedJar = cache.get(key);
+        Assert.assertTrue(cachedJar.isPresent());
+        Assert.assertEquals(cachedJar.get().getMainClassName(), Optional.of("a.main"));
+        Assert.assertEquals(cachedJar.get().getJarEntries().get("a/main.class"), new byte[]{10, 20});
+
+        String otherKey = cache.getCacheKey(createModule("b", new byte[]{1}), Collections.emptySet());
+        Assert.assertFalse(cache.get(otherKey).isPresent());
+
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 2);
+        Assert.assertEquals(cache.getSavedTimeMillis(), 250);
+    }
+
+    @Test(description = "Test the key of a module is the same for the same inputs across compilations")
+    public void testStableKey() {
+        String key = createCache(Collections.emptyMap())
+                .getCacheKey(createModule("a", new byte[]{1}), Collections.singleton(nativeDependency));
+        String otherKey = createCache(Collections.emptyMap())
+                .getCacheKey(createModule("a", new byte[]{1}), Collections.singleton(nativeDependency));
+        Assert.assertEquals(otherKey, key);
+    }
+
+    @Test(description = "Test the key changes with the BIR of the module")
+    public void testBirChange() {
+        CompiledJarCache cache = createCache(Collections.emptyMap());
+        String key = cache.getCacheKey(createModule("a", new byte[]{1}), Collections.emptySet());
+        Assert.assertNotEquals(cache.getCacheKey(createModule("a", new byte[]{2}), Collections.emptySet()), key);
+    }
+
+    @Test(description = "Test the key changes with the BIR of a transitive dependency")
+    public void testDependencyChange() {
+        CompiledJarCache cache = createCache(Collections.emptyMap());
+        BPackageSymbol module = createModule("a", new byte[]{1});
+        BPackageSymbol dependency = createModule("b", new byte[]{2});
+        BPackageSymbol transitiveDependency = createModule("c", new byte[]{3});
+        module.imports.add(dependency);
+        dependency.imports.add(transitiveDependency);
+        String key = cache.getCacheKey(module, Collections.emptySet());
+
+        transitiveDependency.birPackageFile = new BIRPackageFile(new byte[]{4});
+        Assert.assertNotEquals(cache.getCacheKey(module, Collections.emptySet()), key);
+    }
+
+    @Test(description = "Test the key changes when the balo of a dependency is replaced")
+    public void testBaloChange() throws IOException {
+        CompiledJarCache cache = createCache(Collections.emptyMap());
+        BPackageSymbol module = createModule("a", new byte[]{1});
+        module.imports.add(createModule("b", new byte[]{2}));
+        String key = cache.getCacheKey(module, Collections.emptySet());
+
+        // Replaced by a balo of the same size and version
+        Files.write(baloFile, new byte[]{3, 2, 1});
+        Files.setLastModifiedTime(baloFile, FileTime.fromMillis(Files.getLastModifiedTime(baloFile).toMillis() + 1000));
+        Assert.assertNotEquals(cache.getCacheKey(module, Collections.emptySet()), key);
+    }
+
+    @Test(description = "Test the key changes when a native dependency of the module changes")
+    public void testNativeDependencyChange() throws IOException {
+        CompiledJarCache cache = createCache(Collections.emptyMap());
+        BPackageSymbol module = createModule("a", new byte[]{1});
+        Set<Path> nativeDependencies = Collections.singleton(nativeDependency);
+        String key = cache.getCacheKey(module, nativeDependencies);
+
+        Files.write(nativeDependency, new byte[]{4, 5, 6, 7});
+        Assert.assertNotEquals(cache.getCacheKey(module, nativeDependencies), key);
+        Assert.assertNotEquals(cache.getCacheKey(module, Collections.emptySet()), key);
+    }
+
+    @Test(description = "Test the key changes with the compiler options, but not with the cache directory")
+    public void testOptionsChange() throws IOException {
+        String key = createCache(Collections.emptyMap())
+                .getCacheKey(createModule("a", new byte[]{1}), Collections.emptySet());
+        String skipTestsKey = createCache(Collections.singletonMap(CompilerOptionName.SKIP_TESTS, "true"))
+                .getCacheKey(createModule("a", new byte[]{1}), Collections.emptySet());
+        Assert.assertNotEquals(skipTestsKey, key);
+
+        CompilerContext context = new CompilerContext();
+        context.put(JarResolver.JAR_RESOLVER_KEY, new BaloJarResolver());
+        CompilerOptions.getInstance(context).put(CompilerOptionName.BUILD_CACHE_DIR,
+                Files.createTempDirectory(cacheDir, "other").toString());
+        String otherCacheDirKey = CompiledJarCache.getInstance(context)
+                .getCacheKey(createModule("a", new byte[]{1}), Collections.emptySet());
+        Assert.assertEquals(otherCacheDirKey, key);
+    }
+
+    @Test(description = "Test the least recently used entries are evicted once the cache grows beyond its size")
+    public void testEviction() throws IOException {
+        CompiledJarCache cache = createCache(Collections.emptyMap());
+        String keyA = cache.getCacheKey(createModule("a", new byte[]{1}), Collections.emptySet());
+        String keyB = cache.getCacheKey(createModule("b", new byte[]{1}), Collections.emptySet());
+        String keyC = cache.getCacheKey(createModule("c", new byte[]{1}), Collections.emptySet());
+
+        cache.put(keyA, createJarFile("main", new byte[1024]), 100);
+        cache.put(keyB, createJarFile("main", new byte[1024]), 100);
+        long now = System.currentTimeMillis();
+        Files.setLastModifiedTime(cacheDir.resolve(keyA + ".jar"), FileTime.fromMillis(now - 20000));
+        Files.setLastModifiedTime(cacheDir.resolve(keyB + ".jar"), FileTime.fromMillis(now - 10000));
+
+        // Reading an entry makes it the most recently used one.
+        Assert.assertTrue(cache.get(keyA).isPresent());
+        long entrySize = Files.size(cacheDir.resolve(keyA + ".jar"));
+        cache.setMaxCacheSize(entrySize * 2 + entrySize / 2);
+        cache.put(keyC, createJarFile("main", new byte[1024]), 100);
+
+        Assert.assertTrue(Files.exists(cacheDir.resolve(keyA + ".jar")));
+        Assert.assertFalse(Files.exists(cacheDir.resolve(keyB + ".jar")));
+        Assert.assertTrue(Files.exists(cacheDir.resolve(keyC + ".jar")));
+        Assert.assertFalse(cache.get(keyB).isPresent());
+    }
+
+    private CompiledJarCache createCache(Map<CompilerOptionName, String> options) {
+        CompilerContext context = new CompilerContext();
+        context.put(JarResolver.JAR_RESOLVER_KEY, new BaloJarResolver());
+        CompilerOptions compilerOptions = CompilerOptions.getInstance(context);
+        compilerOptions.put(CompilerOptionName.BUILD_CACHE_DIR, cacheDir.toString());
+        options.forEach(compilerOptions::put);
+        return CompiledJarCache.getInstance(context);
+    }
+
+    private static BPackageSymbol createModule(String name, byte[] bir) {
+        PackageID pkgID = new PackageID(new Name("testorg"), new Name(name), new Name("1.0.0"));
+        BPackageSymbol packageSymbol = new BPackageSymbol(pkgID, null, null, SymbolOrigin.SOURCE);
+        packageSymbol.birPackageFile = new BIRPackageFile(bir);
+        return packageSymbol;
+    }
+
+    private static CompiledJarFile createJarFile(String mainClassName, byte[] classBytes) {
+        Map<String, byte[]> jarEntries = new HashMap<>();
+        jarEntries.put(mainClassName.replace('.', '/') + ".class", classBytes);
+        return new CompiledJarFile(mainClassName, jarEntries);
+    }
+
+    /**
+     * Resolves every dependency to the same balo.
+     */
+    private class BaloJarResolver implements JarResolver {
+
+        @Override
+        public Path moduleJar(PackageID packageID) {
+            return null;
+        }
+
+        @Override
+        public Path moduleTestJar(BLangPackage bLangPackage) {
+            return null;
+        }
+
+        @Override
+        public Path moduleBalo(PackageID packageID) {
+            return baloFile;
+        }
+
+        @Override
+        public HashSet<Path> nativeDependencies(PackageID packageID) {
+            return new HashSet<>();
+        }
+
+        @Override
+        public HashSet<Path> nativeDependenciesForTests(PackageID packageID) {
+            return new HashSet<>();
+        }
+
+        @Override
+        public HashSet<Path> allDependencies(BLangPackage bLangPackage) {
+            return new HashSet<>();
+        }
+
+        @Override
+        public HashSet<Path> allTestDependencies(BLangPackage bLangPackage) {
+            return new HashSet<>();
+        }
+
+        @Override
+        public Path getRuntimeJar() {
+            return null;
+        }
+    }
+}
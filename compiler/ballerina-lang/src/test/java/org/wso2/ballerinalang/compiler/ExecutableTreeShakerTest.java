@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+/**
+ * Tests for the {@link ExecutableTreeShaker} class.
+ *
+ * @since 2.0.0
+ */
+public class ExecutableTreeShakerTest {
+
+    private Path jarPath;
+
+    @BeforeMethod
+    public void createJar() throws IOException {
+        jarPath = Files.createTempFile("executable", ".jar");
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, "app.Main");
+        try (JarOutputStream jarOutputStream = new JarOutputStream(Files.newOutputStream(jarPath), manifest)) {
+            addEntry(jarOutputStream, "app/Main.class", createMainClass());
+            // Referenced from the code of the main class
+            addEntry(jarOutputStream, "app/Used.class", createClass("app/Used", "app/Field"));
+            // Referenced from a field of a referenced class
+            addEntry(jarOutputStream, "app/Field.class", createClass("app/Field", null));
+            // Named by a string constant of the main class
+            addEntry(jarOutputStream, "app/Reflective.class", createClass("app/Reflective", null));
+            addEntry(jarOutputStream, "app/Unused.class", createClass("app/Unused", "app/Field"));
+            addEntry(jarOutputStream, "app/Service.class", createClass("app/Service", null));
+            addEntry(jarOutputStream, "app/ServiceProvider.class", createClass("app/ServiceProvider", null));
+            addEntry(jarOutputStream, "META-INF/services/app.Service",
+                     "# providers\napp.ServiceProvider\n".getBytes(StandardCharsets.UTF_8));
+            addEntry(jarOutputStream, "kept/Kept.class", createClass("kept/Kept", null));
+            addEntry(jarOutputStream, "other/Other.class", createClass("other/Other", null));
+            addEntry(jarOutputStream, "app/config.properties", "key=value".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @AfterMethod
+    public void deleteJar() throws IOException {
+        Files.deleteIfExists(jarPath);
+    }
+
+    @Test(description = "Test the classes reachable from the entry points and the other entries are retained")
+    public void testRetainedEntries() throws IOException {
+        Set<String> retainedEntries = new ExecutableTreeShaker(Collections.emptyList()).findRetainedEntries(jarPath);
+        Assert.assertEquals(retainedEntries, new HashSet<>(Arrays.asList(
+                "META-INF/MANIFEST.MF", "META-INF/services/app.Service", "app/config.properties",
+                "app/Main.class", "app/Used.class", "app/Field.class", "app/Reflective.class",
+                "app/Service.class", "app/ServiceProvider.class")));
+    }
+
+    @Test(description = "Test the classes of the keep-list are retained along with the classes they refer to")
+    public void testKeepList() throws IOException {
+        Set<String> retainedEntries = new ExecutableTreeShaker(Arrays.asList("kept.*", "app.Unused"))
+                .findRetainedEntries(jarPath);
+        Assert.assertTrue(retainedEntries.contains("kept/Kept.class"));
+        Assert.assertTrue(retainedEntries.contains("app/Unused.class"));
+        Assert.assertFalse(retainedEntries.contains("other/Other.class"));
+    }
+
+    private void addEntry(JarOutputStream jarOutputStream, String name, byte[] content) throws IOException {
+        jarOutputStream.putNextEntry(new JarEntry(name));
+        jarOutputStream.write(content);
+        jarOutputStream.closeEntry();
+    }
+
+    private byte[] createMainClass() {
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, "app/Main", null, "java/lang/Object", null);
+        MethodVisitor mv = classWriter.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC, "main",
+                                                   "([Ljava/lang/String;)V", null, null);
+        mv.visitCode();
+        mv.visitTypeInsn(Opcodes.NEW, "app/Used");
+        mv.visitInsn(Opcodes.DUP);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "app/Used", "<init>", "()V", false);
+        mv.visitInsn(Opcodes.POP);
+        mv.visitLdcInsn("app.Reflective");
+        mv.visitInsn(Opcodes.POP);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+
+    private byte[] createClass(String className, String fieldClassName) {
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, className, null, "java/lang/Object", null);
+        if (fieldClassName != null) {
+            classWriter.visitField(Opcodes.ACC_PRIVATE, "field", "L" + fieldClassName + ";", null, null).visitEnd();
+        }
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunctionParameter;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Call;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Return;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.compiler.util.diagnotic.BDiagnosticSource;
+import org.wso2.ballerinalang.compiler.util.diagnotic.DiagnosticPos;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests for the {@link BIRFunctionInliner} class.
+ *
+ * @since 2.0.0
+ */
+public class BIRFunctionInlinerTest {
+
+    private static final BType INT = new BType(TypeTags.INT, null);
+    private static final BType ERROR = new BType(TypeTags.ERROR, null);
+    private static final PackageID PKG_ID = new PackageID(new Name("test"), new Name("inline"), new Name("1.0.0"));
+
+    private BIRPackage pkg;
+    private BIRFunction caller;
+    private BIRBasicBlock callerEntryBB;
+    private BIRBasicBlock callerExitBB;
+
+    @BeforeMethod
+    public void createPackage() {
+        pkg = new BIRPackage(null, PKG_ID.orgName, PKG_ID.name, PKG_ID.version, new Name("main.bal"));
+        caller = addFunction("caller");
+        callerEntryBB = addBasicBlock(caller);
+        callerExitBB = addBasicBlock(caller);
+        callerExitBB.terminator = new Return(createPos("main.bal", 21));
+    }
+
+    @Test(description = "Test a small leaf function is inlined and keeps its positions")
+    public void testSmallFunctionIsInlined() {
+        BIRFunction callee = addFunction("add");
+        BIRVariableDcl a = addParameter(callee);
+        BIRVariableDcl b = addParameter(callee);
+        BIRBasicBlock calleeBB = addBasicBlock(callee);
+        calleeBB.instructions.add(new BinaryOp(createPos("main.bal", 10), InstructionKind.ADD, INT,
+                                               new BIROperand(callee.returnVariable), new BIROperand(a),
+                                               new BIROperand(b)));
+        calleeBB.terminator = new Return(createPos("main.bal", 11));
+        addCall(callee, createPos("main.bal", 20), addVar(caller, VarKind.LOCAL), addVar(caller, VarKind.LOCAL));
+
+        inline();
+
+        Assert.assertFalse(getInstructionKinds(caller).contains(InstructionKind.CALL));
+        BIRAbstractInstruction add = findInstruction(caller, InstructionKind.ADD);
+        Assert.assertEquals(add.pos.sLine, 10);
+        Assert.assertNotSame(add.lhsOp.variableDcl, callee.returnVariable);
+        Assert.assertTrue(caller.localVars.contains(add.lhsOp.variableDcl));
+
+        // The arguments are moved to the copies of the parameters at the call site.
+        Assert.assertEquals(callerEntryBB.instructions.size(), 2);
+        Assert.assertEquals(callerEntryBB.instructions.get(0).pos.sLine, 20);
+        Assert.assertEquals(callerEntryBB.terminator.kind, InstructionKind.GOTO);
+    }
+
+    @Test(description = "Test the instructions of a function in another source file take the position of the call")
+    public void testFunctionInAnotherSourceFileTakesCallPosition() {
+        BIRFunction callee = addFunction("answer");
+        BIRBasicBlock calleeBB = addBasicBlock(callee);
+        calleeBB.instructions.add(new ConstantLoad(createPos("utils.bal", 5), 42L, INT,
+                                                   new BIROperand(callee.returnVariable)));
+        calleeBB.terminator = new Return(createPos("utils.bal", 6));
+        addCall(callee, createPos("main.bal", 20));
+
+        inline();
+
+        Assert.assertFalse(getInstructionKinds(caller).contains(InstructionKind.CALL));
+        Assert.assertEquals(findInstruction(caller, InstructionKind.CONST_LOAD).pos.sLine, 20);
+    }
+
+    @Test(description = "Test a function with more instructions than the limit is not inlined")
+    public void testLargeFunctionIsNotInlined() {
+        BIRFunction callee = addFunction("large");
+        BIRBasicBlock calleeBB = addBasicBlock(callee);
+        for (int i = 0; i < 17; i++) {
+            calleeBB.instructions.add(new ConstantLoad(null, (long) i, INT, new BIROperand(callee.returnVariable)));
+        }
+        calleeBB.terminator = new Return(null);
+        addCall(callee, null);
+
+        inline();
+
+        Assert.assertEquals(callerEntryBB.terminator.kind, InstructionKind.CALL);
+        Assert.assertEquals(caller.basicBlocks, Arrays.asList(callerEntryBB, callerExitBB));
+    }
+
+    @Test(description = "Test a recursive function is not inlined")
+    public void testRecursiveFunctionIsNotInlined() {
+        BIRFunction callee = addFunction("recurse");
+        BIRBasicBlock calleeEntryBB = addBasicBlock(callee);
+        BIRBasicBlock calleeExitBB = addBasicBlock(callee);
+        calleeEntryBB.terminator = new Call(null, InstructionKind.CALL, false, PKG_ID, callee.name,
+                                            Collections.emptyList(), new BIROperand(callee.returnVariable),
+                                            calleeExitBB, Collections.emptyList(), Collections.emptySet());
+        calleeExitBB.terminator = new Return(null);
+        addCall(callee, null);
+
+        inline();
+
+        Assert.assertEquals(callerEntryBB.terminator.kind, InstructionKind.CALL);
+        Assert.assertEquals(caller.basicBlocks, Arrays.asList(callerEntryBB, callerExitBB));
+    }
+
+    @Test(description = "Test a function with an error table is not inlined")
+    public void testFunctionWithErrorTableIsNotInlined() {
+        BIRFunction callee = addFunction("trap");
+        BIRBasicBlock calleeEntryBB = addBasicBlock(callee);
+        BIRBasicBlock calleeErrorBB = addBasicBlock(callee);
+        calleeEntryBB.instructions.add(new ConstantLoad(null, 1L, INT, new BIROperand(callee.returnVariable)));
+        calleeEntryBB.terminator = new Return(null);
+        calleeErrorBB.terminator = new Return(null);
+        // The error is assigned to a simple variable, so that only the error table prevents the inlining.
+        BIRVariableDcl error = addVar(callee, VarKind.TEMP);
+        callee.errorTable.add(new BIRErrorEntry(calleeEntryBB, calleeEntryBB, new BIROperand(error), calleeErrorBB));
+        addCall(callee, null);
+
+        inline();
+
+        Assert.assertEquals(callerEntryBB.terminator.kind, InstructionKind.CALL);
+    }
+
+    @Test(description = "Test calls are not inlined into a function with an error table")
+    public void testCallerWithErrorTableIsNotInlinedInto() {
+        BIRFunction callee = addFunction("one");
+        BIRBasicBlock calleeBB = addBasicBlock(callee);
+        calleeBB.instructions.add(new ConstantLoad(null, 1L, INT, new BIROperand(callee.returnVariable)));
+        calleeBB.terminator = new Return(null);
+        addCall(callee, null);
+        BIRVariableDcl error = addVar(caller, VarKind.TEMP);
+        error.type = ERROR;
+        caller.errorTable.add(new BIRErrorEntry(callerEntryBB, callerEntryBB, new BIROperand(error), callerExitBB));
+
+        inline();
+
+        Assert.assertEquals(callerEntryBB.terminator.kind, InstructionKind.CALL);
+        Assert.assertEquals(caller.basicBlocks, Arrays.asList(callerEntryBB, callerExitBB));
+    }
+
+    private void inline() {
+        BIRFunctionInliner inliner = new BIRFunctionInliner();
+        inliner.recordInlineCandidates(pkg);
+        inliner.inlineCalls(pkg);
+    }
+
+    private BIRFunction addFunction(String name) {
+        BIRFunction func = new BIRFunction(null, new Name(name), 0, null, null, 0, null, SymbolOrigin.SOURCE);
+        func.returnVariable = addVar(func, VarKind.RETURN);
+        pkg.functions.add(func);
+        return func;
+    }
+
+    private BIRBasicBlock addBasicBlock(BIRFunction func) {
+        BIRBasicBlock basicBlock = new BIRBasicBlock(new Name("bb" + func.basicBlocks.size()));
+        func.basicBlocks.add(basicBlock);
+        return basicBlock;
+    }
+
+    private BIRVariableDcl addVar(BIRFunction func, VarKind kind) {
+        BIRVariableDcl var = new BIRVariableDcl(INT, new Name("%" + func.localVars.size()), VarScope.FUNCTION, kind);
+        func.localVars.add(var);
+        return var;
+    }
+
+    private BIRVariableDcl addParameter(BIRFunction func) {
+        BIRFunctionParameter param = new BIRFunctionParameter(null, INT, new Name("%" + func.localVars.size()),
+                                                              VarScope.FUNCTION, VarKind.ARG, null, false);
+        func.localVars.add(param);
+        func.parameters.put(param, new ArrayList<>());
+        return param;
+    }
+
+    private void addCall(BIRFunction callee, DiagnosticPos pos, BIRVariableDcl... args) {
+        List<BIROperand> argOps = new ArrayList<>();
+        for (BIRVariableDcl arg : args) {
+            argOps.add(new BIROperand(arg));
+        }
+        BIROperand lhsOp = new BIROperand(addVar(caller, VarKind.TEMP));
+        callerEntryBB.terminator = new Call(pos, InstructionKind.CALL, false, PKG_ID, callee.name, argOps, lhsOp,
+                                            callerExitBB, Collections.emptyList(), Collections.emptySet());
+    }
+
+    private DiagnosticPos createPos(String compUnitName, int line) {
+        return new DiagnosticPos(new BDiagnosticSource(PKG_ID, compUnitName), line, line, 1, 1);
+    }
+
+    private List<InstructionKind> getInstructionKinds(BIRFunction func) {
+        List<InstructionKind> kinds = new ArrayList<>();
+        for (BIRBasicBlock basicBlock : func.basicBlocks) {
+            for (BIRAbstractInstruction instruction : basicBlock.instructions) {
+                kinds.add(instruction.kind);
+            }
+            kinds.add(basicBlock.terminator.kind);
+        }
+        return kinds;
+    }
+
+    private BIRAbstractInstruction findInstruction(BIRFunction func, InstructionKind kind) {
+        for (BIRBasicBlock basicBlock : func.basicBlocks) {
+            for (BIRAbstractInstruction instruction : basicBlock.instructions) {
+                if (instruction.kind == kind) {
+                    return instruction;
+                }
+            }
+        }
+        throw new AssertionError("instruction not found: " + kind);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.BinaryOp;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.ConstantLoad;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.Move;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Branch;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.GOTO;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator.Return;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Tests for the {@link ConstantPropagator}, {@link CopyPropagator} and {@link DeadCodeEliminator} classes.
+ *
+ * @since 2.0.0
+ */
+public class DataFlowOptimizerTest {
+
+    private static final BType INT = new BType(TypeTags.INT, null);
+    private static final BType BOOLEAN = new BType(TypeTags.BOOLEAN, null);
+    private static final BType ERROR = new BType(TypeTags.ERROR, null);
+
+    private BIRFunction func;
+
+    @BeforeMethod
+    public void createFunction() {
+        func = new BIRFunction(null, new Name("test"), 0, null, null, 0, null, SymbolOrigin.SOURCE);
+        func.returnVariable = addVar(INT, VarKind.RETURN);
+    }
+
+    @Test(description = "Test operations on constants are folded and branches on constants are replaced with jumps")
+    public void testConstantFolding() {
+        BIRBasicBlock entryBB = addBasicBlock();
+        BIRBasicBlock thenBB = addBasicBlock();
+        BIRBasicBlock elseBB = addBasicBlock();
+        BIRVariableDcl ten = addConstant(entryBB, 10L);
+        BIRVariableDcl four = addConstant(entryBB, 4L);
+        BIRVariableDcl product = addBinaryOp(entryBB, InstructionKind.MUL, INT, ten, four);
+        BIRVariableDcl forty = addConstant(entryBB, 40L);
+        BIRVariableDcl isGreater = addBinaryOp(entryBB, InstructionKind.GREATER_THAN, BOOLEAN, product, forty);
+        entryBB.terminator = new Branch(null, new BIROperand(isGreater), thenBB, elseBB);
+        thenBB.instructions.add(new Move(null, new BIROperand(product), new BIROperand(func.returnVariable)));
+        thenBB.terminator = new Return(null);
+        elseBB.instructions.add(new ConstantLoad(null, 0L, INT, new BIROperand(func.returnVariable)));
+        elseBB.terminator = new Return(null);
+
+        Assert.assertTrue(new ConstantPropagator().optimize(func));
+        Assert.assertEquals(((ConstantLoad) entryBB.instructions.get(2)).value, 40L);
+        Assert.assertEquals(((ConstantLoad) entryBB.instructions.get(4)).value, false);
+        Assert.assertEquals(entryBB.terminator.kind, InstructionKind.GOTO);
+        Assert.assertSame(((GOTO) entryBB.terminator).targetBB, elseBB);
+
+        DeadCodeEliminator deadCodeEliminator = new DeadCodeEliminator();
+        Assert.assertTrue(deadCodeEliminator.removeUnreachableBlocks(func));
+        Assert.assertEquals(func.basicBlocks, Arrays.asList(entryBB, elseBB));
+        Assert.assertTrue(deadCodeEliminator.removeDeadStores(func));
+        Assert.assertTrue(entryBB.instructions.isEmpty());
+        Assert.assertEquals(elseBB.instructions.size(), 1);
+        Assert.assertEquals(func.localVars, Collections.singletonList(func.returnVariable));
+    }
+
+    @Test(description = "Test operations that panic on constants are neither folded nor removed")
+    public void testPanickingOperationsAreKept() {
+        BIRBasicBlock entryBB = addBasicBlock();
+        BIRVariableDcl one = addConstant(entryBB, 1L);
+        BIRVariableDcl zero = addConstant(entryBB, 0L);
+        addBinaryOp(entryBB, InstructionKind.DIV, INT, one, zero);
+        entryBB.terminator = new Return(null);
+
+        Assert.assertFalse(new ConstantPropagator().optimize(func));
+        Assert.assertFalse(new DeadCodeEliminator().removeDeadStores(func));
+        Assert.assertEquals(entryBB.instructions.get(2).kind, InstructionKind.DIV);
+    }
+
+    @Test(description = "Test copies are propagated only to the operands that are not shared by other instructions")
+    public void testCopyPropagationWithSharedOperands() {
+        BIRBasicBlock entryBB = addBasicBlock();
+        BIRVariableDcl original = addVar(INT, VarKind.LOCAL);
+        entryBB.instructions.add(new ConstantLoad(null, 5L, INT, new BIROperand(original)));
+        BIRVariableDcl copy = addVar(INT, VarKind.TEMP);
+        entryBB.instructions.add(new Move(null, new BIROperand(original), new BIROperand(copy)));
+        BIROperand sharedOperand = new BIROperand(copy);
+        BIROperand ownOperand = new BIROperand(copy);
+        BIRVariableDcl sum = addVar(INT, VarKind.TEMP);
+        entryBB.instructions.add(new BinaryOp(null, InstructionKind.ADD, INT, new BIROperand(sum), sharedOperand,
+                                              ownOperand));
+        entryBB.instructions.add(new BinaryOp(null, InstructionKind.MUL, INT, new BIROperand(func.returnVariable),
+                                              sharedOperand, new BIROperand(sum)));
+        entryBB.terminator = new Return(null);
+
+        Assert.assertTrue(new CopyPropagator().optimize(func));
+        Assert.assertSame(ownOperand.variableDcl, original);
+        Assert.assertSame(sharedOperand.variableDcl, copy);
+
+        // The copy is still read through the shared operand.
+        new DeadCodeEliminator().removeDeadStores(func);
+        Assert.assertEquals(entryBB.instructions.get(1).kind, InstructionKind.MOVE);
+        Assert.assertTrue(func.localVars.contains(copy));
+    }
+
+    @Test(description = "Test the variables and basic blocks referred by the error table are not removed")
+    public void testDeadCodeWithErrorTable() {
+        BIRBasicBlock entryBB = addBasicBlock();
+        BIRBasicBlock errorBB = addBasicBlock();
+        BIRBasicBlock unreachableBB = addBasicBlock();
+        BIRVariableDcl cause = addVar(ERROR, VarKind.LOCAL);
+        BIRVariableDcl error = addVar(ERROR, VarKind.TEMP);
+        entryBB.instructions.add(new Move(null, new BIROperand(cause), new BIROperand(error)));
+        BIRVariableDcl unused = addConstant(entryBB, 1L);
+        entryBB.terminator = new Return(null);
+        errorBB.terminator = new Return(null);
+        unreachableBB.terminator = new Return(null);
+        func.errorTable.add(new BIRErrorEntry(entryBB, entryBB, new BIROperand(error), errorBB));
+
+        DeadCodeEliminator deadCodeEliminator = new DeadCodeEliminator();
+        Assert.assertFalse(deadCodeEliminator.removeUnreachableBlocks(func));
+        Assert.assertEquals(func.basicBlocks, Arrays.asList(entryBB, errorBB, unreachableBB));
+
+        Assert.assertTrue(deadCodeEliminator.removeDeadStores(func));
+        Assert.assertEquals(entryBB.instructions.size(), 1);
+        Assert.assertSame(entryBB.instructions.get(0).lhsOp.variableDcl, error);
+        Assert.assertTrue(func.localVars.contains(error));
+        Assert.assertFalse(func.localVars.contains(unused));
+
+        // Any instruction may transfer the control to the error handling basic block.
+        Assert.assertFalse(new ConstantPropagator().optimize(func));
+    }
+
+    private BIRBasicBlock addBasicBlock() {
+        BIRBasicBlock basicBlock = new BIRBasicBlock(new Name("bb" + func.basicBlocks.size()));
+        func.basicBlocks.add(basicBlock);
+        return basicBlock;
+    }
+
+    private BIRVariableDcl addVar(BType type, VarKind kind) {
+        BIRVariableDcl var = new BIRVariableDcl(type, new Name("%" + func.localVars.size()), VarScope.FUNCTION, kind);
+        func.localVars.add(var);
+        return var;
+    }
+
+    private BIRVariableDcl addConstant(BIRBasicBlock basicBlock, long value) {
+        BIRVariableDcl var = addVar(INT, VarKind.TEMP);
+        basicBlock.instructions.add(new ConstantLoad(null, value, INT, new BIROperand(var)));
+        return var;
+    }
+
+    private BIRVariableDcl addBinaryOp(BIRBasicBlock basicBlock, InstructionKind kind, BType type,
+                                       BIRVariableDcl lhs, BIRVariableDcl rhs) {
+        BIRVariableDcl var = addVar(type, VarKind.TEMP);
+        basicBlock.instructions.add(new BinaryOp(null, kind, type, new BIROperand(var), new BIROperand(lhs),
+                                                 new BIROperand(rhs)));
+        return var;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.packaging.converters;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+/**
+ * Tests for the {@link CompiledBinaryCache} class.
+ *
+ * @since 2.0.0
+ */
+public class CompiledBinaryCacheTest {
+
+    private Path birFile;
+
+    @BeforeMethod
+    public void createBirFile() throws IOException {
+        birFile = Files.createTempFile("module", ".bir");
+        Files.write(birFile, new byte[]{1, 2, 3});
+    }
+
+    @AfterMethod
+    public void deleteBirFile() throws IOException {
+        CompiledBinaryCache.setEnabled(false);
+        Files.deleteIfExists(birFile);
+    }
+
+    @Test(description = "Test a BIR file is read from the disk for each compilation while the cache is disabled")
+    public void testDisabledCache() {
+        byte[] code = new FileSystemSourceInput(birFile).getCode();
+        Assert.assertEquals(code, new byte[]{1, 2, 3});
+        Assert.assertNotSame(new FileSystemSourceInput(birFile).getCode(), code);
+        Assert.assertEquals(CompiledBinaryCache.size(), 0);
+    }
+
+    @Test(description = "Test a BIR file is read once while it is not modified, and again once it is modified")
+    public void testModifiedFile() throws IOException {
+        CompiledBinaryCache.setEnabled(true);
+        byte[] code = new FileSystemSourceInput(birFile).getCode();
+        Assert.assertSame(new FileSystemSourceInput(birFile).getCode(), code);
+        Assert.assertEquals(CompiledBinaryCache.size(), 1);
+
+        // The same size and a later modification time, as when a module is rebuilt with a change
+        Files.write(birFile, new byte[]{4, 5, 6});
+        Files.setLastModifiedTime(birFile, FileTime.fromMillis(Files.getLastModifiedTime(birFile).toMillis() + 1000));
+        Assert.assertEquals(new FileSystemSourceInput(birFile).getCode(), new byte[]{4, 5, 6});
+
+        Files.write(birFile, new byte[]{7});
+        Files.setLastModifiedTime(birFile, FileTime.fromMillis(Files.getLastModifiedTime(birFile).toMillis() - 1000));
+        Assert.assertEquals(new FileSystemSourceInput(birFile).getCode(), new byte[]{7});
+    }
+}
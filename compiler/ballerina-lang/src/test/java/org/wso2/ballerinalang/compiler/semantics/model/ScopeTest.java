@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.semantics.model;
+
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests for the lazily defined symbols of the {@link Scope} class.
+ *
+ * @since 2.0.0
+ */
+public class ScopeTest {
+
+    @Test(description = "Test a lazily defined symbol is defined only when it is looked up")
+    public void testLookupDefinesSymbol() {
+        Scope scope = new Scope(null);
+        List<String> defined = new ArrayList<>();
+        defineLazily(scope, "foo", defined);
+        defineLazily(scope, "bar", defined);
+
+        Assert.assertTrue(defined.isEmpty());
+        Assert.assertFalse(scope.entries.isEmpty());
+        Assert.assertEquals(scope.lookup(new Name("bar")).symbol.name.value, "bar");
+        Assert.assertEquals(defined, Arrays.asList("bar"));
+
+        // A symbol is defined once, however many times it is looked up
+        scope.lookup(new Name("bar"));
+        Assert.assertEquals(defined, Arrays.asList("bar"));
+        Assert.assertSame(scope.lookup(new Name("baz")), Scope.NOT_FOUND_ENTRY);
+        Assert.assertEquals(defined, Arrays.asList("bar"));
+    }
+
+    @Test(description = "Test the entries are iterated in the order in which the symbols were defined")
+    public void testIterationDefinesAllSymbols() {
+        Scope scope = new Scope(null);
+        List<String> defined = new ArrayList<>();
+        defineLazily(scope, "foo", defined);
+        scope.define(new Name("bar"), createSymbol("bar"));
+        defineLazily(scope, "baz", defined);
+        scope.lookup(new Name("baz"));
+
+        Assert.assertEquals(scope.entries.size(), 3);
+        Assert.assertEquals(defined, Arrays.asList("baz", "foo"));
+        List<String> names = new ArrayList<>();
+        scope.entries.keySet().forEach(name -> names.add(name.value));
+        Assert.assertEquals(names, Arrays.asList("foo", "bar", "baz"));
+    }
+
+    private void defineLazily(Scope scope, String name, List<String> defined) {
+        scope.defineLazily(new Name(name), () -> {
+            defined.add(name);
+            scope.define(new Name(name), createSymbol(name));
+        });
+    }
+
+    private BSymbol createSymbol(String name) {
+        return new BSymbol(SymTag.FUNCTION, 0, new Name(name), null, null, null, null, SymbolOrigin.COMPILED_SOURCE);
+    }
+}
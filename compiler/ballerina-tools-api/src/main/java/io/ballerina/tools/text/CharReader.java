@@ -27,6 +27,11 @@ import java.util.Arrays;
 public class CharReader {
 
     private char[] charBuffer;
+    /**
+     * Characters of a {@code TextDocument} that are read without copying them to the {@code charBuffer}.
+     * This is {@code null} when the reader is backed by the {@code charBuffer}.
+     */
+    private CharSequence charSequence;
     private int offset = 0;
     private int charBufferLength;
 
@@ -37,7 +42,15 @@ public class CharReader {
         this.charBufferLength = buffer.length;
     }
 
+    private CharReader(CharSequence charSequence) {
+        this.charSequence = charSequence;
+        this.charBufferLength = charSequence.length();
+    }
+
     public static CharReader from(TextDocument textDocument) {
+        if (textDocument instanceof PieceTableTextDocument) {
+            return new CharReader(textDocument.charSequence());
+        }
         return new CharReader(textDocument.toCharArray());
     }
 
@@ -51,7 +64,7 @@ public class CharReader {
 
     public char peek() {
         if (offset < charBufferLength) {
-            return charBuffer[offset];
+            return charSequence == null ? charBuffer[offset] : charSequence.charAt(offset);
         } else {
             // TODO Revisit this branch
             return Character.MAX_VALUE;
@@ -61,7 +74,7 @@ public class CharReader {
     public char peek(int k) {
         int n = offset + k;
         if (n < charBufferLength) {
-            return charBuffer[n];
+            return charSequence == null ? charBuffer[n] : charSequence.charAt(n);
         } else {
             // TODO Revisit this branch
             return Character.MAX_VALUE;
@@ -91,6 +104,9 @@ public class CharReader {
      * @return {@link String} consist of the marked chars
      */
     public String getMarkedChars() {
+        if (charSequence != null) {
+            return charSequence.subSequence(lexemeStartPos, offset).toString();
+        }
         return new String(Arrays.copyOfRange(charBuffer, lexemeStartPos, offset));
     }
 
@@ -17,46 +17,155 @@
  */
 package io.ballerina.tools.text;
 
+import java.util.Arrays;
+
 /**
  * The {@code LineMap} represents a collection text lines in the {@code TextDocument}.
+ * <p>
+ * The line index is kept as arrays of offsets so that it can be updated incrementally when a
+ * {@code TextDocumentChange} is applied. {@code TextLine} instances are created on demand.
  *
  * @since 2.0.0
  */
 class LineMap {
+    private final TextDocument textDocument;
+    private final int[] startOffsets;
+    private final int[] endOffsets;
+    private final byte[] newLineLengths;
     private final TextLine[] textLines;
     private final int length;
 
     LineMap(TextLine[] textLines) {
+        this.textDocument = null;
         this.textLines = textLines;
         this.length = textLines.length;
+        this.startOffsets = new int[length];
+        this.endOffsets = new int[length];
+        this.newLineLengths = new byte[length];
+        for (int i = 0; i < length; i++) {
+            TextLine textLine = textLines[i];
+            startOffsets[i] = textLine.startOffset();
+            endOffsets[i] = textLine.endOffset();
+            newLineLengths[i] = (byte) (textLine.endOffsetWithNewLines() - textLine.endOffset());
+        }
+    }
+
+    private LineMap(TextDocument textDocument, int[] startOffsets, int[] endOffsets, byte[] newLineLengths) {
+        this.textDocument = textDocument;
+        this.startOffsets = startOffsets;
+        this.endOffsets = endOffsets;
+        this.newLineLengths = newLineLengths;
+        this.length = startOffsets.length;
+        this.textLines = new TextLine[length];
+    }
+
+    /**
+     * Creates a {@code LineMap} by scanning the whole content of the given {@code TextDocument}.
+     *
+     * @param textDocument the text document
+     * @return the {@code LineMap} of the given document
+     */
+    static LineMap from(TextDocument textDocument) {
+        LineOffsets lineOffsets = new LineOffsets(64);
+        scanLines(textDocument, 0, textDocument.length(), true, lineOffsets);
+        return new LineMap(textDocument, lineOffsets.startOffsets(), lineOffsets.endOffsets(),
+                lineOffsets.newLineLengths());
+    }
+
+    /**
+     * Derives the {@code LineMap} of the new text document from this {@code LineMap}.
+     * <p>
+     * Only the lines touched by the given change are rescanned. The offsets of the lines that follow the
+     * change are shifted, and the lines that precede the change are reused as they are.
+     *
+     * @param newTextDocument    the text document produced by applying the change
+     * @param textDocumentChange the change applied to the document of this {@code LineMap}
+     * @return the {@code LineMap} of the new text document
+     */
+    LineMap apply(TextDocument newTextDocument, TextDocumentChange textDocumentChange) {
+        int textEditCount = textDocumentChange.getTextEditCount();
+        if (textEditCount == 0) {
+            return new LineMap(newTextDocument, startOffsets, endOffsets, newLineLengths);
+        }
+
+        int changeStartOffset = textDocumentChange.getTextEdit(0).range().startOffset();
+        int changeEndOffset = textDocumentChange.getTextEdit(textEditCount - 1).range().endOffset();
+        int delta = 0;
+        for (int i = 0; i < textEditCount; i++) {
+            TextEdit textEdit = textDocumentChange.getTextEdit(i);
+            delta += textEdit.text().length() - textEdit.range().length();
+        }
+
+        // Rescan one more line on either side, so that a "\r\n" sequence split or formed by
+        // the change is handled correctly.
+        int firstLine = Math.max(0, lineIndexFrom(changeStartOffset) - 1);
+        int lastLine = Math.min(length - 1, lineIndexFrom(changeEndOffset) + 1);
+        boolean lastLineOfDocument = lastLine == length - 1;
+        int scanStartOffset = startOffsets[firstLine];
+        int scanEndOffset = endOffsets[lastLine] + newLineLengths[lastLine] + delta;
+
+        LineOffsets changedLines = new LineOffsets(lastLine - firstLine + 1);
+        scanLines(newTextDocument, scanStartOffset, scanEndOffset, lastLineOfDocument, changedLines);
+
+        int changedLineCount = changedLines.size();
+        int trailingLineCount = length - lastLine - 1;
+        int newLength = firstLine + changedLineCount + trailingLineCount;
+        int[] newStartOffsets = new int[newLength];
+        int[] newEndOffsets = new int[newLength];
+        byte[] newNewLineLengths = new byte[newLength];
+
+        System.arraycopy(startOffsets, 0, newStartOffsets, 0, firstLine);
+        System.arraycopy(endOffsets, 0, newEndOffsets, 0, firstLine);
+        System.arraycopy(newLineLengths, 0, newNewLineLengths, 0, firstLine);
+
+        changedLines.copyTo(newStartOffsets, newEndOffsets, newNewLineLengths, firstLine);
+
+        int trailingLinesStart = firstLine + changedLineCount;
+        for (int i = 0; i < trailingLineCount; i++) {
+            int oldIndex = lastLine + 1 + i;
+            int newIndex = trailingLinesStart + i;
+            newStartOffsets[newIndex] = startOffsets[oldIndex] + delta;
+            newEndOffsets[newIndex] = endOffsets[oldIndex] + delta;
+            newNewLineLengths[newIndex] = newLineLengths[oldIndex];
+        }
+
+        return new LineMap(newTextDocument, newStartOffsets, newEndOffsets, newNewLineLengths);
     }
 
     TextLine textLine(int line) {
         lineRangeCheck(line);
-        return textLines[line];
+        TextLine textLine = textLines[line];
+        if (textLine != null) {
+            return textLine;
+        }
+
+        textLine = new TextLine(line, textDocument.text(startOffsets[line], endOffsets[line]),
+                startOffsets[line], endOffsets[line], newLineLengths[line]);
+        textLines[line] = textLine;
+        return textLine;
     }
 
     LinePosition linePositionFrom(int position) {
         positionRangeCheck(position);
-        TextLine textLine = findLineFrom(position);
-        return LinePosition.from(textLine.lineNo(), position - textLine.startOffset());
+        int line = lineIndexFrom(position);
+        return LinePosition.from(line, position - startOffsets[line]);
     }
 
     int textPositionFrom(LinePosition linePosition) {
         lineRangeCheck(linePosition.line());
-        TextLine textLine = textLines[linePosition.line()];
-        if (textLine.length() < linePosition.offset()) {
+        int line = linePosition.line();
+        if (endOffsets[line] - startOffsets[line] < linePosition.offset()) {
             throw new IllegalArgumentException("Cannot find a line with the character offset '" +
                     linePosition.offset() + "'");
         }
 
-        return textLine.startOffset() + linePosition.offset();
+        return startOffsets[line] + linePosition.offset();
     }
 
     private void positionRangeCheck(int position) {
-        if (position < 0 || position > textLines[length - 1].endOffset()) {
+        if (position < 0 || position > endOffsets[length - 1]) {
             throw new IndexOutOfBoundsException("Index: '" + position + "', Size: '" +
-                    textLines[length - 1].endOffset() + "'");
+                    endOffsets[length - 1] + "'");
         }
     }
 
@@ -67,22 +176,21 @@ class LineMap {
     }
 
     /**
-     * Return the {@code TextLine} to which the given position belongs to.
+     * Return the index of the text line to which the given position belongs to.
      * <p>
      * Perform a binary search to find the matching text line.
      *
      * @param position of the source text
-     * @return the {@code TextLine} to which the given position belongs to
+     * @return the index of the text line to which the given position belongs to
      */
-    private TextLine findLineFrom(int position) {
+    private int lineIndexFrom(int position) {
         // Check boundary conditions
         if (position == 0) {
-            return textLines[0];
-        } else if (position == textLines[length - 1].endOffset()) {
-            return textLines[length - 1];
+            return 0;
+        } else if (position >= endOffsets[length - 1]) {
+            return length - 1;
         }
 
-        TextLine foundTextLine = null;
         int left = 0;
         int right = length - 1;
         while (left <= right) {
@@ -90,17 +198,111 @@ class LineMap {
             // the maximum positive int value (2^31 - 1)
             // FYI: https://ai.googleblog.com/2006/06/extra-extra-read-all-about-it-nearly.html
             int middle = (left + right) >>> 1;
-            int startOffset = textLines[middle].startOffset();
-            int endOffset = textLines[middle].endOffsetWithNewLines();
+            int startOffset = startOffsets[middle];
+            int endOffset = endOffsets[middle] + newLineLengths[middle];
             if (startOffset <= position && position < endOffset) {
-                foundTextLine = textLines[middle];
-                break;
+                return middle;
             } else if (endOffset <= position) {
                 left = middle + 1;
             } else {
                 right = middle - 1;
             }
         }
-        return foundTextLine;
+        return -1;
+    }
+
+    /**
+     * Scans the lines between the given start and end offsets of the text document.
+     * <p>
+     * The start offset should be the start of a line. The end offset should either be the end of a line
+     * including its newline characters or the end of the document.
+     *
+     * @param textDocument        the text document to scan
+     * @param startOffset         start offset of the first line
+     * @param endOffset           end offset of the last line
+     * @param endOfDocument       whether the end offset is the end of the document
+     * @param lineOffsets         collects the offsets of the scanned lines
+     */
+    private static void scanLines(TextDocument textDocument, int startOffset, int endOffset,
+                                  boolean endOfDocument, LineOffsets lineOffsets) {
+        CharSequence text = textDocument.charSequence();
+        int lineStartOffset = startOffset;
+        int index = startOffset;
+        while (index < endOffset) {
+            char c = text.charAt(index);
+            if (c == '\r' || c == '\n') {
+                int lengthOfNewLineChars;
+                int nextCharIndex = index + 1;
+                if (c == '\r' && nextCharIndex < endOffset && text.charAt(nextCharIndex) == '\n') {
+                    lengthOfNewLineChars = 2;
+                } else {
+                    lengthOfNewLineChars = 1;
+                }
+                lineOffsets.add(lineStartOffset, index, lengthOfNewLineChars);
+                index += lengthOfNewLineChars;
+                lineStartOffset = index;
+            } else {
+                index++;
+            }
+        }
+
+        if (endOfDocument) {
+            lineOffsets.add(lineStartOffset, endOffset, 0);
+        }
+    }
+
+    /**
+     * A growable collection of line offsets.
+     *
+     * @since 2.0.0
+     */
+    private static class LineOffsets {
+        private int[] startOffsets;
+        private int[] endOffsets;
+        private byte[] newLineLengths;
+        private int size = 0;
+
+        LineOffsets(int initialCapacity) {
+            int capacity = Math.max(initialCapacity, 4);
+            this.startOffsets = new int[capacity];
+            this.endOffsets = new int[capacity];
+            this.newLineLengths = new byte[capacity];
+        }
+
+        void add(int startOffset, int endOffset, int lengthOfNewLineChars) {
+            if (size == startOffsets.length) {
+                int newCapacity = size << 1;
+                startOffsets = Arrays.copyOf(startOffsets, newCapacity);
+                endOffsets = Arrays.copyOf(endOffsets, newCapacity);
+                newLineLengths = Arrays.copyOf(newLineLengths, newCapacity);
+            }
+
+            startOffsets[size] = startOffset;
+            endOffsets[size] = endOffset;
+            newLineLengths[size] = (byte) lengthOfNewLineChars;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] startOffsets() {
+            return Arrays.copyOf(startOffsets, size);
+        }
+
+        int[] endOffsets() {
+            return Arrays.copyOf(endOffsets, size);
+        }
+
+        byte[] newLineLengths() {
+            return Arrays.copyOf(newLineLengths, size);
+        }
+
+        void copyTo(int[] destStartOffsets, int[] destEndOffsets, byte[] destNewLineLengths, int destPos) {
+            System.arraycopy(startOffsets, 0, destStartOffsets, destPos, size);
+            System.arraycopy(endOffsets, 0, destEndOffsets, destPos, size);
+            System.arraycopy(newLineLengths, 0, destNewLineLengths, destPos, size);
+        }
     }
 }
@@ -0,0 +1,377 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.tools.text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@code PieceTableTextDocument} represents a {@code TextDocument} as a persistent piece table.
+ * <p>
+ * The text is a sequence of pieces, each of which refers to a span of either the original text or an
+ * append-only buffer that holds the inserted text. Applying a {@code TextDocumentChange} creates a new
+ * sequence of pieces and never copies the text of the unchanged parts of the document. The previous
+ * versions of the document remain valid, since the buffers they refer to are never modified.
+ *
+ * @since 2.0.0
+ */
+class PieceTableTextDocument extends TextDocument {
+    /**
+     * The pieces are merged into a single piece once the piece count reaches this limit,
+     * so that the character lookup cost stays bounded.
+     */
+    private static final int MAX_PIECE_COUNT = 2048;
+
+    private final String originalText;
+    private final AppendBuffer appendBuffer;
+    private final Piece[] pieces;
+    /**
+     * The start offset of each piece within this document.
+     */
+    private final int[] pieceOffsets;
+    private final int length;
+    private LineMap textLineMap;
+
+    private PieceTableTextDocument(String originalText, AppendBuffer appendBuffer, Piece[] pieces) {
+        this.originalText = originalText;
+        this.appendBuffer = appendBuffer;
+        this.pieces = pieces;
+        this.pieceOffsets = new int[pieces.length];
+        int offset = 0;
+        for (int i = 0; i < pieces.length; i++) {
+            pieceOffsets[i] = offset;
+            offset += pieces[i].length;
+        }
+        this.length = offset;
+    }
+
+    static PieceTableTextDocument from(StringTextDocument textDocument) {
+        String text = textDocument.toString();
+        Piece[] pieces = text.isEmpty() ? new Piece[0] : new Piece[]{new Piece(false, 0, text.length())};
+        PieceTableTextDocument pieceTable = new PieceTableTextDocument(text, new AppendBuffer(), pieces);
+        LineMap lineMap = textDocument.populatedLines();
+        if (lineMap != null) {
+            pieceTable.textLineMap = lineMap.apply(pieceTable, TextDocumentChange.from(new TextEdit[0]));
+        }
+        return pieceTable;
+    }
+
+    @Override
+    public TextDocument apply(TextDocumentChange textDocumentChange) {
+        int textEditCount = textDocumentChange.getTextEditCount();
+        if (textEditCount == 0) {
+            return this;
+        }
+
+        List<Piece> newPieces = new ArrayList<>(pieces.length + 2 * textEditCount);
+        int startOffset = 0;
+        for (int i = 0; i < textEditCount; i++) {
+            TextEdit textEdit = textDocumentChange.getTextEdit(i);
+            TextRange textRange = textEdit.range();
+            addPieces(newPieces, startOffset, textRange.startOffset());
+            String newText = textEdit.text();
+            if (!newText.isEmpty()) {
+                int appendOffset = appendBuffer.append(newText);
+                newPieces.add(new Piece(true, appendOffset, newText.length()));
+            }
+            startOffset = textRange.endOffset();
+        }
+        addPieces(newPieces, startOffset, length);
+
+        PieceTableTextDocument newTextDocument;
+        if (newPieces.size() < MAX_PIECE_COUNT) {
+            newTextDocument = new PieceTableTextDocument(originalText, appendBuffer,
+                    newPieces.toArray(new Piece[0]));
+        } else {
+            newTextDocument = compact(newPieces);
+        }
+
+        // Update the line index incrementally, if it has been populated for this version
+        if (textLineMap != null) {
+            newTextDocument.textLineMap = textLineMap.apply(newTextDocument, textDocumentChange);
+        }
+        return newTextDocument;
+    }
+
+    @Override
+    protected LineMap populateTextLineMap() {
+        if (textLineMap != null) {
+            return textLineMap;
+        }
+        textLineMap = LineMap.from(this);
+        return textLineMap;
+    }
+
+    @Override
+    public char[] toCharArray() {
+        char[] chars = new char[length];
+        getChars(0, length, chars, 0);
+        return chars;
+    }
+
+    public String toString() {
+        return new String(toCharArray());
+    }
+
+    @Override
+    int length() {
+        return length;
+    }
+
+    @Override
+    char charAt(int position) {
+        if (position < 0 || position >= length) {
+            throw new IndexOutOfBoundsException("Index: '" + position + "', Size: '" + length + "'");
+        }
+        int pieceIndex = pieceIndexFrom(position);
+        return charAt(pieces[pieceIndex], position - pieceOffsets[pieceIndex]);
+    }
+
+    @Override
+    String text(int startOffset, int endOffset) {
+        char[] chars = new char[endOffset - startOffset];
+        getChars(startOffset, endOffset, chars, 0);
+        return new String(chars);
+    }
+
+    @Override
+    CharSequence charSequence() {
+        return new PieceCursor();
+    }
+
+    /**
+     * Adds the pieces that cover the text between the given offsets of this document.
+     *
+     * @param newPieces   list to which the pieces are added
+     * @param startOffset start offset of the text
+     * @param endOffset   end offset of the text
+     */
+    private void addPieces(List<Piece> newPieces, int startOffset, int endOffset) {
+        if (startOffset >= endOffset) {
+            return;
+        }
+
+        int pieceIndex = pieceIndexFrom(startOffset);
+        int offset = startOffset;
+        while (offset < endOffset) {
+            Piece piece = pieces[pieceIndex];
+            int pieceStart = pieceOffsets[pieceIndex];
+            int from = offset - pieceStart;
+            int to = Math.min(piece.length, endOffset - pieceStart);
+            newPieces.add(from == 0 && to == piece.length ? piece :
+                    new Piece(piece.added, piece.start + from, to - from));
+            offset = pieceStart + to;
+            pieceIndex++;
+        }
+    }
+
+    private PieceTableTextDocument compact(List<Piece> newPieces) {
+        StringBuilder sb = new StringBuilder();
+        for (Piece piece : newPieces) {
+            if (piece.added) {
+                appendBuffer.appendTo(sb, piece.start, piece.length);
+            } else {
+                sb.append(originalText, piece.start, piece.start + piece.length);
+            }
+        }
+        String text = sb.toString();
+        Piece[] pieces = text.isEmpty() ? new Piece[0] : new Piece[]{new Piece(false, 0, text.length())};
+        return new PieceTableTextDocument(text, new AppendBuffer(), pieces);
+    }
+
+    private void getChars(int startOffset, int endOffset, char[] dest, int destPos) {
+        if (startOffset >= endOffset) {
+            return;
+        }
+
+        int pieceIndex = pieceIndexFrom(startOffset);
+        int offset = startOffset;
+        while (offset < endOffset) {
+            Piece piece = pieces[pieceIndex];
+            int pieceStart = pieceOffsets[pieceIndex];
+            int from = offset - pieceStart;
+            int to = Math.min(piece.length, endOffset - pieceStart);
+            if (piece.added) {
+                appendBuffer.getChars(piece.start + from, piece.start + to, dest, destPos);
+            } else {
+                originalText.getChars(piece.start + from, piece.start + to, dest, destPos);
+            }
+            destPos += to - from;
+            offset = pieceStart + to;
+            pieceIndex++;
+        }
+    }
+
+    private char charAt(Piece piece, int offsetInPiece) {
+        if (piece.added) {
+            return appendBuffer.charAt(piece.start + offsetInPiece);
+        }
+        return originalText.charAt(piece.start + offsetInPiece);
+    }
+
+    /**
+     * Return the index of the piece to which the given position belongs to.
+     *
+     * @param position of the text
+     * @return the index of the piece
+     */
+    private int pieceIndexFrom(int position) {
+        int left = 0;
+        int right = pieces.length - 1;
+        while (left < right) {
+            int middle = (left + right + 1) >>> 1;
+            if (pieceOffsets[middle] <= position) {
+                left = middle;
+            } else {
+                right = middle - 1;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Represents a span of the original text or the append buffer.
+     *
+     * @since 2.0.0
+     */
+    private static class Piece {
+        private final boolean added;
+        private final int start;
+        private final int length;
+
+        Piece(boolean added, int start, int length) {
+            this.added = added;
+            this.start = start;
+            this.length = length;
+        }
+    }
+
+    /**
+     * A {@code CharSequence} view of the document that remembers the last accessed piece.
+     * <p>
+     * Lexers read characters mostly sequentially, hence most of the lookups are resolved
+     * without searching the pieces.
+     *
+     * @since 2.0.0
+     */
+    private class PieceCursor implements CharSequence {
+        private int pieceIndex = 0;
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Index: '" + index + "', Size: '" + length + "'");
+            }
+
+            int pieceStart = pieceOffsets[pieceIndex];
+            if (index < pieceStart || index >= pieceStart + pieces[pieceIndex].length) {
+                pieceIndex = pieceIndexFrom(index);
+                pieceStart = pieceOffsets[pieceIndex];
+            }
+            return PieceTableTextDocument.this.charAt(pieces[pieceIndex], index - pieceStart);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return text(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return PieceTableTextDocument.this.toString();
+        }
+    }
+
+    /**
+     * An append-only buffer that holds the inserted text of all the versions of a document.
+     * <p>
+     * Characters are stored in fixed size chunks, so that appended characters are never moved
+     * and can be read by older versions of the document while new text is being appended.
+     *
+     * @since 2.0.0
+     */
+    private static class AppendBuffer {
+        private static final int CHUNK_SHIFT = 14;
+        private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+        private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+        private volatile char[][] chunks = new char[0][];
+        private int size = 0;
+
+        synchronized int append(String text) {
+            int offset = size;
+            int textLength = text.length();
+            int requiredChunks = ((size + textLength) >>> CHUNK_SHIFT) + 1;
+            char[][] currentChunks = chunks;
+            if (currentChunks.length < requiredChunks) {
+                char[][] newChunks = new char[requiredChunks][];
+                System.arraycopy(currentChunks, 0, newChunks, 0, currentChunks.length);
+                for (int i = currentChunks.length; i < requiredChunks; i++) {
+                    newChunks[i] = new char[CHUNK_SIZE];
+                }
+                currentChunks = newChunks;
+            }
+
+            int textIndex = 0;
+            while (textIndex < textLength) {
+                int chunkOffset = size & CHUNK_MASK;
+                int count = Math.min(CHUNK_SIZE - chunkOffset, textLength - textIndex);
+                text.getChars(textIndex, textIndex + count, currentChunks[size >>> CHUNK_SHIFT], chunkOffset);
+                textIndex += count;
+                size += count;
+            }
+
+            // Publish the chunks after the characters are written
+            chunks = currentChunks;
+            return offset;
+        }
+
+        char charAt(int index) {
+            return chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+        }
+
+        void getChars(int startOffset, int endOffset, char[] dest, int destPos) {
+            char[][] currentChunks = chunks;
+            int offset = startOffset;
+            while (offset < endOffset) {
+                int chunkOffset = offset & CHUNK_MASK;
+                int count = Math.min(CHUNK_SIZE - chunkOffset, endOffset - offset);
+                System.arraycopy(currentChunks[offset >>> CHUNK_SHIFT], chunkOffset, dest, destPos, count);
+                destPos += count;
+                offset += count;
+            }
+        }
+
+        void appendTo(StringBuilder sb, int startOffset, int length) {
+            char[][] currentChunks = chunks;
+            int offset = startOffset;
+            int endOffset = startOffset + length;
+            while (offset < endOffset) {
+                int chunkOffset = offset & CHUNK_MASK;
+                int count = Math.min(CHUNK_SIZE - chunkOffset, endOffset - offset);
+                sb.append(currentChunks[offset >>> CHUNK_SHIFT], chunkOffset, count);
+                offset += count;
+            }
+        }
+    }
+}
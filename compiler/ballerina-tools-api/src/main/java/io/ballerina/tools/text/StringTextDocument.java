@@ -35,18 +35,8 @@ class StringTextDocument extends TextDocument {
 
     @Override
     public TextDocument apply(TextDocumentChange textDocumentChange) {
-        int startOffset = 0;
-        StringBuilder sb = new StringBuilder();
-        int textEditCount = textDocumentChange.getTextEditCount();
-        for (int i = 0; i < textEditCount; i++) {
-            TextEdit textEdit = textDocumentChange.getTextEdit(i);
-            TextRange textRange = textEdit.range();
-            sb.append(text, startOffset, textRange.startOffset());
-            sb.append(textEdit.text());
-            startOffset = textRange.endOffset();
-        }
-        sb.append(text, startOffset, text.length());
-        return new StringTextDocument(sb.toString());
+        // Edits are applied to a piece table that refers to this text, instead of copying the whole text
+        return PieceTableTextDocument.from(this).apply(textDocumentChange);
     }
 
     @Override
@@ -67,6 +57,26 @@ class StringTextDocument extends TextDocument {
         return text;
     }
 
+    @Override
+    int length() {
+        return text.length();
+    }
+
+    @Override
+    char charAt(int position) {
+        return text.charAt(position);
+    }
+
+    @Override
+    String text(int startOffset, int endOffset) {
+        return text.substring(startOffset, endOffset);
+    }
+
+    @Override
+    CharSequence charSequence() {
+        return text;
+    }
+
     private TextLine[] calculateTextLines() {
         int startOffset = 0;
         List<TextLine> textLines = new ArrayList<>();
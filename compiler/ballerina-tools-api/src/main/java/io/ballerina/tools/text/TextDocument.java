@@ -58,4 +58,48 @@ public abstract class TextDocument {
         lineMap = populateTextLineMap();
         return lineMap;
     }
+
+    /**
+     * Returns the {@code LineMap} of this document only if it has already been populated.
+     *
+     * @return the populated {@code LineMap} or {@code null}
+     */
+    LineMap populatedLines() {
+        return lineMap;
+    }
+
+    /**
+     * Returns the number of characters in the current text.
+     *
+     * @return the length of the text
+     */
+    abstract int length();
+
+    /**
+     * Returns the character at the given position without materializing the whole text.
+     *
+     * @param position of the character
+     * @return the character at the given position
+     */
+    abstract char charAt(int position);
+
+    /**
+     * Returns the text between the given start (inclusive) and end (exclusive) positions.
+     *
+     * @param startOffset start position of the text
+     * @param endOffset   end position of the text
+     * @return the text between the given positions
+     */
+    abstract String text(int startOffset, int endOffset);
+
+    /**
+     * Returns a read-only, sequential view of the characters of this document.
+     * <p>
+     * Lexers read the document through this view instead of copying it to a {@code char} array.
+     *
+     * @return a {@code CharSequence} view of this document
+     */
+    CharSequence charSequence() {
+        return new String(toCharArray());
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.tools.test.text;
+
+import io.ballerina.tools.text.CharReader;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextLine;
+import io.ballerina.tools.text.TextRange;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Contains cases to test applying changes to a {@code TextDocument}.
+ *
+ * @since 2.0.0
+ */
+public class TextDocumentTest {
+
+    @Test
+    public void testApplyingChanges() {
+        TextDocument oldTextDocument = TextDocuments.from("function foo() {\n    int a = 5;\n}\n");
+        TextDocument newTextDocument = apply(oldTextDocument,
+                TextEdit.from(TextRange.from(9, 3), "bar"),
+                TextEdit.from(TextRange.from(29, 1), "10"));
+
+        Assert.assertEquals(newTextDocument.toString(), "function bar() {\n    int a = 10;\n}\n");
+        // The previous version should not be affected by the change
+        Assert.assertEquals(oldTextDocument.toString(), "function foo() {\n    int a = 5;\n}\n");
+    }
+
+    @Test
+    public void testApplyingSuccessiveChanges() {
+        String text = "int a = 1;\nint b = 2;\n";
+        TextDocument textDocument = TextDocuments.from(text);
+        textDocument.line(0);
+        for (int i = 0; i < 5000; i++) {
+            int position = (i * 7) % (text.length() + 1);
+            String newText = i % 3 == 0 ? "\n" : "x";
+            int length = i % 5 == 0 && position < text.length() ? 1 : 0;
+            textDocument = apply(textDocument, TextEdit.from(TextRange.from(position, length), newText));
+            text = text.substring(0, position) + newText + text.substring(position + length);
+        }
+        Assert.assertEquals(textDocument.toString(), text);
+        assertLines(textDocument, text);
+    }
+
+    @Test
+    public void testIncrementalLineUpdates() {
+        String text = "import ballerina/io;\r\n\r\npublic function main() {\n    io:println(\"Hello\");\r}";
+        TextDocument textDocument = TextDocuments.from(text);
+        // Populate the line map, so that it is updated incrementally from here onwards
+        assertLines(textDocument, text);
+
+        String[][] edits = {{"0", "0", "// comment\n"}, {"22", "1", ""}, {"21", "1", "\r"}, {"33", "2", "\n\n\r"},
+                {"0", "11", ""}, {"5", "30", "x\r"}};
+        for (String[] edit : edits) {
+            int position = Integer.parseInt(edit[0]);
+            int length = Integer.parseInt(edit[1]);
+            textDocument = apply(textDocument, TextEdit.from(TextRange.from(position, length), edit[2]));
+            text = text.substring(0, position) + edit[2] + text.substring(position + length);
+            assertLines(textDocument, text);
+        }
+    }
+
+    @Test
+    public void testReadingChangedDocument() {
+        TextDocument textDocument = TextDocuments.from("int a = 5;");
+        textDocument = apply(textDocument, TextEdit.from(TextRange.from(8, 1), "10"));
+
+        CharReader charReader = CharReader.from(textDocument);
+        charReader.advance(4);
+        charReader.mark();
+        charReader.advance(4);
+        Assert.assertEquals(charReader.peek(), '1');
+        Assert.assertEquals(charReader.peek(1), '0');
+        Assert.assertEquals(charReader.getMarkedChars(), "a = ");
+        charReader.advance(3);
+        Assert.assertTrue(charReader.isEOF());
+    }
+
+    private TextDocument apply(TextDocument textDocument, TextEdit... textEdits) {
+        return textDocument.apply(TextDocumentChange.from(textEdits));
+    }
+
+    private void assertLines(TextDocument textDocument, String text) {
+        TextDocument expectedTextDocument = TextDocuments.from(text);
+        for (int position = 0; position <= text.length(); position++) {
+            LinePosition expectedLinePosition = expectedTextDocument.linePositionFrom(position);
+            LinePosition linePosition = textDocument.linePositionFrom(position);
+            Assert.assertEquals(linePosition.line(), expectedLinePosition.line());
+            Assert.assertEquals(linePosition.offset(), expectedLinePosition.offset());
+            if (linePosition.offset() <= textDocument.line(linePosition.line()).length()) {
+                Assert.assertEquals(textDocument.textPositionFrom(linePosition), position);
+            }
+        }
+
+        int lastLine = expectedTextDocument.linePositionFrom(text.length()).line();
+        for (int line = 0; line <= lastLine; line++) {
+            TextLine expectedTextLine = expectedTextDocument.line(line);
+            TextLine textLine = textDocument.line(line);
+            Assert.assertEquals(textLine.text(), expectedTextLine.text());
+            Assert.assertEquals(textLine.startOffset(), expectedTextLine.startOffset());
+            Assert.assertEquals(textLine.endOffsetWithNewLines(), expectedTextLine.endOffsetWithNewLines());
+        }
+    }
+}
@@ -130,12 +130,14 @@ class BIRTestUtils {
     private static void assertFunctions(BIRNode.BIRPackage expectedBIR, Bir.Module birModule,
                                         ArrayList<Bir.ConstantPoolEntry> constantPoolEntries) {
         List<BIRNode.BIRFunction> expectedFunctions = expectedBIR.functions;
-        ArrayList<Bir.Function> actualFunctions = birModule.functions();
+        ArrayList<Bir.IndexedFunction> actualFunctions = birModule.functions();
         Assert.assertEquals(birModule.functionCount(), expectedFunctions.size());
 
         for (int i = 0; i < expectedFunctions.size(); i++) {
-            Bir.Function actualFunction = actualFunctions.get(i);
+            Bir.IndexedFunction actualIndexedFunction = actualFunctions.get(i);
+            Bir.Function actualFunction = actualIndexedFunction.function();
             BIRNode.BIRFunction expectedFunction = expectedFunctions.get(i);
+            Assert.assertEquals(actualIndexedFunction.nameCpIndex(), actualFunction.nameCpIndex());
 
             // assert name
             Bir.ConstantPoolEntry constantPoolEntry = constantPoolEntries.get(actualFunction.nameCpIndex());
@@ -330,6 +332,10 @@ class BIRTestUtils {
                 assertBranchInstruction((Bir.InstructionBranch) instructionStructure,
                         (BIRTerminator.Branch) expectedInstruction, constantPoolEntries);
                 break;
+            case INSTRUCTION_KIND_SWITCH:
+                assertSwitchInstruction((Bir.InstructionSwitch) instructionStructure,
+                        (BIRTerminator.Switch) expectedInstruction, constantPoolEntries);
+                break;
             default:
                 Assert.assertEquals(instructionKindEnum.id(), expectedInstruction.getKind().getValue());
         }
@@ -349,6 +355,29 @@ class BIRTestUtils {
         assertConstantPoolEntry(constantPoolEntry, expectedBranch.falseBB.id.value);
     }
 
+    private static void assertSwitchInstruction(Bir.InstructionSwitch actualSwitch,
+                                                BIRTerminator.Switch expectedSwitch,
+                                                ArrayList<Bir.ConstantPoolEntry> constantPoolEntries) {
+        assertOperand(actualSwitch.switchOperand(), expectedSwitch.op, constantPoolEntries);
+        Assert.assertEquals(actualSwitch.casesCount(), expectedSwitch.caseValues.size());
+
+        for (int i = 0; i < actualSwitch.casesCount(); i++) {
+            Bir.SwitchCase actualCase = actualSwitch.cases().get(i);
+
+            // assert case value
+            Bir.ConstantPoolEntry constantPoolEntry = constantPoolEntries.get(actualCase.valueCpIndex());
+            assertConstantPoolEntry(constantPoolEntry, expectedSwitch.caseValues.get(i));
+
+            // assert case bb name
+            constantPoolEntry = constantPoolEntries.get(actualCase.targetBbIdNameCpIndex());
+            assertConstantPoolEntry(constantPoolEntry, expectedSwitch.caseBBs.get(i).id.value);
+        }
+
+        // assert default bb name
+        Bir.ConstantPoolEntry constantPoolEntry = constantPoolEntries.get(actualSwitch.defaultBbIdNameCpIndex());
+        assertConstantPoolEntry(constantPoolEntry, expectedSwitch.defaultBB.id.value);
+    }
+
     private static void assertCallInstruction(Bir.InstructionCall actualCall, BIRTerminator.Call expectedCall,
                                               ArrayList<Bir.ConstantPoolEntry> constantPoolEntries) {
         Bir.CallInstructionInfo callInstructionInfo = actualCall.callInstructionInfo();
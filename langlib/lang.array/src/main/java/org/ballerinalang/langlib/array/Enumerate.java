@@ -23,6 +23,7 @@ import org.ballerinalang.jvm.types.BTupleType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
 import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
@@ -67,7 +68,7 @@ public class Enumerate {
                 throw createOpNotSupportedError(arrType, "enumerate()");
         }
 
-        BArrayType newArrType = new BArrayType(elemType);
+        BArrayType newArrType = TypeInterner.getArrayType(elemType);
         ArrayValue newArr = new ArrayValueImpl(newArrType); // TODO: 7/8/19 Verify whether this needs to be sealed
 
         for (int i = 0; i < size; i++) {
@@ -26,6 +26,7 @@ import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BFunctionType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.FPValue;
@@ -86,7 +87,7 @@ public class Sort {
             BType type = ((BArrayType) elemType).getElementType();
             if (type.getTag() == TypeTags.UNION_TAG) {
                 BType memberType = getMemberType((BUnionType) type);
-                elemType = new BArrayType(memberType);
+                elemType = TypeInterner.getArrayType(memberType);
             }
         }
 
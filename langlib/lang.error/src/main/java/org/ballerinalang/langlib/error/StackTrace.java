@@ -24,12 +24,12 @@ import org.ballerinalang.jvm.api.values.BMap;
 import org.ballerinalang.jvm.api.values.BString;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.types.AttachedFunction;
-import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BField;
 import org.ballerinalang.jvm.types.BObjectType;
 import org.ballerinalang.jvm.types.BPackage;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.values.AbstractObjectValue;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
@@ -54,7 +54,7 @@ public class StackTrace {
         BObjectType callStackObjType = new BObjectType("CallStack", new BPackage("ballerina", "lang.error", null), 0);
         callStackObjType.setAttachedFunctions(new AttachedFunction[]{});
         callStackObjType.setFields(
-                Collections.singletonMap("callStack", new BField(new BArrayType(BTypes.typeAny), null, 0)));
+                Collections.singletonMap("callStack", new BField(TypeInterner.getArrayType(BTypes.typeAny), null, 0)));
 
         CallStack callStack = new CallStack(callStackObjType);
         callStack.callStack = getCallStackArray(value.getStackTrace());
@@ -69,7 +69,7 @@ public class StackTrace {
         for (int i = 0; i < stackTrace.length; i++) {
             array[i] = getStackFrame(stackTrace[i]);
         }
-        return new ArrayValueImpl(array, new BArrayType(recordType));
+        return new ArrayValueImpl(array, TypeInterner.getArrayType(recordType));
     }
 
     static BMap<BString, Object> getStackFrame(StackTraceElement stackTraceElement) {
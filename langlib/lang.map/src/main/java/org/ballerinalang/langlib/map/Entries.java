@@ -22,6 +22,7 @@ import org.ballerinalang.jvm.types.BMapType;
 import org.ballerinalang.jvm.types.BTupleType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.jvm.values.TupleValueImpl;
@@ -47,7 +48,7 @@ public class Entries {
     public static MapValue<?, ?> entries(MapValue<?, ?> m) {
         BType newFieldType = getFieldType(m.getType(), "entries()");
         BTupleType entryType = new BTupleType(Arrays.asList(BTypes.typeString, newFieldType));
-        BMapType entryMapConstraint = new BMapType(entryType);
+        BMapType entryMapConstraint = TypeInterner.getMapType(entryType);
         MapValue<Object, TupleValueImpl> entries = new MapValueImpl<>(entryMapConstraint);
 
         m.entrySet().forEach(entry -> {
@@ -22,9 +22,9 @@ import org.ballerinalang.jvm.runtime.AsyncUtils;
 import org.ballerinalang.jvm.scheduling.Scheduler;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.scheduling.StrandMetadata;
-import org.ballerinalang.jvm.types.BMapType;
 import org.ballerinalang.jvm.types.BRecordType;
 import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.FPValue;
 import org.ballerinalang.jvm.values.MapValue;
@@ -57,7 +57,7 @@ public class Filter {
                 break;
             case TypeTags.RECORD_TYPE_TAG:
                 BType newConstraint = MapLibUtils.getCommonTypeForRecordField((BRecordType) mapType);
-                newMapType = new BMapType(newConstraint);
+                newMapType = TypeInterner.getMapType(newConstraint);
                 break;
             default:
                 throw createOpNotSupportedError(mapType, "filter()");
@@ -24,6 +24,7 @@ import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.scheduling.StrandMetadata;
 import org.ballerinalang.jvm.types.BFunctionType;
 import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.values.FPValue;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.MapValueImpl;
@@ -51,7 +52,7 @@ public class Map {
                                                                       MAP_VERSION, "map");
 
     public static MapValue map(MapValue<?, ?> m, FPValue<Object, Object> func) {
-        BMapType newMapType = new BMapType(((BFunctionType) func.getType()).retType);
+        BMapType newMapType = TypeInterner.getMapType(((BFunctionType) func.getType()).retType);
         MapValue<Object, Object> newMap = new MapValueImpl<>(newMapType);
         int size = m.size();
         AtomicInteger index = new AtomicInteger(-1);
@@ -19,10 +19,10 @@
 package org.ballerinalang.langlib.map;
 
 import org.ballerinalang.jvm.api.values.BString;
-import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BMapType;
 import org.ballerinalang.jvm.types.BRecordType;
 import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
@@ -96,7 +96,7 @@ public class ToArray {
                 }
                 return new ArrayValueImpl(stringArr);
             default:
-                return new ArrayValueImpl(values.toArray(), new BArrayType(arrElemType));
+                return new ArrayValueImpl(values.toArray(), TypeInterner.getArrayType(arrElemType));
 
         }
     }
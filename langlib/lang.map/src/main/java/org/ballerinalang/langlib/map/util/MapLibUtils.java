@@ -22,7 +22,7 @@ import org.ballerinalang.jvm.types.BField;
 import org.ballerinalang.jvm.types.BMapType;
 import org.ballerinalang.jvm.types.BRecordType;
 import org.ballerinalang.jvm.types.BType;
-import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.types.TypeTags;
 
 import java.util.ArrayList;
@@ -61,6 +61,6 @@ public class MapLibUtils {
             typeSet.add(recordType.restFieldType);
         }
 
-        return typeSet.size() == 1 ? typeSet.iterator().next() : new BUnionType(new ArrayList<>(typeSet));
+        return typeSet.size() == 1 ? typeSet.iterator().next() : TypeInterner.getUnionType(new ArrayList<>(typeSet));
     }
 }
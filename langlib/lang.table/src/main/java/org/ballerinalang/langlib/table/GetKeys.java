@@ -20,8 +20,8 @@ package org.ballerinalang.langlib.table;
 
 import org.ballerinalang.jvm.api.BValueCreator;
 import org.ballerinalang.jvm.api.values.BString;
-import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.TableValueImpl;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -81,7 +81,8 @@ public class GetKeys {
                 }
                 return (ArrayValue) BValueCreator.createArrayValue(stringArr);
             default:
-                return (ArrayValue) BValueCreator.createArrayValue(tbl.getKeys(), new BArrayType(tbl.getKeyType()));
+                return (ArrayValue) BValueCreator.createArrayValue(tbl.getKeys(),
+                                                                   TypeInterner.getArrayType(tbl.getKeyType()));
         }
     }
 }
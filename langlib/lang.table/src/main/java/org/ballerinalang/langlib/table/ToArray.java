@@ -18,9 +18,9 @@
 
 package org.ballerinalang.langlib.table;
 
-import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BTableType;
 import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.TableValueImpl;
@@ -46,6 +46,6 @@ public class ToArray {
 
         Collection values = tbl.values();
         //Basic constrain types not applicable for table type
-        return new ArrayValueImpl(values.toArray(), new BArrayType(constrainedType));
+        return new ArrayValueImpl(values.toArray(), TypeInterner.getArrayType(constrainedType));
     }
 }
@@ -36,6 +36,7 @@ import org.ballerinalang.jvm.types.BTupleType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypedescType;
 import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BLangExceptionHelper;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
@@ -51,6 +52,7 @@ import org.ballerinalang.jvm.values.TypedescValue;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -195,7 +197,7 @@ public class CloneWithType {
             case TypeTags.XML_PI_TAG:
             case TypeTags.XML_TEXT_TAG:
             case TypeTags.ERROR_TAG:
-                newValue = value.copy(new HashMap<>());
+                newValue = value.copy(new IdentityHashMap<>());
                 break;
             default:
                 // should never reach here
@@ -270,7 +272,7 @@ public class CloneWithType {
                 }
                 return newTuple;
             case TypeTags.JSON_TAG:
-                newArray = new ArrayValueImpl(new BArrayType(BTypes.typeJSON));
+                newArray = new ArrayValueImpl(TypeInterner.getArrayType(BTypes.typeJSON));
                 for (int i = 0; i < array.size(); i++) {
                     Object newValue = convert(array.get(i), BTypes.typeJSON, unresolvedValues, t, strand);
                     newArray.add(i, newValue);
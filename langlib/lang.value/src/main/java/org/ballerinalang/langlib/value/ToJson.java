@@ -24,9 +24,9 @@ import org.ballerinalang.jvm.api.values.BError;
 import org.ballerinalang.jvm.api.values.BString;
 import org.ballerinalang.jvm.commons.TypeValuePair;
 import org.ballerinalang.jvm.types.BArrayType;
-import org.ballerinalang.jvm.types.BMapType;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.TypeInterner;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BLangExceptionHelper;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
@@ -120,7 +120,7 @@ public class ToJson {
     }
 
     private static Object convertMapToJson(MapValue<?, ?> map, List<TypeValuePair> unresolvedValues) {
-        MapValueImpl<BString, Object> newMap = new MapValueImpl<>(new BMapType(BTypes.typeJSON));
+        MapValueImpl<BString, Object> newMap = new MapValueImpl<>(TypeInterner.getMapType(BTypes.typeJSON));
         for (Map.Entry entry : map.entrySet()) {
             Object newValue = convert(entry.getValue(), unresolvedValues);
             newMap.put(BStringUtils.fromString(entry.getKey().toString()), newValue);
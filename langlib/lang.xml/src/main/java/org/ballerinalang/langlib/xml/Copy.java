@@ -22,7 +22,7 @@ import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.util.exceptions.BLangExceptionHelper;
 import org.ballerinalang.jvm.values.XMLValue;
 
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 
 /**
  * Make a deep copy of an XML.
@@ -39,7 +39,7 @@ public class Copy {
 
     public static XMLValue copy(Strand strand, XMLValue xml) {
         try {
-            return (XMLValue) xml.copy(new HashMap<>());
+            return (XMLValue) xml.copy(new IdentityHashMap<>());
         } catch (Throwable e) {
             BLangExceptionHelper.handleXMLException(OPERATION, e);
         }
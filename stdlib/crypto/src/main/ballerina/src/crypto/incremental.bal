@@ -0,0 +1,256 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/java;
+
+# The hash algorithms of a `crypto:Digest` and a `crypto:Hmac`.
+public type HashAlgorithm MD5|SHA1|SHA256|SHA384|SHA512;
+
+# The `MD5` hash algorithm.
+public const MD5 = "MD5";
+
+# The `SHA-1` hash algorithm.
+public const SHA1 = "SHA-1";
+
+# The `SHA-256` hash algorithm.
+public const SHA256 = "SHA-256";
+
+# The `SHA-384` hash algorithm.
+public const SHA384 = "SHA-384";
+
+# The `SHA-512` hash algorithm.
+public const SHA512 = "SHA-512";
+
+# Whether a `crypto:AesCipher` encrypts or decrypts.
+public type CipherMode ENCRYPT|DECRYPT;
+
+# Encrypt the given data.
+public const ENCRYPT = "ENCRYPT";
+
+# Decrypt the given data.
+public const DECRYPT = "DECRYPT";
+
+# The AES modes of a `crypto:AesCipher`.
+public type AesMode CBC|ECB|GCM;
+
+# The `CBC` AES mode.
+public const CBC = "CBC";
+
+# The `ECB` AES mode.
+public const ECB = "ECB";
+
+# The `GCM` AES mode.
+public const GCM = "GCM";
+
+# Hash of data that is given a chunk at a time, so that the data need not be held in memory at once.
+# ```ballerina
+#  crypto:Digest digest = new(crypto:SHA256);
+#  io:ReadableByteChannel channel = check io:openReadableFile("./data.bin");
+#  check digest.updateFromChannel(channel);
+#  byte[] hash = digest.finish();
+# ```
+public class Digest {
+
+    # Initializes the digest.
+    #
+    # + algorithm - Hash algorithm
+    public function init(HashAlgorithm algorithm) {
+        initDigestExtern(self, algorithm);
+    }
+
+    # Adds a chunk of data to the digest.
+    #
+    # + input - Chunk of data to be hashed
+    public function update(byte[] input) {
+        updateDigestExtern(self, input);
+    }
+
+    # Adds all the data of a channel to the digest. The channel is read to its end, without creating a `byte[]` for
+    # the data it reads.
+    #
+    # + channel - Channel of the data to be hashed
+    # + return - A `crypto:Error` if the channel cannot be read
+    public function updateFromChannel(io:ReadableByteChannel channel) returns Error? {
+        return updateDigestFromChannelExtern(self, channel);
+    }
+
+    # Returns the hash of the data given so far, and resets the digest for new data.
+    #
+    # + return - Hashed output
+    public function finish() returns byte[] {
+        return finishDigestExtern(self);
+    }
+}
+
+# HMAC of data that is given a chunk at a time, so that the data need not be held in memory at once.
+# ```ballerina
+#  string keyString = "some-secret";
+#  crypto:Hmac hmac = check new(crypto:SHA256, keyString.toBytes());
+#  hmac.update(firstChunk);
+#  hmac.update(secondChunk);
+#  byte[] mac = hmac.finish();
+# ```
+public class Hmac {
+
+    # Initializes the HMAC.
+    #
+    # + algorithm - Hash algorithm
+    # + key - Key used for HMAC generation
+    # + return - A `crypto:Error` if the key is invalid
+    public function init(HashAlgorithm algorithm, byte[] key) returns Error? {
+        return initHmacExtern(self, algorithm, key);
+    }
+
+    # Adds a chunk of data to the HMAC.
+    #
+    # + input - Chunk of data to be hashed
+    public function update(byte[] input) {
+        updateHmacExtern(self, input);
+    }
+
+    # Adds all the data of a channel to the HMAC. The channel is read to its end, without creating a `byte[]` for
+    # the data it reads.
+    #
+    # + channel - Channel of the data to be hashed
+    # + return - A `crypto:Error` if the channel cannot be read
+    public function updateFromChannel(io:ReadableByteChannel channel) returns Error? {
+        return updateHmacFromChannelExtern(self, channel);
+    }
+
+    # Returns the HMAC of the data given so far, and resets the HMAC for new data with the same key.
+    #
+    # + return - HMAC output
+    public function finish() returns byte[] {
+        return finishHmacExtern(self);
+    }
+}
+
+# AES encryption or decryption of data that is given a chunk at a time, so that the data need not be held in memory
+# at once. A cipher cannot be used once it is finished.
+# ```ballerina
+#  crypto:AesCipher cipher = check new(crypto:ENCRYPT, crypto:GCM, key, initialVector);
+#  io:ReadableByteChannel source = check io:openReadableFile("./data.bin");
+#  io:WritableByteChannel destination = check io:openWritableFile("./data.bin.enc");
+#  check cipher.updateFromChannel(source, destination);
+#  _ = check destination.write(check cipher.finish(), 0);
+# ```
+public class AesCipher {
+
+    # Initializes the cipher.
+    #
+    # + mode - Whether the cipher encrypts or decrypts
+    # + aesMode - The AES mode
+    # + key - Encryption key
+    # + iv - Initialization vector, which the `CBC` and `GCM` modes require and the `ECB` mode does not allow
+    # + padding - The padding
+    # + tagSize - Tag size of the `GCM` mode
+    # + return - A `crypto:Error` if the key, the initialization vector or the tag size is invalid
+    public function init(CipherMode mode, AesMode aesMode, byte[] key, byte[]? iv = (), AesPadding padding = PKCS5,
+                         int tagSize = 128) returns Error? {
+        return initAesCipherExtern(self, mode, aesMode, key, iv, padding, tagSize);
+    }
+
+    # Encrypts or decrypts a chunk of data. With the `GCM` mode, decrypted data is returned only by `finish`, once it
+    # is authenticated.
+    #
+    # + input - Chunk of data
+    # + return - Encrypted or decrypted data, which may be shorter or longer than the chunk
+    public function update(byte[] input) returns byte[] {
+        return updateAesCipherExtern(self, input);
+    }
+
+    # Encrypts or decrypts all the data of a channel, and writes the result to another channel. The source channel is
+    # read to its end, without creating a `byte[]` for the data it reads.
+    #
+    # + source - Channel of the data to be encrypted or decrypted
+    # + destination - Channel to which the encrypted or decrypted data is written
+    # + return - A `crypto:Error` if a channel cannot be read or written
+    public function updateFromChannel(io:ReadableByteChannel source, io:WritableByteChannel destination)
+                                      returns Error? {
+        return updateAesCipherFromChannelExtern(self, source, destination);
+    }
+
+    # Finishes the encryption or decryption.
+    #
+    # + return - The rest of the encrypted or decrypted data, or else a `crypto:Error` if the padding or the tag of
+    #            the data is invalid
+    public function finish() returns byte[]|Error {
+        return finishAesCipherExtern(self);
+    }
+}
+
+function initDigestExtern(Digest digest, HashAlgorithm algorithm) = @java:Method {
+    name: "initDigest",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Incremental"
+} external;
+
+function updateDigestExtern(Digest digest, byte[] input) = @java:Method {
+    name: "updateDigest",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Incremental"
+} external;
+
+function updateDigestFromChannelExtern(Digest digest, io:ReadableByteChannel channel) returns Error? = @java:Method {
+    name: "updateDigestFromChannel",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Incremental"
+} external;
+
+function finishDigestExtern(Digest digest) returns byte[] = @java:Method {
+    name: "finishDigest",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Incremental"
+} external;
+
+function initHmacExtern(Hmac hmac, HashAlgorithm algorithm, byte[] key) returns Error? = @java:Method {
+    name: "initHmac",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Incremental"
+} external;
+
+function updateHmacExtern(Hmac hmac, byte[] input) = @java:Method {
+    name: "updateHmac",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Incremental"
+} external;
+
+function updateHmacFromChannelExtern(Hmac hmac, io:ReadableByteChannel channel) returns Error? = @java:Method {
+    name: "updateHmacFromChannel",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Incremental"
+} external;
+
+function finishHmacExtern(Hmac hmac) returns byte[] = @java:Method {
+    name: "finishHmac",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Incremental"
+} external;
+
+function initAesCipherExtern(AesCipher cipher, CipherMode mode, AesMode aesMode, byte[] key, byte[]? iv,
+                             AesPadding padding, int tagSize) returns Error? = @java:Method {
+    name: "initAesCipher",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Incremental"
+} external;
+
+function updateAesCipherExtern(AesCipher cipher, byte[] input) returns byte[] = @java:Method {
+    name: "updateAesCipher",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Incremental"
+} external;
+
+function updateAesCipherFromChannelExtern(AesCipher cipher, io:ReadableByteChannel source,
+                                          io:WritableByteChannel destination) returns Error? = @java:Method {
+    name: "updateAesCipherFromChannel",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Incremental"
+} external;
+
+function finishAesCipherExtern(AesCipher cipher) returns byte[]|Error = @java:Method {
+    name: "finishAesCipher",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Incremental"
+} external;
@@ -54,6 +54,15 @@ public class Constants {
     // Native data key for private key within the PublicKey record.
     public static final String NATIVE_DATA_PUBLIC_KEY_CERTIFICATE = "NATIVE_DATA_PUBLIC_KEY_CERTIFICATE";
 
+    // Native data key for the message digest within the Digest object.
+    public static final String NATIVE_DATA_DIGEST = "NATIVE_DATA_DIGEST";
+
+    // Native data key for the MAC within the Hmac object.
+    public static final String NATIVE_DATA_MAC = "NATIVE_DATA_MAC";
+
+    // Native data key for the cipher within the AesCipher object.
+    public static final String NATIVE_DATA_CIPHER = "NATIVE_DATA_CIPHER";
+
     // Path field in KEY_STORE_RECORD record.
     public static final BString KEY_STORE_RECORD_PATH_FIELD = BStringUtils.fromString("path");
 
@@ -34,6 +34,8 @@ import java.security.Signature;
 import java.security.SignatureException;
 import java.security.spec.AlgorithmParameterSpec;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -74,6 +76,15 @@ public class CryptoUtils {
      */
     private static final int[] VALID_AES_KEY_SIZES = new int[] { 16, 24, 32 };
 
+    /**
+     * Message digests, MACs and ciphers of the current thread, by algorithm. Looking up a JCA provider for each call
+     * costs more than hashing a small input, and an instance is used only within a single call, which does not yield.
+     */
+    private static final ThreadLocal<Map<String, MessageDigest>> MESSAGE_DIGESTS = ThreadLocal.withInitial(
+            HashMap::new);
+    private static final ThreadLocal<Map<String, Mac>> MACS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Cipher>> CIPHERS = ThreadLocal.withInitial(HashMap::new);
+
     private CryptoUtils() {
 
     }
@@ -89,7 +100,7 @@ public class CryptoUtils {
     public static byte[] hmac(String algorithm, byte[] key, byte[] input) {
         try {
             SecretKey secretKey = new SecretKeySpec(key, algorithm);
-            Mac mac = Mac.getInstance(algorithm);
+            Mac mac = getCachedMac(algorithm);
             mac.init(secretKey);
             return mac.doFinal(input);
         } catch (NoSuchAlgorithmException | InvalidKeyException e) {
@@ -106,10 +117,9 @@ public class CryptoUtils {
      */
     public static byte[] hash(String algorithm, byte[] input) {
         try {
-            MessageDigest messageDigest;
-            messageDigest = MessageDigest.getInstance(algorithm);
-            messageDigest.update(input);
-            return messageDigest.digest();
+            MessageDigest messageDigest = getCachedMessageDigest(algorithm);
+            messageDigest.reset();
+            return messageDigest.digest(input);
         } catch (NoSuchAlgorithmException e) {
             throw CryptoUtils.createError("Error occurred while calculating hash: " + e.getMessage());
         }
@@ -189,7 +199,7 @@ public class CryptoUtils {
                 return CryptoUtils.createError("Valid tag sizes are: " + Arrays.toString(VALID_GCM_TAG_SIZES));
             }
             AlgorithmParameterSpec paramSpec = buildParameterSpec(transformedAlgorithmMode, iv, (int) tagSize);
-            Cipher cipher = Cipher.getInstance(Constants.RSA + "/" + transformedAlgorithmMode + "/"
+            Cipher cipher = getCachedCipher(Constants.RSA + "/" + transformedAlgorithmMode + "/"
                     + transformedAlgorithmPadding);
             initCipher(cipher, cipherMode, key, paramSpec);
             return new ArrayValueImpl(cipher.doFinal(input));
@@ -219,6 +229,31 @@ public class CryptoUtils {
      */
     public static Object aesEncryptDecrypt(CipherMode cipherMode, String algorithmMode,
                                            String algorithmPadding, byte[] key, byte[] input, byte[] iv, long tagSize) {
+        Object cipher = initAesCipher(cipherMode, algorithmMode, algorithmPadding, key, iv, tagSize, true);
+        if (cipher instanceof BError) {
+            return cipher;
+        }
+        try {
+            return new ArrayValueImpl(((Cipher) cipher).doFinal(input));
+        } catch (BadPaddingException | IllegalBlockSizeException e) {
+            return CryptoUtils.createError("Error occurred while AES encrypt/decrypt: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Initialize an AES cipher for encryption or decryption.
+     *
+     * @param cipherMode       cipher mode depending on encryption or decryption
+     * @param algorithmMode    mode used during encryption
+     * @param algorithmPadding padding used during encryption
+     * @param key              key to be used during encryption
+     * @param iv               initialization vector
+     * @param tagSize          tag size used for GCM encryption
+     * @param cached           whether the cipher of the current thread can be used, instead of a new cipher
+     * @return initialized cipher or error if key is invalid
+     */
+    public static Object initAesCipher(CipherMode cipherMode, String algorithmMode, String algorithmPadding,
+                                       byte[] key, byte[] iv, long tagSize, boolean cached) {
         try {
             if (Arrays.stream(VALID_AES_KEY_SIZES).noneMatch(validSize -> validSize == key.length)) {
                 return CryptoUtils.createError("Invalid key size. valid key sizes in bytes: " +
@@ -232,21 +267,55 @@ public class CryptoUtils {
                         Arrays.toString(VALID_GCM_TAG_SIZES));
             }
             AlgorithmParameterSpec paramSpec = buildParameterSpec(transformedAlgorithmMode, iv, (int) tagSize);
-            Cipher cipher = Cipher.getInstance("AES/" + transformedAlgorithmMode + "/" + transformedAlgorithmPadding);
+            String transformation = "AES/" + transformedAlgorithmMode + "/" + transformedAlgorithmPadding;
+            // A GCM cipher rejects being initialized for encryption with the key and IV it was last initialized
+            // with, which a new cipher does not
+            Cipher cipher = cached && !(cipherMode == CipherMode.ENCRYPT && Constants.GCM.equals(algorithmMode)) ?
+                    getCachedCipher(transformation) : Cipher.getInstance(transformation);
             initCipher(cipher, cipherMode, keySpec, paramSpec);
-            return new ArrayValueImpl(cipher.doFinal(input));
+            return cipher;
         } catch (NoSuchAlgorithmException e) {
             return CryptoUtils.createError("Unsupported algorithm: AES " + algorithmMode + " " + algorithmPadding +
                     ": " + e.getMessage());
         } catch (NoSuchPaddingException e) {
             return CryptoUtils.createError("Unsupported padding scheme defined in  the algorithm: AES " +
                     algorithmMode + " " + algorithmPadding + ": " + e.getMessage());
-        } catch (BadPaddingException | IllegalBlockSizeException | InvalidAlgorithmParameterException |
-                InvalidKeyException | ErrorValue e) {
+        } catch (InvalidAlgorithmParameterException | InvalidKeyException | ErrorValue e) {
             return CryptoUtils.createError("Error occurred while AES encrypt/decrypt: " + e.getMessage());
         }
     }
 
+    private static MessageDigest getCachedMessageDigest(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, MessageDigest> messageDigests = MESSAGE_DIGESTS.get();
+        MessageDigest messageDigest = messageDigests.get(algorithm);
+        if (messageDigest == null) {
+            messageDigest = MessageDigest.getInstance(algorithm);
+            messageDigests.put(algorithm, messageDigest);
+        }
+        return messageDigest;
+    }
+
+    private static Mac getCachedMac(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, Mac> macs = MACS.get();
+        Mac mac = macs.get(algorithm);
+        if (mac == null) {
+            mac = Mac.getInstance(algorithm);
+            macs.put(algorithm, mac);
+        }
+        return mac;
+    }
+
+    private static Cipher getCachedCipher(String transformation)
+            throws NoSuchAlgorithmException, NoSuchPaddingException {
+        Map<String, Cipher> ciphers = CIPHERS.get();
+        Cipher cipher = ciphers.get(transformation);
+        if (cipher == null) {
+            cipher = Cipher.getInstance(transformation);
+            ciphers.put(transformation, cipher);
+        }
+        return cipher;
+    }
+
     /**
      * Initialize cipher for encryption and decryption operations.
      *
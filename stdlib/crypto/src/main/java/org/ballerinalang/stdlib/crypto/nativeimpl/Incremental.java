@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.crypto.nativeimpl;
+
+import org.ballerinalang.jvm.api.values.BError;
+import org.ballerinalang.jvm.api.values.BObject;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.stdlib.crypto.Constants;
+import org.ballerinalang.stdlib.crypto.CryptoUtils;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.utils.IOConstants;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.function.Consumer;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Extern functions of the ballerina digest, HMAC and cipher objects, which are given their input a chunk at a time.
+ *
+ * @since 2.0.0
+ */
+public class Incremental {
+
+    private static final int CHANNEL_BUFFER_SIZE = 65536;
+
+    // Largest number of bytes a block cipher holds back from the output of an update
+    private static final int MAX_BLOCK_SIZE = 16;
+
+    // A channel of a file reads into, and writes from, a direct buffer without copying it to a buffer of its own
+    private static final ThreadLocal<ByteBuffer> INPUT_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(CHANNEL_BUFFER_SIZE));
+    private static final ThreadLocal<ByteBuffer> OUTPUT_BUFFER =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(CHANNEL_BUFFER_SIZE + MAX_BLOCK_SIZE));
+
+    public static void initDigest(BObject digestObj, Object algorithm) {
+        try {
+            digestObj.addNativeData(Constants.NATIVE_DATA_DIGEST, MessageDigest.getInstance(algorithm.toString()));
+        } catch (NoSuchAlgorithmException e) {
+            throw CryptoUtils.createError("Error occurred while calculating hash: " + e.getMessage());
+        }
+    }
+
+    public static void updateDigest(BObject digestObj, ArrayValue inputValue) {
+        getDigest(digestObj).update(inputValue.getBytes());
+    }
+
+    public static Object updateDigestFromChannel(BObject digestObj, BObject channelObj) {
+        return readChannel(channelObj, getDigest(digestObj)::update);
+    }
+
+    public static ArrayValue finishDigest(BObject digestObj) {
+        return new ArrayValueImpl(getDigest(digestObj).digest());
+    }
+
+    public static Object initHmac(BObject hmacObj, Object algorithm, ArrayValue keyValue) {
+        String macAlgorithm = "Hmac" + algorithm.toString().replace("-", "");
+        try {
+            Mac mac = Mac.getInstance(macAlgorithm);
+            mac.init(new SecretKeySpec(keyValue.getBytes(), macAlgorithm));
+            hmacObj.addNativeData(Constants.NATIVE_DATA_MAC, mac);
+            return null;
+        } catch (NoSuchAlgorithmException | InvalidKeyException | IllegalArgumentException e) {
+            return CryptoUtils.createError("Error occurred while calculating HMAC: " + e.getMessage());
+        }
+    }
+
+    public static void updateHmac(BObject hmacObj, ArrayValue inputValue) {
+        getMac(hmacObj).update(inputValue.getBytes());
+    }
+
+    public static Object updateHmacFromChannel(BObject hmacObj, BObject channelObj) {
+        return readChannel(channelObj, getMac(hmacObj)::update);
+    }
+
+    public static ArrayValue finishHmac(BObject hmacObj) {
+        return new ArrayValueImpl(getMac(hmacObj).doFinal());
+    }
+
+    public static Object initAesCipher(BObject cipherObj, Object cipherMode, Object algorithmMode, ArrayValue keyValue,
+                                       ArrayValue ivValue, Object padding, long tagSize) {
+        byte[] iv = null;
+        if (ivValue != null) {
+            iv = ivValue.getBytes();
+        }
+        String mode = algorithmMode.toString();
+        // The cipher is kept by the object, which may be used from another thread, so it is never a cached cipher
+        Object cipher = CryptoUtils.initAesCipher(CryptoUtils.CipherMode.valueOf(cipherMode.toString()), mode,
+                padding.toString(), keyValue.getBytes(), iv, Constants.GCM.equals(mode) ? tagSize : -1, false);
+        if (cipher instanceof BError) {
+            return cipher;
+        }
+        cipherObj.addNativeData(Constants.NATIVE_DATA_CIPHER, cipher);
+        return null;
+    }
+
+    public static ArrayValue updateAesCipher(BObject cipherObj, ArrayValue inputValue) {
+        byte[] output = getCipher(cipherObj).update(inputValue.getBytes());
+        return new ArrayValueImpl(output != null ? output : new byte[0]);
+    }
+
+    public static Object updateAesCipherFromChannel(BObject cipherObj, BObject sourceObj, BObject destinationObj) {
+        Cipher cipher = getCipher(cipherObj);
+        Channel source = (Channel) sourceObj.getNativeData(IOConstants.BYTE_CHANNEL_NAME);
+        Channel destination = (Channel) destinationObj.getNativeData(IOConstants.BYTE_CHANNEL_NAME);
+        ByteBuffer input = INPUT_BUFFER.get();
+        ByteBuffer output = OUTPUT_BUFFER.get();
+        try {
+            while (!source.hasReachedEnd()) {
+                input.clear();
+                if (source.read(input) == 0) {
+                    continue;
+                }
+                input.flip();
+                // A GCM cipher that decrypts holds back all of its output until the tag is verified, and asks for an
+                // output buffer that fits all of the input so far
+                if (cipher.getOutputSize(input.remaining()) > output.capacity()) {
+                    byte[] bytes = new byte[input.remaining()];
+                    input.get(bytes);
+                    byte[] outputBytes = cipher.update(bytes);
+                    if (outputBytes != null) {
+                        writeFully(destination, ByteBuffer.wrap(outputBytes));
+                    }
+                    continue;
+                }
+                output.clear();
+                cipher.update(input, output);
+                output.flip();
+                writeFully(destination, output);
+            }
+            return null;
+        } catch (IOException | ShortBufferException e) {
+            return CryptoUtils.createError("Error occurred while AES encrypt/decrypt: " + e.getMessage());
+        }
+    }
+
+    public static Object finishAesCipher(BObject cipherObj) {
+        Cipher cipher = getCipher(cipherObj);
+        // A GCM cipher must not encrypt again with the same key and IV, so no cipher is reused once it is finished
+        cipherObj.addNativeData(Constants.NATIVE_DATA_CIPHER, null);
+        try {
+            return new ArrayValueImpl(cipher.doFinal());
+        } catch (BadPaddingException | IllegalBlockSizeException e) {
+            return CryptoUtils.createError("Error occurred while AES encrypt/decrypt: " + e.getMessage());
+        }
+    }
+
+    private static MessageDigest getDigest(BObject digestObj) {
+        return (MessageDigest) digestObj.getNativeData(Constants.NATIVE_DATA_DIGEST);
+    }
+
+    private static Mac getMac(BObject hmacObj) {
+        return (Mac) hmacObj.getNativeData(Constants.NATIVE_DATA_MAC);
+    }
+
+    private static Cipher getCipher(BObject cipherObj) {
+        Cipher cipher = (Cipher) cipherObj.getNativeData(Constants.NATIVE_DATA_CIPHER);
+        if (cipher == null) {
+            throw CryptoUtils.createError("Cipher is already finished");
+        }
+        return cipher;
+    }
+
+    /**
+     * Reads a channel to its end, and gives each chunk that is read to the consumer.
+     *
+     * @param channelObj channel to read
+     * @param consumer   consumer of the chunks
+     * @return error if the channel cannot be read
+     */
+    private static Object readChannel(BObject channelObj, Consumer<ByteBuffer> consumer) {
+        Channel channel = (Channel) channelObj.getNativeData(IOConstants.BYTE_CHANNEL_NAME);
+        ByteBuffer buffer = INPUT_BUFFER.get();
+        try {
+            while (!channel.hasReachedEnd()) {
+                buffer.clear();
+                if (channel.read(buffer) > 0) {
+                    buffer.flip();
+                    consumer.accept(buffer);
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            return CryptoUtils.createError("Error occurred while reading from the channel: " + e.getMessage());
+        }
+    }
+
+    private static void writeFully(Channel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -32,9 +32,17 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
 
 /**
  * Test cases for ballerina.crypto native functions.
@@ -908,4 +916,97 @@ public class CryptoTest {
         Assert.assertEquals(((BError) returnValues[0]).getMessage(),
                 "Error occurred while RSA encrypt/decrypt: Unsupported padding: PKCS99");
     }
+
+    //
+    // Incremental Digest, HMAC and Cipher Related Tests
+    //
+
+    @Test(description = "Test hashing a chunk at a time")
+    public void testDigestWithChunks() throws DecoderException {
+        byte[] expectedSha256Hash = Hex
+                .decodeHex("68F6CA0B55B55099331BF4EAA659B8BDC94FBDCE2F54D94FD90DA8240797A5D7".toCharArray());
+        BValue[] args = {new BValueArray("Ballerina test".getBytes(StandardCharsets.UTF_8)), new BInteger(3)};
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testDigestWithChunks", args);
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSha256Hash);
+    }
+
+    @Test(description = "Test hashing the content of a channel")
+    public void testDigestFromChannel() throws IOException, GeneralSecurityException {
+        Path file = confRoot.resolve("testKeystore.p12");
+        byte[] expectedSha512Hash = MessageDigest.getInstance("SHA-512").digest(Files.readAllBytes(file));
+        BValue[] args = {new BString(file.toString())};
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testDigestFromChannel", args);
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSha512Hash);
+    }
+
+    @Test(description = "Test hmac generation a chunk at a time")
+    public void testHmacWithChunks() throws DecoderException {
+        byte[] expectedSHA256Hash = Hex
+                .decodeHex("2651203E18BF0088D3EF1215022D147E2534FD4BAD5689C9E5F12436E9758B15".toCharArray());
+        BValue[] args = {new BValueArray("Ballerina HMAC test".getBytes(StandardCharsets.UTF_8)),
+                new BValueArray("abcdefghijk".getBytes(StandardCharsets.UTF_8)), new BInteger(4)};
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testHmacWithChunks", args);
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSHA256Hash);
+    }
+
+    @Test(description = "Test hmac generation a chunk at a time with an empty key")
+    public void testHmacWithChunksNegativeInvalidKey() {
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testHmacWithEmptyKey");
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BError) returnValues[0]).getMessage(),
+                "Error occurred while calculating HMAC: Empty key");
+    }
+
+    @Test(description = "Test encrypt with AES GCM a chunk at a time")
+    public void testAesCipherWithChunks() {
+        byte[] message = "Ballerina crypto test, encrypted a chunk at a time".getBytes(StandardCharsets.UTF_8);
+        byte[] key = new byte[KEY_SIZE];
+        for (int i = 0; i < KEY_SIZE; i++) {
+            key[i] = (byte) i;
+        }
+        byte[] iv = new byte[16];
+        for (int i = 0; i < 16; i++) {
+            iv[i] = (byte) (i + 1);
+        }
+
+        BValue[] args = {new BValueArray(message), new BValueArray(key), new BValueArray(iv), new BInteger(7)};
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testAesCipherWithChunks", args);
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), message);
+    }
+
+    @Test(description = "Test encrypt with AES CBC from a channel to a channel")
+    public void testAesCipherFromChannel() throws IOException, GeneralSecurityException {
+        Path source = confRoot.resolve("testKeystore.p12");
+        Path destination = Files.createTempFile("crypto-test", ".enc");
+        byte[] key = new byte[KEY_SIZE];
+        for (int i = 0; i < KEY_SIZE; i++) {
+            key[i] = (byte) i;
+        }
+        byte[] iv = new byte[16];
+        try {
+            BValue[] args = {new BString(source.toString()), new BString(destination.toString()),
+                    new BValueArray(key), new BValueArray(iv)};
+            BValue[] returnValues = BRunUtil.invoke(compileResult, "testAesCipherFromChannel", args);
+            Assert.assertTrue(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+
+            Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+            cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, "AES"), new IvParameterSpec(iv));
+            Assert.assertEquals(cipher.doFinal(Files.readAllBytes(destination)), Files.readAllBytes(source));
+        } finally {
+            Files.deleteIfExists(destination);
+        }
+    }
+
+    @Test(description = "Test using an AES cipher after it is finished",
+            expectedExceptions = BLangRuntimeException.class,
+            expectedExceptionsMessageRegExp = ".*Cipher is already finished.*")
+    public void testAesCipherAfterFinish() {
+        byte[] key = new byte[KEY_SIZE];
+        BValue[] args = {new BValueArray(key)};
+        BRunUtil.invoke(compileResult, "testAesCipherAfterFinish", args);
+    }
 }
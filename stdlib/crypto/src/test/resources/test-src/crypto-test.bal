@@ -15,6 +15,7 @@
 // under the License.
 
 import ballerina/crypto;
+import ballerina/io;
 
 function testHashWithCRC32b(byte[] input) returns string {
     return crypto:crc32b(input);
@@ -260,3 +261,69 @@ function testVerifyRsaMd5(byte[] input, byte[] signature, string path, string ke
     crypto:PublicKey pk = check crypto:decodePublicKey(keyStore, keyAlias);
     return crypto:verifyRsaMd5Signature(input, signature, pk);
 }
+
+function testDigestWithChunks(byte[] input, int chunkSize) returns byte[] {
+    crypto:Digest digest = new(crypto:SHA256);
+    int offset = 0;
+    while (offset < input.length()) {
+        int end = offset + chunkSize < input.length() ? offset + chunkSize : input.length();
+        digest.update(input.slice(offset, end));
+        offset = end;
+    }
+    return digest.finish();
+}
+
+function testDigestFromChannel(string path) returns byte[]|error {
+    crypto:Digest digest = new(crypto:SHA512);
+    digest.update("discarded".toBytes());
+    _ = digest.finish();
+    io:ReadableByteChannel channel = check io:openReadableFile(path);
+    check digest.updateFromChannel(channel);
+    check channel.close();
+    return digest.finish();
+}
+
+function testHmacWithChunks(byte[] input, byte[] key, int chunkSize) returns byte[]|crypto:Error {
+    crypto:Hmac hmac = check new(crypto:SHA256, key);
+    int offset = 0;
+    while (offset < input.length()) {
+        int end = offset + chunkSize < input.length() ? offset + chunkSize : input.length();
+        hmac.update(input.slice(offset, end));
+        offset = end;
+    }
+    return hmac.finish();
+}
+
+function testHmacWithEmptyKey() returns crypto:Hmac|crypto:Error {
+    return new(crypto:SHA256, []);
+}
+
+function testAesCipherWithChunks(byte[] input, byte[] key, byte[] iv, int chunkSize) returns byte[]|crypto:Error {
+    crypto:AesCipher cipher = check new(crypto:ENCRYPT, crypto:GCM, key, iv, crypto:NONE);
+    byte[] output = [];
+    int offset = 0;
+    while (offset < input.length()) {
+        int end = offset + chunkSize < input.length() ? offset + chunkSize : input.length();
+        output.push(...cipher.update(input.slice(offset, end)));
+        offset = end;
+    }
+    byte[] lastChunk = check cipher.finish();
+    output.push(...lastChunk);
+    return crypto:decryptAesGcm(output, key, iv, crypto:NONE);
+}
+
+function testAesCipherFromChannel(string sourcePath, string destinationPath, byte[] key, byte[] iv) returns error? {
+    crypto:AesCipher cipher = check new(crypto:ENCRYPT, crypto:CBC, key, iv);
+    io:ReadableByteChannel source = check io:openReadableFile(sourcePath);
+    io:WritableByteChannel destination = check io:openWritableFile(destinationPath);
+    check cipher.updateFromChannel(source, destination);
+    _ = check destination.write(check cipher.finish(), 0);
+    check source.close();
+    check destination.close();
+}
+
+function testAesCipherAfterFinish(byte[] key) returns byte[] {
+    crypto:AesCipher cipher = checkpanic new(crypto:ENCRYPT, crypto:ECB, key);
+    _ = checkpanic cipher.finish();
+    return cipher.update("Ballerina crypto test".toBytes());
+}
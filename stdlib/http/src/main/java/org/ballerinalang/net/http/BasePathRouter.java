@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.ballerinalang.net.http;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.ballerinalang.net.http.HttpConstants.DEFAULT_BASE_PATH;
+
+/**
+ * Finds the most specific base path for a request path, using a radix trie of the base paths of the services of a
+ * host. The trie is built when the services are registered and is not modified afterwards, so that it can be read by
+ * any number of threads.
+ * <p>
+ * A base path matches a request path that is equal to it ignoring case, or that starts with it followed by a
+ * {@code /}. The longest matching base path is the most specific one. If none matches, the default base path is
+ * returned if a service is registered for it. Finding the base path neither allocates nor converts the request path.
+ *
+ * @since 2.0.0
+ */
+public class BasePathRouter {
+
+    private final Node root;
+    private final boolean hasDefaultBasePath;
+
+    /**
+     * Creates a router for the given base paths. Base paths that are equal ignoring case are preferred in the given
+     * order.
+     *
+     * @param basePaths base paths of the services
+     */
+    public BasePathRouter(List<String> basePaths) {
+        NodeBuilder rootBuilder = new NodeBuilder();
+        for (String basePath : basePaths) {
+            NodeBuilder builder = rootBuilder;
+            for (int i = 0; i < basePath.length(); i++) {
+                builder = builder.children.computeIfAbsent(Character.toLowerCase(basePath.charAt(i)),
+                                                           key -> new NodeBuilder());
+            }
+            builder.basePaths.add(basePath);
+        }
+        this.root = rootBuilder.build(new char[0]);
+        this.hasDefaultBasePath = basePaths.contains(DEFAULT_BASE_PATH);
+    }
+
+    /**
+     * Returns the most specific base path for the given request path.
+     *
+     * @param requestPath raw path of the request
+     * @return the base path, or null if no base path matches
+     */
+    public String findBasePath(String requestPath) {
+        String basePath = null;
+        Node node = root;
+        int length = requestPath.length();
+        int pos = 0;
+        while (true) {
+            if (node.basePaths != null) {
+                if (pos == length) {
+                    return node.basePaths[0];
+                }
+                if (requestPath.charAt(pos) == '/') {
+                    // Only the exact match ignores case
+                    for (String candidate : node.basePaths) {
+                        if (requestPath.startsWith(candidate)) {
+                            basePath = candidate;
+                            break;
+                        }
+                    }
+                }
+            }
+            if (pos == length) {
+                break;
+            }
+
+            Node child = node.getChild(Character.toLowerCase(requestPath.charAt(pos)));
+            if (child == null || !child.matchesLabel(requestPath, pos)) {
+                break;
+            }
+            pos += child.label.length;
+            node = child;
+        }
+
+        if (basePath == null && hasDefaultBasePath) {
+            return DEFAULT_BASE_PATH;
+        }
+        return basePath;
+    }
+
+    /**
+     * A node of the trie. The label holds the lower case characters of the edge from the parent node.
+     */
+    private static class Node {
+
+        private final char[] label;
+        private final char[] childKeys;
+        private final Node[] children;
+        private final String[] basePaths;
+
+        Node(char[] label, char[] childKeys, Node[] children, String[] basePaths) {
+            this.label = label;
+            this.childKeys = childKeys;
+            this.children = children;
+            this.basePaths = basePaths;
+        }
+
+        Node getChild(char key) {
+            int index = Arrays.binarySearch(childKeys, key);
+            return index < 0 ? null : children[index];
+        }
+
+        boolean matchesLabel(String path, int offset) {
+            if (offset + label.length > path.length()) {
+                return false;
+            }
+            // The first character has already been matched by the parent
+            for (int i = 1; i < label.length; i++) {
+                if (Character.toLowerCase(path.charAt(offset + i)) != label[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Builds a node of the trie, merging the chains of nodes that have a single child and no base path.
+     */
+    private static class NodeBuilder {
+
+        private final Map<Character, NodeBuilder> children = new TreeMap<>();
+        private final List<String> basePaths = new ArrayList<>();
+
+        Node build(char[] label) {
+            char[] childKeys = new char[children.size()];
+            Node[] childNodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, NodeBuilder> entry : children.entrySet()) {
+                StringBuilder childLabel = new StringBuilder().append(entry.getKey());
+                NodeBuilder child = entry.getValue();
+                while (child.basePaths.isEmpty() && child.children.size() == 1) {
+                    Map.Entry<Character, NodeBuilder> onlyChild = child.children.entrySet().iterator().next();
+                    childLabel.append(onlyChild.getKey());
+                    child = onlyChild.getValue();
+                }
+                childKeys[i] = entry.getKey();
+                childNodes[i] = child.build(childLabel.toString().toCharArray());
+                i++;
+            }
+            String[] nodeBasePaths = basePaths.isEmpty() ? null : basePaths.toArray(new String[0]);
+            return new Node(label, childKeys, childNodes, nodeBasePaths);
+        }
+    }
+}
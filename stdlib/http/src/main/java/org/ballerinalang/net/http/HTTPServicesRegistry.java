@@ -98,6 +98,16 @@ public class HTTPServicesRegistry {
         return servicesMapByHost.get(hostName).sortedServiceURIs;
     }
 
+    /**
+     * Get the base path router for given host name.
+     *
+     * @param hostName of the service
+     * @return the router of the base paths of the services of the host
+     */
+    public BasePathRouter getBasePathRouterByHost(String hostName) {
+        return servicesMapByHost.get(hostName).basePathRouter;
+    }
+
     /**
      * Register a service into the map.
      *
@@ -132,6 +142,7 @@ public class HTTPServicesRegistry {
             //basePath will get cached after registering service
             sortedServiceURIs.add(basePath);
             sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            servicesMapByHost.get(hostName).basePathRouter = new BasePathRouter(sortedServiceURIs);
             // Register the WebSocket upgrade service in the WebSocket registry
             registerWebSocketUpgradeService(httpService);
         }
@@ -165,25 +176,6 @@ public class HTTPServicesRegistry {
         return basePath;
     }
 
-    public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
-            }
-        }
-        if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
-            return HttpConstants.DEFAULT_BASE_PATH;
-        }
-        return null;
-    }
-
     public void setScheduler(Scheduler scheduler) {
         this.scheduler = scheduler;
     }
@@ -198,10 +190,13 @@ public class HTTPServicesRegistry {
     protected class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
         private List<String> sortedServiceURIs;
+        // Rebuilt whenever a service is registered or unregistered, since requests are dispatched concurrently
+        private volatile BasePathRouter basePathRouter;
 
         public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
             this.servicesByBasePath = servicesByBasePath;
             this.sortedServiceURIs = sortedServiceURIs;
+            this.basePathRouter = new BasePathRouter(sortedServiceURIs);
         }
     }
 
@@ -232,6 +227,7 @@ public class HTTPServicesRegistry {
                                            basePath));
             }
             sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            servicesMapHolder.basePathRouter = new BasePathRouter(sortedServiceURIs);
         }
     }
 }
@@ -165,6 +165,7 @@ public class HttpConstants {
 
     public static final String CLIENT = "Client";
     public static final String HTTP_CLIENT = "HttpClient";
+    public static final String CIRCUIT_HEALTH = "CircuitHealth";
 
     public static final String SRC_HANDLER = "SRC_HANDLER";
     public static final String REMOTE_ADDRESS = "REMOTE_ADDRESS";
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.ballerinalang.net.http.nativeimpl;
+
+import org.ballerinalang.jvm.api.values.BObject;
+import org.ballerinalang.net.http.HttpConstants;
+import org.ballerinalang.net.http.resiliency.CircuitHealth;
+
+/**
+ * Utilities to track the health of a circuit breaker client.
+ *
+ * @since 2.0.0
+ */
+public class ExternCircuitHealth {
+
+    public static void initCircuitHealth(BObject cbClient, long noOfBuckets, long bucketSizeInMillis,
+                                         long startTime, long lastErrorTime, long lastForcedOpenTime) {
+        cbClient.addNativeData(HttpConstants.CIRCUIT_HEALTH,
+                               new CircuitHealth((int) noOfBuckets, bucketSizeInMillis, startTime, lastErrorTime,
+                                                 lastForcedOpenTime));
+    }
+
+    public static void recordRequest(BObject cbClient) {
+        getCircuitHealth(cbClient).recordRequest();
+    }
+
+    public static void recordSuccess(BObject cbClient) {
+        getCircuitHealth(cbClient).recordSuccess();
+    }
+
+    public static void recordFailure(BObject cbClient) {
+        getCircuitHealth(cbClient).recordFailure();
+    }
+
+    public static void recordRejection(BObject cbClient) {
+        getCircuitHealth(cbClient).recordRejection();
+    }
+
+    public static void recordForcedOpen(BObject cbClient) {
+        getCircuitHealth(cbClient).recordForcedOpen();
+    }
+
+    public static long getTotalRequestCount(BObject cbClient) {
+        return getCircuitHealth(cbClient).getTotalRequestCount();
+    }
+
+    public static double getFailureRatio(BObject cbClient) {
+        return getCircuitHealth(cbClient).getFailureRatio();
+    }
+
+    public static boolean isLastRequestSuccess(BObject cbClient) {
+        return getCircuitHealth(cbClient).isLastRequestSuccess();
+    }
+
+    public static long getEffectiveErrorTime(BObject cbClient) {
+        return getCircuitHealth(cbClient).getEffectiveErrorTime();
+    }
+
+    private static CircuitHealth getCircuitHealth(BObject cbClient) {
+        return (CircuitHealth) cbClient.getNativeData(HttpConstants.CIRCUIT_HEALTH);
+    }
+}
@@ -170,7 +170,7 @@ public class ExternHttpDataSourceBuilder extends MimeDataSourceBuilder {
                             dataSource = constructXmlDataSource(entity, inputStream);
                             break;
                         case BLOB:
-                            dataSource = constructBlobDataSource(inputStream);
+                            dataSource = constructBlobDataSource(inputStream, MimeUtil.getContentLength(entity));
                             break;
                     }
                     updateDataSourceAndNotify(future, entity, dataSource);
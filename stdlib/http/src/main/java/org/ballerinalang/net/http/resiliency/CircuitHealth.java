@@ -0,0 +1,204 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.ballerinalang.net.http.resiliency;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the health of a circuit breaker over its rolling window, without locking.
+ * <p>
+ * The rolling window is a ring of buckets, each of which counts the requests received during one bucket sized
+ * interval since the circuit breaker started. A bucket that holds the counts of an interval that has left the window
+ * is replaced with an empty bucket by the first request that falls into the slot of the ring, so a request updates
+ * only the counters of its own bucket. The totals of the window are read by summing the buckets that are still in the
+ * window, which may not reflect the requests that are being recorded concurrently.
+ *
+ * @since 2.0.0
+ */
+public class CircuitHealth {
+
+    public static final long UNKNOWN_TIME = -1;
+
+    private static final Bucket EMPTY_BUCKET = new Bucket(Long.MIN_VALUE);
+
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final long startTime;
+    private final long bucketSizeInMillis;
+    private final LongSupplier clock;
+
+    private volatile boolean lastRequestSuccess;
+    private volatile long lastErrorTime;
+    private volatile long lastForcedOpenTime;
+
+    public CircuitHealth(int noOfBuckets, long bucketSizeInMillis, long startTime, long lastErrorTime,
+                         long lastForcedOpenTime) {
+        this(noOfBuckets, bucketSizeInMillis, startTime, lastErrorTime, lastForcedOpenTime,
+             System::currentTimeMillis);
+    }
+
+    /**
+     * Creates the health of a circuit breaker.
+     *
+     * @param noOfBuckets        number of buckets in the rolling window
+     * @param bucketSizeInMillis interval counted by a bucket
+     * @param startTime          start time of the circuit breaker, in milliseconds since the epoch
+     * @param lastErrorTime      time of the last error, or {@link #UNKNOWN_TIME}
+     * @param lastForcedOpenTime time the circuit was last forced open, or {@link #UNKNOWN_TIME}
+     * @param clock              source of the current time, in milliseconds since the epoch
+     */
+    public CircuitHealth(int noOfBuckets, long bucketSizeInMillis, long startTime, long lastErrorTime,
+                         long lastForcedOpenTime, LongSupplier clock) {
+        if (noOfBuckets <= 0 || bucketSizeInMillis <= 0) {
+            throw new IllegalArgumentException("Circuit breaker rolling window should have at least one bucket of " +
+                                                       "a positive size");
+        }
+        this.buckets = new AtomicReferenceArray<>(noOfBuckets);
+        for (int i = 0; i < noOfBuckets; i++) {
+            buckets.set(i, EMPTY_BUCKET);
+        }
+        this.startTime = startTime;
+        this.bucketSizeInMillis = bucketSizeInMillis;
+        this.clock = clock;
+        this.lastErrorTime = lastErrorTime;
+        this.lastForcedOpenTime = lastForcedOpenTime;
+    }
+
+    /**
+     * Records a request that reached the circuit breaker, whether it is sent to the upstream service or rejected.
+     */
+    public void recordRequest() {
+        getBucket(clock.getAsLong()).totalCount.increment();
+    }
+
+    public void recordSuccess() {
+        lastRequestSuccess = true;
+    }
+
+    public void recordFailure() {
+        long now = clock.getAsLong();
+        lastRequestSuccess = false;
+        getBucket(now).failureCount.increment();
+        lastErrorTime = now;
+    }
+
+    public void recordRejection() {
+        getBucket(clock.getAsLong()).rejectedCount.increment();
+    }
+
+    public void recordForcedOpen() {
+        lastForcedOpenTime = clock.getAsLong();
+    }
+
+    /**
+     * Returns the number of requests received within the rolling window.
+     *
+     * @return total request count
+     */
+    public long getTotalRequestCount() {
+        long epoch = getEpoch(clock.getAsLong());
+        long totalCount = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (isInWindow(bucket, epoch)) {
+                totalCount += bucket.totalCount.sum();
+            }
+        }
+        return totalCount;
+    }
+
+    /**
+     * Returns the ratio of the failed requests to the requests that were sent to the upstream service within the
+     * rolling window.
+     *
+     * @return failure ratio, which is zero if no request was sent
+     */
+    public double getFailureRatio() {
+        long epoch = getEpoch(clock.getAsLong());
+        long sentCount = 0;
+        long failureCount = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (isInWindow(bucket, epoch)) {
+                sentCount += bucket.totalCount.sum() - bucket.rejectedCount.sum();
+                failureCount += bucket.failureCount.sum();
+            }
+        }
+        return sentCount > 0 ? (double) failureCount / sentCount : 0.0;
+    }
+
+    public boolean isLastRequestSuccess() {
+        return lastRequestSuccess;
+    }
+
+    /**
+     * Returns the later of the time of the last error and the time the circuit was last forced open, from which the
+     * reset time of an open circuit is counted.
+     *
+     * @return effective error time, or the current time if either of the times is unknown
+     */
+    public long getEffectiveErrorTime() {
+        long errorTime = lastErrorTime;
+        long forcedOpenTime = lastForcedOpenTime;
+        if (errorTime == UNKNOWN_TIME || forcedOpenTime == UNKNOWN_TIME) {
+            return clock.getAsLong();
+        }
+        return Math.max(errorTime, forcedOpenTime);
+    }
+
+    private Bucket getBucket(long time) {
+        long epoch = getEpoch(time);
+        int index = (int) Math.floorMod(epoch, (long) buckets.length());
+        Bucket bucket = buckets.get(index);
+        while (bucket.epoch < epoch) {
+            Bucket newBucket = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, newBucket)) {
+                return newBucket;
+            }
+            bucket = buckets.get(index);
+        }
+        // A request that read the clock before the bucket was replaced is counted in the newer bucket
+        return bucket;
+    }
+
+    private long getEpoch(long time) {
+        return Math.floorDiv(time - startTime, bucketSizeInMillis);
+    }
+
+    private boolean isInWindow(Bucket bucket, long epoch) {
+        return bucket.epoch <= epoch && bucket.epoch > epoch - buckets.length();
+    }
+
+    /**
+     * Counts the requests received during the bucket sized interval identified by the epoch.
+     */
+    private static class Bucket {
+
+        private final long epoch;
+        private final LongAdder totalCount = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder rejectedCount = new LongAdder();
+
+        Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*  http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.stdlib.resiliency;
+
+import org.ballerinalang.net.http.resiliency.CircuitHealth;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test class for the rolling window health of the circuit breaker.
+ */
+public class CircuitHealthTest {
+
+    private static final int THREAD_COUNT = 4;
+    private static final int REQUESTS_PER_THREAD = 10000;
+
+    @Test(description = "Test the requests are counted within the rolling window")
+    public void testRollingWindow() {
+        AtomicLong clock = new AtomicLong(1000);
+        CircuitHealth circuitHealth = new CircuitHealth(3, 100, 1000, 1000, 1000, clock::get);
+
+        recordRequests(circuitHealth, 4, 1);
+        clock.addAndGet(100);
+        recordRequests(circuitHealth, 2, 2);
+        Assert.assertEquals(circuitHealth.getTotalRequestCount(), 6);
+        Assert.assertEquals(circuitHealth.getFailureRatio(), 0.5);
+
+        clock.addAndGet(150);
+        Assert.assertEquals(circuitHealth.getTotalRequestCount(), 6);
+        clock.addAndGet(50);
+        // The first bucket has left the window
+        Assert.assertEquals(circuitHealth.getTotalRequestCount(), 2);
+        Assert.assertEquals(circuitHealth.getFailureRatio(), 1.0);
+
+        recordRequests(circuitHealth, 1, 0);
+        Assert.assertEquals(circuitHealth.getTotalRequestCount(), 3);
+        clock.addAndGet(1000);
+        Assert.assertEquals(circuitHealth.getTotalRequestCount(), 0);
+        Assert.assertEquals(circuitHealth.getFailureRatio(), 0.0);
+    }
+
+    @Test(description = "Test the reused slots of the ring do not keep the counts of the earlier buckets")
+    public void testBucketReuse() {
+        AtomicLong clock = new AtomicLong(0);
+        CircuitHealth circuitHealth = new CircuitHealth(2, 10, 0, 0, 0, clock::get);
+
+        recordRequests(circuitHealth, 5, 5);
+        clock.addAndGet(20);
+        recordRequests(circuitHealth, 1, 0);
+        Assert.assertEquals(circuitHealth.getTotalRequestCount(), 1);
+        Assert.assertEquals(circuitHealth.getFailureRatio(), 0.0);
+    }
+
+    @Test(description = "Test the rejected requests are not counted as sent to the upstream service")
+    public void testRejectedRequests() {
+        AtomicLong clock = new AtomicLong(0);
+        CircuitHealth circuitHealth = new CircuitHealth(6, 10000, 0, 0, 0, clock::get);
+
+        recordRequests(circuitHealth, 4, 2);
+        circuitHealth.recordRequest();
+        circuitHealth.recordRejection();
+        Assert.assertEquals(circuitHealth.getTotalRequestCount(), 5);
+        Assert.assertEquals(circuitHealth.getFailureRatio(), 0.5);
+    }
+
+    @Test(description = "Test the result of the last request and the effective error time")
+    public void testLastRequestAndErrorTime() {
+        AtomicLong clock = new AtomicLong(100);
+        CircuitHealth circuitHealth = new CircuitHealth(6, 10000, 0, 50, 60, clock::get);
+        Assert.assertFalse(circuitHealth.isLastRequestSuccess());
+        Assert.assertEquals(circuitHealth.getEffectiveErrorTime(), 60);
+
+        circuitHealth.recordSuccess();
+        Assert.assertTrue(circuitHealth.isLastRequestSuccess());
+        circuitHealth.recordFailure();
+        Assert.assertFalse(circuitHealth.isLastRequestSuccess());
+        Assert.assertEquals(circuitHealth.getEffectiveErrorTime(), 100);
+
+        clock.set(200);
+        circuitHealth.recordForcedOpen();
+        Assert.assertEquals(circuitHealth.getEffectiveErrorTime(), 200);
+
+        circuitHealth = new CircuitHealth(6, 10000, 0, CircuitHealth.UNKNOWN_TIME, 60, clock::get);
+        Assert.assertEquals(circuitHealth.getEffectiveErrorTime(), 200);
+    }
+
+    @Test(description = "Test no request is lost when the health is updated concurrently")
+    public void testConcurrentUpdates() throws InterruptedException {
+        AtomicLong clock = new AtomicLong(0);
+        CircuitHealth circuitHealth = new CircuitHealth(6, 10000, 0, CircuitHealth.UNKNOWN_TIME,
+                                                        CircuitHealth.UNKNOWN_TIME, clock::get);
+        runConcurrently(() -> {
+            circuitHealth.getFailureRatio();
+            circuitHealth.recordRequest();
+            circuitHealth.recordFailure();
+        });
+        Assert.assertEquals(circuitHealth.getTotalRequestCount(), (long) THREAD_COUNT * REQUESTS_PER_THREAD);
+        Assert.assertEquals(circuitHealth.getFailureRatio(), 1.0);
+    }
+
+    private void recordRequests(CircuitHealth circuitHealth, int requests, int failures) {
+        for (int i = 0; i < requests; i++) {
+            circuitHealth.recordRequest();
+            if (i < failures) {
+                circuitHealth.recordFailure();
+            } else {
+                circuitHealth.recordSuccess();
+            }
+        }
+    }
+
+    private void runConcurrently(Runnable request) throws InterruptedException {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(THREAD_COUNT);
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            new Thread(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < REQUESTS_PER_THREAD; j++) {
+                        request.run();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            }).start();
+        }
+        startLatch.countDown();
+        endLatch.await();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*  http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.http.BasePathRouter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for the base path router of the HTTP dispatcher.
+ */
+public class BasePathRouterTest {
+
+    private static final int ROUTE_COUNT = 200;
+
+    @Test(description = "Test the most specific base path is found")
+    public void testMostSpecificBasePath() {
+        BasePathRouter router = createRouter("/hello", "/hello/world", "/hello/world/echo", "/helloworld", "/");
+        Assert.assertEquals(router.findBasePath("/hello/world/echo"), "/hello/world/echo");
+        Assert.assertEquals(router.findBasePath("/hello/world/echo2"), "/hello/world");
+        Assert.assertEquals(router.findBasePath("/hello/world/echo/bar"), "/hello/world/echo");
+        Assert.assertEquals(router.findBasePath("/hello/wor"), "/hello");
+        Assert.assertEquals(router.findBasePath("/helloworld"), "/helloworld");
+        Assert.assertEquals(router.findBasePath("/hellowor"), "/");
+        Assert.assertEquals(router.findBasePath("/"), "/");
+    }
+
+    @Test(description = "Test only the exact match of a base path ignores case")
+    public void testBasePathCase() {
+        BasePathRouter router = createRouter("/Hello", "/hello/World");
+        Assert.assertEquals(router.findBasePath("/HELLO"), "/Hello");
+        Assert.assertEquals(router.findBasePath("/hello/world"), "/hello/World");
+        Assert.assertEquals(router.findBasePath("/Hello/bar"), "/Hello");
+        Assert.assertNull(router.findBasePath("/hello/bar"));
+        Assert.assertNull(router.findBasePath("/hello/world/bar"));
+    }
+
+    @Test(description = "Test base paths that are equal ignoring case are preferred in the registration order")
+    public void testBasePathsEqualIgnoringCase() {
+        BasePathRouter router = createRouter("/foo", "/FOO");
+        Assert.assertEquals(router.findBasePath("/Foo"), "/foo");
+        Assert.assertEquals(router.findBasePath("/FOO/bar"), "/FOO");
+        Assert.assertEquals(router.findBasePath("/foo/bar"), "/foo");
+    }
+
+    @Test(description = "Test a request is not dispatched without a matching or a default base path")
+    public void testNoMatchingBasePath() {
+        BasePathRouter router = createRouter("/hello", "/hello/world");
+        Assert.assertNull(router.findBasePath("/"));
+        Assert.assertNull(router.findBasePath("/bar"));
+        Assert.assertNull(router.findBasePath("/hel"));
+        Assert.assertNull(createRouter().findBasePath("/hello"));
+    }
+
+    @Test(description = "Test the router finds the same base paths as a linear scan of 200 base paths")
+    public void testDispatchOnManyBasePaths() {
+        Random random = new Random(42);
+        List<String> basePaths = new ArrayList<>();
+        for (int i = 0; i < ROUTE_COUNT; i++) {
+            basePaths.add("/api/v" + (i % 3) + "/service" + i + (i % 4 == 0 ? "/Items" : ""));
+        }
+        basePaths.add("/");
+        basePaths.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        BasePathRouter router = new BasePathRouter(basePaths);
+
+        List<String> requestPaths = new ArrayList<>();
+        for (int i = 0; i < ROUTE_COUNT; i++) {
+            String basePath = basePaths.get(random.nextInt(basePaths.size()));
+            switch (i % 4) {
+                case 0:
+                    requestPaths.add(basePath);
+                    break;
+                case 1:
+                    requestPaths.add(basePath.toUpperCase());
+                    break;
+                case 2:
+                    requestPaths.add(basePath + "/resource/" + i);
+                    break;
+                default:
+                    requestPaths.add(basePath + i);
+                    break;
+            }
+        }
+        Collections.shuffle(requestPaths, random);
+
+        for (String requestPath : requestPaths) {
+            Assert.assertEquals(router.findBasePath(requestPath), findBasePathLinearly(requestPath, basePaths),
+                                requestPath);
+        }
+    }
+
+    private BasePathRouter createRouter(String... basePaths) {
+        List<String> sortedBasePaths = new ArrayList<>(Arrays.asList(basePaths));
+        sortedBasePaths.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        return new BasePathRouter(sortedBasePaths);
+    }
+
+    /**
+     * The base path lookup that was used before the router.
+     */
+    private String findBasePathLinearly(String requestURIPath, List<String> sortedServiceURIs) {
+        for (String key : sortedServiceURIs) {
+            if (!requestURIPath.toLowerCase().contains(key.toLowerCase())) {
+                continue;
+            }
+            if (requestURIPath.length() <= key.length()) {
+                return key;
+            }
+            if (requestURIPath.startsWith(key.concat("/"))) {
+                return key;
+            }
+        }
+        if (sortedServiceURIs.contains("/")) {
+            return "/";
+        }
+        return null;
+    }
+}
@@ -22,8 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
-import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ClosedChannelException;
 
 /**
  * Represent entity body as a byte channel.
@@ -32,16 +31,38 @@ import java.nio.channels.ReadableByteChannel;
  */
 public class EntityBodyChannel implements ByteChannel {
     private InputStream inputStream;
-    private ReadableByteChannel byteChannel;
+    private byte[] transferBuffer;
+    private volatile boolean open = true;
 
     public EntityBodyChannel(InputStream inputStream) {
         this.inputStream = inputStream;
-        this.byteChannel = Channels.newChannel(inputStream);
     }
 
     @Override
     public int read(ByteBuffer dst) throws IOException {
-        return byteChannel.read(dst);
+        if (!open) {
+            throw new ClosedChannelException();
+        }
+        int length = dst.remaining();
+        if (length == 0) {
+            return 0;
+        }
+        if (dst.hasArray()) {
+            // The stream reads straight into the array of the buffer
+            int count = inputStream.read(dst.array(), dst.arrayOffset() + dst.position(), length);
+            if (count > 0) {
+                dst.position(dst.position() + count);
+            }
+            return count;
+        }
+        if (transferBuffer == null) {
+            transferBuffer = new byte[MimeConstants.READABLE_BUFFER_SIZE];
+        }
+        int count = inputStream.read(transferBuffer, 0, Math.min(length, transferBuffer.length));
+        if (count > 0) {
+            dst.put(transferBuffer, 0, count);
+        }
+        return count;
     }
 
     @Override
@@ -51,12 +72,25 @@ public class EntityBodyChannel implements ByteChannel {
 
     @Override
     public boolean isOpen() {
-        return byteChannel.isOpen();
+        return open;
     }
 
     @Override
     public void close() throws IOException {
-        byteChannel.close();
+        open = false;
         inputStream.close();
     }
+
+    /**
+     * Get the stream of the entity body, which is read without going through the channel.
+     *
+     * @return the input stream of the entity body
+     * @throws IOException if the channel is already closed
+     */
+    public InputStream getInputStream() throws IOException {
+        if (!open) {
+            throw new IOException("Channel is already closed.");
+        }
+        return inputStream;
+    }
 }
@@ -44,6 +44,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
@@ -62,6 +63,7 @@ import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.FIRST_BODY_PART_INDEX;
 import static org.ballerinalang.mime.util.MimeConstants.MESSAGE_DATA_SOURCE;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_AS_PRIMARY_TYPE;
+import static org.ballerinalang.mime.util.MimeConstants.NO_CONTENT_LENGTH_FOUND;
 import static org.ballerinalang.mime.util.MimeConstants.PROTOCOL_MIME_PKG_ID;
 import static org.ballerinalang.mime.util.MimeUtil.isNotNullAndEmpty;
 
@@ -159,7 +161,7 @@ public class EntityBodyHandler {
             return (ArrayValue) BValueCreator.createArrayValue(new byte[0]);
         }
         try {
-            return constructBlobDataSource(byteChannel.getInputStream());
+            return constructBlobDataSource(byteChannel.getInputStream(), MimeUtil.getContentLength(entityObj));
         } finally {
             closeByteChannel(byteChannel);
         }
@@ -172,9 +174,20 @@ public class EntityBodyHandler {
      * @return Data source for binary data which is kept in memory
      */
     public static ArrayValue constructBlobDataSource(InputStream inputStream) {
+        return constructBlobDataSource(inputStream, NO_CONTENT_LENGTH_FOUND);
+    }
+
+    /**
+     * Construct BlobDataSource from the given input stream, whose content is of the given length.
+     *
+     * @param inputStream   Represent the input stream
+     * @param contentLength Length of the content, or a value less than one if it is not known
+     * @return Data source for binary data which is kept in memory
+     */
+    public static ArrayValue constructBlobDataSource(InputStream inputStream, long contentLength) {
         byte[] byteData;
         try {
-            byteData = MimeUtil.getByteArray(inputStream);
+            byteData = MimeUtil.getByteArray(inputStream, contentLength);
         } catch (IOException ex) {
             throw BErrorCreator.createError(BStringUtils.fromString(("Error occurred while reading input stream :" +
                     ex.getMessage())));
@@ -296,19 +309,23 @@ public class EntityBodyHandler {
      * @return StringDataSource which represent the entity body which is kept in memory
      */
     public static BString constructStringDataSource(BObject entity, InputStream inputStream) {
-        BString textContent;
+        Charset charset = Charset.defaultCharset();
         String contentTypeValue = EntityHeaderHandler.getHeaderValue(entity, CONTENT_TYPE);
         if (isNotNullAndEmpty(contentTypeValue)) {
             String charsetValue = MimeUtil.getContentTypeParamValue(contentTypeValue, CHARSET);
             if (isNotNullAndEmpty(charsetValue)) {
-                textContent = BStringUtils.getStringFromInputStream(inputStream, charsetValue);
-            } else {
-                textContent = BStringUtils.getStringFromInputStream(inputStream);
+                charset = Charset.forName(charsetValue);
             }
-        } else {
-            textContent = BStringUtils.getStringFromInputStream(inputStream);
         }
-        return textContent;
+        // The body is read in bulk and decoded at once, rather than a byte or a character at a time
+        byte[] byteData;
+        try {
+            byteData = MimeUtil.getByteArray(inputStream, MimeUtil.getContentLength(entity));
+        } catch (IOException ex) {
+            throw BErrorCreator.createError(BStringUtils.fromString(("Error occurred while reading input stream :" +
+                    ex.getMessage())));
+        }
+        return BStringUtils.fromString(new String(byteData, charset));
     }
 
     /**
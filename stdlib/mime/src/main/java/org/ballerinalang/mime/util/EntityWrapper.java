@@ -20,6 +20,8 @@ package org.ballerinalang.mime.util;
 
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.channels.WritableByteChannel;
 
 /**
@@ -30,8 +32,23 @@ import java.nio.channels.WritableByteChannel;
  */
 public class EntityWrapper extends Channel {
 
+    private EntityBodyChannel entityBodyChannel;
+
     public EntityWrapper(EntityBodyChannel channel) {
         super(channel);
+        this.entityBodyChannel = channel;
+    }
+
+    /**
+     * Get the stream of the entity body itself rather than a stream over the channel, so that the data sources and
+     * the outbound message read the body without copying it through the buffers of the channel adapters.
+     *
+     * @return the input stream of the entity body
+     * @throws IOException if the channel is already closed
+     */
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return entityBodyChannel.getInputStream();
     }
 
     @Override
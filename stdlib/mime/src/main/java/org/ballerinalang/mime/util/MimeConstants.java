@@ -164,6 +164,8 @@ public class MimeConstants {
     public static final int FIRST_ELEMENT = 0;
 
     public static final int READABLE_BUFFER_SIZE = 8192; //8KB
+    public static final int WRITABLE_BUFFER_SIZE = 65536; //64KB
+    public static final int INITIAL_BODY_ARRAY_SIZE = 1048576; //1MB
     public static final double MAX_THRESHOLD_PERCENTAGE = 0.1;
 
     public static final String UTF_8 = "UTF-8";
@@ -36,11 +36,11 @@ import org.ballerinalang.jvm.values.StreamingJsonValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.Random;
 
@@ -62,20 +62,22 @@ import static org.ballerinalang.mime.util.MimeConstants.DEFAULT_SUB_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.DISPOSITION_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.DOUBLE_QUOTE;
 import static org.ballerinalang.mime.util.MimeConstants.FORM_DATA_PARAM;
+import static org.ballerinalang.mime.util.MimeConstants.INITIAL_BODY_ARRAY_SIZE;
 import static org.ballerinalang.mime.util.MimeConstants.INVALID_CONTENT_TYPE_ERROR;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_AS_PRIMARY_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_FORM_DATA;
+import static org.ballerinalang.mime.util.MimeConstants.NO_CONTENT_LENGTH_FOUND;
 import static org.ballerinalang.mime.util.MimeConstants.PARAMETER_MAP_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.PRIMARY_TYPE_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.PROTOCOL_MIME_PKG_ID;
-import static org.ballerinalang.mime.util.MimeConstants.READABLE_BUFFER_SIZE;
 import static org.ballerinalang.mime.util.MimeConstants.SEMICOLON;
 import static org.ballerinalang.mime.util.MimeConstants.SIZE_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.SUBTYPE_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.SUFFIX_ATTACHMENT;
 import static org.ballerinalang.mime.util.MimeConstants.SUFFIX_FIELD;
+import static org.ballerinalang.mime.util.MimeConstants.WRITABLE_BUFFER_SIZE;
 
 /**
  * Mime utility functions are included in here.
@@ -84,6 +86,9 @@ import static org.ballerinalang.mime.util.MimeConstants.SUFFIX_FIELD;
  */
 public class MimeUtil {
     private static final Logger LOG = LoggerFactory.getLogger(MimeUtil.class);
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    // Buffer of the thread for writing an input stream to an output stream, which is taken out while it is in use
+    private static final ThreadLocal<byte[]> WRITE_BUFFER = new ThreadLocal<>();
 
     /**
      * Given a ballerina entity, get the content-type as a base type.
@@ -352,6 +357,17 @@ public class MimeUtil {
         entityStruct.set(SIZE_FIELD, length);
     }
 
+    /**
+     * Get the body size of the given 'Entity'.
+     *
+     * @param entityStruct Represent 'Entity'
+     * @return Size of the entity body, or a value less than one if it is not known
+     */
+    public static long getContentLength(BObject entityStruct) {
+        Object length = entityStruct.get(SIZE_FIELD);
+        return length instanceof Long ? (Long) length : NO_CONTENT_LENGTH_FOUND;
+    }
+
     /**
      * Write a given inputstream to a given outputstream.
      *
@@ -361,10 +377,19 @@ public class MimeUtil {
      */
     public static void writeInputToOutputStream(InputStream inputStream, OutputStream outputStream) throws
             IOException {
-        byte[] buffer = new byte[READABLE_BUFFER_SIZE];
-        int len;
-        while ((len = inputStream.read(buffer)) != -1) {
-            outputStream.write(buffer, 0, len);
+        byte[] buffer = WRITE_BUFFER.get();
+        if (buffer == null) {
+            buffer = new byte[WRITABLE_BUFFER_SIZE];
+        } else {
+            WRITE_BUFFER.remove();
+        }
+        try {
+            int len;
+            while ((len = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, len);
+            }
+        } finally {
+            WRITE_BUFFER.set(buffer);
         }
     }
 
@@ -376,13 +401,44 @@ public class MimeUtil {
      * @throws IOException In case an error occurs while reading input stream
      */
     public static byte[] getByteArray(InputStream input) throws IOException {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            byte[] buffer = new byte[READABLE_BUFFER_SIZE];
-            for (int len; (len = input.read(buffer)) != -1; ) {
-                output.write(buffer, 0, len);
+        return input.readAllBytes();
+    }
+
+    /**
+     * Given an input stream and the length of its content, get a byte array. The array grows towards the given length
+     * as the content is read, so that a content which is shorter than the given length is not allocated in full.
+     *
+     * @param input         Represent an input stream
+     * @param contentLength Length of the content, or a value less than one if it is not known
+     * @return A byte array
+     * @throws IOException In case an error occurs while reading input stream
+     */
+    public static byte[] getByteArray(InputStream input, long contentLength) throws IOException {
+        if (contentLength <= 0 || contentLength > MAX_ARRAY_SIZE) {
+            return input.readAllBytes();
+        }
+        byte[] bytes = new byte[(int) Math.min(contentLength, INITIAL_BODY_ARRAY_SIZE)];
+        int length = 0;
+        while (true) {
+            length += input.readNBytes(bytes, length, bytes.length - length);
+            if (length < bytes.length) {
+                return Arrays.copyOf(bytes, length);
             }
-            return output.toByteArray();
+            if (length == contentLength) {
+                break;
+            }
+            bytes = Arrays.copyOf(bytes, (int) Math.min(contentLength, 2L * length));
+        }
+        int next = input.read();
+        if (next == -1) {
+            return bytes;
         }
+        // The content is longer than the given length
+        byte[] rest = input.readAllBytes();
+        byte[] allBytes = Arrays.copyOf(bytes, length + 1 + rest.length);
+        allBytes[length] = (byte) next;
+        System.arraycopy(rest, 0, allBytes, length + 1, rest.length);
+        return allBytes;
     }
 
     /**
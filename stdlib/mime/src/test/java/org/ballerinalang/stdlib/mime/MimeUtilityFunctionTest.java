@@ -46,11 +46,13 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.Random;
 
 import javax.activation.MimeTypeParseException;
 
@@ -347,6 +349,19 @@ public class MimeUtilityFunctionTest {
         }
     }
 
+    @Test(description = "Test reading a body into a byte array, whether or not it is of its given content length")
+    public void testGetByteArrayWithContentLength() throws IOException {
+        byte[] content = new byte[3 * 1024 * 1024 + 5];
+        new Random(0).nextBytes(content);
+        long[] contentLengths = {-1, 0, 10, content.length - 1, content.length, content.length + 1,
+                2L * content.length, Long.MAX_VALUE};
+        for (long contentLength : contentLengths) {
+            byte[] byteArray = MimeUtil.getByteArray(new ByteArrayInputStream(content), contentLength);
+            Assert.assertEquals(byteArray, content, "Content length: " + contentLength);
+        }
+        Assert.assertEquals(MimeUtil.getByteArray(new ByteArrayInputStream(new byte[0]), 10).length, 0);
+    }
+
     @Test(description = "An EntityError should be returned in case the byte channel is null")
     public void testGetByteChannelForNull() {
         BObject byteChannel = BValueCreator.createObjectValue(PROTOCOL_IO_PKG_ID, READABLE_BYTE_CHANNEL_STRUCT);
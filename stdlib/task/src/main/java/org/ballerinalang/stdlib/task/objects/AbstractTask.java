@@ -20,15 +20,8 @@ package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
 import org.ballerinalang.stdlib.task.utils.TaskIdGenerator;
-import org.quartz.JobDataMap;
-import org.quartz.JobKey;
-import org.quartz.SchedulerException;
-import org.quartz.TriggerKey;
 
 import java.util.HashMap;
-import java.util.Map;
-
-import static org.ballerinalang.stdlib.task.utils.TaskConstants.TASK_OBJECT;
 
 /**
  * Abstract class which represents a ballerina task.
@@ -38,9 +31,7 @@ import static org.ballerinalang.stdlib.task.utils.TaskConstants.TASK_OBJECT;
 public abstract class AbstractTask implements Task {
 
     protected String id;
-    private TriggerKey triggerKey;
     private HashMap<String, ServiceInformation> serviceMap;
-    Map<String, JobKey> quartzJobs = new HashMap<>();
     long maxRuns;
 
     /**
@@ -48,7 +39,6 @@ public abstract class AbstractTask implements Task {
      */
     AbstractTask() throws SchedulingException {
         this.id = TaskIdGenerator.generate();
-        this.triggerKey = new TriggerKey(this.id);
         this.serviceMap = new HashMap<>();
         this.maxRuns = -1;
     }
@@ -60,7 +50,6 @@ public abstract class AbstractTask implements Task {
      */
     AbstractTask(long maxRuns) throws SchedulingException {
         this.id = TaskIdGenerator.generate();
-        this.triggerKey = new TriggerKey(this.id);
         validateMaxRuns(maxRuns);
         this.serviceMap = new HashMap<>();
         this.maxRuns = maxRuns;
@@ -105,54 +94,9 @@ public abstract class AbstractTask implements Task {
         return this.id;
     }
 
-    /**
-     * Create a job data map using the context and the service.
-     *
-     * @return JobDataMap consists of context and the <code>ServiceWithParameter</code> object.
-     */
-    JobDataMap getJobDataMapFromTask() {
-        JobDataMap jobData = new JobDataMap();
-        jobData.put(TASK_OBJECT, this);
-        return jobData;
-    }
-
     private void validateMaxRuns(long maxRuns) throws SchedulingException {
         if (maxRuns < 1) {
             throw new SchedulingException("Task noOfOccurrences should be a positive integer.");
         }
     }
-
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void stop() throws SchedulingException {
-        try {
-            TaskManager.getInstance().getScheduler().unscheduleJob(triggerKey);
-        } catch (SchedulerException e) {
-            throw new SchedulingException("Failed to stop the task.", e);
-        }
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    public void pause() throws SchedulingException {
-        try {
-            TaskManager.getInstance().getScheduler().pauseTrigger(triggerKey);
-        } catch (SchedulerException e) {
-            throw new SchedulingException("Cannot pause the task.", e);
-        }
-    }
-
-    /**
-     * {@inheritDoc}
-     */
-    public void resume() throws SchedulingException {
-        try {
-            TaskManager.getInstance().getScheduler().resumeTrigger(triggerKey);
-        } catch (SchedulerException e) {
-            throw new SchedulingException("Cannot resume the task.", e);
-        }
-    }
 }
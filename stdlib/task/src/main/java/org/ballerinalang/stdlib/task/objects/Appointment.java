@@ -23,13 +23,19 @@ import org.quartz.CronScheduleBuilder;
 import org.quartz.CronTrigger;
 import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
+import org.quartz.JobKey;
 import org.quartz.SchedulerException;
+import org.quartz.TriggerKey;
 import org.quartz.TriggerUtils;
 import org.quartz.impl.calendar.BaseCalendar;
 import org.quartz.spi.OperableTrigger;
 
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TASK_OBJECT;
 
 import static org.quartz.CronScheduleBuilder.cronSchedule;
 import static org.quartz.JobBuilder.newJob;
@@ -43,6 +49,8 @@ import static org.quartz.TriggerBuilder.newTrigger;
 public class Appointment extends AbstractTask {
 
     private String cronExpression;
+    private TriggerKey triggerKey;
+    private Map<String, JobKey> quartzJobs = new HashMap<>();
 
     /**
      * Creates an Appointment object with provided cron expression.
@@ -53,6 +61,7 @@ public class Appointment extends AbstractTask {
     public Appointment(String cronExpression) throws SchedulingException {
         super();
         this.cronExpression = cronExpression;
+        this.triggerKey = new TriggerKey(this.id);
     }
 
     /**
@@ -66,6 +75,7 @@ public class Appointment extends AbstractTask {
     public Appointment(String cronExpression, long maxRuns) throws SchedulingException {
         super(maxRuns);
         this.cronExpression = cronExpression;
+        this.triggerKey = new TriggerKey(this.id);
     }
 
     /**
@@ -99,6 +109,53 @@ public class Appointment extends AbstractTask {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() throws SchedulingException {
+        try {
+            TaskManager.getInstance().getScheduler().unscheduleJob(triggerKey);
+        } catch (SchedulerException e) {
+            throw new SchedulingException("Failed to stop the task.", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pause() throws SchedulingException {
+        try {
+            TaskManager.getInstance().getScheduler().pauseTrigger(triggerKey);
+        } catch (SchedulerException e) {
+            throw new SchedulingException("Cannot pause the task.", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resume() throws SchedulingException {
+        try {
+            TaskManager.getInstance().getScheduler().resumeTrigger(triggerKey);
+        } catch (SchedulerException e) {
+            throw new SchedulingException("Cannot resume the task.", e);
+        }
+    }
+
+    /**
+     * Create a job data map using the context and the service.
+     *
+     * @return JobDataMap consists of context and the <code>ServiceWithParameter</code> object.
+     */
+    private JobDataMap getJobDataMapFromTask() {
+        JobDataMap jobData = new JobDataMap();
+        jobData.put(TASK_OBJECT, this);
+        return jobData;
+    }
+
     /**
      * Schedule an Appointment.
      *
@@ -19,6 +19,7 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
+import org.ballerinalang.stdlib.task.utils.TimerWheel;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.impl.StdSchedulerFactory;
@@ -29,10 +30,12 @@ import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_T
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD_VALUE;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_COUNT;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_COUNT_VALUE;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_THREAD_NAME;
 
 
 /**
- * Task manager to handle schedulers in ballerina tasks.
+ * Task manager to handle schedulers in ballerina tasks. Timers are run on a timer wheel, and the Quartz scheduler is
+ * used only for the cron based appointments.
  */
 public class TaskManager {
     private Scheduler scheduler;
@@ -41,6 +44,10 @@ public class TaskManager {
         private static final TaskManager INSTANCE = new TaskManager();
     }
 
+    private static class TimerWheelHelper {
+        private static final TimerWheel INSTANCE = new TimerWheel(TIMER_THREAD_NAME);
+    }
+
     private TaskManager() {}
 
     public static TaskManager getInstance() {
@@ -61,6 +68,10 @@ public class TaskManager {
         return this.scheduler;
     }
 
+    public TimerWheel getTimerWheel() {
+        return TimerWheelHelper.INSTANCE;
+    }
+
     private Properties createSchedulerProperties() {
         Properties properties = new Properties();
         properties.setProperty(QUARTZ_MISFIRE_THRESHOLD, QUARTZ_MISFIRE_THRESHOLD_VALUE);
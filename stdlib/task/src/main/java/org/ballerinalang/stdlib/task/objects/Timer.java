@@ -18,21 +18,19 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
-import org.ballerinalang.stdlib.task.utils.TaskJob;
-import org.quartz.JobDataMap;
-import org.quartz.JobDetail;
-import org.quartz.SchedulerException;
-import org.quartz.SimpleScheduleBuilder;
-import org.quartz.Trigger;
+import org.ballerinalang.stdlib.task.utils.TaskExecutor;
+import org.ballerinalang.stdlib.task.utils.TimerWheel;
 
-import java.util.Date;
-
-import static org.quartz.JobBuilder.newJob;
-import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
-import static org.quartz.TriggerBuilder.newTrigger;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_MISFIRE_THRESHOLD_IN_MILLIS;
 
 /**
  * Represents a Timer object used to create and run Timers.
+ * <p>
+ * Each run of a timer is scheduled as a timeout on the timer wheel of the {@link TaskManager}, which dispatches the
+ * attached services to the Ballerina scheduler when it expires. The runs are scheduled at a fixed rate from the
+ * initial delay. If a run is late by more than {@link
+ * org.ballerinalang.stdlib.task.utils.TaskConstants#TIMER_MISFIRE_THRESHOLD_IN_MILLIS}, the runs it missed are
+ * counted as run and skipped.
  *
  * @since 0.995.0
  */
@@ -40,6 +38,13 @@ public class Timer extends AbstractTask {
 
     private long interval, delay;
 
+    // Guarded by this timer
+    private TimerWheel.Timeout timeout;
+    private long nextRunTime;
+    private long runs;
+    private long generation;
+    private boolean paused;
+
     /**
      * Creates a Timer object.
      *
@@ -73,12 +78,40 @@ public class Timer extends AbstractTask {
      * {@inheritDoc}
      */
     @Override
-    public void start() throws SchedulingException {
-        JobDataMap jobDataMap = getJobDataMapFromTask();
-        try {
-            scheduleTimer(jobDataMap);
-        } catch (SchedulerException e) {
-            throw new SchedulingException("Failed to schedule task.", e);
+    public synchronized void start() throws SchedulingException {
+        cancelRuns();
+        runs = 0;
+        paused = false;
+        scheduleRun(System.currentTimeMillis() + this.getDelay());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void stop() {
+        cancelRuns();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void pause() {
+        if (!paused && timeout != null) {
+            cancelRuns();
+            paused = true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void resume() {
+        if (paused) {
+            paused = false;
+            scheduleRun(nextRunTime);
         }
     }
 
@@ -119,49 +152,48 @@ public class Timer extends AbstractTask {
     }
 
     /**
-     * Schedule a Timer.
+     * Schedules the next run of this timer on the timer wheel, skipping the runs that were missed by more than the
+     * misfire threshold.
      *
-     * @param jobData Map containing the details of the job.
-     * @throws SchedulerException if scheduling is failed.
+     * @param runTime the time of the next run, in milliseconds since the epoch
      */
-    private void scheduleTimer(JobDataMap jobData) throws SchedulerException, SchedulingException {
-        SimpleScheduleBuilder schedule = createSchedulerBuilder(this.getInterval(), this.getMaxRuns());
-        String triggerId = this.getId();
-        JobDetail job = newJob(TaskJob.class).usingJobData(jobData).withIdentity(triggerId).build();
-        Trigger trigger;
-
-        if (this.getDelay() > 0) {
-            Date startTime = new Date(System.currentTimeMillis() + this.getDelay());
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startAt(startTime)
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
-        } else {
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startNow()
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
+    private void scheduleRun(long runTime) {
+        long now = System.currentTimeMillis();
+        if (now - runTime > TIMER_MISFIRE_THRESHOLD_IN_MILLIS) {
+            long missedRuns = (now - runTime + this.getInterval() - 1) / this.getInterval();
+            runTime += missedRuns * this.getInterval();
+            runs += missedRuns;
         }
+        nextRunTime = runTime;
+        if (this.getMaxRuns() > 0 && runs >= this.getMaxRuns()) {
+            timeout = null;
+            return;
+        }
+        long runGeneration = generation;
+        timeout = TaskManager.getInstance().getTimerWheel().schedule(() -> run(runGeneration), runTime - now);
+    }
 
-        TaskManager.getInstance().getScheduler().scheduleJob(job, trigger);
-        quartzJobs.put(triggerId, job.getKey());
+    /**
+     * Cancels the scheduled run, and invalidates a run that has expired but has not started yet.
+     */
+    private void cancelRuns() {
+        generation++;
+        if (timeout != null) {
+            timeout.cancel();
+            timeout = null;
+        }
     }
 
-    private static SimpleScheduleBuilder createSchedulerBuilder(long interval, long maxRuns) {
-        SimpleScheduleBuilder simpleScheduleBuilder = simpleSchedule()
-                .withMisfireHandlingInstructionNextWithRemainingCount()
-                .withIntervalInMilliseconds(interval);
-        if (maxRuns > 0) {
-            // Quartz uses number of repeats, but we count total number of runs.
-            // Hence we subtract 1 from the maxRuns to get the repeat count.
-            simpleScheduleBuilder.withRepeatCount((int) (maxRuns - 1));
-        } else {
-            simpleScheduleBuilder.repeatForever();
+    private void run(long runGeneration) {
+        synchronized (this) {
+            if (runGeneration != generation) {
+                return;
+            }
+            runs++;
+            scheduleRun(nextRunTime + this.getInterval());
+        }
+        for (ServiceInformation serviceInformation : this.getServicesMap().values()) {
+            TaskExecutor.executeFunction(serviceInformation);
         }
-        return simpleScheduleBuilder;
     }
 }
@@ -81,4 +81,9 @@ public class TaskConstants {
     public static final String QUARTZ_THREAD_COUNT_VALUE = "10";
     // Defines how late the trigger should be to be considered misfired
     public static final String QUARTZ_MISFIRE_THRESHOLD_VALUE = "5000";
+
+    // Timer wheel properties
+    public static final String TIMER_THREAD_NAME = "ballerina-task-timer";
+    // Defines how late a timer should be for the runs it missed to be skipped
+    public static final long TIMER_MISFIRE_THRESHOLD_IN_MILLIS = 5000;
 }
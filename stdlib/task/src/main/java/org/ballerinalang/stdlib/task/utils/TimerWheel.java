@@ -0,0 +1,292 @@
+/*
+ *  Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+*/
+package org.ballerinalang.stdlib.task.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Hierarchical timer wheel, which runs one-shot timeouts on a single timer thread.
+ * <p>
+ * The wheel has four levels of 256 slots. A slot of the lowest level holds the timeouts that expire at one tick, and a
+ * slot of each higher level holds the timeouts that expire within one revolution of the level below it. As the timer
+ * thread reaches the start of a slot of a higher level, the timeouts in it are moved down to the levels that match
+ * their remaining delays. Each slot is a doubly linked list, so a timeout is added and cancelled in constant time
+ * regardless of the number of pending timeouts.
+ * <p>
+ * The timeouts are run on the timer thread, and should hand off any work that may block.
+ *
+ * @since 2.0.0
+ */
+public class TimerWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(TimerWheel.class);
+
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY_IN_TICKS = 1L << (WHEEL_BITS * LEVELS);
+
+    private final long tickInMillis;
+    private final long startTime;
+    private final LongSupplier clock;
+    private final Thread timerThread;
+
+    // Guarded by this wheel
+    private final Timeout[][] slots = new Timeout[LEVELS][WHEEL_SIZE];
+    private long currentTick;
+    private int lowestLevelSize;
+    private int size;
+    private boolean stopped;
+
+    public TimerWheel(String threadName) {
+        this(threadName, 1, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a timer wheel and starts its timer thread.
+     *
+     * @param threadName   name of the timer thread
+     * @param tickInMillis duration of a tick, to which the delays are rounded up
+     * @param clock        source of the current time, in milliseconds
+     */
+    TimerWheel(String threadName, long tickInMillis, LongSupplier clock) {
+        this.tickInMillis = tickInMillis;
+        this.clock = clock;
+        this.startTime = clock.getAsLong();
+        this.timerThread = new Thread(this::run, threadName);
+        this.timerThread.setDaemon(true);
+        this.timerThread.start();
+    }
+
+    /**
+     * Schedules a task to run once after the given delay.
+     *
+     * @param task         task to run
+     * @param delayInMillis delay after which the task runs, which is run at the next tick if it is not positive
+     * @return the timeout, through which the task can be cancelled
+     */
+    public Timeout schedule(Runnable task, long delayInMillis) {
+        long now = clock.getAsLong();
+        long deadline = Math.max(now - startTime, 0) + Math.max(delayInMillis, 0);
+        Timeout timeout = new Timeout(this, task, (deadline + tickInMillis - 1) / tickInMillis);
+        synchronized (this) {
+            if (stopped) {
+                throw new IllegalStateException("Timer wheel is stopped.");
+            }
+            add(timeout);
+            size++;
+            if (timeout.level == 0 || size == 1) {
+                // The timer thread may be waiting beyond the deadline of this timeout, or idle
+                notifyAll();
+            }
+        }
+        return timeout;
+    }
+
+    /**
+     * Returns the number of timeouts that are neither run nor cancelled.
+     *
+     * @return number of pending timeouts
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Stops the timer thread, discarding the pending timeouts.
+     */
+    public void stop() {
+        synchronized (this) {
+            stopped = true;
+            notifyAll();
+        }
+    }
+
+    private void add(Timeout timeout) {
+        long delay = Math.max(timeout.deadline - currentTick, 0);
+        long slotTick = delay < MAX_DELAY_IN_TICKS ? currentTick + delay : currentTick + MAX_DELAY_IN_TICKS - 1;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = (int) (slotTick >>> (WHEEL_BITS * level)) & WHEEL_MASK;
+
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.prev = null;
+        timeout.next = slots[level][slot];
+        if (timeout.next != null) {
+            timeout.next.prev = timeout;
+        }
+        slots[level][slot] = timeout;
+        if (level == 0) {
+            lowestLevelSize++;
+        }
+    }
+
+    private void remove(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        if (timeout.level == 0) {
+            lowestLevelSize--;
+        }
+    }
+
+    private void run() {
+        List<Timeout> expired = new ArrayList<>();
+        while (true) {
+            synchronized (this) {
+                if (stopped) {
+                    return;
+                }
+                long now = clock.getAsLong();
+                advance((now - startTime) / tickInMillis, expired);
+                if (expired.isEmpty()) {
+                    awaitNextTick(now);
+                    continue;
+                }
+            }
+
+            for (Timeout timeout : expired) {
+                try {
+                    timeout.task.run();
+                } catch (Throwable e) {
+                    log.error("Timer task threw an unhandled exception: " + e.getMessage(), e);
+                }
+            }
+            expired.clear();
+        }
+    }
+
+    /**
+     * Processes the ticks up to the given tick, collecting the timeouts that expire. The ticks before the start of
+     * the next slot of the second level are skipped while the lowest level is empty, since no timeout expires or
+     * moves down at them.
+     */
+    private void advance(long nowTick, List<Timeout> expired) {
+        while (currentTick <= nowTick) {
+            if (lowestLevelSize == 0) {
+                currentTick = Math.min(getNextSecondLevelTick(), nowTick + 1);
+                if (currentTick > nowTick) {
+                    return;
+                }
+            }
+            long tick = currentTick;
+            for (int level = 1; level < LEVELS && (tick & ((1L << (WHEEL_BITS * level)) - 1)) == 0; level++) {
+                cascade(level, (int) (tick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+            }
+
+            int slot = (int) tick & WHEEL_MASK;
+            Timeout timeout = slots[0][slot];
+            slots[0][slot] = null;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                timeout.expired = true;
+                expired.add(timeout);
+                lowestLevelSize--;
+                size--;
+                timeout = next;
+            }
+            currentTick = tick + 1;
+        }
+    }
+
+    private void cascade(int level, int slot) {
+        Timeout timeout = slots[level][slot];
+        slots[level][slot] = null;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            add(timeout);
+            timeout = next;
+        }
+    }
+
+    private long getNextSecondLevelTick() {
+        return (currentTick + WHEEL_MASK) & ~(long) WHEEL_MASK;
+    }
+
+    private void awaitNextTick(long now) {
+        long waitTime = 0;
+        if (size > 0) {
+            long nextTick = lowestLevelSize > 0 ? currentTick : getNextSecondLevelTick();
+            waitTime = Math.max(startTime + nextTick * tickInMillis - now, 1);
+        }
+        try {
+            wait(waitTime);
+        } catch (InterruptedException e) {
+            stopped = true;
+        }
+    }
+
+    /**
+     * A task scheduled on the timer wheel.
+     */
+    public static class Timeout {
+
+        private final TimerWheel wheel;
+        private final Runnable task;
+        private final long deadline;
+
+        // Guarded by the wheel
+        private int level;
+        private int slot;
+        private Timeout prev;
+        private Timeout next;
+        private boolean expired;
+        private boolean cancelled;
+
+        private Timeout(TimerWheel wheel, Runnable task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout, unless it has already expired.
+         *
+         * @return whether the timeout was cancelled by this call
+         */
+        public boolean cancel() {
+            synchronized (wheel) {
+                if (expired || cancelled) {
+                    return false;
+                }
+                cancelled = true;
+                wheel.remove(this);
+                wheel.size--;
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.task.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tests for the timer wheel on which the task timers are run.
+ */
+public class TimerWheelTest {
+
+    private static final int TIMER_COUNT = 100000;
+
+    @Test(description = "Test the timeouts expire at their deadlines on every level of the wheel")
+    public void testExpiry() throws InterruptedException {
+        AtomicLong clock = new AtomicLong(1000);
+        TimerWheel timerWheel = new TimerWheel("test-timer", 1, clock::get);
+        long[] delays = {1, 5, 300, 70000, 20000000, 5000000000L};
+        AtomicInteger expired = new AtomicInteger();
+        for (long delay : delays) {
+            timerWheel.schedule(expired::incrementAndGet, delay);
+        }
+
+        for (int i = 0; i < delays.length; i++) {
+            clock.set(1000 + delays[i] - 1);
+            awaitExpiry(expired, i);
+            clock.set(1000 + delays[i]);
+            awaitExpiry(expired, i + 1);
+        }
+        Assert.assertEquals(timerWheel.size(), 0);
+        timerWheel.stop();
+    }
+
+    @Test(description = "Test a cancelled timeout does not expire")
+    public void testCancel() throws InterruptedException {
+        AtomicLong clock = new AtomicLong(0);
+        TimerWheel timerWheel = new TimerWheel("test-timer", 1, clock::get);
+        AtomicInteger expired = new AtomicInteger();
+        TimerWheel.Timeout timeout = timerWheel.schedule(() -> expired.addAndGet(10), 100);
+        timerWheel.schedule(expired::incrementAndGet, 100);
+        Assert.assertEquals(timerWheel.size(), 2);
+
+        Assert.assertTrue(timeout.cancel());
+        Assert.assertFalse(timeout.cancel());
+        Assert.assertEquals(timerWheel.size(), 1);
+        clock.set(1000);
+        awaitExpiry(expired, 1);
+
+        TimerWheel.Timeout expiredTimeout = timerWheel.schedule(expired::incrementAndGet, 0);
+        clock.set(1001);
+        awaitExpiry(expired, 2);
+        Assert.assertFalse(expiredTimeout.cancel());
+        timerWheel.stop();
+    }
+
+    @Test(description = "Test randomly delayed timeouts expire in the step of the clock that reaches their deadlines")
+    public void testRandomDelays() throws InterruptedException {
+        Random random = new Random(7);
+        AtomicLong clock = new AtomicLong(random.nextInt(1 << 20));
+        TimerWheel timerWheel = new TimerWheel("test-timer", 1, clock::get);
+        long start = clock.get();
+        int timeouts = 10000;
+        long[] deadlines = new long[timeouts];
+        long[] expiryTimes = new long[timeouts];
+        AtomicInteger expired = new AtomicInteger();
+        for (int i = 0; i < timeouts; i++) {
+            int index = i;
+            deadlines[i] = start + random.nextInt(1 << (4 + random.nextInt(17)));
+            timerWheel.schedule(() -> {
+                expiryTimes[index] = clock.get();
+                expired.incrementAndGet();
+            }, deadlines[i] - start);
+        }
+
+        while (expired.get() < timeouts) {
+            clock.addAndGet(1 + random.nextInt(1 << (1 + random.nextInt(16))));
+            int due = 0;
+            for (long deadline : deadlines) {
+                due += deadline <= clock.get() ? 1 : 0;
+            }
+            awaitExpiry(expired, due);
+        }
+        for (int i = 0; i < timeouts; i++) {
+            Assert.assertTrue(expiryTimes[i] >= deadlines[i]);
+        }
+        timerWheel.stop();
+    }
+
+    @Test(description = "Test 100k active timers expire once their deadlines pass, except the cancelled ones")
+    public void testManyTimers() throws InterruptedException {
+        TimerWheel timerWheel = new TimerWheel("test-timer");
+        Random random = new Random(42);
+        CountDownLatch latch = new CountDownLatch(TIMER_COUNT / 2);
+        AtomicInteger expired = new AtomicInteger();
+        AtomicLong minLateness = new AtomicLong(Long.MAX_VALUE);
+        List<TimerWheel.Timeout> timeouts = new ArrayList<>(TIMER_COUNT);
+
+        for (int i = 0; i < TIMER_COUNT; i++) {
+            long deadline = System.currentTimeMillis() + 1000 + random.nextInt(1000);
+            timeouts.add(timerWheel.schedule(() -> {
+                minLateness.accumulateAndGet(System.currentTimeMillis() - deadline, Math::min);
+                expired.incrementAndGet();
+                latch.countDown();
+            }, deadline - System.currentTimeMillis()));
+        }
+        Assert.assertEquals(timerWheel.size(), TIMER_COUNT);
+
+        for (int i = 0; i < TIMER_COUNT; i += 2) {
+            Assert.assertTrue(timeouts.get(i).cancel());
+        }
+        Assert.assertEquals(timerWheel.size(), TIMER_COUNT / 2);
+
+        Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+        Assert.assertEquals(timerWheel.size(), 0);
+        Assert.assertEquals(expired.get(), TIMER_COUNT / 2);
+        Assert.assertTrue(minLateness.get() >= 0);
+        for (int i = 0; i < TIMER_COUNT; i += 2) {
+            Assert.assertFalse(timeouts.get(i).cancel());
+        }
+        timerWheel.stop();
+    }
+
+    private void awaitExpiry(AtomicInteger expired, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (expired.get() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        // Gives the timer thread the chance to run any timeout that expires too early
+        Thread.sleep(2);
+        Assert.assertEquals(expired.get(), count);
+    }
+}
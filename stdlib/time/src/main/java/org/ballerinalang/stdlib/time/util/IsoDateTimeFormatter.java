@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.time.util;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats epoch milliseconds as an ISO-8601 date-time with an offset, exactly as
+ * {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} does, e.g. {@code 2017-06-26T09:46:22.444-05:00}.
+ * <p>
+ * The date-time is computed with integer arithmetic and written into a buffer of the calling thread, instead of going
+ * through a {@code ZonedDateTime} and the printers of the formatter.
+ *
+ * @since 2.0.0
+ */
+public class IsoDateTimeFormatter {
+
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final int DAYS_PER_400_YEARS = 146097;
+    // Days from 0000-03-01 to 1970-01-01, as the years are counted from March so that leap days are at their ends
+    private static final int DAYS_0000_TO_1970 = 719468;
+
+    // Longest date-time is "yyyy-MM-ddTHH:mm:ss.SSS+HH:mm:ss"
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[32]);
+
+    private IsoDateTimeFormatter() {
+    }
+
+    /**
+     * Formats the given time as an ISO-8601 date-time with the given offset.
+     *
+     * @param epochMillis milliseconds since 1970-01-01T00:00:00Z
+     * @param offset      offset of the date-time from UTC
+     * @return formatted date-time
+     */
+    public static String format(long epochMillis, ZoneOffset offset) {
+        long localSeconds = Math.floorDiv(epochMillis, 1000) + offset.getTotalSeconds();
+        long epochDay = Math.floorDiv(localSeconds, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(localSeconds, SECONDS_PER_DAY);
+        int millis = (int) Math.floorMod(epochMillis, 1000);
+
+        long dayOfEra = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(dayOfEra, DAYS_PER_400_YEARS);
+        int dayOf400Years = (int) (dayOfEra - era * DAYS_PER_400_YEARS);
+        int yearOf400Years = (dayOf400Years - dayOf400Years / 1460 + dayOf400Years / 36524 -
+                dayOf400Years / (DAYS_PER_400_YEARS - 1)) / 365;
+        int dayOfYear = dayOf400Years - (365 * yearOf400Years + yearOf400Years / 4 - yearOf400Years / 100);
+        int monthFromMarch = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * monthFromMarch + 2) / 5 + 1;
+        int month = monthFromMarch < 10 ? monthFromMarch + 3 : monthFromMarch - 9;
+        long year = era * 400 + yearOf400Years + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            // Signed and longer years are left to the formatter
+            return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(Instant.ofEpochMilli(epochMillis).atOffset(offset));
+        }
+
+        char[] buffer = BUFFER.get();
+        int position = writeDigits(buffer, 0, (int) year / 100);
+        position = writeDigits(buffer, position, (int) year % 100);
+        buffer[position++] = '-';
+        position = writeDigits(buffer, position, month);
+        buffer[position++] = '-';
+        position = writeDigits(buffer, position, day);
+        buffer[position++] = 'T';
+        position = writeDigits(buffer, position, secondOfDay / 3600);
+        buffer[position++] = ':';
+        position = writeDigits(buffer, position, secondOfDay / 60 % 60);
+        buffer[position++] = ':';
+        position = writeDigits(buffer, position, secondOfDay % 60);
+        if (millis != 0) {
+            // The fraction is written without its trailing zeros
+            buffer[position++] = '.';
+            buffer[position++] = (char) ('0' + millis / 100);
+            if (millis % 100 != 0) {
+                buffer[position++] = (char) ('0' + millis / 10 % 10);
+                if (millis % 10 != 0) {
+                    buffer[position++] = (char) ('0' + millis % 10);
+                }
+            }
+        }
+        position = writeOffset(buffer, position, offset.getTotalSeconds());
+        return new String(buffer, 0, position);
+    }
+
+    private static int writeOffset(char[] buffer, int position, int offsetSeconds) {
+        if (offsetSeconds == 0) {
+            buffer[position++] = 'Z';
+            return position;
+        }
+        buffer[position++] = offsetSeconds < 0 ? '-' : '+';
+        int absoluteSeconds = Math.abs(offsetSeconds);
+        position = writeDigits(buffer, position, absoluteSeconds / 3600);
+        buffer[position++] = ':';
+        position = writeDigits(buffer, position, absoluteSeconds / 60 % 60);
+        if (absoluteSeconds % 60 != 0) {
+            buffer[position++] = ':';
+            position = writeDigits(buffer, position, absoluteSeconds % 60);
+        }
+        return position;
+    }
+
+    private static int writeDigits(char[] buffer, int position, int twoDigitValue) {
+        buffer[position] = (char) ('0' + twoDigitValue / 10);
+        buffer[position + 1] = (char) ('0' + twoDigitValue % 10);
+        return position + 2;
+    }
+}
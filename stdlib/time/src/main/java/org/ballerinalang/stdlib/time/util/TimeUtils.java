@@ -35,8 +35,9 @@ import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
 import java.time.zone.ZoneRulesException;
-import java.util.Date;
-import java.util.TimeZone;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import static org.ballerinalang.stdlib.time.util.Constants.KEY_ZONED_DATETIME;
 import static org.ballerinalang.stdlib.time.util.Constants.STRUCT_TYPE_TIME;
@@ -53,13 +54,17 @@ import static org.ballerinalang.stdlib.time.util.Constants.ZONE_ID_FIELD;
  */
 public class TimeUtils {
 
+    // Patterns and zone IDs are usually constants of the program, but they may also be read from its input, so only
+    // the first of them are cached
+    private static final int MAX_CACHE_SIZE = 256;
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+    private static final Map<String, ZoneId> ZONE_IDS = new ConcurrentHashMap<>();
+
     public static BMap<BString, Object> createTimeZone(BMap<BString, Object> timeZoneRecord,
                                                        BString zoneIdValue) {
         ZoneId zoneId = getTimeZone(zoneIdValue);
         //Get offset in seconds
-        TimeZone tz = TimeZone.getTimeZone(zoneId);
-        int offsetInMills = tz.getOffset(new Date().getTime());
-        long offset = offsetInMills / 1000;
+        long offset = zoneId.getRules().getOffset(Instant.now()).getTotalSeconds();
         return BValueCreator.createRecordValue(timeZoneRecord, zoneIdValue, offset);
 
     }
@@ -81,12 +86,34 @@ public class TimeUtils {
 
     public static ZoneId getTimeZone(BString zoneIdValue) {
         try {
-            return ZoneId.of(zoneIdValue.getValue());
+            return getCached(ZONE_IDS, zoneIdValue.getValue(), ZoneId::of);
         } catch (ZoneRulesException e) {
             throw TimeUtils.getTimeError("invalid timezone id: " + zoneIdValue);
         }
     }
 
+    /**
+     * Returns the formatter of a pattern, which is compiled only the first time it is used.
+     *
+     * @param pattern pattern of the formatter
+     * @return formatter of the pattern
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static DateTimeFormatter getFormatter(String pattern) {
+        return getCached(FORMATTERS, pattern, DateTimeFormatter::ofPattern);
+    }
+
+    private static <T> T getCached(Map<String, T> cache, String key, Function<String, T> factory) {
+        T value = cache.get(key);
+        if (value == null) {
+            value = factory.apply(key);
+            if (cache.size() < MAX_CACHE_SIZE) {
+                cache.put(key, value);
+            }
+        }
+        return value;
+    }
+
     public static BMap<BString, Object> createTimeRecord(BMap<BString, Object> timeZoneRecord,
                                                              BMap<BString, Object> timeRecord, long millis,
                                                              BString zoneIdName) {
@@ -129,18 +156,18 @@ public class TimeUtils {
     public static BString getFormattedString(MapValue<BString, Object> timeRecord, BString pattern)
             throws IllegalArgumentException {
         ZonedDateTime dateTime = getZonedDateTime(timeRecord);
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(pattern.getValue());
-        return BStringUtils.fromString(dateTime.format(dateTimeFormatter));
+        return BStringUtils.fromString(dateTime.format(getFormatter(pattern.getValue())));
     }
 
     public static BString getDefaultString(MapValue<BString, Object> timeRecord) {
         ZonedDateTime dateTime = getZonedDateTime(timeRecord);
-        return BStringUtils.fromString(dateTime.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        long epochMillis = dateTime.toEpochSecond() * 1000 + dateTime.getNano() / Constants.MULTIPLIER_TO_NANO;
+        return BStringUtils.fromString(IsoDateTimeFormatter.format(epochMillis, dateTime.getOffset()));
     }
 
     public static BMap<BString, Object> parseTime(BString dateValue, BString pattern) {
         try {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern.getValue());
+            DateTimeFormatter formatter = getFormatter(pattern.getValue());
             TemporalAccessor temporalAccessor = formatter.parse(dateValue.getValue());
             //Initialize with default values
             int year = 1970;
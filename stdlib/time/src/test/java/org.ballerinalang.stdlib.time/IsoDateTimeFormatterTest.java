@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.time;
+
+import org.ballerinalang.stdlib.time.util.IsoDateTimeFormatter;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+
+/**
+ * Class to test that the ISO-8601 formatter formats as {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} does.
+ */
+public class IsoDateTimeFormatterTest {
+
+    @DataProvider(name = "offsets")
+    public Object[][] offsets() {
+        return new Object[][]{{0}, {19800}, {-18000}, {-34200}, {64800}, {-64800}, {3661}, {-45}};
+    }
+
+    @Test(description = "Test formatting the boundaries of the days, the years and the formatted years.",
+            dataProvider = "offsets")
+    public void testFormatBoundaries(int offsetSeconds) {
+        long[] epochMillis = {0, -1, 1, 999, -999, 1000, 10, 100, 120, 1498488382444L, 951782400000L, 951868799999L,
+                946684799999L, 4102444800000L, 253402300799999L, 253402300800000L, -62167219200000L,
+                -62167219200001L};
+        for (long millis : epochMillis) {
+            assertFormat(millis, ZoneOffset.ofTotalSeconds(offsetSeconds));
+        }
+    }
+
+    @Test(description = "Test formatting random times.")
+    public void testFormatRandomTimes() {
+        Random random = new Random(0);
+        for (int i = 0; i < 100000; i++) {
+            long millis = (long) ((random.nextDouble() - 0.5) * 1e15);
+            assertFormat(millis, ZoneOffset.ofTotalSeconds((random.nextInt(145) - 72) * 900));
+        }
+    }
+
+    private void assertFormat(long epochMillis, ZoneOffset offset) {
+        String expected = DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(
+                Instant.ofEpochMilli(epochMillis).atOffset(offset));
+        Assert.assertEquals(IsoDateTimeFormatter.format(epochMillis, offset), expected);
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.ballerinalang.test.util;
 
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.compiler.CompilerPhase;
 import org.ballerinalang.core.util.exceptions.BLangRuntimeException;
 import org.ballerinalang.core.util.exceptions.BallerinaException;
@@ -56,6 +57,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.StringJoiner;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -120,6 +122,20 @@ public class BCompileUtil {
         return compileOnJBallerina(context, sourceFilePath, false, true);
     }
 
+    /**
+     * Compile with the given compiler options and return the semantic errors.
+     *
+     * @param sourceFilePath  Path to source module/file
+     * @param compilerOptions Compiler options in addition to the default ones
+     * @return Semantic errors
+     */
+    public static CompileResult compile(String sourceFilePath, Map<CompilerOptionName, String> compilerOptions) {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        compilerOptions.forEach(options::put);
+        return compileOnJBallerina(context, sourceFilePath, false, true);
+    }
+
     /**
      * Compile on a separated process.
      *
@@ -386,6 +402,30 @@ public class BCompileUtil {
         return compile(sourceFilePath, compilerPhase, true);
     }
 
+    /**
+     * Compile with the given compiler options and return the semantic errors.
+     *
+     * @param sourceFilePath  Path to source package/file
+     * @param compilerPhase   Compiler phase
+     * @param compilerOptions Compiler options in addition to the default ones
+     * @return Semantic errors
+     */
+    public static CompileResult compile(String sourceFilePath, CompilerPhase compilerPhase,
+                                        Map<CompilerOptionName, String> compilerOptions) {
+        Path sourcePath = Paths.get(sourceFilePath);
+        String packageName = sourcePath.getFileName().toString();
+        Path sourceRoot = resourceDir.resolve(sourcePath.getParent());
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(PROJECT_DIR, sourceRoot.toString());
+        options.put(COMPILER_PHASE, compilerPhase.toString());
+        options.put(PRESERVE_WHITESPACE, "false");
+        options.put(EXPERIMENTAL_FEATURES_ENABLED, Boolean.TRUE.toString());
+        options.put(OFFLINE, "true");
+        compilerOptions.forEach(options::put);
+        return compile(context, packageName, compilerPhase, false);
+    }
+
     /**
      * Compile and return the semantic errors.
      *
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests the BIR optimizations with and without the optimizations disabled with the compiler options.
+ */
+public class BIROptimizerTest {
+
+    private static final String SOURCE_FILE = "test-src/bir/dataflow_optimizations.bal";
+    private static final String ALL_OPTIMIZATIONS = "inline,constant-propagation,scalar-replacement," +
+            "copy-propagation,unreachable-blocks,dead-stores";
+
+    private CompileResult optimizedResult;
+    private CompileResult unoptimizedResult;
+
+    @BeforeClass
+    public void setup() {
+        optimizedResult = BCompileUtil.compile(SOURCE_FILE, Collections.emptyMap());
+        unoptimizedResult = BCompileUtil.compile(SOURCE_FILE, Collections.singletonMap(
+                CompilerOptionName.DISABLED_BIR_OPTIMIZATIONS, ALL_OPTIMIZATIONS));
+        Assert.assertEquals(optimizedResult.getErrorCount(), 0, optimizedResult.toString());
+        Assert.assertEquals(unoptimizedResult.getErrorCount(), 0, unoptimizedResult.toString());
+    }
+
+    @Test(description = "Test operations and branches on constants are folded")
+    public void testConstantFolding() {
+        List<InstructionKind> optimizedKinds = getInstructionKinds(optimizedResult, "foldConstants");
+        List<InstructionKind> unoptimizedKinds = getInstructionKinds(unoptimizedResult, "foldConstants");
+        Assert.assertTrue(unoptimizedKinds.contains(InstructionKind.MUL));
+        Assert.assertTrue(unoptimizedKinds.contains(InstructionKind.BRANCH));
+        Assert.assertFalse(optimizedKinds.contains(InstructionKind.MUL));
+        Assert.assertFalse(optimizedKinds.contains(InstructionKind.BRANCH));
+
+        assertResult("foldConstants", new BValue[0], 42);
+    }
+
+    @Test(description = "Test copies of a variable that is read more than once are propagated")
+    public void testCopyPropagation() {
+        assertResult("propagateCopies", new BValue[]{new BInteger(3)}, 18);
+    }
+
+    @Test(description = "Test the code referred by the error table is retained")
+    public void testTrappedPanic() {
+        Assert.assertFalse(getFunction(optimizedResult, "trapDivision").errorTable.isEmpty());
+
+        assertResult("trapDivision", new BValue[]{new BInteger(6), new BInteger(3)}, 2);
+        assertResult("trapDivision", new BValue[]{new BInteger(1), new BInteger(0)}, -1);
+    }
+
+    @Test(description = "Test the optimizations reduce the number of instructions")
+    public void testInstructionCount() {
+        for (String functionName : new String[]{"foldConstants", "propagateCopies", "trapDivision"}) {
+            int optimizedCount = getInstructionKinds(optimizedResult, functionName).size();
+            int unoptimizedCount = getInstructionKinds(unoptimizedResult, functionName).size();
+            Assert.assertTrue(optimizedCount <= unoptimizedCount, functionName + ": " + optimizedCount +
+                    " instructions when optimized, " + unoptimizedCount + " instructions otherwise");
+        }
+        Assert.assertTrue(getInstructionKinds(optimizedResult, "foldConstants").size() <
+                                  getInstructionKinds(unoptimizedResult, "foldConstants").size());
+    }
+
+    private void assertResult(String functionName, BValue[] args, long expected) {
+        BValue[] optimizedReturns = BRunUtil.invoke(optimizedResult, functionName, args);
+        BValue[] unoptimizedReturns = BRunUtil.invoke(unoptimizedResult, functionName, args);
+        Assert.assertEquals(((BInteger) optimizedReturns[0]).intValue(), expected);
+        Assert.assertEquals(((BInteger) unoptimizedReturns[0]).intValue(), expected);
+    }
+
+    private List<InstructionKind> getInstructionKinds(CompileResult result, String functionName) {
+        List<InstructionKind> kinds = new ArrayList<>();
+        for (BIRBasicBlock basicBlock : getFunction(result, functionName).basicBlocks) {
+            for (BIRAbstractInstruction instruction : basicBlock.instructions) {
+                kinds.add(instruction.kind);
+            }
+            if (basicBlock.terminator != null) {
+                kinds.add(basicBlock.terminator.kind);
+            }
+        }
+        return kinds;
+    }
+
+    private BIRFunction getFunction(CompileResult result, String functionName) {
+        return ((BLangPackage) result.getAST()).symbol.bir.functions.stream()
+                .filter(function -> function.name.value.equals(functionName))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("function not found: " + functionName));
+    }
+}
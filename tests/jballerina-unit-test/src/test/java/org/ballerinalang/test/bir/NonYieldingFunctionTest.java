@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.core.model.values.BBoolean;
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the code generated for functions that never yield and for their callers.
+ */
+public class NonYieldingFunctionTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/bir/non_yielding_functions.bal");
+        Assert.assertEquals(result.getErrorCount(), 0, result.toString());
+    }
+
+    @Test(description = "Test a recursive function that never yields")
+    public void testRecursion() {
+        BValue[] returns = BRunUtil.invoke(result, "testRecursion");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 6765);
+    }
+
+    @Test(description = "Test mutually recursive functions that never yield")
+    public void testMutualRecursion() {
+        BValue[] returns = BRunUtil.invoke(result, "testMutualRecursion");
+        Assert.assertTrue(((BBoolean) returns[0]).booleanValue());
+    }
+
+    @Test(description = "Test functions that call a function with a lock keep their state when the strand yields")
+    public void testIndirectLock() {
+        BValue[] returns = BRunUtil.invoke(result, "testIndirectLock");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 3500);
+    }
+
+    @Test(description = "Test functions that call a function with workers keep their state when the strand yields")
+    public void testIndirectWorker() {
+        BValue[] returns = BRunUtil.invoke(result, "testIndirectWorker");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 385);
+    }
+}
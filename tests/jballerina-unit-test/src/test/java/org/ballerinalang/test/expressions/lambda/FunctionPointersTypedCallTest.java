@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.expressions.lambda;
+
+import org.ballerinalang.core.model.values.BFloat;
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for calls of function pointers whose function type is known at the call site.
+ *
+ * @since 2.0.0
+ */
+public class FunctionPointersTypedCallTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/expressions/lambda/function-pointers-typed-calls.bal");
+        Assert.assertEquals(result.getErrorCount(), 0, result.toString());
+    }
+
+    @Test(description = "Test calling a function with defaultable parameters through a typed function pointer")
+    public void testDefaultableParams() {
+        BValue[] returns = BRunUtil.invoke(result, "testDefaultableParams");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 16);
+    }
+
+    @Test(description = "Test calling a function with a rest parameter through a typed function pointer")
+    public void testRestParams() {
+        BValue[] returns = BRunUtil.invoke(result, "testRestParams");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 16);
+    }
+
+    @Test(description = "Test the arguments and the return value are converted to the types of the function")
+    public void testArgumentConversions() {
+        BValue[] returns = BRunUtil.invoke(result, "testArgumentConversions");
+        Assert.assertEquals(((BFloat) returns[0]).floatValue(), 42.0);
+    }
+
+    @Test(description = "Test calling a closure with a rest parameter through a typed function pointer")
+    public void testClosure() {
+        BValue[] returns = BRunUtil.invoke(result, "testClosure");
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 106);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.expressions.typecast;
+
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for type tests and casts against simple types, i.e. basic types, finite types of simple values and
+ * unions of them, which are generated inline instead of calling the runtime.
+ *
+ * @since 2.0.0
+ */
+public class SimpleTypeTestAndCastTest {
+
+    private CompileResult result;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/expressions/typecast/simple-type-test-and-cast.bal");
+        Assert.assertEquals(result.getErrorCount(), 0, result.toString());
+    }
+
+    @Test(description = "Test type tests and casts against simple types", dataProvider = "simpleTypeFunctions")
+    public void testSimpleTypes(String function) {
+        BRunUtil.invoke(result, function);
+    }
+
+    @DataProvider
+    public Object[] simpleTypeFunctions() {
+        return new Object[]{
+                "testFiniteIntAndByte",
+                "testFiniteIntAndByteCastError",
+                "testFiniteStringAndBoolean",
+                "testNilUnions",
+                "testBasicTypeUnions",
+                "testCastFromNarrowerUnion"
+        };
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.packaging;
+
+import org.ballerinalang.compiler.CompilerPhase;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.Compiler;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
+import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED;
+import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.PRESERVE_WHITESPACE;
+import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
+
+/**
+ * Tests compiling all the modules of a project, where the sources of the modules are parsed concurrently.
+ *
+ * @since 2.0.0
+ */
+public class MultiModuleCompilationTest {
+
+    private static final Path PROJECT_DIR_PATH = Paths.get("src/test/resources/test-src/packaging/multi_module_project")
+            .toAbsolutePath();
+    private static final List<String> MODULES = Arrays.asList("testorg/alpha:0.1.0", "testorg/beta:0.1.0",
+            "testorg/gamma:0.1.0");
+
+    @Test(description = "Test the modules of a project are listed and compiled in the same order in every build")
+    public void testModuleOrder() {
+        List<String> modules = new ArrayList<>();
+        List<String> output = compileProject(modules);
+        Assert.assertEquals(modules.stream().sorted().collect(Collectors.toList()), MODULES);
+        Assert.assertEquals(output.get(0), "Compiling source");
+        // Modules are listed in the order they are compiled.
+        Assert.assertEquals(output.subList(1, 4), modules.stream().map(module -> "\t" + module)
+                .collect(Collectors.toList()));
+
+        for (int i = 0; i < 3; i++) {
+            List<String> otherModules = new ArrayList<>();
+            Assert.assertEquals(compileProject(otherModules), output);
+            Assert.assertEquals(otherModules, modules);
+        }
+    }
+
+    @Test(description = "Test the diagnostics of the modules are reported module by module, in the module order")
+    public void testDiagnosticOrder() {
+        List<String> modules = new ArrayList<>();
+        List<String> output = compileProject(modules);
+        List<String> errors = output.stream().filter(line -> line.startsWith("error: ")).collect(Collectors.toList());
+
+        List<String> expectedErrors = new ArrayList<>();
+        for (String module : modules) {
+            switch (module) {
+                case "testorg/alpha:0.1.0":
+                    expectedErrors.add("error: testorg/alpha:0.1.0::main.bal:4:13: incompatible types: " +
+                            "expected 'int', found 'string'");
+                    break;
+                case "testorg/beta:0.1.0":
+                    expectedErrors.add("error: testorg/beta:0.1.0::beta.bal:2:13: undefined symbol 'x'");
+                    expectedErrors.add("error: testorg/beta:0.1.0::beta.bal:3:13: undefined symbol 'y'");
+                    break;
+                default:
+                    expectedErrors.add("error: testorg/gamma:0.1.0::gamma.bal:2:12: incompatible types: " +
+                            "expected 'int', found 'string'");
+                    break;
+            }
+        }
+        Assert.assertEquals(errors, expectedErrors);
+        Assert.assertEquals(compileProject(new ArrayList<>()), output);
+    }
+
+    private static List<String> compileProject(List<String> compiledModules) {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(PROJECT_DIR, PROJECT_DIR_PATH.toString());
+        options.put(COMPILER_PHASE, CompilerPhase.BIR_GEN.toString());
+        options.put(PRESERVE_WHITESPACE, "false");
+        options.put(EXPERIMENTAL_FEATURES_ENABLED, Boolean.TRUE.toString());
+        options.put(OFFLINE, "true");
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrintStream printStream = new PrintStream(outputStream, true);
+        Compiler compiler = Compiler.getInstance(context);
+        compiler.setOutStream(printStream);
+        compiler.setErrorStream(printStream);
+        for (BLangPackage compiledModule : compiler.compilePackages(false)) {
+            compiledModules.add(compiledModule.packageID.toString());
+        }
+        return Arrays.asList(new String(outputStream.toByteArray(), StandardCharsets.UTF_8).split("\\R"));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.types.relation;
+
+import io.ballerina.tools.diagnostics.Diagnostic;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.test.util.BAssertUtil;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests that the type relation cache does not change the results of the type checker.
+ */
+public class TypeRelationCacheTest {
+
+    private static final String SOURCE_FILE = "test-src/types/relation/type_relation_cache_negative.bal";
+
+    @Test(description = "Test the diagnostics of recursive records, recursive unions and inferred arrays with and " +
+            "without the type relation cache")
+    public void testDiagnosticsWithAndWithoutCache() {
+        CompileResult cachedResult = compile(false);
+        CompileResult uncachedResult = compile(true);
+
+        Assert.assertEquals(cachedResult.getErrorCount(), 5);
+        int i = 0;
+        BAssertUtil.validateError(cachedResult, i++, 43, 22);
+        BAssertUtil.validateError(cachedResult, i++, 51, 19);
+        BAssertUtil.validateError(cachedResult, i++, 52, 27);
+        BAssertUtil.validateError(cachedResult, i++, 59, 20);
+        BAssertUtil.validateError(cachedResult, i, 62, 23);
+
+        Assert.assertEquals(getDiagnostics(cachedResult), getDiagnostics(uncachedResult));
+    }
+
+    private CompileResult compile(boolean disableCache) {
+        return BCompileUtil.compile(SOURCE_FILE, CompilerPhase.CODE_ANALYZE,
+                                    Collections.singletonMap(CompilerOptionName.DISABLE_TYPE_RELATION_CACHE,
+                                                             Boolean.toString(disableCache)));
+    }
+
+    private List<String> getDiagnostics(CompileResult result) {
+        return Arrays.stream(result.getDiagnostics())
+                .map(Diagnostic::toString)
+                .collect(Collectors.toList());
+    }
+}
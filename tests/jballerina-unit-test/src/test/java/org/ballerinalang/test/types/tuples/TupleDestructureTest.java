@@ -86,6 +86,13 @@ public class TupleDestructureTest {
         Assert.assertEquals(returns[0].stringValue(), "true");
         Assert.assertEquals(returns[1].stringValue(), "string value");
         Assert.assertEquals(returns[2].stringValue(), "[25, 12.5]");
+
+        returns = BRunUtil.invoke(result, "tupleDestructureTest10", new BValue[]{});
+        Assert.assertEquals(returns.length, 4);
+        Assert.assertEquals(returns[0].stringValue(), "135");
+        Assert.assertEquals(returns[1].stringValue(), "a");
+        Assert.assertEquals(returns[2].stringValue(), "1.5");
+        Assert.assertEquals(returns[3].stringValue(), "10");
     }
 
     @Test(description = "Test positive tuple destructure scenarios")
@@ -0,0 +1,38 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function foldConstants() returns int {
+    int a = 10;
+    int b = a * 4 + 2;
+    if (b > 40) {
+        return b;
+    }
+    return 0;
+}
+
+function propagateCopies(int a) returns int {
+    int b = a;
+    int c = b + b;
+    return c * b;
+}
+
+function trapDivision(int a, int b) returns int {
+    int|error result = trap a / b;
+    if (result is int) {
+        return result;
+    }
+    return -1;
+}
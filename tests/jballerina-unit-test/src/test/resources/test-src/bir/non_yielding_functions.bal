@@ -0,0 +1,108 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+int counter = 0;
+
+function fibonacci(int n) returns int {
+    if (n < 2) {
+        return n;
+    }
+    return fibonacci(n - 1) + fibonacci(n - 2);
+}
+
+function isEven(int n) returns boolean {
+    if (n == 0) {
+        return true;
+    }
+    return isOdd(n - 1);
+}
+
+function isOdd(int n) returns boolean {
+    if (n == 0) {
+        return false;
+    }
+    return isEven(n - 1);
+}
+
+function testRecursion() returns int {
+    return fibonacci(20);
+}
+
+function testMutualRecursion() returns boolean {
+    return isEven(100) && isOdd(7) && !isEven(9);
+}
+
+function increment() {
+    lock {
+        counter += 1;
+    }
+}
+
+function incrementIndirectly(int times) returns int {
+    int count = 0;
+    int i = 0;
+    while (i < times) {
+        increment();
+        count += 1;
+        i += 1;
+    }
+    return count;
+}
+
+function incrementRecursively(int times) returns int {
+    if (times == 0) {
+        return 0;
+    }
+    increment();
+    return incrementRecursively(times - 1) + 1;
+}
+
+function testIndirectLock() returns int {
+    counter = 0;
+    future<int> f1 = start incrementIndirectly(1000);
+    future<int> f2 = start incrementIndirectly(1000);
+    future<int> f3 = start incrementRecursively(500);
+    int count1 = incrementIndirectly(1000);
+    int count2 = wait f1;
+    int count3 = wait f2;
+    int count4 = wait f3;
+    int count = count1 + count2 + count3 + count4;
+    return count == counter ? count : -1;
+}
+
+function squareInWorker(int n) returns int {
+    worker w1 returns int {
+        int x = <- default;
+        return x * x;
+    }
+    n -> w1;
+    int square = wait w1;
+    return square;
+}
+
+function sumOfSquares(int n) returns int {
+    int sum = 0;
+    int i = 1;
+    while (i <= n) {
+        sum += squareInWorker(i);
+        i += 1;
+    }
+    return sum;
+}
+
+function testIndirectWorker() returns int {
+    return sumOfSquares(10);
+}
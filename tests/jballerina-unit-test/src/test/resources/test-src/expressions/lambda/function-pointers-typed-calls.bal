@@ -0,0 +1,63 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function addWithDefault(int a, int b = 10) returns int {
+    return a + b;
+}
+
+function sumWithRest(int first, int... rest) returns int {
+    int sum = first;
+    foreach int value in rest {
+        sum += value;
+    }
+    return sum;
+}
+
+function scale(int|float value, float factor = 2.0) returns float {
+    if (value is int) {
+        return <float> value * factor;
+    }
+    return value * factor;
+}
+
+function testDefaultableParams() returns int {
+    function (int, int) returns int fp = addWithDefault;
+    return fp(1, 2) + addWithDefault(3);
+}
+
+function testRestParams() returns int {
+    function (int, int...) returns int fp = sumWithRest;
+    int[] values = [4, 5];
+    return fp(1) + fp(1, 2, 3) + fp(0, ...values);
+}
+
+function testArgumentConversions() returns float {
+    function (int, float) returns any fp = scale;
+    any result = fp(21, 2.0);
+    return <float> result;
+}
+
+function testClosure() returns int {
+    int base = 100;
+    function (int, int...) returns int fp = function (int a, int... rest) returns int {
+        int sum = base + a;
+        foreach int value in rest {
+            sum += value;
+        }
+        return sum;
+    };
+    return fp(1, 2, 3);
+}
@@ -0,0 +1,203 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const int INT_ONE = 1;
+const byte BYTE_THREE = 3;
+
+type IntAndByte INT_ONE|BYTE_THREE|1000;
+
+type Switch "on"|"off"|true;
+
+type Greeting "hello"|"hi";
+
+type OptionalGreeting Greeting?;
+
+type Basic int|float|string|boolean;
+
+type OptionalBasic int|string?;
+
+function testFiniteIntAndByte() {
+    byte one = 1;
+    byte three = 3;
+    any intOne = 1;
+    any byteOne = one;
+    any intThree = 3;
+    any byteThree = three;
+    any large = 1000;
+    any two = 2;
+    any floatOne = 1.0;
+    any stringOne = "1";
+
+    assertEquality(true, intOne is IntAndByte);
+    assertEquality(true, byteOne is IntAndByte);
+    assertEquality(true, intThree is IntAndByte);
+    assertEquality(true, byteThree is IntAndByte);
+    assertEquality(true, large is IntAndByte);
+    assertEquality(false, two is IntAndByte);
+    assertEquality(false, floatOne is IntAndByte);
+    assertEquality(false, stringOne is IntAndByte);
+
+    IntAndByte castIntOne = <IntAndByte> intOne;
+    assertEquality(1, castIntOne);
+    IntAndByte castByteThree = <IntAndByte> byteThree;
+    assertEquality(3, <int> castByteThree);
+    IntAndByte castLarge = <IntAndByte> large;
+    assertEquality(1000, castLarge);
+}
+
+function testFiniteIntAndByteCastError() {
+    any two = 2;
+    IntAndByte|error result = trap <IntAndByte> two;
+    assertCastError(result);
+
+    any stringOne = "1";
+    result = trap <IntAndByte> stringOne;
+    assertCastError(result);
+}
+
+function testFiniteStringAndBoolean() {
+    any onValue = "on";
+    any offValue = "off";
+    any trueValue = true;
+    any falseValue = false;
+    any other = "true";
+    any nilValue = ();
+
+    assertEquality(true, onValue is Switch);
+    assertEquality(true, offValue is Switch);
+    assertEquality(true, trueValue is Switch);
+    assertEquality(false, falseValue is Switch);
+    assertEquality(false, other is Switch);
+    assertEquality(false, nilValue is Switch);
+
+    Switch castOff = <Switch> offValue;
+    assertEquality("off", castOff);
+    Switch castTrue = <Switch> trueValue;
+    assertEquality(true, castTrue);
+
+    Switch|error result = trap <Switch> falseValue;
+    assertCastError(result);
+    result = trap <Switch> other;
+    assertCastError(result);
+}
+
+function testNilUnions() {
+    any hello = "hello";
+    any bye = "bye";
+    any nilValue = ();
+    any intValue = 10;
+    any stringValue = "ten";
+    any floatValue = 10.0;
+
+    assertEquality(true, hello is OptionalGreeting);
+    assertEquality(true, nilValue is OptionalGreeting);
+    assertEquality(false, bye is OptionalGreeting);
+    assertEquality(true, intValue is OptionalBasic);
+    assertEquality(true, stringValue is OptionalBasic);
+    assertEquality(true, nilValue is OptionalBasic);
+    assertEquality(false, floatValue is OptionalBasic);
+    assertEquality(true, nilValue is ());
+    assertEquality(false, intValue is ());
+
+    OptionalGreeting castNil = <OptionalGreeting> nilValue;
+    assertEquality((), castNil);
+    OptionalGreeting castHello = <OptionalGreeting> hello;
+    assertEquality("hello", castHello);
+    OptionalBasic castNilBasic = <OptionalBasic> nilValue;
+    assertEquality((), castNilBasic);
+
+    OptionalGreeting|error result = trap <OptionalGreeting> bye;
+    assertCastError(result);
+    OptionalBasic|error basicResult = trap <OptionalBasic> floatValue;
+    assertCastError(basicResult);
+}
+
+function testBasicTypeUnions() {
+    byte b = 5;
+    any intValue = 5;
+    any byteValue = b;
+    any floatValue = 5.5;
+    any decimalValue = 5.5d;
+    any stringValue = "five";
+    any booleanValue = false;
+    any nilValue = ();
+    map<int> five = {five: 5};
+    any mapValue = five;
+
+    assertEquality(true, intValue is Basic);
+    assertEquality(true, byteValue is Basic);
+    assertEquality(true, floatValue is Basic);
+    assertEquality(true, stringValue is Basic);
+    assertEquality(true, booleanValue is Basic);
+    assertEquality(false, decimalValue is Basic);
+    assertEquality(false, nilValue is Basic);
+    assertEquality(false, mapValue is Basic);
+    assertEquality(true, decimalValue is int|decimal);
+    assertEquality(false, floatValue is int|decimal);
+
+    Basic castInt = <Basic> intValue;
+    assertEquality(5, castInt);
+    Basic castString = <Basic> stringValue;
+    assertEquality("five", castString);
+    Basic castBoolean = <Basic> booleanValue;
+    assertEquality(false, castBoolean);
+    int|decimal castDecimal = <int|decimal> decimalValue;
+    assertEquality(5.5d, castDecimal);
+
+    Basic|error result = trap <Basic> nilValue;
+    assertCastError(result);
+    result = trap <Basic> mapValue;
+    assertCastError(result);
+}
+
+function testCastFromNarrowerUnion() {
+    int|string|boolean|() value = "text";
+    string|boolean castString = <string|boolean> value;
+    assertEquality("text", castString);
+
+    value = 10;
+    string|boolean|error result = trap <string|boolean> value;
+    assertCastError(result);
+
+    value = ();
+    int|() castNil = <int|()> value;
+    assertEquality((), castNil);
+}
+
+function assertCastError(any|error result) {
+    if result is error {
+        assertEquality("{ballerina}TypeCastError", result.message());
+        return;
+    }
+    panic AssertionError(ASSERTION_ERROR_REASON, message = "expected a cast error, found '" + result.toString() + "'");
+}
+
+type AssertionError distinct error;
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    panic AssertionError(ASSERTION_ERROR_REASON, message = "expected '" + expected.toString() + "', found '" +
+            actual.toString() + "'");
+}
@@ -0,0 +1,6 @@
+import testorg/gamma;
+
+public function getValue() returns int {
+    int a = "one";
+    return a + gamma:getValue();
+}
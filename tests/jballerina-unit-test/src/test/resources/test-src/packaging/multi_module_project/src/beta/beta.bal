@@ -0,0 +1,5 @@
+public function getSum() returns int {
+    int b = x;
+    int c = y;
+    return b + c;
+}
@@ -0,0 +1,3 @@
+public function getValue() returns int {
+    return "two";
+}
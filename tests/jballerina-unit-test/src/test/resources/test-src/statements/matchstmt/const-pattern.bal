@@ -405,6 +405,85 @@ function testConstPattern12() {
     assertEquals("OTHER", constPattern12(3));
 }
 
+function constPattern13(any v, boolean b) returns string {
+    match v {
+        1 if b => {
+            return "ONE GUARDED";
+        }
+        "Aa"|2 => {
+            return "Aa OR TWO";
+        }
+        1|"BB" => {
+            return "ONE OR BB";
+        }
+        3 if b => {
+            return "THREE GUARDED";
+        }
+        _ if !b => {
+            return "DEFAULT GUARDED";
+        }
+        4 => {
+            return "FOUR";
+        }
+    }
+    return "NO MATCH";
+}
+
+function testConstPattern13() {
+    byte byteOne = 1;
+    assertEquals("ONE GUARDED", constPattern13(1, true));
+    assertEquals("ONE OR BB", constPattern13(1, false));
+    assertEquals("ONE OR BB", constPattern13(byteOne, false));
+    assertEquals("Aa OR TWO", constPattern13("Aa", true));
+    assertEquals("Aa OR TWO", constPattern13(2, false));
+    assertEquals("ONE OR BB", constPattern13("BB", true));
+    assertEquals("THREE GUARDED", constPattern13(3, true));
+    assertEquals("DEFAULT GUARDED", constPattern13(3, false));
+    assertEquals("FOUR", constPattern13(4, true));
+    assertEquals("DEFAULT GUARDED", constPattern13(4, false));
+    assertEquals("NO MATCH", constPattern13(1.0, true));
+    assertEquals("DEFAULT GUARDED", constPattern13("C#", false));
+    assertEquals("NO MATCH", constPattern13((), true));
+}
+
+function constPattern14(string s, int i) returns string {
+    string result = "";
+    match s {
+        "GET"|"HEAD" => {
+            result = "READ";
+        }
+        "POST"|"PUT"|"PATCH" => {
+            result = "WRITE";
+        }
+        "DELETE" => {
+            result = "DELETE";
+        }
+    }
+
+    match i {
+        2147483648 => {
+            result += " BIG";
+        }
+        0 => {
+            result += " ZERO";
+        }
+        9223372036854775807 => {
+            result += " MAX";
+        }
+        _ => {
+            result += " OTHER";
+        }
+    }
+    return result;
+}
+
+function testConstPattern14() {
+    assertEquals("READ ZERO", constPattern14("HEAD", 0));
+    assertEquals("WRITE MAX", constPattern14("PATCH", 9223372036854775807));
+    assertEquals("DELETE BIG", constPattern14("DELETE", 2147483648));
+    assertEquals(" OTHER", constPattern14("OPTIONS", 2147483649));
+}
+
 function assertEquals(anydata expected, anydata actual) {
     if expected == actual {
         return;
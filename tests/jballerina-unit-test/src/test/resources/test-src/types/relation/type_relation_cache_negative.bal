@@ -0,0 +1,63 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Node record {|
+    int value;
+    Node? next;
+|};
+
+type OpenNode record {
+    int value;
+    OpenNode? next = ();
+};
+
+type Expr int|BinaryExpr;
+
+type BinaryExpr record {|
+    Expr lhs;
+    Expr rhs;
+|};
+
+type Value int|string|Container;
+
+type Container record {|
+    Value[] values;
+|};
+
+function testRecursiveRecords() {
+    Node node = {value: 1, next: {value: 2, next: ()}};
+    OpenNode openNode = node;
+    Node otherNode = openNode;
+    OpenNode otherOpenNode = node;
+    Node? next = node.next;
+}
+
+function testRecursiveUnions() {
+    BinaryExpr sum = {lhs: 1, rhs: {lhs: 2, rhs: 3}};
+    Expr expr = sum;
+    Value value = expr;
+    BinaryExpr otherSum = expr;
+    Expr otherExpr = sum;
+}
+
+function testInferredArrays() {
+    int[*] first = [1, 2, 3];
+    int[3] second = first;
+    int[2] third = first;
+    int[*][*] nested = [[1, 2], [3, 4]];
+    int[2][2] fourth = nested;
+    int[2][3] fifth = nested;
+}
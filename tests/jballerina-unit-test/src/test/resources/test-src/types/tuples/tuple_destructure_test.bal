@@ -109,3 +109,22 @@ function tupleDestructureTest9() returns [boolean, string, [int, float]] {
 
     return [a, b, c];
 }
+
+function divMod(int a, int b) returns [int, int] {
+    return [a / b, a % b];
+}
+
+function tupleDestructureTest10() returns [int, string, float, int] {
+    int quotientSum = 0;
+    int remainderSum = 0;
+    foreach int i in 1 ... 10 {
+        var [q, r] = divMod(i * 7, 3);
+        quotientSum += q;
+        remainderSum += r;
+    }
+
+    var [[s, f], n] = [["a", 1.5], quotientSum];
+    [int, string] pair = [remainderSum, s];
+    var [x, y] = pair;
+    return [n + x, y, f, remainderSum];
+}